@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks;
+
+import com.hazelcast.internal.json.Json;
+import com.hazelcast.internal.json.JsonObject;
+import com.hazelcast.internal.json.JsonValue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares two JMH result files written with {@code -rf json}, typically one
+ * of the baseline build and one of the build under test, and reports the
+ * relative change of the score of each benchmark found in both of them.
+ * <p>
+ * Usage: {@code BenchmarkResultComparator <baseline.json> <current.json> [threshold-percent]}
+ * <p>
+ * The process exits with status 1 if any benchmark regressed by more than
+ * the threshold, which is 10% by default, so the comparison can fail a build.
+ */
+public final class BenchmarkResultComparator {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10;
+    private static final double HUNDRED_PERCENT = 100;
+    private static final int MIN_ARGS = 2;
+
+    private BenchmarkResultComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < MIN_ARGS) {
+            System.err.println("Usage: BenchmarkResultComparator <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > MIN_ARGS ? Double.parseDouble(args[MIN_ARGS]) : DEFAULT_THRESHOLD_PERCENT;
+        Map<String, Result> baseline = readResults(args[0]);
+        Map<String, Result> current = readResults(args[1]);
+
+        int regressions = 0;
+        System.out.printf(Locale.ROOT, "%-100s %16s %16s %10s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result base = baseline.get(entry.getKey());
+            if (base == null) {
+                continue;
+            }
+            Result result = entry.getValue();
+            double change = result.improvementPercentOver(base);
+            boolean regressed = change < -threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf(Locale.ROOT, "%-100s %16.3f %16.3f %+9.2f%% %s%s%n", entry.getKey(),
+                    base.score, result.score, change, result.unit, regressed ? " REGRESSION" : "");
+        }
+        if (regressions > 0) {
+            System.out.printf(Locale.ROOT, "%d benchmark(s) regressed by more than %.2f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Result> readResults(String file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        try (Reader reader = Files.newBufferedReader(Paths.get(file), StandardCharsets.UTF_8)) {
+            for (JsonValue value : Json.parse(reader).asArray()) {
+                JsonObject benchmark = value.asObject();
+                JsonObject metric = benchmark.get("primaryMetric").asObject();
+                Result result = new Result(benchmark.getString("mode", ""), metric.getDouble("score", 0),
+                        metric.getString("scoreUnit", ""));
+                results.put(key(benchmark), result);
+            }
+        }
+        return results;
+    }
+
+    private static String key(JsonObject benchmark) {
+        StringBuilder sb = new StringBuilder(benchmark.getString("benchmark", ""));
+        JsonValue params = benchmark.get("params");
+        if (params != null) {
+            JsonObject paramsObject = params.asObject();
+            sb.append(':');
+            for (String name : paramsObject.names()) {
+                sb.append(' ').append(name).append('=').append(paramsObject.getString(name, ""));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static final class Result {
+
+        private final String mode;
+        private final double score;
+        private final String unit;
+
+        Result(String mode, double score, String unit) {
+            this.mode = mode;
+            this.score = score;
+            this.unit = unit;
+        }
+
+        /**
+         * Returns how much this result is better than the given one in
+         * percent, negative if it is worse. Throughput is better when higher,
+         * the scores of the other modes are times and are better when lower.
+         */
+        double improvementPercentOver(Result base) {
+            if (base.score == 0) {
+                return 0;
+            }
+            double change = (score - base.score) / base.score * HUNDRED_PERCENT;
+            return "thrpt".equals(mode) ? change : -change;
+        }
+    }
+}
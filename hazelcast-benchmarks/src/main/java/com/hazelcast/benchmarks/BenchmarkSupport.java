@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+
+import static com.hazelcast.internal.util.UuidUtil.newUnsecureUuidString;
+
+/**
+ * Utilities shared by the benchmarks.
+ */
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Returns the configuration of a standalone member which does not try to
+     * discover other members, so that the benchmarks measure the local code
+     * paths rather than the network.
+     */
+    public static Config newMemberConfig() {
+        Config config = new Config()
+                .setClusterName("benchmark-" + newUnsecureUuidString())
+                .setProperty("hazelcast.phone.home.enabled", "false");
+        JoinConfig join = config.getNetworkConfig().getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        join.getAutoDetectionConfig().setEnabled(false);
+        join.getTcpIpConfig().setEnabled(false);
+        return config;
+    }
+
+    public static HazelcastInstance newMember() {
+        return newMember(newMemberConfig());
+    }
+
+    public static HazelcastInstance newMember(Config config) {
+        return Hazelcast.newHazelcastInstance(config);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks.client;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.ClientMessageWriter;
+import com.hazelcast.client.impl.protocol.codec.MapGetCodec;
+import com.hazelcast.client.impl.protocol.codec.MapPutCodec;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the encoding and decoding of the client protocol messages of the
+ * most common {@code IMap} operations, and writing them to a socket buffer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientMessageBenchmark {
+
+    private static final String MAP_NAME = "benchmark";
+    private static final long THREAD_ID = 1;
+    private static final long TTL = -1;
+
+    @Param({"100", "10000"})
+    int valueSize;
+
+    private InternalSerializationService serializationService;
+    private Data key;
+    private Data value;
+    private ClientMessage putRequest;
+    private ClientMessageWriter writer;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+        key = serializationService.toData("key");
+        value = serializationService.toData(new byte[valueSize]);
+        putRequest = MapPutCodec.encodeRequest(MAP_NAME, key, value, THREAD_ID, TTL);
+        writer = new ClientMessageWriter();
+        buffer = ByteBuffer.allocate(putRequest.getFrameLength());
+    }
+
+    @TearDown
+    public void tearDown() {
+        serializationService.dispose();
+    }
+
+    @Benchmark
+    public ClientMessage encodePutRequest() {
+        return MapPutCodec.encodeRequest(MAP_NAME, key, value, THREAD_ID, TTL);
+    }
+
+    @Benchmark
+    public MapPutCodec.RequestParameters decodePutRequest() {
+        return MapPutCodec.decodeRequest(putRequest);
+    }
+
+    @Benchmark
+    public ClientMessage encodeGetRequest() {
+        return MapGetCodec.encodeRequest(MAP_NAME, key, THREAD_ID);
+    }
+
+    @Benchmark
+    public ClientMessage encodeGetResponse() {
+        return MapGetCodec.encodeResponse(value);
+    }
+
+    @Benchmark
+    public ByteBuffer writePutRequest() {
+        buffer.clear();
+        writer.writeTo(buffer, putRequest);
+        return buffer;
+    }
+}
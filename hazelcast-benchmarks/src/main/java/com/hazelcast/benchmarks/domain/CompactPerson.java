@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks.domain;
+
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+
+import javax.annotation.Nonnull;
+
+/**
+ * The counterpart of {@link Person} serialized with an explicit
+ * {@link CompactSerializer}.
+ */
+public class CompactPerson {
+
+    private final String name;
+    private final int age;
+    private final long salary;
+
+    public CompactPerson(String name, int age, long salary) {
+        this.name = name;
+        this.age = age;
+        this.salary = salary;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public long getSalary() {
+        return salary;
+    }
+
+    /**
+     * The explicit Compact serializer of {@link CompactPerson}.
+     */
+    public static class Serializer implements CompactSerializer<CompactPerson> {
+
+        @Nonnull
+        @Override
+        public CompactPerson read(@Nonnull CompactReader reader) {
+            return new CompactPerson(reader.readString("name"), reader.readInt32("age"), reader.readInt64("salary"));
+        }
+
+        @Override
+        public void write(@Nonnull CompactWriter writer, @Nonnull CompactPerson object) {
+            writer.writeString("name", object.name);
+            writer.writeInt32("age", object.age);
+            writer.writeInt64("salary", object.salary);
+        }
+
+        @Nonnull
+        @Override
+        public String getTypeName() {
+            return "person";
+        }
+
+        @Nonnull
+        @Override
+        public Class<CompactPerson> getCompactClass() {
+            return CompactPerson.class;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks.domain;
+
+import com.hazelcast.nio.serialization.DataSerializableFactory;
+
+/**
+ * The {@link DataSerializableFactory} of the benchmark domain objects.
+ */
+public final class DomainDataSerializerHook {
+
+    public static final int F_ID = 1000;
+
+    public static final int PERSON = 1;
+
+    private DomainDataSerializerHook() {
+    }
+
+    public static DataSerializableFactory createFactory() {
+        return typeId -> typeId == PERSON ? new Person() : null;
+    }
+}
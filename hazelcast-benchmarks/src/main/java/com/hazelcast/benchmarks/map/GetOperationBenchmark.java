@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks.map;
+
+import com.hazelcast.benchmarks.BenchmarkSupport;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.operation.GetOperation;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
+import static com.hazelcast.jet.impl.util.Util.getSerializationService;
+import static com.hazelcast.map.impl.record.Record.UNSET;
+
+/**
+ * Measures the execution of a {@link GetOperation} on its partition, the
+ * way the operation runner executes it, without the invocation around it.
+ * <p>
+ * {@code BINARY} maps read the value straight from the storage, while
+ * {@code OBJECT} maps take the general path through the record store. Run
+ * with {@code -prof gc} to compare the allocation rate of the two paths.
+ * Like the {@link RecordStoreBenchmark}, the benchmark runs single-threaded
+ * and keeps the partition free of other operations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GetOperationBenchmark {
+
+    private static final String MAP_NAME = "benchmark";
+    private static final int PARTITION_ID = 0;
+
+    @Param({"10000"})
+    int entryCount;
+
+    @Param({"BINARY", "OBJECT"})
+    InMemoryFormat inMemoryFormat;
+
+    private HazelcastInstance instance;
+    private NodeEngineImpl nodeEngine;
+    private MapService mapService;
+    private Data[] keys;
+    private int index;
+
+    @Setup
+    public void setup() {
+        Config config = BenchmarkSupport.newMemberConfig();
+        config.getMapConfig(MAP_NAME).setInMemoryFormat(inMemoryFormat);
+        instance = BenchmarkSupport.newMember(config);
+
+        nodeEngine = getNodeEngine(instance);
+        mapService = nodeEngine.getService(MapService.SERVICE_NAME);
+        InternalSerializationService ss = getSerializationService(instance);
+        RecordStore recordStore = mapService.getMapServiceContext().getRecordStore(PARTITION_ID, MAP_NAME);
+
+        keys = new Data[entryCount];
+        Data value = ss.toData(new byte[100]);
+        for (int i = 0, candidate = 0; i < entryCount; candidate++) {
+            Data key = ss.toData(candidate);
+            if (nodeEngine.getPartitionService().getPartitionId(key) == PARTITION_ID) {
+                keys[i++] = key;
+                recordStore.set(key, value, UNSET, UNSET);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        instance.shutdown();
+    }
+
+    @Benchmark
+    public Object get() throws Exception {
+        GetOperation operation = new GetOperation(MAP_NAME, nextKey());
+        operation.setNodeEngine(nodeEngine)
+                .setService(mapService)
+                .setPartitionId(PARTITION_ID);
+        operation.beforeRun();
+        operation.call();
+        operation.afterRun();
+        operation.afterRunFinal();
+        return operation.getResponse();
+    }
+
+    private Data nextKey() {
+        int i = index;
+        index = i + 1 == keys.length ? 0 : i + 1;
+        return keys[i];
+    }
+}
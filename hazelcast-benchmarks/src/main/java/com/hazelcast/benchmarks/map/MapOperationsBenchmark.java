@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks.map;
+
+import com.hazelcast.benchmarks.BenchmarkSupport;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@code IMap} operations of an embedded member, including the
+ * invocation of the operations on the partition threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapOperationsBenchmark {
+
+    private static final String MAP_NAME = "benchmark";
+
+    @Param({"10000"})
+    int entryCount;
+
+    @Param({"100"})
+    int valueSize;
+
+    @Param({"BINARY", "OBJECT"})
+    InMemoryFormat inMemoryFormat;
+
+    private HazelcastInstance instance;
+    private IMap<Integer, byte[]> map;
+    private byte[] value;
+
+    @Setup
+    public void setup() {
+        Config config = BenchmarkSupport.newMemberConfig();
+        config.getMapConfig(MAP_NAME).setInMemoryFormat(inMemoryFormat);
+        instance = BenchmarkSupport.newMember(config);
+        map = instance.getMap(MAP_NAME);
+        value = new byte[valueSize];
+        for (int i = 0; i < entryCount; i++) {
+            map.set(i, value);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        instance.shutdown();
+    }
+
+    @Benchmark
+    public byte[] get() {
+        return map.get(nextKey());
+    }
+
+    @Benchmark
+    public byte[] put() {
+        return map.put(nextKey(), value);
+    }
+
+    @Benchmark
+    public void set() {
+        map.set(nextKey(), value);
+    }
+
+    private int nextKey() {
+        return ThreadLocalRandom.current().nextInt(entryCount);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks.map;
+
+import com.hazelcast.benchmarks.BenchmarkSupport;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
+import static com.hazelcast.jet.impl.util.Util.getSerializationService;
+import static com.hazelcast.map.impl.record.Record.UNSET;
+
+/**
+ * Measures the record store of a single partition of an {@code IMap}, without
+ * the operation and invocation machinery around it.
+ * <p>
+ * A record store is confined to its partition thread; the benchmark runs
+ * single-threaded and keeps the partition free of other operations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecordStoreBenchmark {
+
+    private static final String MAP_NAME = "benchmark";
+    private static final int PARTITION_ID = 0;
+
+    @Param({"1000", "100000"})
+    int entryCount;
+
+    @Param({"BINARY", "OBJECT"})
+    InMemoryFormat inMemoryFormat;
+
+    private HazelcastInstance instance;
+    private RecordStore recordStore;
+    private Data[] keys;
+    private Data value;
+    private int index;
+
+    @Setup
+    public void setup() {
+        Config config = BenchmarkSupport.newMemberConfig();
+        config.getMapConfig(MAP_NAME).setInMemoryFormat(inMemoryFormat);
+        instance = BenchmarkSupport.newMember(config);
+
+        NodeEngineImpl nodeEngine = getNodeEngine(instance);
+        InternalSerializationService ss = getSerializationService(instance);
+        MapService mapService = nodeEngine.getService(MapService.SERVICE_NAME);
+        recordStore = mapService.getMapServiceContext().getRecordStore(PARTITION_ID, MAP_NAME);
+
+        keys = new Data[entryCount];
+        value = ss.toData(new byte[100]);
+        for (int i = 0, candidate = 0; i < entryCount; candidate++) {
+            Data key = ss.toData(candidate);
+            if (nodeEngine.getPartitionService().getPartitionId(key) == PARTITION_ID) {
+                keys[i++] = key;
+                recordStore.put(key, value, UNSET, UNSET);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        instance.shutdown();
+    }
+
+    @Benchmark
+    public Object put() {
+        return recordStore.put(nextKey(), value, UNSET, UNSET);
+    }
+
+    @Benchmark
+    public Object set() {
+        return recordStore.set(nextKey(), value, UNSET, UNSET);
+    }
+
+    @Benchmark
+    public Object get() {
+        return recordStore.get(nextKey(), false, null);
+    }
+
+    private Data nextKey() {
+        int i = index;
+        index = i + 1 == keys.length ? 0 : i + 1;
+        return keys[i];
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks.query;
+
+import com.hazelcast.internal.monitor.impl.IndexOperationStats;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.query.impl.CachedQueryEntry;
+import com.hazelcast.query.impl.Comparison;
+import com.hazelcast.query.impl.IndexCopyBehavior;
+import com.hazelcast.query.impl.OrderedIndexStore;
+import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.query.impl.getters.Extractors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookups in the store of a sorted index whose attribute values
+ * are integers, which is the store backing the {@code SORTED} map indexes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderedIndexStoreBenchmark {
+
+    @Param({"100000"})
+    int entryCount;
+
+    /**
+     * The number of entries sharing the same attribute value.
+     */
+    @Param({"1", "10"})
+    int duplicates;
+
+    /**
+     * The number of distinct attribute values matched by a range lookup.
+     */
+    @Param({"100"})
+    int rangeSize;
+
+    private InternalSerializationService serializationService;
+    private OrderedIndexStore store;
+    private int distinctValues;
+
+    @Setup
+    public void setup() {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+        Extractors extractors = Extractors.newBuilder(serializationService).build();
+        store = new OrderedIndexStore(IndexCopyBehavior.NEVER);
+        distinctValues = entryCount / duplicates;
+        for (int i = 0; i < entryCount; i++) {
+            Integer value = i % distinctValues;
+            CachedQueryEntry entry = new CachedQueryEntry(serializationService, serializationService.toData(i),
+                    value, extractors);
+            store.insert(value, entry, entry, IndexOperationStats.EMPTY);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        serializationService.dispose();
+    }
+
+    @Benchmark
+    public Set<QueryableEntry> equalityLookup() {
+        return store.getRecords(nextValue(distinctValues));
+    }
+
+    @Benchmark
+    public Set<QueryableEntry> rangeLookup() {
+        int from = nextValue(distinctValues - rangeSize);
+        return store.getRecords(from, true, from + rangeSize, false);
+    }
+
+    @Benchmark
+    public Set<QueryableEntry> comparisonLookup() {
+        return store.getRecords(Comparison.LESS, nextValue(rangeSize));
+    }
+
+    private static Integer nextValue(int bound) {
+        return ThreadLocalRandom.current().nextInt(bound);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks.serialization;
+
+import com.hazelcast.benchmarks.BenchmarkSupport;
+import com.hazelcast.benchmarks.domain.CompactPerson;
+import com.hazelcast.benchmarks.domain.PersonRecord;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.jet.impl.util.Util.getSerializationService;
+
+/**
+ * Measures the Compact serialization of a value, either with an explicit
+ * serializer or with the reflective one. Compact serialization needs the
+ * schema service of a member, so the serialization service of an embedded
+ * member is used.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompactSerializationBenchmark {
+
+    @Param({"EXPLICIT", "REFLECTIVE"})
+    String serializer;
+
+    private HazelcastInstance instance;
+    private InternalSerializationService serializationService;
+    private Object value;
+    private Data data;
+
+    @Setup
+    public void setup() {
+        Config config = BenchmarkSupport.newMemberConfig();
+        config.getSerializationConfig().getCompactSerializationConfig().addSerializer(new CompactPerson.Serializer());
+        instance = BenchmarkSupport.newMember(config);
+        serializationService = getSerializationService(instance);
+        value = "EXPLICIT".equals(serializer)
+                ? new CompactPerson("Joe", 42, 100_000)
+                : new PersonRecord("Joe", 42, 100_000);
+        data = serializationService.toData(value);
+    }
+
+    @TearDown
+    public void tearDown() {
+        instance.shutdown();
+    }
+
+    @Benchmark
+    public Data toData() {
+        return serializationService.toData(value);
+    }
+
+    @Benchmark
+    public Object toObject() {
+        return serializationService.toObject(data);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks.serialization;
+
+import com.hazelcast.benchmarks.domain.DomainDataSerializerHook;
+import com.hazelcast.benchmarks.domain.Person;
+import com.hazelcast.benchmarks.domain.SerializablePerson;
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the serialization and deserialization of typical values by the
+ * serialization service which is used by the members.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"LONG", "STRING", "BYTE_ARRAY", "IDENTIFIED_DATA_SERIALIZABLE", "JAVA_SERIALIZABLE"})
+    ValueType valueType;
+
+    private InternalSerializationService serializationService;
+    private Object value;
+    private Data data;
+
+    @Setup
+    public void setup() {
+        SerializationConfig config = new SerializationConfig()
+                .addDataSerializableFactory(DomainDataSerializerHook.F_ID, DomainDataSerializerHook.createFactory());
+        serializationService = new DefaultSerializationServiceBuilder().setConfig(config).build();
+        value = valueType.newValue();
+        data = serializationService.toData(value);
+    }
+
+    @TearDown
+    public void tearDown() {
+        serializationService.dispose();
+    }
+
+    @Benchmark
+    public Data toData() {
+        return serializationService.toData(value);
+    }
+
+    @Benchmark
+    public Object toObject() {
+        return serializationService.toObject(data);
+    }
+
+    public enum ValueType {
+        LONG {
+            @Override
+            Object newValue() {
+                return 42L;
+            }
+        },
+        STRING {
+            @Override
+            Object newValue() {
+                return "The quick brown fox jumps over the lazy dog";
+            }
+        },
+        BYTE_ARRAY {
+            @Override
+            Object newValue() {
+                return new byte[1024];
+            }
+        },
+        IDENTIFIED_DATA_SERIALIZABLE {
+            @Override
+            Object newValue() {
+                return new Person("Joe", 42, 100_000);
+            }
+        },
+        JAVA_SERIALIZABLE {
+            @Override
+            Object newValue() {
+                return new SerializablePerson("Joe", 42, 100_000);
+            }
+        };
+
+        abstract Object newValue();
+    }
+}
@@ -38,6 +38,7 @@ import com.hazelcast.map.impl.proxy.MapProxyImpl;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.query.impl.InternalIndex;
 import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.security.permission.MapPermission;
@@ -48,6 +49,7 @@ import com.hazelcast.spi.impl.InternalCompletableFuture;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.properties.HazelcastProperty;
 import com.hazelcast.sql.impl.QueryUtils;
+import com.hazelcast.sql.impl.exec.scan.CoveringIndexScanRow;
 import com.hazelcast.sql.impl.exec.scan.MapIndexScanMetadata;
 import com.hazelcast.sql.impl.exec.scan.MapScanRow;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
@@ -110,6 +112,7 @@ public final class MapIndexScanP extends AbstractProcessor {
 
     private final ArrayList<Split> splits = new ArrayList<>();
     private MapScanRow row;
+    private CoveringIndexScanRow coveringRow;
     private JetSqlRow pendingItem;
     private boolean isIndexSorted;
 
@@ -124,8 +127,9 @@ public final class MapIndexScanP extends AbstractProcessor {
         reader = new LocalMapIndexReader(hazelcastInstance, evalContext.getSerializationService(), metadata);
 
         MapContainer mapContainer = QueryUtils.getMapContainer(hazelcastInstance.getMap(metadata.getMapName()));
-        boolean compositeIndex = MapFetchIndexOperation.getInternalIndex(mapContainer,
-                        metadata.getMapName(), metadata.getIndexName()).isComposite();
+        InternalIndex index = MapFetchIndexOperation.getInternalIndex(mapContainer,
+                metadata.getMapName(), metadata.getIndexName());
+        boolean compositeIndex = index.isComposite();
 
         int[] memberPartitions = context.processorPartitions();
         IndexIterationPointer[] pointers = indexFilterToPointers(metadata.getFilter(), compositeIndex,
@@ -136,14 +140,25 @@ public final class MapIndexScanP extends AbstractProcessor {
                 pointers
         ));
 
+        Extractors extractors = Extractors.newBuilder(evalContext.getSerializationService())
+                .setGetterCacheSupplier(SIMPLE_GETTER_CACHE_SUPPLIER)
+                .build();
         row = MapScanRow.create(
                 metadata.getKeyDescriptor(),
                 metadata.getValueDescriptor(),
                 metadata.getFieldPaths(),
                 metadata.getFieldTypes(),
-                Extractors.newBuilder(evalContext.getSerializationService())
-                        .setGetterCacheSupplier(SIMPLE_GETTER_CACHE_SUPPLIER)
-                        .build(),
+                extractors,
+                evalContext.getSerializationService()
+        );
+        // a covering index answers the query without accessing the values of the entries
+        coveringRow = CoveringIndexScanRow.createIfCovered(
+                index.getConfig(),
+                metadata.getKeyDescriptor(),
+                metadata.getValueDescriptor(),
+                metadata.getFieldPaths(),
+                metadata.getFieldTypes(),
+                extractors,
                 evalContext.getSerializationService()
         );
         isIndexSorted = metadata.getComparator() != null;
@@ -391,6 +406,11 @@ public final class MapIndexScanP extends AbstractProcessor {
         }
 
         private JetSqlRow projectAndFilter(@Nonnull QueryableEntry<?, ?> entry) {
+            if (coveringRow != null) {
+                coveringRow.setEntry(entry);
+                return ExpressionUtil.projection(metadata.getRemainingFilter(), metadata.getProjection(), coveringRow,
+                        evalContext);
+            }
             row.setKeyValue(
                     entry.getKeyIfPresent(), entry.getKeyDataIfPresent(),
                     entry.getValueIfPresent(), entry.getValueDataIfPresent()
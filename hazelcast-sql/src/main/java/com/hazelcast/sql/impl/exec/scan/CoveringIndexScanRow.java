@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.scan;
+
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.query.impl.IndexUtils;
+import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.sql.impl.QueryException;
+import com.hazelcast.sql.impl.extract.GenericQueryTargetDescriptor;
+import com.hazelcast.sql.impl.extract.QueryPath;
+import com.hazelcast.sql.impl.extract.QueryTargetDescriptor;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.sql.impl.type.QueryDataTypeMismatchException;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Row of an index scan which reads the value fields from the entries stored
+ * by a covering index, see {@link IndexConfig#getIncludedAttributes()}. The
+ * key fields are extracted from the key of the entry, the value of the entry
+ * is never accessed.
+ */
+public final class CoveringIndexScanRow implements Row {
+
+    private final MapScanRow keyRow;
+    // the covered attribute of each field, null for key fields
+    private final String[] attributes;
+    private final QueryDataType[] types;
+
+    private QueryableEntry<?, ?> entry;
+
+    private CoveringIndexScanRow(MapScanRow keyRow, String[] attributes, QueryDataType[] types) {
+        this.keyRow = keyRow;
+        this.attributes = attributes;
+        this.types = types;
+    }
+
+    /**
+     * Creates a row reading the given fields from the entries of the index
+     * with the given config.
+     *
+     * @return the created row or {@code null} if the index doesn't cover
+     * all the value fields
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public static CoveringIndexScanRow createIfCovered(
+        IndexConfig indexConfig,
+        QueryTargetDescriptor keyDescriptor,
+        QueryTargetDescriptor valueDescriptor,
+        List<QueryPath> fieldPaths,
+        List<QueryDataType> fieldTypes,
+        Extractors extractors,
+        InternalSerializationService serializationService
+    ) {
+        if (indexConfig.getIncludedAttributes().isEmpty() || !(valueDescriptor instanceof GenericQueryTargetDescriptor)) {
+            return null;
+        }
+
+        Set<String> coveredAttributes = new HashSet<>(indexConfig.getAttributes());
+        coveredAttributes.addAll(indexConfig.getIncludedAttributes());
+
+        String[] attributes = new String[fieldPaths.size()];
+        for (int i = 0; i < fieldPaths.size(); i++) {
+            QueryPath fieldPath = fieldPaths.get(i);
+            if (fieldPath.isKey()) {
+                continue;
+            }
+            if (fieldPath.isTopLevel()) {
+                return null;
+            }
+            String attribute = IndexUtils.canonicalizeAttribute(fieldPath.getPath());
+            if (!coveredAttributes.contains(attribute)) {
+                return null;
+            }
+            attributes[i] = attribute;
+        }
+
+        MapScanRow keyRow = MapScanRow.create(keyDescriptor, valueDescriptor, fieldPaths, fieldTypes, extractors,
+                serializationService);
+        return new CoveringIndexScanRow(keyRow, attributes, fieldTypes.toArray(new QueryDataType[0]));
+    }
+
+    /**
+     * Sets the current entry, which must be stored by the index this row was
+     * created for.
+     */
+    public void setEntry(QueryableEntry<?, ?> entry) {
+        this.entry = entry;
+        keyRow.setKeyValue(entry.getKeyIfPresent(), entry.getKeyDataIfPresent(), null, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T get(int idx) {
+        String attribute = attributes[idx];
+        if (attribute == null) {
+            return keyRow.get(idx);
+        }
+        try {
+            return (T) types[idx].normalize(entry.getAttributeValue(attribute));
+        } catch (QueryDataTypeMismatchException e) {
+            throw QueryException.dataException("Failed to extract map entry value field \"" + attribute
+                + "\" because of type mismatch [expectedClass=" + e.getExpectedClass().getName()
+                + ", actualClass=" + e.getActualClass().getName() + ']');
+        } catch (Exception e) {
+            throw QueryException.dataException("Failed to extract map entry value field \"" + attribute
+                + "\": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int getColumnCount() {
+        return attributes.length;
+    }
+}
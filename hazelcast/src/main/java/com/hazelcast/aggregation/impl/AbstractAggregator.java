@@ -55,6 +55,14 @@ public abstract class AbstractAggregator<I, E, R> implements Aggregator<I, R> {
         this.attributePath = attributePath;
     }
 
+    /**
+     * @return the path of the aggregated attribute or {@code null} if the
+     * values of the entries are aggregated
+     */
+    public String getAttributePath() {
+        return attributePath;
+    }
+
     @Override
     public final void accumulate(I entry) {
 
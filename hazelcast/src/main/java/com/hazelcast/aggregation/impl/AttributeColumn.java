@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.aggregation.impl;
+
+import static com.hazelcast.query.impl.Numbers.isDoubleRepresentable;
+import static com.hazelcast.query.impl.Numbers.isLongRepresentable;
+
+/**
+ * Values of an attribute extracted from a batch of entries, all of the same
+ * numeric class, stored in a primitive array.
+ * <p>
+ * Integral values are stored as longs, floating-point values as doubles.
+ * The loops over the values are kept here so that they are tight and shared
+ * by all the {@link ColumnarAggregator}s.
+ */
+final class AttributeColumn {
+
+    private final int capacity;
+
+    private long[] longs;
+    private double[] doubles;
+    private Class<?> valueClass;
+    private boolean floatingPoint;
+    private int size;
+
+    AttributeColumn(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Appends the given value to this column.
+     *
+     * @return {@code false} if the value can't be appended since the column is
+     * full, the value is not a number of the class of the other values or the
+     * aggregator can't accumulate a column of such values
+     */
+    boolean add(Object value, ColumnarAggregator aggregator) {
+        if (value == null || size == capacity) {
+            return false;
+        }
+        Class<?> clazz = value.getClass();
+        if (clazz != valueClass && !bind(clazz, aggregator)) {
+            return false;
+        }
+
+        if (floatingPoint) {
+            doubles[size++] = ((Number) value).doubleValue();
+        } else {
+            longs[size++] = ((Number) value).longValue();
+        }
+        return true;
+    }
+
+    private boolean bind(Class<?> clazz, ColumnarAggregator aggregator) {
+        if (size > 0 || !aggregator.canAccumulateColumnOf(clazz)) {
+            return false;
+        }
+        if (isDoubleRepresentable(clazz)) {
+            if (doubles == null) {
+                doubles = new double[capacity];
+            }
+            floatingPoint = true;
+        } else if (isLongRepresentable(clazz)) {
+            if (longs == null) {
+                longs = new long[capacity];
+            }
+            floatingPoint = false;
+        } else {
+            return false;
+        }
+        valueClass = clazz;
+        return true;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    boolean isFloatingPoint() {
+        return floatingPoint;
+    }
+
+    /**
+     * @return the sum of the integral values of this column
+     */
+    long sumLongs() {
+        assert !floatingPoint;
+        long[] longs = this.longs;
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += longs[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Adds the values of this column, one after the other, to the given sum
+     * so that the result is the same as if they were added one by one.
+     */
+    double addDoubles(double sum) {
+        if (floatingPoint) {
+            double[] doubles = this.doubles;
+            for (int i = 0; i < size; i++) {
+                sum += doubles[i];
+            }
+        } else {
+            long[] longs = this.longs;
+            for (int i = 0; i < size; i++) {
+                sum += (double) longs[i];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * @return the minimum value of this non-empty column as an instance of
+     * the class of the values
+     */
+    Number min() {
+        assert size > 0;
+        if (floatingPoint) {
+            double[] doubles = this.doubles;
+            double min = doubles[0];
+            for (int i = 1; i < size; i++) {
+                // Double.compare orders NaN and -0.0 just like Double.compareTo does
+                if (Double.compare(doubles[i], min) < 0) {
+                    min = doubles[i];
+                }
+            }
+            return box(min);
+        }
+
+        long[] longs = this.longs;
+        long min = longs[0];
+        for (int i = 1; i < size; i++) {
+            min = Math.min(min, longs[i]);
+        }
+        return box(min);
+    }
+
+    /**
+     * @return the maximum value of this non-empty column as an instance of
+     * the class of the values
+     */
+    Number max() {
+        assert size > 0;
+        if (floatingPoint) {
+            double[] doubles = this.doubles;
+            double max = doubles[0];
+            for (int i = 1; i < size; i++) {
+                if (Double.compare(doubles[i], max) > 0) {
+                    max = doubles[i];
+                }
+            }
+            return box(max);
+        }
+
+        long[] longs = this.longs;
+        long max = longs[0];
+        for (int i = 1; i < size; i++) {
+            max = Math.max(max, longs[i]);
+        }
+        return box(max);
+    }
+
+    private Number box(double value) {
+        // not a conditional expression, it would promote the float to a double
+        if (valueClass == Float.class) {
+            return (float) value;
+        }
+        return value;
+    }
+
+    private Number box(long value) {
+        if (valueClass == Long.class) {
+            return value;
+        } else if (valueClass == Integer.class) {
+            return (int) value;
+        } else if (valueClass == Short.class) {
+            return (short) value;
+        } else {
+            return (byte) value;
+        }
+    }
+}
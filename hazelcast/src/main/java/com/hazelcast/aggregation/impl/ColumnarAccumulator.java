@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.aggregation.impl;
+
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.query.impl.QueryableEntry;
+
+import java.util.Iterator;
+
+/**
+ * Accumulates entries into the sum, average, count, min and max aggregators
+ * column by column instead of entry by entry.
+ * <p>
+ * The attribute values of a batch of entries are extracted into a primitive
+ * array first and the array is then accumulated in a tight loop, see
+ * {@link AttributeColumn}. This saves the virtual calls, the
+ * {@link com.hazelcast.query.impl.Numbers number} conversions and the type
+ * checks done for each entry.
+ * <p>
+ * An entry whose value can't be added to the column, e.g. because it is
+ * {@code null}, a multi-value or of a different class than the other
+ * values, is accumulated by the aggregator itself, just like the rest of its
+ * batch. The result is the same as if all entries were accumulated one by one.
+ * <p>
+ * An instance is not thread-safe.
+ */
+public final class ColumnarAccumulator {
+
+    /**
+     * The number of entries whose attribute values are extracted into a single
+     * column.
+     */
+    public static final int BATCH_SIZE = 1024;
+
+    private final AttributeColumn column = new AttributeColumn(BATCH_SIZE);
+
+    /**
+     * @return {@code true} if the given aggregator can accumulate entries
+     * column by column
+     */
+    public static boolean isColumnar(Aggregator aggregator) {
+        return aggregator instanceof ColumnarAggregator;
+    }
+
+    /**
+     * Accumulates the given entries into the given aggregator.
+     *
+     * @param aggregator the aggregator, it has to be {@link #isColumnar columnar}
+     * @param entries    the entries to accumulate
+     */
+    @SuppressWarnings("unchecked")
+    public void accumulate(Aggregator aggregator, Iterator<? extends QueryableEntry> entries) {
+        ColumnarAggregator columnarAggregator = (ColumnarAggregator) aggregator;
+        String attributePath = columnarAggregator.getAttributePath();
+        while (entries.hasNext()) {
+            column.clear();
+            int batchCount = 0;
+            QueryableEntry rejected = null;
+            while (batchCount < BATCH_SIZE && entries.hasNext()) {
+                QueryableEntry entry = entries.next();
+                batchCount++;
+                if (!column.add(extract(entry, attributePath), columnarAggregator)) {
+                    rejected = entry;
+                    break;
+                }
+            }
+
+            if (column.size() > 0) {
+                columnarAggregator.accumulateColumn(column);
+            }
+            if (rejected != null) {
+                aggregator.accumulate(rejected);
+                for (; batchCount < BATCH_SIZE && entries.hasNext(); batchCount++) {
+                    aggregator.accumulate(entries.next());
+                }
+            }
+        }
+    }
+
+    private static Object extract(QueryableEntry entry, String attributePath) {
+        // the same extraction as in AbstractAggregator
+        return attributePath == null ? entry.getValue() : entry.getAttributeValue(attributePath);
+    }
+}
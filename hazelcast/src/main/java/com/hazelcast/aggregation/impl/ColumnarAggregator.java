@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.aggregation.impl;
+
+/**
+ * An aggregator which is able to accumulate the values of its attribute
+ * extracted from a batch of entries at once, see {@link ColumnarAccumulator}.
+ */
+interface ColumnarAggregator {
+
+    /**
+     * @return the path of the aggregated attribute or {@code null} if the
+     * values of the entries are aggregated
+     */
+    String getAttributePath();
+
+    /**
+     * Checks if the values of the given class can be accumulated as a column
+     * with exactly the same result as if they were accumulated one by one.
+     *
+     * @param valueClass the class of the values, either a
+     *                   {@linkplain com.hazelcast.query.impl.Numbers#isLongRepresentable long representable}
+     *                   or a {@linkplain com.hazelcast.query.impl.Numbers#isDoubleRepresentable double representable}
+     *                   one
+     */
+    boolean canAccumulateColumnOf(Class<?> valueClass);
+
+    /**
+     * Accumulates all values of the given column.
+     */
+    void accumulateColumn(AttributeColumn column);
+}
@@ -25,8 +25,11 @@ import com.hazelcast.query.impl.Numbers;
 import java.io.IOException;
 import java.util.Objects;
 
+import static com.hazelcast.query.impl.Numbers.isDoubleRepresentable;
+import static com.hazelcast.query.impl.Numbers.isIntRepresentable;
+
 public final class DoubleAverageAggregator<I> extends AbstractAggregator<I, Number, Double>
-        implements IdentifiedDataSerializable {
+        implements IdentifiedDataSerializable, ColumnarAggregator {
 
     private double sum;
 
@@ -46,6 +49,17 @@ public final class DoubleAverageAggregator<I> extends AbstractAggregator<I, Numb
         sum += Numbers.asDoubleExactly(value);
     }
 
+    @Override
+    public boolean canAccumulateColumnOf(Class<?> valueClass) {
+        return isDoubleRepresentable(valueClass) || isIntRepresentable(valueClass);
+    }
+
+    @Override
+    public void accumulateColumn(AttributeColumn column) {
+        count += column.size();
+        sum = column.addDoubles(sum);
+    }
+
     @Override
     public void combine(Aggregator aggregator) {
         DoubleAverageAggregator doubleAverageAggregator = (DoubleAverageAggregator) aggregator;
@@ -25,8 +25,10 @@ import com.hazelcast.query.impl.Numbers;
 import java.io.IOException;
 import java.util.Objects;
 
+import static com.hazelcast.query.impl.Numbers.isIntRepresentable;
+
 public final class IntegerAverageAggregator<I> extends AbstractAggregator<I, Number, Double>
-        implements IdentifiedDataSerializable {
+        implements IdentifiedDataSerializable, ColumnarAggregator {
 
     private long sum;
 
@@ -46,6 +48,17 @@ public final class IntegerAverageAggregator<I> extends AbstractAggregator<I, Num
         sum += Numbers.asIntExactly(value);
     }
 
+    @Override
+    public boolean canAccumulateColumnOf(Class<?> valueClass) {
+        return isIntRepresentable(valueClass);
+    }
+
+    @Override
+    public void accumulateColumn(AttributeColumn column) {
+        count += column.size();
+        sum += column.sumLongs();
+    }
+
     @Override
     public void combine(Aggregator aggregator) {
         IntegerAverageAggregator integerAverageAggregator = (IntegerAverageAggregator) aggregator;
@@ -25,8 +25,10 @@ import com.hazelcast.query.impl.Numbers;
 import java.io.IOException;
 import java.util.Objects;
 
+import static com.hazelcast.query.impl.Numbers.isIntRepresentable;
+
 public final class IntegerSumAggregator<I> extends AbstractAggregator<I, Number, Long>
-        implements IdentifiedDataSerializable {
+        implements IdentifiedDataSerializable, ColumnarAggregator {
 
     private long sum;
 
@@ -43,6 +45,16 @@ public final class IntegerSumAggregator<I> extends AbstractAggregator<I, Number,
         sum += Numbers.asIntExactly(value);
     }
 
+    @Override
+    public boolean canAccumulateColumnOf(Class<?> valueClass) {
+        return isIntRepresentable(valueClass);
+    }
+
+    @Override
+    public void accumulateColumn(AttributeColumn column) {
+        sum += column.sumLongs();
+    }
+
     @Override
     public void combine(Aggregator aggregator) {
         IntegerSumAggregator integerSumAggregator = (IntegerSumAggregator) aggregator;
@@ -25,7 +25,10 @@ import com.hazelcast.query.impl.Numbers;
 import java.io.IOException;
 import java.util.Objects;
 
-public final class LongAverageAggregator<I> extends AbstractAggregator<I, Number, Double> implements IdentifiedDataSerializable {
+import static com.hazelcast.query.impl.Numbers.isLongRepresentable;
+
+public final class LongAverageAggregator<I> extends AbstractAggregator<I, Number, Double>
+        implements IdentifiedDataSerializable, ColumnarAggregator {
 
     private long sum;
 
@@ -45,6 +48,17 @@ public final class LongAverageAggregator<I> extends AbstractAggregator<I, Number
         sum += Numbers.asLongExactly(value);
     }
 
+    @Override
+    public boolean canAccumulateColumnOf(Class<?> valueClass) {
+        return isLongRepresentable(valueClass);
+    }
+
+    @Override
+    public void accumulateColumn(AttributeColumn column) {
+        count += column.size();
+        sum += column.sumLongs();
+    }
+
     @Override
     public void combine(Aggregator aggregator) {
         LongAverageAggregator longAverageAggregator = (LongAverageAggregator) aggregator;
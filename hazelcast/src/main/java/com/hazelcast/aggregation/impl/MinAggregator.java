@@ -26,7 +26,7 @@ import java.io.IOException;
 import java.util.Objects;
 
 public final class MinAggregator<I, R extends Comparable> extends AbstractAggregator<I, R, R>
-        implements IdentifiedDataSerializable {
+        implements IdentifiedDataSerializable, ColumnarAggregator {
 
     private R min;
 
@@ -52,6 +52,17 @@ public final class MinAggregator<I, R extends Comparable> extends AbstractAggreg
         return min == null || Comparables.compare(min, otherValue) > 0;
     }
 
+    @Override
+    public boolean canAccumulateColumnOf(Class<?> valueClass) {
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void accumulateColumn(AttributeColumn column) {
+        accumulateExtracted(null, (R) column.min());
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public void combine(Aggregator aggregator) {
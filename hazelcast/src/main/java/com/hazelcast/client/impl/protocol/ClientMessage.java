@@ -128,6 +128,9 @@ public final class ClientMessage implements OutboundFrame {
     public static final Frame BEGIN_FRAME = new Frame(new byte[0], BEGIN_DATA_STRUCTURE_FLAG);
     public static final Frame END_FRAME = new Frame(new byte[0], END_DATA_STRUCTURE_FLAG);
 
+    // shared by the decoded frames without content, e.g. begin, end and null frames
+    static final byte[] EMPTY_CONTENT = new byte[0];
+
     private static final long serialVersionUID = 1L;
 
     private transient Frame startFrame;
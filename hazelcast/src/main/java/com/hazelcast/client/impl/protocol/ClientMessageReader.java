@@ -59,6 +59,7 @@ public final class ClientMessageReader {
     public void reset() {
         readOffset = -1;
         clientMessage = null;
+        sumUntrustedMessageLength = 0;
     }
 
     private boolean readFrame(ByteBuffer src, boolean trusted) {
@@ -94,7 +95,7 @@ public final class ClientMessageReader {
             src.position(src.position() + Bits.SHORT_SIZE_IN_BYTES);
 
             int size = frameLength - SIZE_OF_FRAME_LENGTH_AND_FLAGS;
-            byte[] bytes = new byte[size];
+            byte[] bytes = size == 0 ? ClientMessage.EMPTY_CONTENT : new byte[size];
             ClientMessage.Frame frame = new ClientMessage.Frame(bytes, flags);
             if (clientMessage == null) {
                 clientMessage = ClientMessage.createForDecode(frame);
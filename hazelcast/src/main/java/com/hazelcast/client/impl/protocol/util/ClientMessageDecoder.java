@@ -104,7 +104,8 @@ public class ClientMessageDecoder extends InboundHandlerWithCounters<ByteBuffer,
                     }
                 }
 
-                activeReader = new ClientMessageReader(maxMessageLength);
+                // the message was handed over, so the reader can be reused for the next one
+                activeReader.reset();
             }
 
             return CLEAN;
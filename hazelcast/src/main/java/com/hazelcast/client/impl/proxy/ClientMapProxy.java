@@ -216,6 +216,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
     private ClientLockReferenceIdGenerator lockReferenceIdGenerator;
     private ClientQueryCacheContext queryCacheContext;
     private boolean useDefaultReplaceAllOperation;
+    private MapRequestCoalescer requestCoalescer;
 
     public ClientMapProxy(String serviceName, String name, ClientContext context) {
         super(serviceName, name, context);
@@ -227,6 +228,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
 
         lockReferenceIdGenerator = getClient().getLockReferenceIdGenerator();
         queryCacheContext = getContext().getQueryCacheContext();
+        requestCoalescer = MapRequestCoalescer.create(name, getClient());
     }
 
     @Override
@@ -262,6 +264,10 @@ public class ClientMapProxy<K, V> extends ClientProxy
 
     protected Object getInternal(Object key) {
         Data keyData = toData(key);
+        if (requestCoalescer != null) {
+            int partitionId = getContext().getPartitionService().getPartitionId(keyData);
+            return joinCoalesced(requestCoalescer.get(keyData, partitionId));
+        }
         ClientMessage request = MapGetCodec.encodeRequest(name, keyData, getThreadId());
         ClientMessage response = invoke(request, keyData);
         return MapGetCodec.decodeResponse(response);
@@ -367,6 +373,17 @@ public class ClientMapProxy<K, V> extends ClientProxy
         }
     }
 
+    private static Data joinCoalesced(Future<Data> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            currentThread().interrupt();
+            throw rethrow(e);
+        } catch (Exception e) {
+            throw rethrow(e);
+        }
+    }
+
     private ClientInvocationFuture invokeOnKeyOwner(ClientMessage request, Data keyData) {
         int partitionId = getContext().getPartitionService().getPartitionId(keyData);
         ClientInvocation clientInvocation = new ClientInvocation(getClient(), request, getName(), partitionId);
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.proxy;
+
+import com.hazelcast.client.impl.clientside.HazelcastClientInstanceImpl;
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.MapGetAllCodec;
+import com.hazelcast.client.impl.spi.impl.ClientInvocation;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+
+import static com.hazelcast.client.properties.ClientProperty.MAP_REQUEST_COALESCING_MAX_BATCH_SIZE;
+import static com.hazelcast.client.properties.ClientProperty.MAP_REQUEST_COALESCING_WINDOW_MICROS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Coalesces the concurrent single-key get calls of a {@link ClientMapProxy}
+ * on the same partition into a single getAll request.
+ * <p>
+ * The first call on a partition opens a batch, the calls arriving until the
+ * coalescing window elapses or the batch reaches its maximum size join it.
+ * The batch is then sent as a single request and its response is fanned
+ * back to the futures of the calls. The getAll message targets a single
+ * partition, so the calls are coalesced per partition rather than per
+ * partition owner.
+ * <p>
+ * Set calls are not coalesced: a putAll request doesn't wait for the locks
+ * held on its keys, so it would overwrite locked entries.
+ */
+final class MapRequestCoalescer {
+
+    private final String name;
+    private final HazelcastClientInstanceImpl client;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ConcurrentMap<Integer, Batch> batches = new ConcurrentHashMap<>();
+
+    MapRequestCoalescer(String name, HazelcastClientInstanceImpl client, long windowNanos, int maxBatchSize) {
+        this.name = name;
+        this.client = client;
+        this.windowNanos = windowNanos;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Creates a coalescer for the given map if coalescing is enabled by the
+     * {@link com.hazelcast.client.properties.ClientProperty#MAP_REQUEST_COALESCING_WINDOW_MICROS}
+     * property.
+     *
+     * @return the created coalescer or {@code null} if coalescing is disabled
+     */
+    static MapRequestCoalescer create(String name, HazelcastClientInstanceImpl client) {
+        long windowNanos = client.getProperties().getNanos(MAP_REQUEST_COALESCING_WINDOW_MICROS);
+        if (windowNanos <= 0) {
+            return null;
+        }
+        int maxBatchSize = client.getProperties().getInteger(MAP_REQUEST_COALESCING_MAX_BATCH_SIZE);
+        return new MapRequestCoalescer(name, client, windowNanos, Math.max(maxBatchSize, 1));
+    }
+
+    /**
+     * Gets the value of the given key as a part of a getAll request.
+     *
+     * @return the future of the value, completed with {@code null} if the map
+     * doesn't contain the key
+     */
+    InternalCompletableFuture<Data> get(Data keyData, int partitionId) {
+        InternalCompletableFuture<Data> future = new InternalCompletableFuture<>();
+        for (; ; ) {
+            Batch batch = batches.get(partitionId);
+            if (batch == null) {
+                Batch newBatch = new Batch(partitionId);
+                batch = batches.putIfAbsent(partitionId, newBatch);
+                if (batch == null) {
+                    batch = newBatch;
+                }
+            }
+            int size = batch.add(keyData, future);
+            if (size < 0) {
+                // the batch is being sent, the next call creates a new one
+                batches.remove(partitionId, batch);
+                continue;
+            }
+            if (size >= maxBatchSize) {
+                send(batch);
+            } else if (size == 1) {
+                schedule(batch);
+            }
+            return future;
+        }
+    }
+
+    private void schedule(Batch batch) {
+        try {
+            batch.setSendTask(client.getTaskScheduler().schedule(() -> send(batch), windowNanos, NANOSECONDS));
+        } catch (RejectedExecutionException e) {
+            // the client is shutting down, the invocation fails the futures
+            send(batch);
+        }
+    }
+
+    private void send(Batch batch) {
+        batches.remove(batch.partitionId, batch);
+        if (!batch.close()) {
+            return;
+        }
+        // concurrent gets of the same key share the entry of the response
+        List<Data> keys = new ArrayList<>(new LinkedHashSet<>(batch.keys));
+        ClientMessage request = MapGetAllCodec.encodeRequest(name, keys);
+        new ClientInvocation(client, request, name, batch.partitionId).invoke().whenComplete((response, t) -> {
+            if (t != null) {
+                batch.completeExceptionally(t);
+                return;
+            }
+            Map<Data, Data> values = new HashMap<>();
+            for (Map.Entry<Data, Data> entry : MapGetAllCodec.decodeResponse(response)) {
+                values.put(entry.getKey(), entry.getValue());
+            }
+            for (int i = 0; i < batch.keys.size(); i++) {
+                batch.futures.get(i).complete(values.get(batch.keys.get(i)));
+            }
+        });
+    }
+
+    /**
+     * The calls coalesced into a single request. Once the batch is closed,
+     * its lists are only read by the thread sending the request.
+     */
+    private static final class Batch {
+
+        private final int partitionId;
+        private final List<Data> keys = new ArrayList<>();
+        private final List<InternalCompletableFuture<Data>> futures = new ArrayList<>();
+        private ScheduledFuture<?> sendTask;
+        private boolean closed;
+
+        Batch(int partitionId) {
+            this.partitionId = partitionId;
+        }
+
+        /**
+         * @return the size of the batch after adding the call or {@code -1}
+         * if the batch is already closed
+         */
+        synchronized int add(Data keyData, InternalCompletableFuture<Data> future) {
+            if (closed) {
+                return -1;
+            }
+            keys.add(keyData);
+            futures.add(future);
+            return futures.size();
+        }
+
+        synchronized void setSendTask(ScheduledFuture<?> sendTask) {
+            if (closed) {
+                sendTask.cancel(false);
+            } else {
+                this.sendTask = sendTask;
+            }
+        }
+
+        /**
+         * Closes the batch and cancels its scheduled sending, so a full batch
+         * doesn't leave a task behind for the rest of the window.
+         *
+         * @return {@code true} if the batch was closed by this call
+         */
+        synchronized boolean close() {
+            if (closed) {
+                return false;
+            }
+            closed = true;
+            if (sendTask != null) {
+                sendTask.cancel(false);
+            }
+            return true;
+        }
+
+        void completeExceptionally(Throwable t) {
+            for (InternalCompletableFuture<Data> future : futures) {
+                future.completeExceptionally(t);
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import com.hazelcast.core.IndeterminateOperationStateException;
 import com.hazelcast.spi.properties.HazelcastProperty;
 import com.hazelcast.client.util.ClientConnectivityLogger;
 
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -355,6 +356,32 @@ public final class ClientProperty {
     public static final HazelcastProperty CLIENT_CONNECTIVITY_LOGGING_DELAY_SECONDS
             = new HazelcastProperty("hazelcast.client.connectivity.logging.delay.seconds", 10);
 
+    /**
+     * The time window in microseconds in which the concurrent single-key
+     * {@code IMap.get} calls of the client on the same map and partition are
+     * coalesced into a single {@code getAll} request. Coalescing cuts the
+     * per-request overhead of chatty applications at the cost of adding up
+     * to the window to the latency of each call. Only the synchronous calls
+     * are coalesced. Set calls are never coalesced, since a {@code setAll}
+     * request would not wait for the keys locked by other threads.
+     * <p>
+     * Coalescing is disabled when set to 0, which is the default.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty MAP_REQUEST_COALESCING_WINDOW_MICROS
+            = new HazelcastProperty("hazelcast.client.map.request.coalescing.window.micros", 0, MICROSECONDS);
+
+    /**
+     * The maximum number of calls coalesced into a single request, see
+     * {@link #MAP_REQUEST_COALESCING_WINDOW_MICROS}. A batch which reaches
+     * this size is sent without waiting for the rest of the window.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty MAP_REQUEST_COALESCING_MAX_BATCH_SIZE
+            = new HazelcastProperty("hazelcast.client.map.request.coalescing.max.batch.size", 128);
+
     private ClientProperty() {
     }
 }
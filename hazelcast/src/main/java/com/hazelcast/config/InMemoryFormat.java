@@ -32,7 +32,22 @@ public enum InMemoryFormat {
     /**
      * As native storage
      */
-    NATIVE(2);
+    NATIVE(2),
+
+    /**
+     * As per-field columns. Only supported by {@link com.hazelcast.map.IMap}.
+     * <p>
+     * The fields of Compact serialized values are stored in one column per
+     * field and schema in each partition, so queries only touch the fields
+     * they use and primitive fields are stored in primitive arrays. Values
+     * which are not Compact serialized are stored as in {@link #BINARY}.
+     * <p>
+     * Read-backup-data is not supported, and maps with this format can be
+     * added dynamically only once the cluster version is at least 6.0.
+     *
+     * @since 6.0
+     */
+    COLUMNAR(3);
 
     private final byte id;
 
@@ -16,6 +16,7 @@
 
 package com.hazelcast.config;
 
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.config.ConfigDataSerializerHook;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
@@ -42,6 +43,11 @@ import static com.hazelcast.internal.util.Preconditions.checkNotNull;
  * for low cardinality attributes at the cost of reduced query performance.
  * <p>
  * Index could be created on one or more attributes.
+ * <p>
+ * The values of additional attributes can be stored in the index alongside
+ * the indexed ones, see {@link #setIncludedAttributes(List)}. Queries which
+ * only project the indexed and included attributes are then answered from
+ * the index, without extracting the attributes from the entry values.
  *
  * @see com.hazelcast.config.IndexType
  * @see com.hazelcast.config.MapConfig#setIndexConfigs(List)
@@ -59,6 +65,9 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
     /** Indexed attributes. */
     private List<String> attributes;
 
+    /** Attributes stored in the index alongside the indexed ones. */
+    private List<String> includedAttributes;
+
     private BitmapIndexOptions bitmapIndexOptions;
 
     private BTreeIndexConfig bTreeIndexConfig = new BTreeIndexConfig();
@@ -101,6 +110,9 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
         for (String attribute : other.getAttributes()) {
             addAttributeInternal(attribute);
         }
+        for (String includedAttribute : other.getIncludedAttributes()) {
+            addIncludedAttributeInternal(includedAttribute);
+        }
     }
 
     /**
@@ -202,6 +214,71 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
         return this;
     }
 
+    /**
+     * Gets the attributes whose values are stored in the index alongside
+     * the indexed attributes.
+     *
+     * @return Included attributes.
+     * @since 6.0
+     */
+    public List<String> getIncludedAttributes() {
+        if (includedAttributes == null) {
+            includedAttributes = new ArrayList<>();
+        }
+
+        return includedAttributes;
+    }
+
+    /**
+     * Adds an attribute whose value is stored in the index alongside the
+     * indexed attributes.
+     *
+     * @param includedAttribute Attribute name.
+     * @return This instance for chaining.
+     * @since 6.0
+     */
+    public IndexConfig addIncludedAttribute(String includedAttribute) {
+        addIncludedAttributeInternal(includedAttribute);
+
+        return this;
+    }
+
+    private void addIncludedAttributeInternal(String includedAttribute) {
+        IndexUtils.validateAttribute(includedAttribute);
+
+        if (includedAttributes == null) {
+            includedAttributes = new ArrayList<>();
+        }
+
+        includedAttributes.add(includedAttribute);
+    }
+
+    /**
+     * Sets the attributes whose values are stored in the index alongside
+     * the indexed attributes, which makes it a covering index for them.
+     * <p>
+     * Queries with a {@link com.hazelcast.projection.Projection Projection}
+     * and SQL queries scanning the index read the values of the indexed and
+     * included attributes from the index instead of extracting them from the
+     * entry values. The included attributes are not used for lookups and they
+     * increase the memory consumed by the index.
+     *
+     * @param includedAttributes Included attributes.
+     * @return This instance for chaining.
+     * @since 6.0
+     */
+    public IndexConfig setIncludedAttributes(List<String> includedAttributes) {
+        checkNotNull(includedAttributes, "Included attributes cannot be null.");
+
+        this.includedAttributes = new ArrayList<>(includedAttributes.size());
+
+        for (String includedAttribute : includedAttributes) {
+            addIncludedAttribute(includedAttribute);
+        }
+
+        return this;
+    }
+
     /**
      * Provides access to index options specific to bitmap indexes.
      *
@@ -260,6 +337,9 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
         writeNullableList(attributes, out);
         out.writeObject(bitmapIndexOptions);
         out.writeObject(bTreeIndexConfig);
+        if (out.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+            writeNullableList(includedAttributes, out);
+        }
     }
 
     @Override
@@ -269,6 +349,9 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
         attributes = readNullableList(in);
         bitmapIndexOptions = in.readObject();
         bTreeIndexConfig = in.readObject();
+        if (in.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+            includedAttributes = readNullableList(in);
+        }
     }
 
     @Override
@@ -299,6 +382,10 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
             return false;
         }
 
+        if (!getIncludedAttributes().equals(that.getIncludedAttributes())) {
+            return false;
+        }
+
         return getAttributes().equals(that.getAttributes());
     }
 
@@ -308,6 +395,7 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
 
         result = 31 * result + (type != null ? type.hashCode() : 0);
         result = 31 * result + getAttributes().hashCode();
+        result = 31 * result + getIncludedAttributes().hashCode();
         result = 31 * result + getBitmapIndexOptions().hashCode();
         result = 31 * result + getBTreeIndexConfig().hashCode();
 
@@ -317,6 +405,9 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
     @Override
     public String toString() {
         String string = "IndexConfig{name=" + name + ", type=" + type + ", attributes=" + getAttributes();
+        if (includedAttributes != null && !includedAttributes.isEmpty()) {
+            string += ", includedAttributes=" + includedAttributes;
+        }
         if (bitmapIndexOptions != null && !bitmapIndexOptions.areDefault()) {
             string += ", bitmapIndexOptions=" + bitmapIndexOptions;
         }
@@ -100,6 +100,10 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
      * Default value of whether per entry statistics are enabled or not
      */
     public static final boolean DEFAULT_ENTRY_STATS_ENABLED = false;
+    /**
+     * Default value of whether off-heap record storage is enabled or not
+     */
+    public static final boolean DEFAULT_OFF_HEAP_STORAGE_ENABLED = false;
     /**
      * Default max size.
      */
@@ -118,6 +122,7 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
     private boolean readBackupData;
     private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
     private boolean perEntryStatsEnabled = DEFAULT_ENTRY_STATS_ENABLED;
+    private boolean offHeapStorageEnabled = DEFAULT_OFF_HEAP_STORAGE_ENABLED;
     private int backupCount = DEFAULT_BACKUP_COUNT;
     private int asyncBackupCount = MIN_BACKUP_COUNT;
     private int timeToLiveSeconds = DEFAULT_TTL_SECONDS;
@@ -173,6 +178,7 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         this.cacheDeserializedValues = config.cacheDeserializedValues;
         this.statisticsEnabled = config.statisticsEnabled;
         this.perEntryStatsEnabled = config.perEntryStatsEnabled;
+        this.offHeapStorageEnabled = config.offHeapStorageEnabled;
         this.mergePolicyConfig = new MergePolicyConfig(config.mergePolicyConfig);
         this.wanReplicationRef = config.wanReplicationRef != null ? new WanReplicationRef(config.wanReplicationRef) : null;
         this.entryListenerConfigs = new ArrayList<>(config.getEntryListenerConfigs());
@@ -491,6 +497,39 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         return this;
     }
 
+    /**
+     * Checks if off-heap record storage is enabled for this map.
+     *
+     * @return {@code true} if entries of this map are
+     * stored in native memory, {@code false} otherwise
+     * @since 6.0
+     */
+    public boolean isOffHeapStorageEnabled() {
+        return offHeapStorageEnabled;
+    }
+
+    /**
+     * Set to enable/disable off-heap record storage.
+     * Its default value is {@code false}.
+     * <p>
+     * When enabled, keys, values and entry metadata of this map are kept
+     * in native memory slabs allocated per partition instead of per-entry
+     * objects on the Java heap, which keeps large maps out of the old
+     * generation. Values are copied to the heap when they are read.
+     * <p>
+     * Only the {@link InMemoryFormat#BINARY} in-memory format is supported and
+     * {@link #setReadBackupData(boolean) read-backup-data} must be disabled.
+     *
+     * @param offHeapStorageEnabled {@code true} to store entries
+     *                              in native memory, {@code false} to store them on-heap
+     * @return the current map config instance
+     * @since 6.0
+     */
+    public MapConfig setOffHeapStorageEnabled(boolean offHeapStorageEnabled) {
+        this.offHeapStorageEnabled = offHeapStorageEnabled;
+        return this;
+    }
+
     /**
      * Checks if read-backup-data (reading local backup entries) is enabled for this map.
      *
@@ -899,6 +938,9 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         if (perEntryStatsEnabled != that.perEntryStatsEnabled) {
             return false;
         }
+        if (offHeapStorageEnabled != that.offHeapStorageEnabled) {
+            return false;
+        }
         if (!name.equals(that.name)) {
             return false;
         }
@@ -969,7 +1011,7 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         return hotRestartConfig.equals(that.hotRestartConfig);
     }
 
-    @SuppressWarnings("NPathComplexity")
+    @SuppressWarnings({"CyclomaticComplexity", "NPathComplexity"})
     @Override
     public final int hashCode() {
         int result = (name != null ? name.hashCode() : 0);
@@ -993,6 +1035,7 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         result = 31 * result + getPartitionLostListenerConfigs().hashCode();
         result = 31 * result + (statisticsEnabled ? 1 : 0);
         result = 31 * result + (perEntryStatsEnabled ? 1 : 0);
+        result = 31 * result + (offHeapStorageEnabled ? 1 : 0);
         result = 31 * result + (partitioningStrategyConfig != null ? partitioningStrategyConfig.hashCode() : 0);
         result = 31 * result + (splitBrainProtectionName != null ? splitBrainProtectionName.hashCode() : 0);
         result = 31 * result + merkleTreeConfig.hashCode();
@@ -1033,6 +1076,7 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
                 + ", cacheDeserializedValues=" + cacheDeserializedValues
                 + ", statisticsEnabled=" + statisticsEnabled
                 + ", entryStatsEnabled=" + perEntryStatsEnabled
+                + ", offHeapStorageEnabled=" + offHeapStorageEnabled
                 + ", tieredStoreConfig=" + tieredStoreConfig
                 + ", partitioningAttributeConfigs=" + partitioningAttributeConfigs
                 + ", userCodeNamespace=" + userCodeNamespace
@@ -1051,6 +1095,9 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
 
     @Override
     public void writeData(ObjectDataOutput out) throws IOException {
+        // RU_COMPAT_5_5: members older than 6.0 cannot parse COLUMNAR, they store it as BINARY
+        InMemoryFormat writtenFormat = inMemoryFormat == InMemoryFormat.COLUMNAR
+                && out.getVersion().isLessThan(Versions.V6_0) ? InMemoryFormat.BINARY : inMemoryFormat;
         out.writeString(name);
         out.writeInt(backupCount);
         out.writeInt(asyncBackupCount);
@@ -1062,7 +1109,7 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         out.writeBoolean(readBackupData);
         out.writeString(cacheDeserializedValues.name());
         out.writeObject(mergePolicyConfig);
-        out.writeString(inMemoryFormat.name());
+        out.writeString(writtenFormat.name());
         out.writeObject(wanReplicationRef);
         writeNullableList(entryListenerConfigs, out);
         writeNullableList(partitionLostListenerConfigs, out);
@@ -1087,6 +1134,11 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         if (out.getVersion().isGreaterOrEqual(Versions.V5_4)) {
             out.writeString(userCodeNamespace);
         }
+
+        // RU_COMPAT_5_5
+        if (out.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+            out.writeBoolean(offHeapStorageEnabled);
+        }
     }
 
     @Override
@@ -1127,5 +1179,10 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         if (in.getVersion().isGreaterOrEqual(Versions.V5_4)) {
             userCodeNamespace = in.readString();
         }
+
+        // RU_COMPAT_5_5
+        if (in.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+            offHeapStorageEnabled = in.readBoolean();
+        }
     }
 }
@@ -17,6 +17,7 @@
 package com.hazelcast.config;
 
 import com.hazelcast.client.impl.protocol.util.PropertiesUtil;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.config.ConfigDataSerializerHook;
 import com.hazelcast.map.MapStore;
 import com.hazelcast.nio.ObjectDataInput;
@@ -56,11 +57,17 @@ public class MapStoreConfig implements IdentifiedDataSerializable, Versioned {
      */
     public static final boolean DEFAULT_OFFLOAD = true;
 
+    /**
+     * Default adaptive write batching behavior
+     */
+    public static final boolean DEFAULT_ADAPTIVE_WRITE_BATCHING = false;
+
     private boolean enabled = true;
     private boolean offload = DEFAULT_OFFLOAD;
     private boolean writeCoalescing = DEFAULT_WRITE_COALESCING;
     private int writeDelaySeconds = DEFAULT_WRITE_DELAY_SECONDS;
     private int writeBatchSize = DEFAULT_WRITE_BATCH_SIZE;
+    private boolean adaptiveWriteBatching = DEFAULT_ADAPTIVE_WRITE_BATCHING;
     private String className;
     private String factoryClassName;
     private Object implementation;
@@ -94,6 +101,7 @@ public class MapStoreConfig implements IdentifiedDataSerializable, Versioned {
         factoryImplementation = config.getFactoryImplementation();
         writeDelaySeconds = config.getWriteDelaySeconds();
         writeBatchSize = config.getWriteBatchSize();
+        adaptiveWriteBatching = config.isAdaptiveWriteBatching();
         initialLoadMode = config.getInitialLoadMode();
         writeCoalescing = config.isWriteCoalescing();
         offload = config.isOffload();
@@ -185,6 +193,41 @@ public class MapStoreConfig implements IdentifiedDataSerializable, Versioned {
         return this;
     }
 
+    /**
+     * Returns {@code true} if the size of write-behind batches
+     * is adapted to the observed map store latencies.
+     *
+     * @return {@code true} if adaptive write batching is enabled, {@code false} otherwise
+     * @see #setAdaptiveWriteBatching(boolean)
+     * @since 6.0
+     */
+    public boolean isAdaptiveWriteBatching() {
+        return adaptiveWriteBatching;
+    }
+
+    /**
+     * Setting adaptive write batching is meaningful if you are using
+     * write-behind {@link MapStore} with write-coalescing.
+     * <p>
+     * When enabled, the {@link #setWriteBatchSize write batch size} is only
+     * the initial size of the batches passed to {@link MapStore#storeAll}
+     * and {@link MapStore#deleteAll}. Batches grow while the store keeps up
+     * with the write-behind backlog and its latency per entry stays stable,
+     * and they shrink, with pauses between them, when the latency per entry
+     * rises or a batch fails.
+     * <p>
+     * Default value is {@value #DEFAULT_ADAPTIVE_WRITE_BATCHING}.
+     *
+     * @param adaptiveWriteBatching {@code true} to adapt the batch size
+     *                              to the map store latency, otherwise {@code false}
+     * @return this MapStoreConfig instance
+     * @since 6.0
+     */
+    public MapStoreConfig setAdaptiveWriteBatching(boolean adaptiveWriteBatching) {
+        this.adaptiveWriteBatching = adaptiveWriteBatching;
+        return this;
+    }
+
     /**
      * Returns if this configuration is enabled
      *
@@ -377,6 +420,7 @@ public class MapStoreConfig implements IdentifiedDataSerializable, Versioned {
                 + ", factoryClassName='" + factoryClassName + '\''
                 + ", writeDelaySeconds=" + writeDelaySeconds
                 + ", writeBatchSize=" + writeBatchSize
+                + ", adaptiveWriteBatching=" + adaptiveWriteBatching
                 + ", implementation=" + implementation
                 + ", factoryImplementation=" + factoryImplementation
                 + ", properties=" + properties
@@ -399,6 +443,7 @@ public class MapStoreConfig implements IdentifiedDataSerializable, Versioned {
                 && writeCoalescing == that.writeCoalescing
                 && writeDelaySeconds == that.writeDelaySeconds
                 && writeBatchSize == that.writeBatchSize
+                && adaptiveWriteBatching == that.adaptiveWriteBatching
                 && Objects.equals(implementation, that.implementation)
                 && Objects.equals(className, that.className)
                 && Objects.equals(factoryImplementation, that.factoryImplementation)
@@ -411,7 +456,7 @@ public class MapStoreConfig implements IdentifiedDataSerializable, Versioned {
     @Override
     public final int hashCode() {
         return Objects.hash(enabled, writeCoalescing, implementation, className, factoryImplementation, factoryClassName,
-                writeDelaySeconds, writeBatchSize, properties, initialLoadMode, offload);
+                writeDelaySeconds, writeBatchSize, properties, initialLoadMode, offload, adaptiveWriteBatching);
     }
 
 
@@ -438,6 +483,11 @@ public class MapStoreConfig implements IdentifiedDataSerializable, Versioned {
         out.writeObject(properties);
         out.writeString(initialLoadMode.name());
         out.writeBoolean(offload);
+
+        // RU_COMPAT_5_5
+        if (out.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+            out.writeBoolean(adaptiveWriteBatching);
+        }
     }
 
     @Override
@@ -453,5 +503,10 @@ public class MapStoreConfig implements IdentifiedDataSerializable, Versioned {
         properties = in.readObject();
         initialLoadMode = InitialLoadMode.valueOf(in.readString());
         offload = in.readBoolean();
+
+        // RU_COMPAT_5_5
+        if (in.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+            adaptiveWriteBatching = in.readBoolean();
+        }
     }
 }
@@ -45,6 +45,13 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
      */
     public static final boolean DEFAULT_SERIALIZE_KEYS = false;
 
+    /**
+     * Default value of the off-heap storage of Near Cache records.
+     *
+     * @since 6.0
+     */
+    public static final boolean DEFAULT_OFF_HEAP_STORAGE_ENABLED = false;
+
     /**
      * @see LocalUpdatePolicy#INVALIDATE
      */
@@ -89,6 +96,7 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
 
     private boolean cacheLocalEntries;
     private boolean serializeKeys = DEFAULT_SERIALIZE_KEYS;
+    private boolean offHeapStorageEnabled = DEFAULT_OFF_HEAP_STORAGE_ENABLED;
     private boolean invalidateOnChange = DEFAULT_INVALIDATE_ON_CHANGE;
     private int timeToLiveSeconds = DEFAULT_TTL_SECONDS;
     private int maxIdleSeconds = DEFAULT_MAX_IDLE_SECONDS;
@@ -109,6 +117,7 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
         this.name = config.name;
         this.inMemoryFormat = config.inMemoryFormat;
         this.serializeKeys = config.serializeKeys;
+        this.offHeapStorageEnabled = config.offHeapStorageEnabled;
         this.invalidateOnChange = config.invalidateOnChange;
         this.timeToLiveSeconds = config.timeToLiveSeconds;
         this.maxIdleSeconds = config.maxIdleSeconds;
@@ -210,6 +219,42 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
         return this;
     }
 
+    /**
+     * Checks if the records of the Near Cache are kept in native memory
+     * instead of on the Java heap.
+     *
+     * @return {@code true} if the records are kept in native memory, {@code false} otherwise
+     * @see #setOffHeapStorageEnabled(boolean)
+     * @since 6.0
+     */
+    public boolean isOffHeapStorageEnabled() {
+        return offHeapStorageEnabled;
+    }
+
+    /**
+     * Sets if the records of the Near Cache are kept in native memory
+     * instead of on the Java heap.
+     * <p>
+     * Off-heap storage is only supported with the {@code BINARY}
+     * in-memory-format. The serialized keys and values are kept in
+     * slab-allocated native memory, so a large Near Cache doesn't add to
+     * the heap scanned by the garbage collector; values are copied to the
+     * heap when they are read. The records are evicted in approximate
+     * least recently used order with a CLOCK algorithm, so the configured
+     * eviction policy is only taken into account to disable eviction.
+     * <p>
+     * This is a local storage setting and is not propagated to the other
+     * members by the dynamic configuration.
+     *
+     * @param offHeapStorageEnabled {@code true} to keep the records in native memory
+     * @return this Near Cache config instance
+     * @since 6.0
+     */
+    public NearCacheConfig setOffHeapStorageEnabled(boolean offHeapStorageEnabled) {
+        this.offHeapStorageEnabled = offHeapStorageEnabled;
+        return this;
+    }
+
     /**
      * Checks if Near Cache entries are invalidated when the entries in the backing data structure are changed
      * (updated or removed).
@@ -425,6 +470,7 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
         return "NearCacheConfig{"
                 + "name=" + name
                 + ", inMemoryFormat=" + inMemoryFormat
+                + ", offHeapStorageEnabled=" + offHeapStorageEnabled
                 + ", invalidateOnChange=" + invalidateOnChange
                 + ", timeToLiveSeconds=" + timeToLiveSeconds
                 + ", maxIdleSeconds=" + maxIdleSeconds
@@ -450,6 +496,9 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
         if (serializeKeys != that.serializeKeys) {
             return false;
         }
+        if (offHeapStorageEnabled != that.offHeapStorageEnabled) {
+            return false;
+        }
         if (invalidateOnChange != that.invalidateOnChange) {
             return false;
         }
@@ -483,6 +532,7 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
         int result = name.hashCode();
         result = 31 * result + inMemoryFormat.hashCode();
         result = 31 * result + (serializeKeys ? 1 : 0);
+        result = 31 * result + (offHeapStorageEnabled ? 1 : 0);
         result = 31 * result + (invalidateOnChange ? 1 : 0);
         result = 31 * result + timeToLiveSeconds;
         result = 31 * result + maxIdleSeconds;
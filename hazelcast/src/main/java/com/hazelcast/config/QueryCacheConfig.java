@@ -287,7 +287,8 @@ public class QueryCacheConfig implements IdentifiedDataSerializable {
      */
     public QueryCacheConfig setInMemoryFormat(InMemoryFormat inMemoryFormat) {
         checkNotNull(inMemoryFormat, "inMemoryFormat cannot be null");
-        checkFalse(inMemoryFormat == InMemoryFormat.NATIVE, "InMemoryFormat." + inMemoryFormat + " is not supported.");
+        checkFalse(inMemoryFormat == InMemoryFormat.NATIVE || inMemoryFormat == InMemoryFormat.COLUMNAR,
+                "InMemoryFormat." + inMemoryFormat + " is not supported.");
 
         this.inMemoryFormat = inMemoryFormat;
         return this;
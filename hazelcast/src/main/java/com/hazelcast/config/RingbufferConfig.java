@@ -26,8 +26,10 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.Objects;
 
+import static com.hazelcast.config.InMemoryFormat.COLUMNAR;
 import static com.hazelcast.config.InMemoryFormat.NATIVE;
 import static com.hazelcast.internal.cluster.Versions.V5_4;
+import static com.hazelcast.internal.cluster.Versions.V6_0;
 import static com.hazelcast.internal.util.Preconditions.checkAsyncBackupCount;
 import static com.hazelcast.internal.util.Preconditions.checkBackupCount;
 import static com.hazelcast.internal.util.Preconditions.checkFalse;
@@ -66,6 +68,10 @@ public class RingbufferConfig implements IdentifiedDataSerializable, NamedConfig
      * Default value for the in-memory format.
      */
     public static final InMemoryFormat DEFAULT_IN_MEMORY_FORMAT = InMemoryFormat.BINARY;
+    /**
+     * Default value of whether memory-mapped storage is enabled or not.
+     */
+    public static final boolean DEFAULT_MEMORY_MAPPED_STORAGE_ENABLED = false;
 
     private String name;
     private int capacity = DEFAULT_CAPACITY;
@@ -73,6 +79,7 @@ public class RingbufferConfig implements IdentifiedDataSerializable, NamedConfig
     private int asyncBackupCount = DEFAULT_ASYNC_BACKUP_COUNT;
     private int timeToLiveSeconds = DEFAULT_TTL_SECONDS;
     private InMemoryFormat inMemoryFormat = DEFAULT_IN_MEMORY_FORMAT;
+    private boolean memoryMappedStorageEnabled = DEFAULT_MEMORY_MAPPED_STORAGE_ENABLED;
     private RingbufferStoreConfig ringbufferStoreConfig = new RingbufferStoreConfig().setEnabled(false);
     private String splitBrainProtectionName;
     private MergePolicyConfig mergePolicyConfig = new MergePolicyConfig();
@@ -105,6 +112,7 @@ public class RingbufferConfig implements IdentifiedDataSerializable, NamedConfig
         this.asyncBackupCount = config.asyncBackupCount;
         this.timeToLiveSeconds = config.timeToLiveSeconds;
         this.inMemoryFormat = config.inMemoryFormat;
+        this.memoryMappedStorageEnabled = config.memoryMappedStorageEnabled;
         if (config.ringbufferStoreConfig != null) {
             this.ringbufferStoreConfig = new RingbufferStoreConfig(config.ringbufferStoreConfig);
         }
@@ -315,16 +323,59 @@ public class RingbufferConfig implements IdentifiedDataSerializable, NamedConfig
      * @param inMemoryFormat the new in memory format
      * @return the updated Config
      * @throws NullPointerException     if inMemoryFormat is {@code null}
-     * @throws IllegalArgumentException if {@link InMemoryFormat#NATIVE} in-memory
+     * @throws IllegalArgumentException if {@link InMemoryFormat#NATIVE} or
+     *                                  {@link InMemoryFormat#COLUMNAR} in-memory
      *                                  format is selected
      */
     public RingbufferConfig setInMemoryFormat(InMemoryFormat inMemoryFormat) {
         checkNotNull(inMemoryFormat, "inMemoryFormat can't be null");
         checkFalse(inMemoryFormat == NATIVE, "InMemoryFormat " + NATIVE + " is not supported");
+        checkFalse(inMemoryFormat == COLUMNAR, "InMemoryFormat " + COLUMNAR + " is not supported");
         this.inMemoryFormat = inMemoryFormat;
         return this;
     }
 
+    /**
+     * Checks if memory-mapped storage is enabled for this ringbuffer.
+     *
+     * @return {@code true} if the items of this ringbuffer are kept
+     * in memory-mapped segment files, {@code false} otherwise
+     * @since 6.0
+     */
+    public boolean isMemoryMappedStorageEnabled() {
+        return memoryMappedStorageEnabled;
+    }
+
+    /**
+     * Set to enable/disable memory-mapped storage.
+     * Its default value is {@code false}.
+     * <p>
+     * When enabled, the serialized items of this ringbuffer are appended
+     * to memory-mapped segment files instead of being referenced from an
+     * array on the Java heap, so that large ringbuffers don't fill up the
+     * heap. This only moves the stored items off the heap: each read copies
+     * the item back to the heap.
+     * <p>
+     * The storage is not persistent. The segment files live in a temporary
+     * directory under the {@code hazelcast.ringbuffer.mapped.storage.dir}
+     * property and are deleted when the ringbuffer is destroyed or the
+     * member shuts down, so no items survive a restart. Use a
+     * {@link RingbufferStoreConfig ringbuffer store} to persist items.
+     * <p>
+     * Only the {@link InMemoryFormat#BINARY} in-memory format is supported.
+     * The event journals of maps and caches, which are also ringbuffers,
+     * always keep their events on the heap.
+     *
+     * @param memoryMappedStorageEnabled {@code true} to keep items in
+     *                                   memory-mapped files, {@code false} to keep them on-heap
+     * @return the updated Config
+     * @since 6.0
+     */
+    public RingbufferConfig setMemoryMappedStorageEnabled(boolean memoryMappedStorageEnabled) {
+        this.memoryMappedStorageEnabled = memoryMappedStorageEnabled;
+        return this;
+    }
+
     /**
      * Get the RingbufferStore (load and store ringbuffer items from/to a database)
      * configuration.
@@ -421,6 +472,7 @@ public class RingbufferConfig implements IdentifiedDataSerializable, NamedConfig
                 + ", asyncBackupCount=" + asyncBackupCount
                 + ", timeToLiveSeconds=" + timeToLiveSeconds
                 + ", inMemoryFormat=" + inMemoryFormat
+                + ", memoryMappedStorageEnabled=" + memoryMappedStorageEnabled
                 + ", ringbufferStoreConfig=" + ringbufferStoreConfig
                 + ", splitBrainProtectionName=" + splitBrainProtectionName
                 + ", mergePolicyConfig=" + mergePolicyConfig
@@ -454,6 +506,11 @@ public class RingbufferConfig implements IdentifiedDataSerializable, NamedConfig
         if (out.getVersion().isGreaterOrEqual(V5_4)) {
             out.writeString(userCodeNamespace);
         }
+
+        // RU_COMPAT_5_5
+        if (out.getVersion().isGreaterOrEqual(V6_0)) {
+            out.writeBoolean(memoryMappedStorageEnabled);
+        }
     }
 
     @Override
@@ -472,9 +529,15 @@ public class RingbufferConfig implements IdentifiedDataSerializable, NamedConfig
         if (in.getVersion().isGreaterOrEqual(V5_4)) {
             userCodeNamespace = in.readString();
         }
+
+        // RU_COMPAT_5_5
+        if (in.getVersion().isGreaterOrEqual(V6_0)) {
+            memoryMappedStorageEnabled = in.readBoolean();
+        }
     }
 
     @Override
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
     public final boolean equals(Object o) {
         if (this == o) {
             return true;
@@ -489,6 +552,7 @@ public class RingbufferConfig implements IdentifiedDataSerializable, NamedConfig
                 && timeToLiveSeconds == that.timeToLiveSeconds
                 && Objects.equals(name, that.name)
                 && inMemoryFormat == that.inMemoryFormat
+                && memoryMappedStorageEnabled == that.memoryMappedStorageEnabled
                 && Objects.equals(ringbufferStoreConfig, that.ringbufferStoreConfig)
                 && Objects.equals(splitBrainProtectionName, that.splitBrainProtectionName)
                 && Objects.equals(mergePolicyConfig, that.mergePolicyConfig)
@@ -498,6 +562,7 @@ public class RingbufferConfig implements IdentifiedDataSerializable, NamedConfig
     @Override
     public final int hashCode() {
         return Objects.hash(name, capacity, backupCount, asyncBackupCount, timeToLiveSeconds, inMemoryFormat,
-                ringbufferStoreConfig, splitBrainProtectionName, mergePolicyConfig, userCodeNamespace);
+                memoryMappedStorageEnabled, ringbufferStoreConfig, splitBrainProtectionName, mergePolicyConfig,
+                userCodeNamespace);
     }
 }
@@ -97,6 +97,7 @@ import com.hazelcast.internal.serialization.impl.compact.schema.MemberSchemaServ
 import com.hazelcast.internal.server.ServerConnection;
 import com.hazelcast.internal.server.ServerContext;
 import com.hazelcast.internal.server.tcp.ChannelInitializerFunction;
+import com.hazelcast.internal.server.tcp.PacketCompressor;
 import com.hazelcast.internal.server.tcp.PacketDecoder;
 import com.hazelcast.internal.server.tcp.PacketEncoder;
 import com.hazelcast.internal.tpc.TpcServerBootstrap;
@@ -467,14 +468,26 @@ public class DefaultNodeExtension implements NodeExtension {
     public InboundHandler[] createInboundHandlers(EndpointQualifier qualifier,
                                                   ServerConnection connection, ServerContext serverContext) {
         NodeEngineImpl nodeEngine = node.nodeEngine;
-        PacketDecoder decoder = new PacketDecoder(connection, nodeEngine.getPacketDispatcher());
+        PacketDecoder decoder = new PacketDecoder(connection, nodeEngine.getPacketDispatcher(),
+                packetCompressor(connection));
         return new InboundHandler[]{decoder};
     }
 
     @Override
     public OutboundHandler[] createOutboundHandlers(EndpointQualifier qualifier,
                                                     ServerConnection connection, ServerContext serverContext) {
-        return new OutboundHandler[]{new PacketEncoder()};
+        return new OutboundHandler[]{new PacketEncoder(packetCompressor(connection))};
+    }
+
+    /**
+     * Returns the compressor shared by the packet encoder and decoder of the
+     * connection. It is disabled until compression is negotiated by the
+     * member handshake.
+     */
+    @SuppressWarnings("unchecked")
+    private PacketCompressor packetCompressor(ServerConnection connection) {
+        return (PacketCompressor) connection.attributeMap().computeIfAbsent(PacketCompressor.class,
+                key -> new PacketCompressor(node.getProperties().getInteger(ClusterProperty.PACKET_COMPRESSION_THRESHOLD)));
     }
 
     @Override
@@ -60,6 +60,13 @@ public class MemberHandshake
 
     public static final String OPTION_PLANE_COUNT = "planeCount";
     public static final String OPTION_PLANE_INDEX = "planeIndex";
+    /**
+     * Announces that the sender is able to decompress packets flagged
+     * with {@link com.hazelcast.internal.nio.Packet#FLAG_COMPRESSED}.
+     *
+     * @since 6.0
+     */
+    public static final String OPTION_PACKET_COMPRESSION = "packetCompression";
 
     private byte schemaVersion;
     private Map<ProtocolType, Collection<Address>> localAddresses;
@@ -101,6 +108,10 @@ public class MemberHandshake
         return getIntOption(OPTION_PLANE_INDEX, 0);
     }
 
+    public boolean isPacketCompressionSupported() {
+        return Boolean.parseBoolean(options.get(OPTION_PACKET_COMPRESSION));
+    }
+
     byte getSchemaVersion() {
         return schemaVersion;
     }
@@ -52,6 +52,7 @@ import com.hazelcast.config.security.RealmConfig;
 import com.hazelcast.instance.EndpointQualifier;
 import com.hazelcast.instance.ProtocolType;
 import com.hazelcast.instance.impl.Node;
+import com.hazelcast.internal.memory.impl.SlabMemoryAllocator;
 import com.hazelcast.internal.util.MutableInteger;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.eviction.EvictionPolicyComparator;
@@ -71,6 +72,8 @@ import static com.hazelcast.config.EvictionPolicy.LFU;
 import static com.hazelcast.config.EvictionPolicy.LRU;
 import static com.hazelcast.config.EvictionPolicy.NONE;
 import static com.hazelcast.config.EvictionPolicy.RANDOM;
+import static com.hazelcast.config.InMemoryFormat.BINARY;
+import static com.hazelcast.config.InMemoryFormat.COLUMNAR;
 import static com.hazelcast.config.InMemoryFormat.NATIVE;
 import static com.hazelcast.config.MaxSizePolicy.ENTRY_COUNT;
 import static com.hazelcast.config.MaxSizePolicy.FREE_HEAP_PERCENTAGE;
@@ -138,6 +141,8 @@ public final class ConfigValidator {
         checkNotNativeWhenOpenSource(mapConfig.getInMemoryFormat());
         checkNotBitmapIndexWhenNativeMemory(mapConfig.getInMemoryFormat(), mapConfig.getIndexConfigs());
         checkTSEnabledOnEnterpriseJar(mapConfig.getTieredStoreConfig());
+        checkOffHeapStorageMapConfig(mapConfig);
+        checkColumnarMapConfig(mapConfig);
 
         if (getBuildInfo().isEnterprise()) {
             checkTieredStoreMapConfig(config, mapConfig);
@@ -206,6 +211,36 @@ public final class ConfigValidator {
         }
     }
 
+    static void checkOffHeapStorageMapConfig(MapConfig mapConfig) {
+        if (!mapConfig.isOffHeapStorageEnabled()) {
+            return;
+        }
+
+        InMemoryFormat inMemoryFormat = mapConfig.getInMemoryFormat();
+        if (BINARY != inMemoryFormat) {
+            throw new InvalidConfigurationException(format("Only BINARY in-memory-format "
+                            + "is supported for off-heap storage but found [%s] for the map [%s]",
+                    inMemoryFormat, mapConfig.getName()));
+        }
+
+        if (mapConfig.isReadBackupData()) {
+            throw new InvalidConfigurationException(format("Read-backup-data is not supported "
+                    + "for off-heap storage map [%s]", mapConfig.getName()));
+        }
+
+        if (!SlabMemoryAllocator.isAvailable()) {
+            throw new InvalidConfigurationException(format("Map [%s] is configured for off-heap "
+                    + "storage, but native memory access is not available on this platform", mapConfig.getName()));
+        }
+    }
+
+    static void checkColumnarMapConfig(MapConfig mapConfig) {
+        if (mapConfig.getInMemoryFormat() == COLUMNAR && mapConfig.isReadBackupData()) {
+            throw new InvalidConfigurationException(format("Read-backup-data is not supported "
+                    + "for COLUMNAR in-memory-format map [%s]", mapConfig.getName()));
+        }
+    }
+
     static void checkMapMaxSizePolicyPerInMemoryFormat(MapConfig mapConfig) {
         MaxSizePolicy maxSizePolicy = mapConfig.getEvictionConfig().getMaxSizePolicy();
         InMemoryFormat inMemoryFormat = mapConfig.getInMemoryFormat();
@@ -377,6 +412,7 @@ public final class ConfigValidator {
     public static void checkNearCacheConfig(String mapName, NearCacheConfig nearCacheConfig,
                                             NativeMemoryConfig nativeMemoryConfig, boolean isClient) {
         checkNotNativeWhenOpenSource(nearCacheConfig.getInMemoryFormat());
+        checkNotColumnar(nearCacheConfig.getInMemoryFormat(), "Near Cache");
         checkLocalUpdatePolicy(mapName, nearCacheConfig.getLocalUpdatePolicy());
         EvictionConfig evictionConfig = nearCacheConfig.getEvictionConfig();
         checkNearCacheEvictionConfig(evictionConfig.getEvictionPolicy(),
@@ -384,6 +420,7 @@ public final class ConfigValidator {
         checkOnHeapNearCacheMaxSizePolicy(nearCacheConfig);
         checkNearCacheNativeMemoryConfig(nearCacheConfig.getInMemoryFormat(),
                 nativeMemoryConfig, getBuildInfo().isEnterprise());
+        checkOffHeapStorageNearCacheConfig(nearCacheConfig);
 
         if (isClient && nearCacheConfig.isCacheLocalEntries()) {
             throw new InvalidConfigurationException("The Near Cache option `cache-local-entries` is not supported in "
@@ -392,6 +429,24 @@ public final class ConfigValidator {
         checkPreloaderConfig(nearCacheConfig, isClient);
     }
 
+    static void checkOffHeapStorageNearCacheConfig(NearCacheConfig nearCacheConfig) {
+        if (!nearCacheConfig.isOffHeapStorageEnabled()) {
+            return;
+        }
+
+        InMemoryFormat inMemoryFormat = nearCacheConfig.getInMemoryFormat();
+        if (BINARY != inMemoryFormat) {
+            throw new InvalidConfigurationException(format("Only BINARY in-memory-format "
+                            + "is supported for off-heap storage but found [%s] for the Near Cache [%s]",
+                    inMemoryFormat, nearCacheConfig.getName()));
+        }
+
+        if (!SlabMemoryAllocator.isAvailable()) {
+            throw new InvalidConfigurationException(format("Near Cache [%s] is configured for off-heap "
+                    + "storage, but native memory access is not available on this platform", nearCacheConfig.getName()));
+        }
+    }
+
     /**
      * Checks IMap's supported Near Cache local update policy configuration.
      *
@@ -585,6 +640,7 @@ public final class ConfigValidator {
                                   @Nullable String namespace) {
         try {
             checkNotNativeWhenOpenSource(inMemoryFormat);
+            checkNotColumnar(inMemoryFormat, "Cache");
             checkEvictionConfig(evictionConfig, supportedEvictionPolicies);
             checkCacheMaxSizePolicy(evictionConfig.getMaxSizePolicy(), inMemoryFormat);
             checkMergeTypeProviderHasRequiredTypes(mergeTypes, mergePolicyProvider, mergePolicyClassname, namespace);
@@ -621,6 +677,7 @@ public final class ConfigValidator {
      */
     public static void checkReplicatedMapConfig(ReplicatedMapConfig replicatedMapConfig,
                                                 SplitBrainMergePolicyProvider mergePolicyProvider) {
+        checkNotColumnar(replicatedMapConfig.getInMemoryFormat(), "ReplicatedMap");
         checkMergeTypeProviderHasRequiredTypes(
                 SplitBrainMergeTypes.ReplicatedMapMergeTypes.class,
                 mergePolicyProvider,
@@ -691,6 +748,16 @@ public final class ConfigValidator {
                 ringbufferConfig.getMergePolicyConfig().getPolicy(),
                 ringbufferConfig.getUserCodeNamespace()
         );
+        checkMemoryMappedRingbufferConfig(ringbufferConfig);
+    }
+
+    static void checkMemoryMappedRingbufferConfig(RingbufferConfig ringbufferConfig) {
+        InMemoryFormat inMemoryFormat = ringbufferConfig.getInMemoryFormat();
+        if (ringbufferConfig.isMemoryMappedStorageEnabled() && BINARY != inMemoryFormat) {
+            throw new InvalidConfigurationException(format("Only BINARY in-memory-format "
+                            + "is supported for memory-mapped storage but found [%s] for the ringbuffer [%s]",
+                    inMemoryFormat, ringbufferConfig.getName()));
+        }
     }
 
     /**
@@ -738,6 +805,13 @@ public final class ConfigValidator {
         }
     }
 
+    private static void checkNotColumnar(InMemoryFormat inMemoryFormat, String structureType) {
+        if (inMemoryFormat == COLUMNAR) {
+            throw new InvalidConfigurationException("COLUMNAR in-memory-format is supported for IMap only, "
+                    + structureType + " can't be configured with it.");
+        }
+    }
+
     /**
      * Throws {@link InvalidConfigurationException} if the given {@link TieredStoreConfig}
      * is enabled and Hazelcast is OS.
@@ -89,4 +89,9 @@ public class MapStoreConfigReadOnly extends MapStoreConfig {
     public MapStoreConfig setOffload(boolean offload) {
         throw new UnsupportedOperationException("This config is read-only");
     }
+
+    @Override
+    public MapStoreConfig setAdaptiveWriteBatching(boolean adaptiveWriteBatching) {
+        throw new UnsupportedOperationException("This config is read-only");
+    }
 }
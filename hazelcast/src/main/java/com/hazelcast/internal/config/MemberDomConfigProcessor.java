@@ -2005,6 +2005,8 @@ public class MemberDomConfigProcessor extends AbstractDomConfigProcessor {
                 mapConfig.setStatisticsEnabled(getBooleanValue(getTextContent(node)));
             } else if (matches("per-entry-stats-enabled", nodeName)) {
                 mapConfig.setPerEntryStatsEnabled(getBooleanValue(getTextContent(node)));
+            } else if (matches("off-heap-storage-enabled", nodeName)) {
+                mapConfig.setOffHeapStorageEnabled(getBooleanValue(getTextContent(node)));
             } else if (matches("cache-deserialized-values", nodeName)) {
                 CacheDeserializedValues cacheDeserializedValues = CacheDeserializedValues
                         .parseString(getTextContent(node));
@@ -2055,6 +2057,8 @@ public class MemberDomConfigProcessor extends AbstractDomConfigProcessor {
             } else if (matches("serialize-keys", nodeName)) {
                 serializeKeys = Boolean.parseBoolean(getTextContent(child));
                 nearCacheConfig.setSerializeKeys(serializeKeys);
+            } else if (matches("off-heap-storage-enabled", nodeName)) {
+                nearCacheConfig.setOffHeapStorageEnabled(Boolean.parseBoolean(getTextContent(child)));
             } else if (matches("invalidate-on-change", nodeName)) {
                 nearCacheConfig.setInvalidateOnChange(Boolean.parseBoolean(getTextContent(child)));
             } else if (matches("cache-local-entries", nodeName)) {
@@ -2513,6 +2517,8 @@ public class MemberDomConfigProcessor extends AbstractDomConfigProcessor {
             } else if (matches("write-batch-size", nodeName)) {
                 mapStoreConfig.setWriteBatchSize(getIntegerValue("write-batch-size", getTextContent(n)
                 ));
+            } else if (matches("adaptive-write-batching", nodeName)) {
+                mapStoreConfig.setAdaptiveWriteBatching(getBooleanValue(getTextContent(n)));
             } else if (matches("write-coalescing", nodeName)) {
                 String writeCoalescing = getTextContent(n);
                 if (isNullOrEmpty(writeCoalescing)) {
@@ -2854,6 +2860,8 @@ public class MemberDomConfigProcessor extends AbstractDomConfigProcessor {
             } else if (matches("in-memory-format", nodeName)) {
                 InMemoryFormat inMemoryFormat = InMemoryFormat.valueOf(upperCaseInternal(getTextContent(n)));
                 rbConfig.setInMemoryFormat(inMemoryFormat);
+            } else if (matches("memory-mapped-storage-enabled", nodeName)) {
+                rbConfig.setMemoryMappedStorageEnabled(getBooleanValue(getTextContent(n)));
             } else if (matches("ringbuffer-store", nodeName)) {
                 RingbufferStoreConfig ringbufferStoreConfig = createRingbufferStoreConfig(n);
                 rbConfig.setRingbufferStoreConfig(ringbufferStoreConfig);
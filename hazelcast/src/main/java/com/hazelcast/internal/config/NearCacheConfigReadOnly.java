@@ -53,6 +53,11 @@ public class NearCacheConfigReadOnly extends NearCacheConfig {
         throw new UnsupportedOperationException("This config is read-only");
     }
 
+    @Override
+    public NearCacheConfig setOffHeapStorageEnabled(boolean offHeapStorageEnabled) {
+        throw new UnsupportedOperationException("This config is read-only");
+    }
+
     @Override
     public NearCacheConfig setInvalidateOnChange(boolean invalidateOnChange) {
         throw new UnsupportedOperationException("This config is read-only");
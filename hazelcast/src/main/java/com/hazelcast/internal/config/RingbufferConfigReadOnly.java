@@ -64,6 +64,11 @@ public class RingbufferConfigReadOnly extends RingbufferConfig {
         throw throwReadOnly();
     }
 
+    @Override
+    public RingbufferConfig setMemoryMappedStorageEnabled(boolean memoryMappedStorageEnabled) {
+        throw throwReadOnly();
+    }
+
     @Override
     public RingbufferConfig setRingbufferStoreConfig(RingbufferStoreConfig ringbufferStoreConfig) {
         throw throwReadOnly();
@@ -29,6 +29,7 @@ import com.hazelcast.config.EventJournalConfig;
 import com.hazelcast.config.ExecutorConfig;
 import com.hazelcast.config.FlakeIdGeneratorConfig;
 import com.hazelcast.config.InvalidConfigurationException;
+import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.ListConfig;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MerkleTreeConfig;
@@ -278,6 +279,12 @@ public class ClusterWideConfigurationService implements
                     currentClusterVersion
             ));
         }
+        if (config instanceof MapConfig mapConfig && mapConfig.getInMemoryFormat() == InMemoryFormat.COLUMNAR
+                && currentClusterVersion.isLessThan(V6_0)) {
+            throw new UnsupportedOperationException(format("In-memory format '%s' is available since version '%s'. "
+                            + "Current cluster version '%s' does not allow dynamically adding map '%s' with it.",
+                    InMemoryFormat.COLUMNAR, V6_0, currentClusterVersion, mapConfig.getName()));
+        }
     }
 
     private IdentifiedDataSerializable cloneConfig(IdentifiedDataSerializable config) {
@@ -104,6 +104,7 @@ public final class DynamicConfigXmlGenerator {
                     .node("in-memory-format", m.getInMemoryFormat())
                     .node("statistics-enabled", m.isStatisticsEnabled())
                     .node("per-entry-stats-enabled", m.isPerEntryStatsEnabled())
+                    .node("off-heap-storage-enabled", m.isOffHeapStorageEnabled())
                     .node("cache-deserialized-values", cacheDeserializedVal)
                     .node("backup-count", m.getBackupCount())
                     .node("async-backup-count", m.getAsyncBackupCount())
@@ -292,7 +293,8 @@ public final class DynamicConfigXmlGenerator {
                     .node("backup-count", rbConfig.getBackupCount())
                     .node("async-backup-count", rbConfig.getAsyncBackupCount())
                     .node("split-brain-protection-ref", rbConfig.getSplitBrainProtectionName())
-                    .node("in-memory-format", rbConfig.getInMemoryFormat());
+                    .node("in-memory-format", rbConfig.getInMemoryFormat())
+                    .node("memory-mapped-storage-enabled", rbConfig.isMemoryMappedStorageEnabled());
 
             RingbufferStoreConfig storeConfig = rbConfig.getRingbufferStoreConfig();
             if (storeConfig != null) {
@@ -782,6 +784,7 @@ public final class DynamicConfigXmlGenerator {
                     .node("offload", s.isOffload())
                     .node("write-delay-seconds", s.getWriteDelaySeconds())
                     .node("write-batch-size", s.getWriteBatchSize())
+                    .node("adaptive-write-batching", s.isAdaptiveWriteBatching())
                     .appendProperties(s.getProperties())
                     .close();
         }
@@ -800,6 +803,7 @@ public final class DynamicConfigXmlGenerator {
                     .node("time-to-live-seconds", n.getTimeToLiveSeconds())
                     .node("max-idle-seconds", n.getMaxIdleSeconds())
                     .node("serialize-keys", n.isSerializeKeys())
+                    .node("off-heap-storage-enabled", n.isOffHeapStorageEnabled())
                     .node("cache-local-entries", n.isCacheLocalEntries());
 
             evictionConfigXmlGenerator(gen, n.getEvictionConfig());
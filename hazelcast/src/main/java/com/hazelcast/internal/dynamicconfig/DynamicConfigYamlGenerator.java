@@ -211,6 +211,8 @@ public class DynamicConfigYamlGenerator {
                     subConfigAsObject.isStatisticsEnabled());
             addNonNullToMap(subConfigAsMap, "per-entry-stats-enabled",
                     subConfigAsObject.isPerEntryStatsEnabled());
+            addNonNullToMap(subConfigAsMap, "off-heap-storage-enabled",
+                    subConfigAsObject.isOffHeapStorageEnabled());
             addNonNullToMap(subConfigAsMap, "cache-deserialized-values",
                     cacheDeserializedValues);
             addNonNullToMap(subConfigAsMap, "backup-count",
@@ -480,6 +482,8 @@ public class DynamicConfigYamlGenerator {
                     subConfigAsObject.getSplitBrainProtectionName());
             addNonNullToMap(subConfigAsMap, "in-memory-format",
                     subConfigAsObject.getInMemoryFormat().name());
+            addNonNullToMap(subConfigAsMap, "memory-mapped-storage-enabled",
+                    subConfigAsObject.isMemoryMappedStorageEnabled());
             addNonNullToMap(subConfigAsMap, "ringbuffer-store",
                     getRingbufferStoreConfigAsMap(subConfigAsObject.getRingbufferStoreConfig()));
             addNonNullToMap(subConfigAsMap, "merge-policy",
@@ -1552,6 +1556,9 @@ public class DynamicConfigYamlGenerator {
             addNonNullToMap(indexConfigAsMap, "name", indexConfig.getName());
             addNonNullToMap(indexConfigAsMap, "type", indexConfig.getType().name());
             addNonNullToMap(indexConfigAsMap, "attributes", indexConfig.getAttributes());
+            if (!indexConfig.getIncludedAttributes().isEmpty()) {
+                addNonNullToMap(indexConfigAsMap, "included-attributes", indexConfig.getIncludedAttributes());
+            }
 
             if (indexConfig.getType() == IndexType.BITMAP) {
                 Map<String, Object> bitmapIndexOptionsAsMap = new LinkedHashMap<>();
@@ -1598,6 +1605,8 @@ public class DynamicConfigYamlGenerator {
                 nearCacheConfig.getMaxIdleSeconds());
         addNonNullToMap(nearCacheConfigAsMap, "serialize-keys",
                 nearCacheConfig.isSerializeKeys());
+        addNonNullToMap(nearCacheConfigAsMap, "off-heap-storage-enabled",
+                nearCacheConfig.isOffHeapStorageEnabled());
         addNonNullToMap(nearCacheConfigAsMap, "cache-local-entries",
                 nearCacheConfig.isCacheLocalEntries());
         addNonNullToMap(nearCacheConfigAsMap, "eviction",
@@ -1890,6 +1899,7 @@ public class DynamicConfigYamlGenerator {
         addNonNullToMap(mapStoreConfigAsMap, "write-coalescing", mapStoreConfig.isWriteCoalescing());
         addNonNullToMap(mapStoreConfigAsMap, "write-delay-seconds", mapStoreConfig.getWriteDelaySeconds());
         addNonNullToMap(mapStoreConfigAsMap, "write-batch-size", mapStoreConfig.getWriteBatchSize());
+        addNonNullToMap(mapStoreConfigAsMap, "adaptive-write-batching", mapStoreConfig.isAdaptiveWriteBatching());
 
         return mapStoreConfigAsMap;
     }
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.memory.impl;
+
+import com.hazelcast.internal.memory.GlobalMemoryAccessorRegistry;
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.MemoryAllocator;
+import com.hazelcast.internal.util.collection.Long2LongHashMap;
+import com.hazelcast.memory.NativeOutOfMemoryError;
+
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE;
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE_AVAILABLE;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static com.hazelcast.internal.util.QuickMath.isPowerOfTwo;
+import static com.hazelcast.internal.util.QuickMath.nextPowerOfTwo;
+
+/**
+ * {@link MemoryAllocator} which carves blocks out of large native memory
+ * slabs. Block sizes are rounded up to the next power of two and freed blocks
+ * are kept on a per-size-class free list (threaded through the first 8 bytes
+ * of each free block), so steady-state allocation does not hit the system
+ * allocator at all. Blocks larger than a slab are allocated and freed
+ * directly.
+ * <p>
+ * Slabs are only returned to the system on {@link #dispose()}.
+ * <p>
+ * This allocator is not thread-safe, it is meant to be confined to the
+ * thread owning the data structure (e.g. a partition thread).
+ */
+public final class SlabMemoryAllocator implements MemoryAllocator {
+
+    /**
+     * Default size of a single slab: 1 MB
+     */
+    public static final int DEFAULT_SLAB_SIZE = 1 << 20;
+
+    private static final int MIN_BLOCK_SIZE_SHIFT = 4;
+    private static final int MIN_BLOCK_SIZE = 1 << MIN_BLOCK_SIZE_SHIFT;
+
+    private final MemoryAccessor mem;
+    private final int slabSize;
+    private final long maxCapacity;
+    private final long[] freeListHeads;
+    // base address -> size of every block obtained from the system
+    private final Long2LongHashMap systemBlocks = new Long2LongHashMap(-1L);
+
+    private long currentSlab = NULL_ADDRESS;
+    private int currentSlabOffset;
+    private long usedMemory;
+    private long committedMemory;
+
+    public SlabMemoryAllocator() {
+        this(DEFAULT_SLAB_SIZE, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param slabSize    size of a single slab, must be a power of two
+     * @param maxCapacity the maximum amount of native memory this allocator
+     *                    may obtain from the system
+     */
+    public SlabMemoryAllocator(int slabSize, long maxCapacity) {
+        if (!isAvailable()) {
+            throw new UnsupportedOperationException("Native memory access is not available on this platform");
+        }
+        checkPositive("slabSize", slabSize);
+        checkPositive("maxCapacity", maxCapacity);
+        if (!isPowerOfTwo(slabSize) || slabSize < MIN_BLOCK_SIZE) {
+            throw new IllegalArgumentException("Slab size must be a power of two and at least "
+                    + MIN_BLOCK_SIZE + " bytes, but was " + slabSize);
+        }
+        this.mem = GlobalMemoryAccessorRegistry.MEM;
+        this.slabSize = slabSize;
+        this.maxCapacity = maxCapacity;
+        this.freeListHeads = new long[sizeClassOf(slabSize) + 1];
+    }
+
+    /**
+     * @return {@code true} if this platform allows native memory allocation
+     * and access, {@code false} otherwise
+     */
+    public static boolean isAvailable() {
+        return UNSAFE_AVAILABLE && GlobalMemoryAccessorRegistry.MEM_AVAILABLE;
+    }
+
+    /**
+     * @return the accessor to use for the memory handed out by this allocator
+     */
+    public MemoryAccessor getAccessor() {
+        return mem;
+    }
+
+    /**
+     * @return the total size of blocks currently handed out to callers
+     */
+    public long getUsedMemory() {
+        return usedMemory;
+    }
+
+    /**
+     * @return the total size of native memory currently obtained from the system
+     */
+    public long getCommittedMemory() {
+        return committedMemory;
+    }
+
+    /**
+     * @return the actual number of bytes reserved for a block of the given size
+     */
+    public long blockSizeOf(long size) {
+        return size > slabSize ? size : Math.max(MIN_BLOCK_SIZE, nextPowerOfTwo(size));
+    }
+
+    @Override
+    public long allocate(long size) {
+        checkPositive("size", size);
+        if (size > slabSize) {
+            long address = allocateFromSystem(size);
+            mem.setMemory(address, size, (byte) 0);
+            usedMemory += size;
+            return address;
+        }
+
+        int sizeClass = sizeClassOf(size);
+        int blockSize = MIN_BLOCK_SIZE << sizeClass;
+        long address = freeListHeads[sizeClass];
+        if (address != NULL_ADDRESS) {
+            freeListHeads[sizeClass] = mem.getLong(address);
+        } else {
+            if (currentSlab == NULL_ADDRESS || currentSlabOffset + blockSize > slabSize) {
+                currentSlab = allocateFromSystem(slabSize);
+                currentSlabOffset = 0;
+            }
+            address = currentSlab + currentSlabOffset;
+            currentSlabOffset += blockSize;
+        }
+        mem.setMemory(address, blockSize, (byte) 0);
+        usedMemory += blockSize;
+        return address;
+    }
+
+    @Override
+    public long reallocate(long address, long currentSize, long newSize) {
+        if (currentSize <= slabSize && newSize <= slabSize && blockSizeOf(currentSize) == blockSizeOf(newSize)) {
+            if (newSize > currentSize) {
+                mem.setMemory(address + currentSize, newSize - currentSize, (byte) 0);
+            }
+            return address;
+        }
+        long newAddress = allocate(newSize);
+        mem.copyMemory(address, newAddress, Math.min(currentSize, newSize));
+        free(address, currentSize);
+        return newAddress;
+    }
+
+    @Override
+    public void free(long address, long size) {
+        if (address == NULL_ADDRESS) {
+            return;
+        }
+        if (size > slabSize) {
+            long allocatedSize = systemBlocks.remove(address);
+            assert allocatedSize == size : "Freeing " + size + " bytes at " + address + ", but " + allocatedSize
+                    + " bytes were allocated";
+            UNSAFE.freeMemory(address);
+            committedMemory -= size;
+            usedMemory -= size;
+            return;
+        }
+        int sizeClass = sizeClassOf(size);
+        mem.putLong(address, freeListHeads[sizeClass]);
+        freeListHeads[sizeClass] = address;
+        usedMemory -= MIN_BLOCK_SIZE << sizeClass;
+    }
+
+    @Override
+    public void dispose() {
+        systemBlocks.longForEach((address, size) -> UNSAFE.freeMemory(address));
+        systemBlocks.clear();
+        for (int i = 0; i < freeListHeads.length; i++) {
+            freeListHeads[i] = NULL_ADDRESS;
+        }
+        currentSlab = NULL_ADDRESS;
+        currentSlabOffset = 0;
+        usedMemory = 0;
+        committedMemory = 0;
+    }
+
+    private long allocateFromSystem(long size) {
+        if (committedMemory + size > maxCapacity) {
+            throw new NativeOutOfMemoryError("Cannot allocate " + size + " bytes, committed: " + committedMemory
+                    + ", max capacity: " + maxCapacity);
+        }
+        long address;
+        try {
+            address = UNSAFE.allocateMemory(size);
+        } catch (OutOfMemoryError e) {
+            throw new NativeOutOfMemoryError("Cannot allocate " + size + " bytes of native memory", e);
+        }
+        systemBlocks.put(address, size);
+        committedMemory += size;
+        return address;
+    }
+
+    private static int sizeClassOf(long size) {
+        long blockSize = Math.max(MIN_BLOCK_SIZE, nextPowerOfTwo(size));
+        return Long.numberOfTrailingZeros(blockSize) - MIN_BLOCK_SIZE_SHIFT;
+    }
+}
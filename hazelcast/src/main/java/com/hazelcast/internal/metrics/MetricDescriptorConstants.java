@@ -264,6 +264,14 @@ public final class MetricDescriptorConstants {
             = "map.store.offloaded.operations";
     public static final String MAP_METRIC_MAP_STORE_WAITING_TO_BE_PROCESSED_COUNT
             = "waitingToBeProcessedCount";
+    public static final String MAP_PREFIX_WRITE_BEHIND = "map.writeBehind";
+    public static final String MAP_METRIC_WRITE_BEHIND_BATCH_SIZE = "batchSize";
+    public static final String MAP_METRIC_WRITE_BEHIND_BACKLOG = "backlog";
+    public static final String MAP_METRIC_WRITE_BEHIND_FLUSH_COUNT = "flushCount";
+    public static final String MAP_METRIC_WRITE_BEHIND_FLUSHED_ENTRY_COUNT = "flushedEntryCount";
+    public static final String MAP_METRIC_WRITE_BEHIND_FAILED_FLUSH_COUNT = "failedFlushCount";
+    public static final String MAP_METRIC_WRITE_BEHIND_TOTAL_FLUSH_LATENCY = "totalFlushLatency";
+    public static final String MAP_METRIC_WRITE_BEHIND_LAST_FLUSH_LATENCY = "lastFlushLatency";
     public static final String MAP_TAG_HYBRID_LOG_ID = "hybridLogId";
     // ===[/MAP]========================================================
 
@@ -300,6 +308,9 @@ public final class MetricDescriptorConstants {
     public static final String MIGRATION_METRIC_TOTAL_ELAPSED_MIGRATION_OPERATION_TIME = "totalElapsedMigrationOperationTime";
     public static final String MIGRATION_METRIC_TOTAL_ELAPSED_DESTINATION_COMMIT_TIME = "totalElapsedDestinationCommitTime";
     public static final String MIGRATION_METRIC_TOTAL_ELAPSED_MIGRATION_TIME = "totalElapsedMigrationTime";
+    public static final String MIGRATION_METRIC_SENT_MIGRATION_CHUNKS = "sentMigrationChunks";
+    public static final String MIGRATION_METRIC_SENT_MIGRATION_CHUNK_BYTES = "sentMigrationChunkBytes";
+    public static final String MIGRATION_METRIC_MIGRATION_CHUNK_THROTTLE_TIME = "migrationChunkThrottleTime";
     // ===[/MIGRATION]==================================================
 
     // ===[MULTIMAP]====================================================
@@ -368,6 +379,7 @@ public final class MetricDescriptorConstants {
     // ===[OPERATION]===================================================
     public static final String OPERATION_PREFIX = "operation";
     public static final String OPERATION_PREFIX_ADHOC = "operation.adhoc";
+    public static final String OPERATION_PREFIX_BACKPRESSURE = "operation.backpressure";
     public static final String OPERATION_PREFIX_GENERIC = "operation.generic";
     public static final String OPERATION_PREFIX_INVOCATIONS = "operation.invocations";
     public static final String OPERATION_PREFIX_PARKER = "operation.parker";
@@ -417,6 +429,11 @@ public final class MetricDescriptorConstants {
     public static final String OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_USED_PERCENTAGE = "usedPercentage";
     public static final String OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_LAST_CALL_ID = "lastCallId";
     public static final String OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_PENDING = "pending";
+    public static final String OPERATION_METRIC_BACKPRESSURE_LIMIT_MIN = "limitMin";
+    public static final String OPERATION_METRIC_BACKPRESSURE_LIMIT_AVERAGE = "limitAverage";
+    public static final String OPERATION_METRIC_BACKPRESSURE_LIMIT_DECREASE_COUNT = "limitDecreaseCount";
+    public static final String OPERATION_METRIC_BACKPRESSURE_DELAYED_COUNT = "delayedCount";
+    public static final String OPERATION_METRIC_BACKPRESSURE_REJECTED_COUNT = "rejectedCount";
     public static final String OPERATION_METRIC_OPERATION_RUNNER_EXECUTED_OPERATIONS_COUNT = "executedOperationsCount";
     public static final String OPERATION_METRIC_OPERATION_SERVICE_ASYNC_OPERATIONS = "asyncOperations";
     public static final String OPERATION_METRIC_OPERATION_SERVICE_TIMEOUT_COUNT = "operationTimeoutCount";
@@ -548,8 +565,10 @@ public final class MetricDescriptorConstants {
     public static final String TCP_PREFIX_CONNECTION = "tcp.connection";
     public static final String TCP_PREFIX_CONNECTION_IN = "tcp.connection.in";
     public static final String TCP_PREFIX_CONNECTION_OUT = "tcp.connection.out";
+    public static final String TCP_PREFIX_CONNECTION_COMPRESSION = "tcp.connection.compression";
     public static final String TCP_PREFIX_INPUTTHREAD = "tcp.inputThread";
     public static final String TCP_PREFIX_OUTPUTTHREAD = "tcp.outputThread";
+    public static final String TCP_PREFIX_PACKET_BUFFER_POOL = "tcp.packetBufferPool";
     public static final String TCP_DISCRIMINATOR_BINDADDRESS = "bindAddress";
     public static final String TCP_DISCRIMINATOR_ENDPOINT = "endpoint";
     public static final String TCP_DISCRIMINATOR_PIPELINEID = "pipelineId";
@@ -570,6 +589,17 @@ public final class MetricDescriptorConstants {
     public static final String TCP_METRIC_ENDPOINT_MANAGER_ACCEPTED_SOCKET_COUNT = "acceptedSocketCount";
     public static final String TCP_METRIC_CLIENT_COUNT = "clientCount";
     public static final String TCP_METRIC_TEXT_COUNT = "textCount";
+    public static final String TCP_METRIC_COMPRESSION_COMPRESSED_PACKETS = "compressedPackets";
+    public static final String TCP_METRIC_COMPRESSION_DECOMPRESSED_PACKETS = "decompressedPackets";
+    public static final String TCP_METRIC_COMPRESSION_UNCOMPRESSED_BYTES = "uncompressedBytes";
+    public static final String TCP_METRIC_COMPRESSION_COMPRESSED_BYTES = "compressedBytes";
+    public static final String TCP_METRIC_COMPRESSION_RATIO = "compressionRatio";
+    public static final String TCP_METRIC_COMPRESSION_COMPRESSION_TIME = "compressionTimeNanos";
+    public static final String TCP_METRIC_COMPRESSION_DECOMPRESSION_TIME = "decompressionTimeNanos";
+    public static final String TCP_METRIC_PACKET_BUFFER_POOL_POOLED_BYTES = "pooledBytes";
+    public static final String TCP_METRIC_PACKET_BUFFER_POOL_ALLOCATED_BYTES = "allocatedBytes";
+    public static final String TCP_METRIC_PACKET_BUFFER_POOL_REUSED = "reused";
+    public static final String TCP_METRIC_PACKET_BUFFER_POOL_HEAP_FALLBACKS = "heapFallbacks";
     // ===[/TCP]========================================================
 
     // ===[TOPIC]=======================================================
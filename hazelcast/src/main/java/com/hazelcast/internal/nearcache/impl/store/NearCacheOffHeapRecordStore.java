@@ -0,0 +1,838 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.store;
+
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.config.NearCachePreloaderConfig;
+import com.hazelcast.internal.adapter.DataStructureAdapter;
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.impl.SlabMemoryAllocator;
+import com.hazelcast.internal.monitor.impl.NearCacheStatsImpl;
+import com.hazelcast.internal.nearcache.NearCache;
+import com.hazelcast.internal.nearcache.NearCacheRecordStore;
+import com.hazelcast.internal.nearcache.impl.invalidation.MetaDataContainer;
+import com.hazelcast.internal.nearcache.impl.invalidation.StaleReadDetector;
+import com.hazelcast.internal.nearcache.impl.preloader.NearCachePreloader;
+import com.hazelcast.internal.nearcache.impl.record.NearCacheDataRecord;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.util.Clock;
+import com.hazelcast.nearcache.NearCacheStats;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import static com.hazelcast.internal.memory.MemoryAllocator.NULL_ADDRESS;
+import static com.hazelcast.internal.nearcache.NearCache.CACHED_AS_NULL;
+import static com.hazelcast.internal.nearcache.NearCache.UpdateSemantic.WRITE_UPDATE;
+import static com.hazelcast.internal.nearcache.NearCacheRecord.NOT_RESERVED;
+import static com.hazelcast.internal.nearcache.NearCacheRecord.READ_PERMITTED;
+import static com.hazelcast.internal.nearcache.NearCacheRecord.TIME_NOT_SET;
+import static com.hazelcast.internal.nearcache.impl.invalidation.StaleReadDetector.ALWAYS_FRESH;
+import static com.hazelcast.internal.util.HashUtil.fastIntMix;
+import static com.hazelcast.internal.util.TimeStripUtil.recomputeWithBaseTime;
+import static com.hazelcast.internal.util.TimeStripUtil.stripBaseTime;
+import static java.lang.String.format;
+import static java.util.concurrent.atomic.AtomicLongFieldUpdater.newUpdater;
+
+/**
+ * {@link NearCacheRecordStore} implementation for Near Caches with
+ * {@link com.hazelcast.config.InMemoryFormat#BINARY} in-memory-format which
+ * keeps the records in native memory, see
+ * {@link NearCacheConfig#isOffHeapStorageEnabled()}.
+ * <p>
+ * Each record is a single native block holding the record metadata followed
+ * by the serialized key and value. The records are spread over a fixed number
+ * of segments by the hash of the key; each segment allocates its blocks from
+ * its own {@link SlabMemoryAllocator} and indexes them in an open-addressing
+ * table made of two primitive arrays, so the heap cost of a record is a slot
+ * address and a hash code regardless of the size of the key and the value.
+ * A segment is guarded by its monitor. Values are copied to the heap when
+ * they are read, so freed blocks can be reused immediately.
+ * <p>
+ * Instead of sampling, eviction uses the CLOCK approximation of LRU: reading
+ * a record sets its referenced flag, and the clock hand of a segment clears
+ * the flags it passes until it finds a record which was not read since the
+ * hand last passed it. The configured {@link EvictionPolicy} is therefore
+ * not taken into account, only {@link EvictionPolicy#NONE} disables eviction.
+ *
+ * @param <K> the type of the key stored in Near Cache
+ * @param <V> the type of the value stored in Near Cache
+ */
+@SuppressWarnings("checkstyle:methodcount")
+public class NearCacheOffHeapRecordStore<K, V> implements NearCacheRecordStore<K, V> {
+
+    private static final int SEGMENT_COUNT_SHIFT = 4;
+    private static final int SEGMENT_COUNT = 1 << SEGMENT_COUNT_SHIFT;
+    private static final int SEGMENT_SLAB_SIZE = 1 << 18;
+    private static final int INITIAL_SEGMENT_CAPACITY = 64;
+    private static final float LOAD_FACTOR = 0.6f;
+    private static final long MILLI_SECONDS_IN_A_SECOND = 1000;
+
+    // layout of a record block
+    private static final int RESERVATION_ID_OFFSET = 0;
+    private static final int SEQUENCE_OFFSET = 8;
+    private static final int UUID_MOST_SIG_BITS_OFFSET = 16;
+    private static final int UUID_LEAST_SIG_BITS_OFFSET = 24;
+    private static final int PARTITION_ID_OFFSET = 32;
+    private static final int CREATION_TIME_OFFSET = 36;
+    private static final int EXPIRATION_TIME_OFFSET = 40;
+    private static final int LAST_ACCESS_TIME_OFFSET = 44;
+    private static final int HITS_OFFSET = 48;
+    private static final int KEY_SIZE_OFFSET = 52;
+    // -1 if the record has no value yet
+    private static final int VALUE_SIZE_OFFSET = 56;
+    private static final int FLAGS_OFFSET = 60;
+    private static final int HEADER_SIZE = 64;
+
+    private static final byte FLAG_CACHED_AS_NULL = 1;
+    private static final byte FLAG_REFERENCED = 1 << 1;
+    private static final byte FLAG_HAS_UUID = 1 << 2;
+
+    private static final AtomicLongFieldUpdater<NearCacheOffHeapRecordStore> RESERVATION_ID
+            = newUpdater(NearCacheOffHeapRecordStore.class, "reservationId");
+
+    private final long timeToLiveMillis;
+    private final long maxIdleMillis;
+    private final boolean evictionDisabled;
+    private final NearCacheConfig nearCacheConfig;
+    private final NearCacheStatsImpl nearCacheStats = new NearCacheStatsImpl();
+    private final SerializationService serializationService;
+    private final NearCachePreloader<K> nearCachePreloader;
+    private final AtomicInteger evictionCursor = new AtomicInteger();
+
+    private Segment[] segments;
+    private int maxSize;
+
+    private volatile long reservationId;
+    private volatile StaleReadDetector staleReadDetector = ALWAYS_FRESH;
+
+    public NearCacheOffHeapRecordStore(String name,
+                                       NearCacheConfig nearCacheConfig,
+                                       SerializationService serializationService) {
+        this.nearCacheConfig = nearCacheConfig;
+        this.serializationService = serializationService;
+        this.timeToLiveMillis = nearCacheConfig.getTimeToLiveSeconds() * MILLI_SECONDS_IN_A_SECOND;
+        this.maxIdleMillis = nearCacheConfig.getMaxIdleSeconds() * MILLI_SECONDS_IN_A_SECOND;
+        this.evictionDisabled = nearCacheConfig.getEvictionConfig().getEvictionPolicy() == EvictionPolicy.NONE;
+
+        NearCachePreloaderConfig preloaderConfig = nearCacheConfig.getPreloaderConfig();
+        this.nearCachePreloader = preloaderConfig.isEnabled()
+                ? new NearCachePreloader<>(name, preloaderConfig, nearCacheStats, serializationService) : null;
+    }
+
+    @Override
+    public void initialize() {
+        EvictionConfig evictionConfig = nearCacheConfig.getEvictionConfig();
+        MaxSizePolicy maxSizePolicy = evictionConfig.getMaxSizePolicy();
+        if (maxSizePolicy != MaxSizePolicy.ENTRY_COUNT) {
+            throw new IllegalArgumentException(format("Invalid max-size policy (%s) for %s! Only %s is supported.",
+                    maxSizePolicy, getClass().getName(), MaxSizePolicy.ENTRY_COUNT));
+        }
+        this.maxSize = evictionConfig.getSize();
+
+        Segment[] segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(timeToLiveMillis, maxIdleMillis);
+        }
+        this.segments = segments;
+    }
+
+    @Override
+    public void setStaleReadDetector(StaleReadDetector staleReadDetector) {
+        this.staleReadDetector = staleReadDetector;
+    }
+
+    @Override
+    public V get(K key) {
+        checkAvailable();
+
+        Data keyData = toData(key);
+        int hash = hashOf(keyData);
+        byte[] keyBytes = keyData.toByteArray();
+        Segment segment = segmentOf(hash);
+        NearCacheDataRecord record;
+        synchronized (segment) {
+            record = segment.get(hash, keyBytes, true);
+        }
+
+        if (record == null) {
+            nearCacheStats.incrementMisses();
+            return null;
+        }
+
+        Data value = record.getValue();
+        if (record.getReservationId() != READ_PERMITTED && !record.isCachedAsNull() && value == null) {
+            nearCacheStats.incrementMisses();
+            return null;
+        }
+
+        if (staleReadDetector.isStaleRead(key, record)) {
+            invalidate(key);
+            nearCacheStats.incrementMisses();
+            return null;
+        }
+
+        if (isExpired(record)) {
+            invalidate(key);
+            nearCacheStats.incrementExpirations();
+            return null;
+        }
+
+        nearCacheStats.incrementHits();
+        return value == null ? (V) CACHED_AS_NULL : toValue(value);
+    }
+
+    // only implemented for testing purposes
+    @Override
+    public void put(K key, Data keyData, V value, Data valueData) {
+        long reservationId = tryReserveForUpdate(key, keyData, NearCache.UpdateSemantic.READ_UPDATE);
+        if (reservationId != NOT_RESERVED) {
+            tryPublishReserved(key, value, reservationId, false);
+        }
+    }
+
+    @Override
+    public long tryReserveForUpdate(K key, Data keyData, NearCache.UpdateSemantic updateSemantic) {
+        checkAvailable();
+
+        Data data = keyData != null ? keyData : toData(key);
+        int hash = hashOf(data);
+        byte[] keyBytes = data.toByteArray();
+        Segment segment = segmentOf(hash);
+        // if there is no eviction configured we return if the Near Cache is full and it's a new key
+        // (we have to check the key, otherwise we might lose updates on existing keys)
+        if (evictionDisabled && size() >= maxSize) {
+            synchronized (segment) {
+                if (segment.find(hash, keyBytes) < 0) {
+                    return NOT_RESERVED;
+                }
+            }
+        }
+
+        long reservationId = RESERVATION_ID.incrementAndGet(this);
+
+        // the invalidation metadata is read before locking the segment
+        StaleReadDetector staleReadDetector = this.staleReadDetector;
+        int partitionId = 0;
+        long sequence = 0;
+        UUID uuid = null;
+        if (staleReadDetector != ALWAYS_FRESH) {
+            partitionId = staleReadDetector.getPartitionId(data);
+            MetaDataContainer metaDataContainer = staleReadDetector.getMetaDataContainer(partitionId);
+            sequence = metaDataContainer.getSequence();
+            uuid = metaDataContainer.getUuid();
+        }
+
+        synchronized (segment) {
+            int slot = segment.find(hash, keyBytes);
+            if (slot < 0) {
+                return segment.insertReservation(hash, keyBytes, reservationId, partitionId, sequence, uuid)
+                        ? reservationId : NOT_RESERVED;
+            }
+            if (updateSemantic != WRITE_UPDATE) {
+                return NOT_RESERVED;
+            }
+            long address = segment.addresses[slot];
+            if (segment.mem.getLong(address + RESERVATION_ID_OFFSET) == READ_PERMITTED) {
+                segment.mem.putLong(address + RESERVATION_ID_OFFSET, reservationId);
+                return reservationId;
+            }
+            // a previously reserved record is removed, see AbstractNearCacheRecordStore#reserveForWriteUpdate
+            long cost = segment.publishedCostOf(address);
+            segment.removeAt(slot);
+            onRemove(cost);
+            return NOT_RESERVED;
+        }
+    }
+
+    @Nullable
+    @Override
+    public V tryPublishReserved(K key, V value, long reservationId, boolean deserialize) {
+        checkAvailable();
+
+        Data keyData = toData(key);
+        int hash = hashOf(keyData);
+        byte[] keyBytes = keyData.toByteArray();
+        Data valueData = toData(value);
+        byte[] valueBytes = valueData != null ? valueData.toByteArray() : null;
+        Segment segment = segmentOf(hash);
+        Data cachedValue;
+        synchronized (segment) {
+            int slot = segment.find(hash, keyBytes);
+            if (slot < 0) {
+                return null;
+            }
+            long address = segment.addresses[slot];
+            if (segment.mem.getLong(address + RESERVATION_ID_OFFSET) == reservationId) {
+                long oldCost = segment.publishedCostOf(address);
+                address = segment.setValue(slot, valueBytes);
+                segment.mem.putLong(address + RESERVATION_ID_OFFSET, READ_PERMITTED);
+                if (oldCost > 0) {
+                    nearCacheStats.decrementOwnedEntryMemoryCost(oldCost);
+                } else {
+                    nearCacheStats.incrementOwnedEntryCount();
+                }
+                nearCacheStats.incrementOwnedEntryMemoryCost(segment.costOf(address));
+            }
+            cachedValue = deserialize ? segment.readValue(address) : null;
+        }
+        return cachedValue != null ? toValue(cachedValue) : null;
+    }
+
+    @Override
+    public void invalidate(K key) {
+        checkAvailable();
+
+        Data keyData = toData(key);
+        int hash = hashOf(keyData);
+        byte[] keyBytes = keyData.toByteArray();
+        Segment segment = segmentOf(hash);
+        long cost = 0;
+        synchronized (segment) {
+            int slot = segment.find(hash, keyBytes);
+            if (slot >= 0) {
+                cost = segment.publishedCostOf(segment.addresses[slot]);
+                segment.removeAt(slot);
+            }
+        }
+        if (cost > 0) {
+            onRemove(cost);
+            nearCacheStats.incrementInvalidations();
+        }
+        nearCacheStats.incrementInvalidationRequests();
+    }
+
+    @Override
+    public void clear() {
+        checkAvailable();
+
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size;
+                segment.clear();
+            }
+        }
+        nearCacheStats.setOwnedEntryCount(0);
+        nearCacheStats.setOwnedEntryMemoryCost(0L);
+        nearCacheStats.incrementInvalidations(size);
+        nearCacheStats.incrementInvalidationRequests();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The native memory of the segments is released, the record store stays
+     * empty afterwards: reservations for new records are not granted.
+     */
+    @Override
+    public void destroy() {
+        clear();
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.destroy();
+            }
+        }
+        if (nearCachePreloader != null) {
+            nearCachePreloader.destroy();
+        }
+    }
+
+    @Override
+    public int size() {
+        checkAvailable();
+
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    @Override
+    public NearCacheDataRecord getRecord(K key) {
+        checkAvailable();
+
+        Data keyData = toData(key);
+        int hash = hashOf(keyData);
+        Segment segment = segmentOf(hash);
+        synchronized (segment) {
+            return segment.get(hash, keyData.toByteArray(), false);
+        }
+    }
+
+    @Override
+    public NearCacheStats getNearCacheStats() {
+        checkAvailable();
+
+        return nearCacheStats;
+    }
+
+    @Override
+    public void doExpiration() {
+        checkAvailable();
+
+        for (Segment segment : segments) {
+            int expired = 0;
+            long cost = 0;
+            synchronized (segment) {
+                long now = Clock.currentTimeMillis();
+                long[] addresses = segment.addresses;
+                // removing a record may shift the next one into its slot, so the slot is checked again
+                for (int slot = 0; slot < addresses.length; ) {
+                    long address = addresses[slot];
+                    if (address != NULL_ADDRESS && segment.isExpired(address, now)) {
+                        cost += segment.publishedCostOf(address);
+                        segment.removeAt(slot);
+                        expired++;
+                    } else {
+                        slot++;
+                    }
+                }
+            }
+            nearCacheStats.decrementOwnedEntryMemoryCost(cost);
+            nearCacheStats.incrementInvalidations(expired);
+            for (int i = 0; i < expired; i++) {
+                nearCacheStats.decrementOwnedEntryCount();
+                nearCacheStats.incrementInvalidationRequests();
+                nearCacheStats.incrementExpirations();
+            }
+        }
+    }
+
+    @Override
+    public boolean doEviction(boolean withoutMaxSizeCheck) {
+        checkAvailable();
+
+        if (evictionDisabled) {
+            return false;
+        }
+        if (!withoutMaxSizeCheck && size() < maxSize) {
+            return true;
+        }
+
+        int start = evictionCursor.getAndIncrement();
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            Segment segment = segments[(start + i) & (SEGMENT_COUNT - 1)];
+            long cost;
+            synchronized (segment) {
+                int slot = segment.nextVictim();
+                if (slot < 0) {
+                    continue;
+                }
+                cost = segment.publishedCostOf(segment.addresses[slot]);
+                segment.removeAt(slot);
+            }
+            if (cost > 0) {
+                onRemove(cost);
+                nearCacheStats.incrementEvictions();
+            }
+            break;
+        }
+        return true;
+    }
+
+    @Override
+    public void loadKeys(DataStructureAdapter<Object, ?> adapter) {
+        if (nearCachePreloader != null) {
+            nearCachePreloader.loadKeys(adapter);
+        }
+    }
+
+    @Override
+    public void storeKeys() {
+        if (nearCachePreloader != null) {
+            nearCachePreloader.storeKeys(new KeyIterator());
+        }
+    }
+
+    private void checkAvailable() {
+        if (segments == null) {
+            throw new IllegalStateException(nearCacheConfig.getName() + " named Near Cache record store is not available");
+        }
+    }
+
+    private void onRemove(long cost) {
+        if (cost > 0) {
+            nearCacheStats.decrementOwnedEntryCount();
+            nearCacheStats.decrementOwnedEntryMemoryCost(cost);
+        }
+    }
+
+    private boolean isExpired(NearCacheDataRecord record) {
+        if (record.getReservationId() != READ_PERMITTED) {
+            // reserved records can't be checked for expiry
+            return false;
+        }
+        long now = Clock.currentTimeMillis();
+        return record.isExpiredAt(now) || record.isIdleAt(maxIdleMillis, now);
+    }
+
+    private Data toData(Object obj) {
+        return serializationService.toData(obj);
+    }
+
+    private V toValue(Object obj) {
+        return serializationService.toObject(obj);
+    }
+
+    private Segment segmentOf(int hash) {
+        return segments[hash >>> (Integer.SIZE - SEGMENT_COUNT_SHIFT)];
+    }
+
+    private static int hashOf(Data keyData) {
+        return fastIntMix(keyData.hashCode());
+    }
+
+    /**
+     * A part of the records guarded by the monitor of the segment.
+     */
+    private static final class Segment {
+
+        private final long timeToLiveMillis;
+        private final long maxIdleMillis;
+        private final SlabMemoryAllocator malloc = new SlabMemoryAllocator(SEGMENT_SLAB_SIZE, Long.MAX_VALUE);
+        private final MemoryAccessor mem = malloc.getAccessor();
+
+        private long[] addresses = new long[INITIAL_SEGMENT_CAPACITY];
+        private int[] hashes = new int[INITIAL_SEGMENT_CAPACITY];
+        private volatile int size;
+        private int clockHand;
+        private boolean destroyed;
+
+        Segment(long timeToLiveMillis, long maxIdleMillis) {
+            this.timeToLiveMillis = timeToLiveMillis;
+            this.maxIdleMillis = maxIdleMillis;
+        }
+
+        int find(int hash, byte[] keyBytes) {
+            int mask = addresses.length - 1;
+            for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+                long address = addresses[slot];
+                if (address == NULL_ADDRESS) {
+                    return -1;
+                }
+                if (hashes[slot] == hash && keyEquals(address, keyBytes)) {
+                    return slot;
+                }
+            }
+        }
+
+        NearCacheDataRecord get(int hash, byte[] keyBytes, boolean access) {
+            int slot = find(hash, keyBytes);
+            if (slot < 0) {
+                return null;
+            }
+            long address = addresses[slot];
+            NearCacheDataRecord record = toRecord(address);
+            long now = Clock.currentTimeMillis();
+            if (access && (record.getValue() != null || record.isCachedAsNull()) && !isExpired(address, now)) {
+                mem.putInt(address + LAST_ACCESS_TIME_OFFSET, stripBaseTime(now));
+                mem.putInt(address + HITS_OFFSET, mem.getInt(address + HITS_OFFSET) + 1);
+                mem.putByte(address + FLAGS_OFFSET, (byte) (mem.getByte(address + FLAGS_OFFSET) | FLAG_REFERENCED));
+            }
+            return record;
+        }
+
+        /**
+         * @return {@code false} if the segment is destroyed and the record was not inserted
+         */
+        boolean insertReservation(int hash, byte[] keyBytes, long reservationId, int partitionId, long sequence,
+                                  UUID uuid) {
+            if (destroyed) {
+                return false;
+            }
+            if (size + 1 > addresses.length * LOAD_FACTOR) {
+                resize();
+            }
+            long address = malloc.allocate(HEADER_SIZE + keyBytes.length);
+            long now = Clock.currentTimeMillis();
+            mem.putLong(address + RESERVATION_ID_OFFSET, reservationId);
+            mem.putLong(address + SEQUENCE_OFFSET, sequence);
+            mem.putInt(address + PARTITION_ID_OFFSET, partitionId);
+            mem.putInt(address + CREATION_TIME_OFFSET, stripBaseTime(now));
+            mem.putInt(address + EXPIRATION_TIME_OFFSET,
+                    stripBaseTime(timeToLiveMillis > 0 ? now + timeToLiveMillis : TIME_NOT_SET));
+            mem.putInt(address + LAST_ACCESS_TIME_OFFSET, stripBaseTime(TIME_NOT_SET));
+            mem.putInt(address + KEY_SIZE_OFFSET, keyBytes.length);
+            mem.putInt(address + VALUE_SIZE_OFFSET, -1);
+            // a record which is never read is the first one to be evicted
+            byte flags = 0;
+            if (uuid != null) {
+                mem.putLong(address + UUID_MOST_SIG_BITS_OFFSET, uuid.getMostSignificantBits());
+                mem.putLong(address + UUID_LEAST_SIG_BITS_OFFSET, uuid.getLeastSignificantBits());
+                flags |= FLAG_HAS_UUID;
+            }
+            mem.putByte(address + FLAGS_OFFSET, flags);
+            mem.copyFromByteArray(keyBytes, 0, address + HEADER_SIZE, keyBytes.length);
+            put(hash, address);
+            return true;
+        }
+
+        /**
+         * Replaces the value of the record in the given slot. The record is
+         * moved to a new block, so the new address of the record is returned.
+         */
+        long setValue(int slot, byte[] valueBytes) {
+            long address = addresses[slot];
+            int keySize = mem.getInt(address + KEY_SIZE_OFFSET);
+            int valueSize = valueBytes != null ? valueBytes.length : 0;
+            long newAddress = malloc.allocate(HEADER_SIZE + keySize + valueSize);
+            mem.copyMemory(address, newAddress, HEADER_SIZE + keySize);
+            malloc.free(address, blockSizeOf(address));
+            byte flags = mem.getByte(newAddress + FLAGS_OFFSET);
+            if (valueBytes != null) {
+                mem.copyFromByteArray(valueBytes, 0, newAddress + HEADER_SIZE + keySize, valueSize);
+                mem.putInt(newAddress + VALUE_SIZE_OFFSET, valueSize);
+                flags &= ~FLAG_CACHED_AS_NULL;
+            } else {
+                mem.putInt(newAddress + VALUE_SIZE_OFFSET, -1);
+                flags |= FLAG_CACHED_AS_NULL;
+            }
+            mem.putByte(newAddress + FLAGS_OFFSET, flags);
+            addresses[slot] = newAddress;
+            return newAddress;
+        }
+
+        Data readValue(long address) {
+            int valueSize = mem.getInt(address + VALUE_SIZE_OFFSET);
+            if (valueSize < 0) {
+                return null;
+            }
+            byte[] valueBytes = new byte[valueSize];
+            mem.copyToByteArray(address + HEADER_SIZE + mem.getInt(address + KEY_SIZE_OFFSET), valueBytes, 0, valueSize);
+            return new HeapData(valueBytes);
+        }
+
+        void removeAt(int slot) {
+            malloc.free(addresses[slot], blockSizeOf(addresses[slot]));
+            size--;
+            // backward shift deletion keeps the probe sequences intact without tombstones
+            int mask = addresses.length - 1;
+            int hole = slot;
+            for (int next = (slot + 1) & mask; addresses[next] != NULL_ADDRESS; next = (next + 1) & mask) {
+                int home = hashes[next] & mask;
+                boolean movable = hole <= next
+                        ? home <= hole || home > next
+                        : home <= hole && home > next;
+                if (movable) {
+                    addresses[hole] = addresses[next];
+                    hashes[hole] = hashes[next];
+                    hole = next;
+                }
+            }
+            addresses[hole] = NULL_ADDRESS;
+            hashes[hole] = 0;
+        }
+
+        /**
+         * Advances the clock hand to the next record which was not read since
+         * the hand last passed it, clearing the referenced flags on the way.
+         *
+         * @return the slot of the record to evict or {@code -1} if the segment is empty
+         */
+        int nextVictim() {
+            if (size == 0) {
+                return -1;
+            }
+            int mask = addresses.length - 1;
+            // the second lap finds a record since the first one cleared all flags
+            for (int i = 0; i < 2 * addresses.length; i++) {
+                int slot = clockHand;
+                clockHand = (clockHand + 1) & mask;
+                long address = addresses[slot];
+                if (address == NULL_ADDRESS) {
+                    continue;
+                }
+                byte flags = mem.getByte(address + FLAGS_OFFSET);
+                if ((flags & FLAG_REFERENCED) == 0) {
+                    return slot;
+                }
+                mem.putByte(address + FLAGS_OFFSET, (byte) (flags & ~FLAG_REFERENCED));
+            }
+            return -1;
+        }
+
+        boolean isExpired(long address, long now) {
+            if (mem.getLong(address + RESERVATION_ID_OFFSET) != READ_PERMITTED) {
+                return false;
+            }
+            long expirationTime = recomputeWithBaseTime(mem.getInt(address + EXPIRATION_TIME_OFFSET));
+            if (expirationTime > 0L && expirationTime <= now) {
+                return true;
+            }
+            if (maxIdleMillis <= 0) {
+                return false;
+            }
+            long lastAccessTime = recomputeWithBaseTime(mem.getInt(address + LAST_ACCESS_TIME_OFFSET));
+            long idleSince = lastAccessTime > 0L
+                    ? lastAccessTime
+                    : recomputeWithBaseTime(mem.getInt(address + CREATION_TIME_OFFSET));
+            return idleSince + maxIdleMillis < now;
+        }
+
+        /**
+         * Returns the memory cost of the record if it is accounted in the
+         * owned entry statistics, i.e. if a value was published to it.
+         */
+        long publishedCostOf(long address) {
+            boolean published = mem.getInt(address + VALUE_SIZE_OFFSET) >= 0
+                    || (mem.getByte(address + FLAGS_OFFSET) & FLAG_CACHED_AS_NULL) != 0;
+            return published ? costOf(address) : 0;
+        }
+
+        long costOf(long address) {
+            return malloc.blockSizeOf(blockSizeOf(address));
+        }
+
+        List<Data> copyKeys() {
+            List<Data> keys = new ArrayList<>(size);
+            for (long address : addresses) {
+                if (address != NULL_ADDRESS) {
+                    byte[] keyBytes = new byte[mem.getInt(address + KEY_SIZE_OFFSET)];
+                    mem.copyToByteArray(address + HEADER_SIZE, keyBytes, 0, keyBytes.length);
+                    keys.add(new HeapData(keyBytes));
+                }
+            }
+            return keys;
+        }
+
+        void clear() {
+            for (long address : addresses) {
+                if (address != NULL_ADDRESS) {
+                    malloc.free(address, blockSizeOf(address));
+                }
+            }
+            addresses = new long[INITIAL_SEGMENT_CAPACITY];
+            hashes = new int[INITIAL_SEGMENT_CAPACITY];
+            size = 0;
+            clockHand = 0;
+        }
+
+        /**
+         * Releases the native memory, no records can be inserted afterwards.
+         */
+        void destroy() {
+            clear();
+            malloc.dispose();
+            destroyed = true;
+        }
+
+        private NearCacheDataRecord toRecord(long address) {
+            NearCacheDataRecord record = new NearCacheDataRecord(readValue(address),
+                    recomputeWithBaseTime(mem.getInt(address + CREATION_TIME_OFFSET)),
+                    recomputeWithBaseTime(mem.getInt(address + EXPIRATION_TIME_OFFSET)));
+            record.setLastAccessTime(recomputeWithBaseTime(mem.getInt(address + LAST_ACCESS_TIME_OFFSET)));
+            record.setHits(mem.getInt(address + HITS_OFFSET));
+            record.setReservationId(mem.getLong(address + RESERVATION_ID_OFFSET));
+            record.setPartitionId(mem.getInt(address + PARTITION_ID_OFFSET));
+            record.setInvalidationSequence(mem.getLong(address + SEQUENCE_OFFSET));
+            byte flags = mem.getByte(address + FLAGS_OFFSET);
+            record.setCachedAsNull((flags & FLAG_CACHED_AS_NULL) != 0);
+            if ((flags & FLAG_HAS_UUID) != 0) {
+                record.setUuid(new UUID(mem.getLong(address + UUID_MOST_SIG_BITS_OFFSET),
+                        mem.getLong(address + UUID_LEAST_SIG_BITS_OFFSET)));
+            }
+            return record;
+        }
+
+        private boolean keyEquals(long address, byte[] keyBytes) {
+            if (mem.getInt(address + KEY_SIZE_OFFSET) != keyBytes.length) {
+                return false;
+            }
+            long keyAddress = address + HEADER_SIZE;
+            for (int i = 0; i < keyBytes.length; i++) {
+                if (mem.getByte(keyAddress + i) != keyBytes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int blockSizeOf(long address) {
+            return HEADER_SIZE + mem.getInt(address + KEY_SIZE_OFFSET) + Math.max(0, mem.getInt(address + VALUE_SIZE_OFFSET));
+        }
+
+        private void put(int hash, long address) {
+            int mask = addresses.length - 1;
+            int slot = hash & mask;
+            while (addresses[slot] != NULL_ADDRESS) {
+                slot = (slot + 1) & mask;
+            }
+            addresses[slot] = address;
+            hashes[slot] = hash;
+            size++;
+        }
+
+        private void resize() {
+            long[] oldAddresses = addresses;
+            int[] oldHashes = hashes;
+            addresses = new long[oldAddresses.length * 2];
+            hashes = new int[oldAddresses.length * 2];
+            size = 0;
+            clockHand = 0;
+            for (int slot = 0; slot < oldAddresses.length; slot++) {
+                if (oldAddresses[slot] != NULL_ADDRESS) {
+                    put(oldHashes[slot], oldAddresses[slot]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Iterates over the keys of the records, copying the keys of one segment at a time.
+     */
+    private final class KeyIterator implements Iterator<K> {
+
+        private int nextSegment;
+        private Iterator<Data> current = emptyIterator();
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext() && nextSegment < segments.length) {
+                Segment segment = segments[nextSegment++];
+                synchronized (segment) {
+                    current = segment.copyKeys().iterator();
+                }
+            }
+            return current.hasNext();
+        }
+
+        @Override
+        public K next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return (K) current.next();
+        }
+
+        private Iterator<Data> emptyIterator() {
+            return new ArrayList<Data>(0).iterator();
+        }
+    }
+}
@@ -21,6 +21,7 @@ import com.hazelcast.spi.impl.SerializationServiceSupport;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
 public interface BufferObjectDataOutput extends ObjectDataOutput, Closeable,
@@ -73,4 +74,15 @@ public interface BufferObjectDataOutput extends ObjectDataOutput, Closeable,
     void position(int newPos);
 
     void clear();
+
+    /**
+     * Copies the bytes written so far to the given buffer, starting at its
+     * position, and advances the position of the buffer.
+     *
+     * @param dst the buffer to copy the bytes to
+     * @throws java.nio.BufferOverflowException if the buffer doesn't have room for the bytes
+     */
+    default void copyTo(ByteBuffer dst) {
+        dst.put(toByteArray());
+    }
 }
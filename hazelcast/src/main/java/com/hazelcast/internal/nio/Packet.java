@@ -20,6 +20,8 @@ import com.hazelcast.internal.networking.OutboundFrame;
 import com.hazelcast.internal.server.ServerConnection;
 import com.hazelcast.internal.serialization.impl.HeapData;
 
+import java.nio.ByteBuffer;
+
 import static com.hazelcast.internal.nio.PacketIOHelper.HEADER_SIZE;
 
 /**
@@ -30,6 +32,10 @@ import static com.hazelcast.internal.nio.PacketIOHelper.HEADER_SIZE;
  * would mean more object litter.
  * <p>
  * Since the Packet isn't used throughout the system, this design choice is visible locally.
+ * <p>
+ * An outbound Packet can keep its payload in a pooled direct buffer instead of a byte array,
+ * see {@link PacketBufferPool}. Such a packet is written once and its buffer is returned to the
+ * pool by {@link #release()}; the byte array of the payload is only created when it is asked for.
  */
 // Declaration order suppressed due to private static int FLAG_TYPEx declarations
 @SuppressWarnings({"checkstyle:declarationorder", "checkstyle:magicnumber"})
@@ -45,6 +51,7 @@ public final class Packet extends HeapData implements OutboundFrame {
     // 2. Packet type (bits 0, 2, 5)
     // 3. Flags specific to a given packet type (bits 1, 6)
     // 4. 4.x flag (bit 7)
+    // 5. Compression flag (bit 8)
 
     // 1. URGENT flag
 
@@ -96,11 +103,26 @@ public final class Packet extends HeapData implements OutboundFrame {
      */
     public static final int FLAG_JET_FLOW_CONTROL = 1 << 1;
 
+    // 3.c Event packet flags
+
+    /**
+     * Marks an Event packet as a batch of events
+     */
+    public static final int FLAG_EVENT_BATCH = 1 << 1;
+
     /**
      * Marks a packet as sent by a 4.x member
      */
     public static final int FLAG_4_0 = 1 << 7;
 
+    // 5. Compression flag
+
+    /**
+     * Marks a packet whose payload is compressed. Only sent to members
+     * which announced the support for it during the member handshake.
+     */
+    public static final int FLAG_COMPRESSED = 1 << 8;
+
     //            END OF HEADER FLAG SECTION
 
 
@@ -109,6 +131,9 @@ public final class Packet extends HeapData implements OutboundFrame {
 
     private int partitionId;
     private transient ServerConnection conn;
+    // set while the payload is kept in a pooled direct buffer
+    private transient ByteBuffer directPayload;
+    private transient PacketBufferPool bufferPool;
 
     public Packet() {
         raiseFlags(FLAG_4_0);
@@ -124,6 +149,60 @@ public final class Packet extends HeapData implements OutboundFrame {
         raiseFlags(FLAG_4_0);
     }
 
+    /**
+     * Creates a packet whose payload is kept in the given buffer, between
+     * its position and its limit, until the packet is {@link #release()
+     * released}.
+     *
+     * @param directPayload the buffer holding the payload
+     * @param partitionId   the partition ID of the packet
+     * @param bufferPool    the pool to return the buffer to once the packet is released
+     */
+    public Packet(ByteBuffer directPayload, int partitionId, PacketBufferPool bufferPool) {
+        this.directPayload = directPayload;
+        this.bufferPool = bufferPool;
+        this.partitionId = partitionId;
+        raiseFlags(FLAG_4_0);
+    }
+
+    /**
+     * Returns the buffer holding the payload of this packet or {@code null}
+     * if the payload is kept in a byte array. The returned buffer must not
+     * be modified.
+     */
+    public ByteBuffer directPayload() {
+        return directPayload;
+    }
+
+    /**
+     * Returns the buffer of the payload to its pool, if the payload is kept
+     * in a pooled buffer. The packet can't be written after it is released.
+     */
+    public void release() {
+        ByteBuffer buffer = directPayload;
+        if (buffer != null) {
+            directPayload = null;
+            bufferPool.release(buffer);
+        }
+    }
+
+    @Override
+    public int totalSize() {
+        ByteBuffer buffer = directPayload;
+        return buffer != null ? buffer.remaining() : super.totalSize();
+    }
+
+    @Override
+    public byte[] toByteArray() {
+        ByteBuffer buffer = directPayload;
+        if (payload == null && buffer != null) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(buffer.position(), bytes);
+            payload = bytes;
+        }
+        return payload;
+    }
+
     /**
      * Gets the Connection this Packet was send with.
      *
@@ -223,7 +302,7 @@ public final class Packet extends HeapData implements OutboundFrame {
 
     @Override
     public int getFrameLength() {
-        return (payload != null ? totalSize() : 0) + HEADER_SIZE;
+        return totalSize() + HEADER_SIZE;
     }
 
     @Override
@@ -294,7 +373,12 @@ public final class Packet extends HeapData implements OutboundFrame {
          * <p>
          * {@code ordinal = 2}
          */
-        EVENT,
+        EVENT {
+            @Override
+            public String describeFlags(char flags) {
+                return "[isBatch=" + isFlagRaised(flags, FLAG_EVENT_BATCH) + ']';
+            }
+        },
         /**
          * The type of a Jet packet.
          * <p>
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nio;
+
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.util.QuickMath;
+import com.hazelcast.internal.util.counters.SwCounter;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_PACKET_BUFFER_POOL_ALLOCATED_BYTES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_PACKET_BUFFER_POOL_HEAP_FALLBACKS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_PACKET_BUFFER_POOL_POOLED_BYTES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_PACKET_BUFFER_POOL_REUSED;
+import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
+import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
+import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
+
+/**
+ * A pool of direct buffers the payload of large outbound {@link Packet
+ * packets} is serialized into, so that the payload doesn't have to be copied
+ * into a byte array of its own before it is written to the connection.
+ * <p>
+ * Buffers are handed out in power of two size classes. A buffer is taken by
+ * the thread serializing an operation and returned by the I/O thread of the
+ * connection once the packet is written, so the pool is thread-safe. Released
+ * buffers are kept as long as the pooled buffers don't exceed the capacity of
+ * the pool; a buffer of a packet which is never written, e.g. because its
+ * connection got closed, is not returned to the pool and is freed by the
+ * garbage collector.
+ * <p>
+ * Payloads smaller than the threshold, for which a byte array is cheaper than
+ * a direct buffer, and payloads larger than the capacity of the pool are
+ * serialized into heap buffers.
+ */
+public class PacketBufferPool {
+
+    private static final int MAX_BUFFER_SIZE = 1 << 30;
+
+    @Probe(name = TCP_METRIC_PACKET_BUFFER_POOL_POOLED_BYTES, unit = BYTES, level = DEBUG)
+    private final AtomicLong pooledBytes = new AtomicLong();
+    @Probe(name = TCP_METRIC_PACKET_BUFFER_POOL_ALLOCATED_BYTES, unit = BYTES, level = DEBUG)
+    private final SwCounter allocatedBytes = newSwCounter();
+    @Probe(name = TCP_METRIC_PACKET_BUFFER_POOL_REUSED, level = DEBUG)
+    private final SwCounter reused = newSwCounter();
+    @Probe(name = TCP_METRIC_PACKET_BUFFER_POOL_HEAP_FALLBACKS, level = DEBUG)
+    private final SwCounter heapFallbacks = newSwCounter();
+
+    private final int threshold;
+    private final long capacity;
+    private final int maxBufferSize;
+    private final int minSizeClassShift;
+    private final Queue<ByteBuffer>[] sizeClasses;
+
+    /**
+     * @param threshold the minimum payload size in bytes to use a direct buffer for
+     * @param capacity  the maximum size in bytes of the pooled buffers, also the
+     *                  size of the largest payload to use a direct buffer for
+     */
+    @SuppressWarnings("unchecked")
+    public PacketBufferPool(int threshold, long capacity) {
+        this.threshold = Math.max(threshold, 1);
+        this.capacity = capacity;
+        this.maxBufferSize = (int) Math.min(capacity, MAX_BUFFER_SIZE);
+        this.minSizeClassShift = Integer.SIZE - Integer.numberOfLeadingZeros(this.threshold - 1);
+        int maxSizeClassShift = Integer.SIZE - Integer.numberOfLeadingZeros(maxBufferSize - 1);
+        int classCount = Math.max(0, maxSizeClassShift - minSizeClassShift + 1);
+        this.sizeClasses = new Queue[classCount];
+        for (int i = 0; i < classCount; i++) {
+            sizeClasses[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * Returns a buffer with room for the given number of bytes, positioned at
+     * zero and limited to the given size. The buffer is a direct one from the
+     * pool if the size is between the threshold and the capacity of the pool,
+     * otherwise it is a heap buffer which doesn't have to be {@link
+     * #release(ByteBuffer) released}.
+     *
+     * @param size the size of the payload
+     * @return the buffer for the payload
+     */
+    public ByteBuffer acquire(int size) {
+        if (size < threshold || size > maxBufferSize) {
+            heapFallbacks.inc();
+            return ByteBuffer.allocate(size);
+        }
+
+        int sizeClass = sizeClassOf(size);
+        ByteBuffer buffer = sizeClasses[sizeClass].poll();
+        if (buffer != null) {
+            pooledBytes.addAndGet(-buffer.capacity());
+            reused.inc();
+        } else {
+            int bufferSize = 1 << (sizeClass + minSizeClassShift);
+            buffer = ByteBuffer.allocateDirect(bufferSize);
+            allocatedBytes.inc(bufferSize);
+        }
+        buffer.clear().limit(size);
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer {@link #acquire(int) acquired} from this pool. Heap
+     * buffers and buffers which don't fit in the pool anymore are dropped.
+     *
+     * @param buffer the buffer to return
+     */
+    public void release(ByteBuffer buffer) {
+        if (!buffer.isDirect()) {
+            return;
+        }
+        int bufferSize = buffer.capacity();
+        if (pooledBytes.addAndGet(bufferSize) > capacity) {
+            pooledBytes.addAndGet(-bufferSize);
+            return;
+        }
+        sizeClasses[sizeClassOf(bufferSize)].offer(buffer);
+    }
+
+    /**
+     * Returns the size in bytes of the buffers currently kept in the pool.
+     */
+    public long pooledBytes() {
+        return pooledBytes.get();
+    }
+
+    private int sizeClassOf(int size) {
+        return QuickMath.log2(QuickMath.nextPowerOfTwo(size)) - minSizeClassShift;
+    }
+}
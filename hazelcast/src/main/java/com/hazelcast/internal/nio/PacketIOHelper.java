@@ -94,8 +94,14 @@ public class PacketIOHelper {
                 done = false;
             }
 
-            byte[] byteArray = packet.toByteArray();
-            dst.put(byteArray, valueOffset, bytesWrite);
+            ByteBuffer directPayload = packet.directPayload();
+            if (directPayload != null) {
+                dst.put(dst.position(), directPayload, directPayload.position() + valueOffset, bytesWrite);
+                dst.position(dst.position() + bytesWrite);
+            } else {
+                byte[] byteArray = packet.toByteArray();
+                dst.put(byteArray, valueOffset, bytesWrite);
+            }
             valueOffset += bytesWrite;
 
             if (!done) {
@@ -42,6 +42,8 @@ public final class ChunkSerDeHelper {
     private final Collection<ChunkSupplier> chunkSuppliers;
     private final int maxTotalChunkedDataInBytes;
 
+    private int writtenBytes;
+
     public ChunkSerDeHelper(ILogger logger, int partitionId,
                             Collection<ChunkSupplier> chunkSuppliers,
                             boolean chunkedMigrationEnabled,
@@ -79,6 +81,7 @@ public final class ChunkSerDeHelper {
 
         BufferObjectDataOutput bufferedOut = (BufferObjectDataOutput) out;
         IsEndOfChunk isEndOfChunk = new IsEndOfChunk(maxTotalChunkedDataInBytes);
+        int positionStart = bufferedOut.position();
 
         for (ChunkSupplier chunkSupplier : chunkSuppliers) {
 
@@ -111,10 +114,19 @@ public final class ChunkSerDeHelper {
 
         // indicates end of chunked state
         out.writeObject(null);
+        writtenBytes = bufferedOut.position() - positionStart;
 
         logEndOfAllChunks(bufferedOut, isEndOfChunk);
     }
 
+    /**
+     * @return the number of bytes the last {@link #writeChunkedOperations}
+     * call wrote, {@code 0} if it was not called yet
+     */
+    public int getWrittenBytes() {
+        return writtenBytes;
+    }
+
     private void logCurrentChunk(ChunkSupplier chunkSupplier) {
         if (!logger.isFinestEnabled()) {
             return;
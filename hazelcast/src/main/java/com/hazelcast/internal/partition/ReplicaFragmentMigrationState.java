@@ -72,6 +72,17 @@ public class ReplicaFragmentMigrationState
         return migrationOperations;
     }
 
+    /**
+     * Returns the size of the chunked migration data, which is pulled from
+     * the chunk suppliers while this state is serialized.
+     *
+     * @return the size of the serialized chunks in bytes, {@code 0} if
+     * this state was not serialized yet or was deserialized
+     */
+    public int getChunkedDataBytes() {
+        return chunkSerDeHelper != null ? chunkSerDeHelper.getWrittenBytes() : 0;
+    }
+
     @Override
     public int getFactoryId() {
         return PartitionDataSerializerHook.F_ID;
@@ -65,6 +65,18 @@ public interface MigrationManager {
 
     int getMaxTotalChunkedDataInBytes();
 
+    /**
+     * Returns the maximum number of migration operations a migration, whose
+     * source is this member, keeps in flight to the destination.
+     */
+    int getMaxInFlightMigrationChunks();
+
+    /**
+     * Returns the throttle of the migration data this member sends as the
+     * source of migrations.
+     */
+    MigrationThrottle getMigrationThrottle();
+
     boolean removeFinalizingMigration(MigrationInfo migration);
 
     boolean isFinalizingMigrationRegistered(int partitionId);
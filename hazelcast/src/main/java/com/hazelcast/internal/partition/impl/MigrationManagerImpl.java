@@ -113,8 +113,11 @@ import static com.hazelcast.memory.MemoryUnit.MEGABYTES;
 import static com.hazelcast.spi.impl.executionservice.ExecutionService.ASYNC_EXECUTOR;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_CHUNKED_MAX_MIGRATING_DATA_IN_MB;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_CHUNKED_MIGRATION_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_CHUNKED_MIGRATION_MAX_IN_FLIGHT_CHUNKS;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_FRAGMENTED_MIGRATION_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_MAX_PARALLEL_MIGRATIONS_PER_MEMBER_PAIR;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_MIGRATION_INTERVAL;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_MIGRATION_MAX_BYTES_PER_SECOND;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_MIGRATION_TIMEOUT;
 
 /**
@@ -157,9 +160,12 @@ public class MigrationManagerImpl implements MigrationManager {
     private final boolean fragmentedMigrationEnabled;
     private final boolean chunkedMigrationEnabled;
     private final int maxTotalChunkedDataInBytes;
+    private final int maxInFlightMigrationChunks;
+    private final MigrationThrottle migrationThrottle;
     private final long memberHeartbeatTimeoutMillis;
     private boolean triggerRepartitioningWhenClusterStateAllowsMigration;
     private final int maxParallelMigrations;
+    private final int maxParallelMigrationsPerMemberPair;
     private final AtomicInteger migrationCount = new AtomicInteger();
     private final Set<MigrationInfo> finalizingMigrationsRegistry = Collections.newSetFromMap(new ConcurrentHashMap<>());
     private final Executor asyncExecutor;
@@ -186,7 +192,11 @@ public class MigrationManagerImpl implements MigrationManager {
         fragmentedMigrationEnabled = properties.getBoolean(PARTITION_FRAGMENTED_MIGRATION_ENABLED);
         chunkedMigrationEnabled = properties.getBoolean(PARTITION_CHUNKED_MIGRATION_ENABLED);
         maxTotalChunkedDataInBytes = (int) MEGABYTES.toBytes(properties.getInteger(PARTITION_CHUNKED_MAX_MIGRATING_DATA_IN_MB));
+        maxInFlightMigrationChunks = Math.max(properties.getInteger(PARTITION_CHUNKED_MIGRATION_MAX_IN_FLIGHT_CHUNKS), 1);
+        migrationThrottle = new MigrationThrottle(properties.getLong(PARTITION_MIGRATION_MAX_BYTES_PER_SECOND));
         maxParallelMigrations = properties.getInteger(ClusterProperty.PARTITION_MAX_PARALLEL_MIGRATIONS);
+        maxParallelMigrationsPerMemberPair = Math.min(Math.max(
+                properties.getInteger(PARTITION_MAX_PARALLEL_MIGRATIONS_PER_MEMBER_PAIR), 1), maxParallelMigrations);
         partitionStateManager = partitionService.getPartitionStateManager();
         ILogger migrationThreadLogger = node.getLogger(MigrationThread.class);
         String hzName = nodeEngine.getHazelcastInstance().getName();
@@ -305,6 +315,16 @@ public class MigrationManagerImpl implements MigrationManager {
         return maxTotalChunkedDataInBytes;
     }
 
+    @Override
+    public int getMaxInFlightMigrationChunks() {
+        return maxInFlightMigrationChunks;
+    }
+
+    @Override
+    public MigrationThrottle getMigrationThrottle() {
+        return migrationThrottle;
+    }
+
     @Override
     public boolean removeFinalizingMigration(MigrationInfo migration) {
         return finalizingMigrationsRegistry.remove(migration);
@@ -1140,6 +1160,11 @@ public class MigrationManagerImpl implements MigrationManager {
          * Only {@link #maxParallelMigrations} number of migrations are allowed on a single member.
          */
         private final Map<Address, Integer> endpoint2MigrationCount = new HashMap<>();
+        /**
+         * Map of (source, destination) -> migration-count.
+         * Only {@link #maxParallelMigrationsPerMemberPair} number of migrations are allowed between two members.
+         */
+        private final Map<MemberPair, Integer> memberPair2MigrationCount = new HashMap<>();
         private int ongoingMigrationCount;
         private boolean failed;
         private volatile boolean aborted;
@@ -1204,7 +1229,7 @@ public class MigrationManagerImpl implements MigrationManager {
             boolean added = migratingPartitions.add(migration.getPartitionId());
             assert added : "Couldn't add partitionId to migrating partitions set: " + migration;
 
-            BiFunction<Address, Integer, Integer> inc = (address, current) -> current != null ? current + 1 : 1;
+            BiFunction<Object, Integer, Integer> inc = (endpoint, current) -> current != null ? current + 1 : 1;
 
             int count = endpoint2MigrationCount.compute(migration.getDestinationAddress(), inc);
             assert count > 0 && count <= maxParallelMigrations : "Count: " + count + " -> " + migration;
@@ -1212,6 +1237,9 @@ public class MigrationManagerImpl implements MigrationManager {
             count = endpoint2MigrationCount.compute(sourceAddress(migration), inc);
             assert count > 0 && count <= maxParallelMigrations : "Count: " + count + " -> " + migration;
 
+            count = memberPair2MigrationCount.compute(memberPair(migration), inc);
+            assert count > 0 && count <= maxParallelMigrationsPerMemberPair : "Count: " + count + " -> " + migration;
+
             ongoingMigrationCount++;
             migrationCount.decrementAndGet();
         }
@@ -1220,7 +1248,7 @@ public class MigrationManagerImpl implements MigrationManager {
             boolean removed = migratingPartitions.remove(migration.getPartitionId());
             assert removed : "Couldn't remove partitionId from migrating partitions set: " + migration;
 
-            BiFunction<Address, Integer, Integer> dec = (address, current) -> current != null ? current - 1 : -1;
+            BiFunction<Object, Integer, Integer> dec = (endpoint, current) -> current != null ? current - 1 : -1;
 
             long count = endpoint2MigrationCount.compute(migration.getDestinationAddress(), dec);
             assert count >= 0 && count < maxParallelMigrations : "Count: " + count + " -> " + migration;
@@ -1228,6 +1256,9 @@ public class MigrationManagerImpl implements MigrationManager {
             count = endpoint2MigrationCount.compute(sourceAddress(migration), dec);
             assert count >= 0 && count < maxParallelMigrations : "Count: " + count + " -> " + migration;
 
+            count = memberPair2MigrationCount.compute(memberPair(migration), dec);
+            assert count >= 0 && count < maxParallelMigrationsPerMemberPair : "Count: " + count + " -> " + migration;
+
             if (migration.getStatus() != MigrationStatus.SUCCESS) {
                 failed = true;
             }
@@ -1298,7 +1329,14 @@ public class MigrationManagerImpl implements MigrationManager {
             if (endpoint2MigrationCount.getOrDefault(m.getDestinationAddress(), 0) == maxParallelMigrations) {
                 return false;
             }
-            return endpoint2MigrationCount.getOrDefault(sourceAddress(m), 0) < maxParallelMigrations;
+            if (endpoint2MigrationCount.getOrDefault(sourceAddress(m), 0) == maxParallelMigrations) {
+                return false;
+            }
+            return memberPair2MigrationCount.getOrDefault(memberPair(m), 0) < maxParallelMigrationsPerMemberPair;
+        }
+
+        private MemberPair memberPair(MigrationInfo m) {
+            return new MemberPair(sourceAddress(m), m.getDestinationAddress());
         }
 
         private Address sourceAddress(MigrationInfo m) {
@@ -2107,4 +2145,10 @@ public class MigrationManagerImpl implements MigrationManager {
             return partitionTableView.distanceOf(basePartitionTableView);
         }
     }
+
+    /**
+     * The source and the destination members of a migration.
+     */
+    private record MemberPair(Address source, Address destination) {
+    }
 }
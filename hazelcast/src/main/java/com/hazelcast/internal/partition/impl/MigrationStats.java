@@ -31,11 +31,15 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_ELAPSED_MIGRATION_OPERATION_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_ELAPSED_MIGRATION_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_LAST_REPARTITION_TIME;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_MIGRATION_CHUNK_THROTTLE_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_PLANNED_MIGRATIONS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_SENT_MIGRATION_CHUNKS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_SENT_MIGRATION_CHUNK_BYTES;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_TOTAL_COMPLETED_MIGRATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_TOTAL_ELAPSED_DESTINATION_COMMIT_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_TOTAL_ELAPSED_MIGRATION_OPERATION_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_TOTAL_ELAPSED_MIGRATION_TIME;
+import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
 import static com.hazelcast.internal.metrics.ProbeUnit.MS;
 import static com.hazelcast.internal.metrics.ProbeUnit.NS;
 
@@ -82,6 +86,24 @@ public class MigrationStats {
      */
     private final MigrationTimer migrationTime = new MigrationTimer();
 
+    /**
+     * number of migration operations sent by this member as the source of migrations
+     */
+    @Probe(name = MIGRATION_METRIC_SENT_MIGRATION_CHUNKS)
+    private final LongAdder sentMigrationChunks = new LongAdder();
+
+    /**
+     * size of the chunked migration data sent by this member as the source of migrations
+     */
+    @Probe(name = MIGRATION_METRIC_SENT_MIGRATION_CHUNK_BYTES, unit = BYTES)
+    private final LongAdder sentMigrationChunkBytes = new LongAdder();
+
+    /**
+     * time the migration operations were held back by the migration throttle
+     */
+    @Probe(name = MIGRATION_METRIC_MIGRATION_CHUNK_THROTTLE_TIME, unit = NS)
+    private final LongAdder migrationChunkThrottleTime = new LongAdder();
+
     /**
      * Marks start of new repartitioning.
      * Resets stats from previous repartitioning round.
@@ -264,6 +286,44 @@ public class MigrationStats {
         return migrationTime.getTotalElapsedNanoseconds();
     }
 
+    /**
+     * Records a migration operation sent by this member as the source of a migration.
+     *
+     * @param chunkBytes the size of the chunked migration data in the operation
+     */
+    public void recordSentMigrationChunk(long chunkBytes) {
+        sentMigrationChunks.increment();
+        sentMigrationChunkBytes.add(chunkBytes);
+    }
+
+    /**
+     * Records the time a migration operation was held back by the migration throttle.
+     */
+    public void recordMigrationChunkThrottleTime(long nanos) {
+        migrationChunkThrottleTime.add(nanos);
+    }
+
+    /**
+     * @return the total number of migration operations sent by this member as the source of migrations
+     */
+    public long getSentMigrationChunks() {
+        return sentMigrationChunks.sum();
+    }
+
+    /**
+     * @return the total size of the chunked migration data sent by this member as the source of migrations
+     */
+    public long getSentMigrationChunkBytes() {
+        return sentMigrationChunkBytes.sum();
+    }
+
+    /**
+     * @return the total time in nanoseconds the migration operations were held back by the migration throttle
+     */
+    public long getMigrationChunkThrottleTimeNanoseconds() {
+        return migrationChunkThrottleTime.sum();
+    }
+
     public MigrationState toMigrationState() {
         return new MigrationStateImpl(lastRepartitionTime, plannedMigrations,
                 completedMigrations.intValue(), getElapsedMigrationTime());
@@ -283,7 +343,9 @@ public class MigrationStats {
                     .append(", elapsedDestinationCommitTime=").append(getElapsedDestinationCommitTime()).append("ms")
                     .append(", totalElapsedDestinationCommitTime=").append(getTotalElapsedDestinationCommitTime()).append("ms")
                     .append(", elapsedMigrationTime=").append(getElapsedMigrationTime()).append("ms")
-                    .append(", totalElapsedMigrationTime=").append(getTotalElapsedMigrationTime()).append("ms");
+                    .append(", totalElapsedMigrationTime=").append(getTotalElapsedMigrationTime()).append("ms")
+                    .append(", sentMigrationChunks=").append(getSentMigrationChunks())
+                    .append(", sentMigrationChunkBytes=").append(getSentMigrationChunkBytes());
         }
         return s.toString();
     }
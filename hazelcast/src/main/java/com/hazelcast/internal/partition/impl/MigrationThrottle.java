@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.partition.impl;
+
+import com.hazelcast.internal.util.Timer;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Limits the rate of the migration data a member sends as the source of
+ * migrations. All migrations running on the member share the same limit.
+ * <p>
+ * The size of a migration chunk is known only once it is serialized, so
+ * the throttle doesn't hold back a chunk before it is sent. Instead, each
+ * sent chunk pushes out the time the next chunk of any migration may be
+ * sent, by the time it takes to send the chunk at the configured rate.
+ * <p>
+ * Thread-safe.
+ */
+public class MigrationThrottle {
+
+    private final long bytesPerSecond;
+    // the monotonic time in nanos until which the sent chunks occupy the limit
+    private final AtomicLong busyUntilNanos = new AtomicLong(Timer.nanos());
+
+    /**
+     * @param bytesPerSecond the maximum number of bytes per second,
+     *                       {@code 0} or less to disable throttling
+     */
+    public MigrationThrottle(long bytesPerSecond) {
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    public boolean isEnabled() {
+        return bytesPerSecond > 0;
+    }
+
+    /**
+     * Records a sent chunk of the given size.
+     */
+    public void onSent(long bytes) {
+        if (!isEnabled() || bytes <= 0) {
+            return;
+        }
+        long costNanos = SECONDS.toNanos(bytes) / bytesPerSecond;
+        long now = Timer.nanos();
+        busyUntilNanos.accumulateAndGet(costNanos, (busyUntil, cost) -> Math.max(busyUntil, now) + cost);
+    }
+
+    /**
+     * @return the time in nanoseconds to wait before the next chunk may be
+     * sent, {@code 0} if it can be sent right away
+     */
+    public long delayNanos() {
+        if (!isEnabled()) {
+            return 0;
+        }
+        return Math.max(busyUntilNanos.get() - Timer.nanos(), 0);
+    }
+}
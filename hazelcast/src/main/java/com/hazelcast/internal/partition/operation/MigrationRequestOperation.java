@@ -66,6 +66,7 @@ import static com.hazelcast.internal.util.CollectionUtil.isNotEmpty;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * Sent from the master node to the partition owner.
@@ -83,6 +84,10 @@ import static java.util.Collections.singleton;
  *
  * @since 5.1 If chunked migration is enabled,
  * it also subdivides fragments into chunks.
+ * @since 6.0 Once the destination acknowledged the first, empty
+ * fragment, up to {@link MigrationManager#getMaxInFlightMigrationChunks()}
+ * fragments are kept in flight. They are still prepared and sent one
+ * after the other, so the destination applies them in order.
  */
 public class MigrationRequestOperation extends BaseMigrationOperation {
 
@@ -94,6 +99,16 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
     private transient Map<ServiceNamespace, Collection<ChunkSupplier>>
             namespaceToSuppliers = new HashMap<>();
 
+    private final transient Object sendMutex = new Object();
+    // the following fields are guarded by sendMutex
+    private transient int inFlightFragments;
+    // true while the next fragment is being prepared or sent
+    private transient boolean sending;
+    // true once the destination acknowledged the first, empty fragment
+    private transient boolean destinationReady;
+    private transient boolean allFragmentsSent;
+    private transient boolean completed;
+
     public MigrationRequestOperation() {
     }
 
@@ -123,10 +138,13 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
             try {
                 executeBeforeMigrations();
                 namespacesContext = new ServiceNamespacesContext(nodeEngine, getPartitionReplicationEvent());
+                synchronized (sendMutex) {
+                    sending = true;
+                }
                 invokeMigrationOperation(initialReplicaFragmentMigrationState(), true);
             } catch (Throwable e) {
                 logThrowable(e);
-                completeMigration(false);
+                failMigration();
             }
         }
     }
@@ -167,15 +185,85 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
         ExecutorService asyncExecutor = getNodeEngine().getExecutionService().getExecutor(ExecutionService.ASYNC_EXECUTOR);
 
         Address target = migrationInfo.getDestinationAddress();
+        synchronized (sendMutex) {
+            inFlightFragments++;
+        }
         nodeEngine.getOperationService()
                 .createInvocationBuilder(IPartitionService.SERVICE_NAME, operation, target)
                 .setResultDeserialized(true)
                 .setCallTimeout(partitionService.getPartitionMigrationTimeout())
                 .invoke()
-                .whenCompleteAsync(new MigrationCallback(), asyncExecutor);
+                .whenCompleteAsync(new MigrationCallback(firstFragment), asyncExecutor);
+
+        // the chunks are pulled from the chunk suppliers while the invocation serializes the operation
+        onFragmentSent(migrationState, firstFragment);
+    }
+
+    private void onFragmentSent(ReplicaFragmentMigrationState migrationState, boolean firstFragment) {
+        synchronized (sendMutex) {
+            sending = false;
+        }
+        if (!firstFragment) {
+            MigrationManager migrationManager = ((InternalPartitionServiceImpl) getService()).getMigrationManager();
+            int chunkedDataBytes = migrationState.getChunkedDataBytes();
+            migrationManager.getStats().recordSentMigrationChunk(chunkedDataBytes);
+            migrationManager.getMigrationThrottle().onSent(chunkedDataBytes);
+        }
+        trySendNextFragment();
+    }
+
+    /**
+     * Sends the next fragment, if there is one and the number of fragments in
+     * flight allows it, or completes the migration once all fragments are
+     * acknowledged by the destination.
+     */
+    private void trySendNextFragment() {
+        boolean allFragmentsAcknowledged;
+        synchronized (sendMutex) {
+            if (completed || sending || !destinationReady) {
+                return;
+            }
+            allFragmentsAcknowledged = allFragmentsSent && inFlightFragments == 0;
+            if (allFragmentsAcknowledged) {
+                completed = true;
+            } else if (allFragmentsSent || inFlightFragments >= maxInFlightFragments()) {
+                return;
+            } else {
+                sending = true;
+            }
+        }
+
+        if (allFragmentsAcknowledged) {
+            getLogger().finest("All migration fragments done for " + migrationInfo);
+            completeMigration(true);
+            return;
+        }
+
+        InternalPartitionServiceImpl partitionService = getService();
+        MigrationManager migrationManager = partitionService.getMigrationManager();
+        ExecutionService executionService = getNodeEngine().getExecutionService();
+        long delayNanos = migrationManager.getMigrationThrottle().delayNanos();
+        // ASYNC executor is of CONCRETE type (does not share threads with other executors)
+        // and is never used for user-supplied code.
+        if (delayNanos > 0) {
+            migrationManager.getStats().recordMigrationChunkThrottleTime(delayNanos);
+            executionService.schedule(ExecutionService.ASYNC_EXECUTOR, this::trySendNewFragment, delayNanos, NANOSECONDS);
+        } else {
+            executionService.submit(ExecutionService.ASYNC_EXECUTOR, this::trySendNewFragment);
+        }
+    }
+
+    private int maxInFlightFragments() {
+        InternalPartitionServiceImpl partitionService = getService();
+        return partitionService.getMigrationManager().getMaxInFlightMigrationChunks();
     }
 
     private void trySendNewFragment() {
+        synchronized (sendMutex) {
+            if (completed) {
+                return;
+            }
+        }
         try {
             verifyMaster();
             verifyExistingDestination();
@@ -196,12 +284,15 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
                 // migration ops must be serialized and invoked from partition threads
                 getNodeEngine().getOperationService().execute(new InvokeMigrationOps(migrationState, getPartitionId()));
             } else {
-                getLogger().finest("All migration fragments done for " + migrationInfo);
-                completeMigration(true);
+                synchronized (sendMutex) {
+                    allFragmentsSent = true;
+                    sending = false;
+                }
+                trySendNextFragment();
             }
         } catch (Throwable e) {
             logThrowable(e);
-            completeMigration(false);
+            failMigration();
         }
     }
 
@@ -226,7 +317,7 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
                 invokeMigrationOperation(migrationState, false);
             } catch (Throwable t) {
                 logThrowable(t);
-                completeMigration(false);
+                failMigration();
             }
         }
     }
@@ -380,6 +471,21 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
                 migrationInfo.getPartitionId(), migrationInfo.getDestinationNewReplicaIndex());
     }
 
+    /**
+     * Completes the migration as failed, unless it is already completed.
+     * Fragments still in flight are rejected by the destination once the
+     * migration is rolled back there.
+     */
+    private void failMigration() {
+        synchronized (sendMutex) {
+            if (completed) {
+                return;
+            }
+            completed = true;
+        }
+        completeMigration(false);
+    }
+
     private void completeMigration(boolean result) {
         success = result;
         onMigrationComplete();
@@ -427,25 +533,29 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
      */
     private final class MigrationCallback implements BiConsumer<Object, Throwable> {
 
-        private MigrationCallback() {
+        private final boolean firstFragment;
+
+        private MigrationCallback(boolean firstFragment) {
+            this.firstFragment = firstFragment;
         }
 
         @Override
         public void accept(Object result, Throwable throwable) {
+            synchronized (sendMutex) {
+                inFlightFragments--;
+                destinationReady |= firstFragment && Boolean.TRUE.equals(result);
+            }
             if (throwable != null) {
                 logThrowable(throwable);
-                completeMigration(false);
+                failMigration();
             } else if (Boolean.TRUE.equals(result)) {
-                // ASYNC executor is of CONCRETE type (does not share threads with other executors)
-                // and is never used for user-supplied code.
-                getNodeEngine().getExecutionService().submit(ExecutionService.ASYNC_EXECUTOR,
-                        MigrationRequestOperation.this::trySendNewFragment);
+                trySendNextFragment();
             } else {
                 ILogger logger = getLogger();
                 if (logger.isFineEnabled()) {
                     logger.fine("Received false response from migration destination -> " + migrationInfo);
                 }
-                completeMigration(false);
+                failMigration();
             }
         }
     }
@@ -31,7 +31,9 @@ import com.hazelcast.partition.PartitioningStrategy;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.function.IntFunction;
 
 public interface InternalSerializationService extends SerializationService, Disposable {
 
@@ -69,6 +71,25 @@ public interface InternalSerializationService extends SerializationService, Disp
      */
     byte[] toBytes(Object obj, int leftPadding, boolean insertPartitionHash);
 
+    /**
+     * Writes the obj to a buffer returned by the given allocator. The content
+     * of the buffer is the same as the byte array returned by
+     * {@link #toBytes(Object)}, but it is copied to the buffer straight from
+     * the serialization output, without an intermediate byte array.
+     *
+     * @param obj       object to write to the buffer
+     * @param allocator returns a buffer with room for the given number of bytes
+     * @return the buffer returned by the allocator, with its position at the
+     * first byte and its limit after the last byte of the serialized obj
+     * @since 6.0
+     */
+    default ByteBuffer toByteBuffer(Object obj, IntFunction<ByteBuffer> allocator) {
+        byte[] bytes = toBytes(obj);
+        ByteBuffer buffer = allocator.apply(bytes.length);
+        buffer.put(bytes).flip();
+        return buffer;
+    }
+
     <B extends Data> B toData(Object obj, DataType type);
 
     <B extends Data> B toData(Object obj, DataType type, PartitioningStrategy strategy);
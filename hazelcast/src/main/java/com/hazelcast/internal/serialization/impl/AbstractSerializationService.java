@@ -49,7 +49,9 @@ import com.hazelcast.nio.serialization.Serializer;
 import com.hazelcast.partition.PartitioningStrategy;
 
 import java.io.Externalizable;
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
@@ -57,6 +59,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
 import static com.hazelcast.internal.serialization.impl.SerializationUtil.EMPTY_PARTITIONING_STRATEGY;
@@ -226,17 +229,27 @@ public abstract class AbstractSerializationService implements InternalSerializat
         BufferObjectDataOutput out = pool.takeOutputBuffer();
         try {
             out.position(leftPadding);
+            writeWithHeader(out, obj, writeHash, strategy, serializerTypeIdByteOrder, includeSchema);
+            return out.toByteArray();
+        } catch (Throwable e) {
+            throw handleSerializeException(obj, e);
+        } finally {
+            pool.returnOutputBuffer(out);
+        }
+    }
 
-            SerializerAdapter serializer = serializerFor(obj, includeSchema);
-            if (writeHash) {
-                int partitionHash = calculatePartitionHash(obj, strategy);
-                out.writeInt(partitionHash, BIG_ENDIAN);
-            }
-
-            out.writeInt(serializer.getTypeId(), serializerTypeIdByteOrder);
+    @Override
+    public ByteBuffer toByteBuffer(Object obj, IntFunction<ByteBuffer> allocator) {
+        checkNotNull(obj);
 
-            serializer.write(out, obj);
-            return out.toByteArray();
+        BufferPool pool = bufferPoolThreadLocal.get();
+        BufferObjectDataOutput out = pool.takeOutputBuffer();
+        try {
+            writeWithHeader(out, obj, true, globalPartitioningStrategy, BIG_ENDIAN, false);
+            ByteBuffer buffer = allocator.apply(out.position());
+            out.copyTo(buffer);
+            buffer.flip();
+            return buffer;
         } catch (Throwable e) {
             throw handleSerializeException(obj, e);
         } finally {
@@ -244,6 +257,19 @@ public abstract class AbstractSerializationService implements InternalSerializat
         }
     }
 
+    private void writeWithHeader(BufferObjectDataOutput out, Object obj, boolean writeHash, PartitioningStrategy<?> strategy,
+                                 ByteOrder serializerTypeIdByteOrder, boolean includeSchema) throws IOException {
+        SerializerAdapter serializer = serializerFor(obj, includeSchema);
+        if (writeHash) {
+            int partitionHash = calculatePartitionHash(obj, strategy);
+            out.writeInt(partitionHash, BIG_ENDIAN);
+        }
+
+        out.writeInt(serializer.getTypeId(), serializerTypeIdByteOrder);
+
+        serializer.write(out, obj);
+    }
+
     @Override
     public final <T> T toObject(final Object object) {
         if (!(object instanceof Data data)) {
@@ -449,6 +449,13 @@ public class ByteArrayObjectDataOutput extends VersionedObjectDataOutput impleme
         return toByteArray(0);
     }
 
+    @Override
+    public void copyTo(ByteBuffer dst) {
+        if (buffer != null && pos > 0) {
+            dst.put(buffer, 0, pos);
+        }
+    }
+
     @Override
     public byte[] toByteArray(int padding) {
         if (buffer == null || pos == 0) {
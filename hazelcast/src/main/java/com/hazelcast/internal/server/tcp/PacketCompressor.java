@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.internal.cluster.impl.MemberHandshake;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.util.counters.SwCounter;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_COMPRESSION_COMPRESSED_BYTES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_COMPRESSION_COMPRESSED_PACKETS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_COMPRESSION_COMPRESSION_TIME;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_COMPRESSION_DECOMPRESSED_PACKETS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_COMPRESSION_DECOMPRESSION_TIME;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_COMPRESSION_RATIO;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_COMPRESSION_UNCOMPRESSED_BYTES;
+import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
+import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
+import static com.hazelcast.internal.metrics.ProbeUnit.PERCENT;
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.readIntB;
+import static com.hazelcast.internal.nio.Bits.writeIntB;
+import static com.hazelcast.internal.nio.Packet.FLAG_COMPRESSED;
+import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
+
+/**
+ * Compresses the payload of outbound {@link Packet packets} and decompresses
+ * the payload of inbound ones for a single member connection.
+ * <p>
+ * Compression is negotiated during the member handshake: packets are only
+ * compressed once the remote member announced that it is able to decompress
+ * them, see {@link MemberHandshake#OPTION_PACKET_COMPRESSION}. Packets smaller
+ * than the threshold are sent as they are since, for small operations, the
+ * cost of compression outweighs the saved bandwidth. The payload of a packet
+ * flagged with {@link Packet#FLAG_COMPRESSED} is the size of the original
+ * payload followed by its deflated bytes.
+ * <p>
+ * Packets are compressed by the output thread and decompressed by the input
+ * thread of the connection, so the deflater and the inflater are never shared.
+ */
+public class PacketCompressor {
+
+    private static final int HUNDRED_PERCENT = 100;
+
+    @Probe(name = TCP_METRIC_COMPRESSION_COMPRESSED_PACKETS, level = DEBUG)
+    private final SwCounter compressedPackets = newSwCounter();
+    @Probe(name = TCP_METRIC_COMPRESSION_UNCOMPRESSED_BYTES, unit = BYTES, level = DEBUG)
+    private final SwCounter uncompressedBytes = newSwCounter();
+    @Probe(name = TCP_METRIC_COMPRESSION_COMPRESSED_BYTES, unit = BYTES, level = DEBUG)
+    private final SwCounter compressedBytes = newSwCounter();
+    @Probe(name = TCP_METRIC_COMPRESSION_COMPRESSION_TIME, unit = NS, level = DEBUG)
+    private final SwCounter compressionTimeNanos = newSwCounter();
+    @Probe(name = TCP_METRIC_COMPRESSION_DECOMPRESSED_PACKETS, level = DEBUG)
+    private final SwCounter decompressedPackets = newSwCounter();
+    @Probe(name = TCP_METRIC_COMPRESSION_DECOMPRESSION_TIME, unit = NS, level = DEBUG)
+    private final SwCounter decompressionTimeNanos = newSwCounter();
+
+    private final int threshold;
+    private volatile boolean enabled;
+
+    // created lazily, each of them holds a fair amount of native memory
+    private Deflater deflater;
+    private Inflater inflater;
+
+    /**
+     * @param threshold the minimum payload size of a packet to be compressed
+     */
+    public PacketCompressor(int threshold) {
+        // tiny payloads can't get any smaller once the original size is prepended
+        this.threshold = Math.max(threshold, INT_SIZE_IN_BYTES + 1);
+    }
+
+    /**
+     * Enables or disables the compression of outbound packets. Inbound
+     * compressed packets are always decompressed.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Compresses the given packet if compression is enabled and the packet is
+     * large enough. The given packet is never modified, since the same packet
+     * instance may be written to multiple connections.
+     *
+     * @return a new compressed packet or the given one if it was not compressed
+     */
+    public Packet compress(Packet packet) {
+        if (!enabled || packet.totalSize() < threshold || packet.isFlagRaised(FLAG_COMPRESSED)) {
+            return packet;
+        }
+
+        long startNanos = System.nanoTime();
+        byte[] payload = packet.toByteArray();
+        Deflater deflater = deflater();
+        deflater.setInput(payload);
+        deflater.finish();
+        // a compressed payload which is not smaller than the original is useless,
+        // so the output is bounded by the size of the original payload
+        byte[] output = new byte[payload.length];
+        writeIntB(output, 0, payload.length);
+        int length = INT_SIZE_IN_BYTES;
+        while (!deflater.finished() && length < output.length) {
+            length += deflater.deflate(output, length, output.length - length);
+        }
+        boolean compressed = deflater.finished();
+        deflater.reset();
+        compressionTimeNanos.inc(System.nanoTime() - startNanos);
+        if (!compressed) {
+            return packet;
+        }
+
+        compressedPackets.inc();
+        uncompressedBytes.inc(payload.length);
+        compressedBytes.inc(length);
+        return new Packet(Arrays.copyOf(output, length), packet.getPartitionId())
+                .resetFlagsTo(packet.getFlags() | FLAG_COMPRESSED);
+    }
+
+    /**
+     * Decompresses the given packet if it is flagged as compressed.
+     *
+     * @return a new decompressed packet or the given one if it was not compressed
+     * @throws DataFormatException if the compressed payload is corrupt
+     */
+    public Packet decompress(Packet packet) throws DataFormatException {
+        if (!packet.isFlagRaised(FLAG_COMPRESSED)) {
+            return packet;
+        }
+
+        long startNanos = System.nanoTime();
+        byte[] payload = packet.toByteArray();
+        byte[] output = new byte[readIntB(payload, 0)];
+        Inflater inflater = inflater();
+        inflater.setInput(payload, INT_SIZE_IN_BYTES, payload.length - INT_SIZE_IN_BYTES);
+        try {
+            int length = 0;
+            while (length < output.length) {
+                int inflated = inflater.inflate(output, length, output.length - length);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated compressed packet, expected " + output.length
+                            + " bytes but got " + length);
+                }
+                length += inflated;
+            }
+        } finally {
+            inflater.reset();
+        }
+        decompressedPackets.inc();
+        decompressionTimeNanos.inc(System.nanoTime() - startNanos);
+        return new Packet(output, packet.getPartitionId())
+                .resetFlagsTo(packet.getFlags() & ~FLAG_COMPRESSED);
+    }
+
+    /**
+     * @return the size of the compressed payloads as a percentage
+     * of the size of the original payloads
+     */
+    @Probe(name = TCP_METRIC_COMPRESSION_RATIO, unit = PERCENT, level = DEBUG)
+    public double compressionRatio() {
+        long uncompressed = uncompressedBytes.get();
+        return uncompressed == 0 ? 0 : (double) HUNDRED_PERCENT * compressedBytes.get() / uncompressed;
+    }
+
+    private Deflater deflater() {
+        if (deflater == null) {
+            deflater = new Deflater(Deflater.BEST_SPEED);
+        }
+        return deflater;
+    }
+
+    private Inflater inflater() {
+        if (inflater == null) {
+            inflater = new Inflater();
+        }
+        return inflater;
+    }
+}
@@ -34,7 +34,8 @@ import static com.hazelcast.internal.nio.Packet.FLAG_URGENT;
  * The {@link InboundHandler} for member to member communication.
  * <p>
  * It reads as many packets from the src {@link ByteBuffer} as possible, and
- * each of the Packets is sent to the destination.
+ * each of the Packets is sent to the destination. Compressed packets are
+ * decompressed before they are sent to the destination.
  *
  * @see Consumer
  * @see PacketEncoder
@@ -43,10 +44,17 @@ public class PacketDecoder extends InboundHandlerWithCounters<ByteBuffer, Consum
 
     protected final ServerConnection connection;
     private final PacketIOHelper packetReader = new PacketIOHelper();
+    private final PacketCompressor compressor;
 
     public PacketDecoder(ServerConnection connection, Consumer<Packet> dst) {
+        // a compressor which never compresses, but still decompresses
+        this(connection, dst, new PacketCompressor(Integer.MAX_VALUE));
+    }
+
+    public PacketDecoder(ServerConnection connection, Consumer<Packet> dst, PacketCompressor compressor) {
         this.connection = connection;
         this.dst = dst;
+        this.compressor = compressor;
     }
 
     @Override
@@ -63,7 +71,7 @@ public class PacketDecoder extends InboundHandlerWithCounters<ByteBuffer, Consum
                 if (packet == null) {
                     break;
                 }
-                onPacketComplete(packet);
+                onPacketComplete(compressor.decompress(packet));
             }
 
             return CLEAN;
@@ -36,15 +36,31 @@ import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
  * It makes use of a flyweight to allow the sharing of a packet-instance over
  * multiple connections. The flyweight contains the actual 'position' state of
  * what has been written.
+ * <p>
+ * If a {@link PacketCompressor} is given, large packets are compressed
+ * before they are written once compression has been negotiated with the
+ * remote member.
+ * <p>
+ * Packets keeping their payload in a pooled direct buffer are released once
+ * they are written, see {@link Packet#release()}.
  *
  * @see PacketDecoder
  */
 public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer> {
 
     private final PacketIOHelper packetWriter = new PacketIOHelper();
+    private final PacketCompressor compressor;
 
     private Packet packet;
 
+    public PacketEncoder() {
+        this(null);
+    }
+
+    public PacketEncoder(PacketCompressor compressor) {
+        this.compressor = compressor;
+    }
+
     @Override
     public void handlerAdded() {
         initDstBuffer();
@@ -62,10 +78,19 @@ public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer>
                         // everything is processed, so we are done
                         return CLEAN;
                     }
+
+                    if (compressor != null) {
+                        Packet compressed = compressor.compress(packet);
+                        if (compressed != packet) {
+                            packet.release();
+                            packet = compressed;
+                        }
+                    }
                 }
 
                 if (packetWriter.writeTo(packet, dst)) {
                     // packet got written, lets see if another packet can be written
+                    packet.release();
                     packet = null;
                 } else {
                     // the packet didn't get written completely, so we are done.
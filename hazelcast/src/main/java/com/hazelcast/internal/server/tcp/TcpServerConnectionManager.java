@@ -62,6 +62,7 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRI
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_ENDPOINT_MANAGER_IN_PROGRESS_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_TEXT_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_PREFIX_CONNECTION;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_PREFIX_CONNECTION_COMPRESSION;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_TAG_ENDPOINT;
 import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
 import static com.hazelcast.internal.metrics.ProbeLevel.MANDATORY;
@@ -356,6 +357,14 @@ public class TcpServerConnectionManager extends TcpServerConnectionManagerBase
                 context.collect(rootDescriptor
                         .copy()
                         .withDiscriminator(TCP_DISCRIMINATOR_ENDPOINT, connection.getRemoteAddress().toString()), connection);
+
+                PacketCompressor compressor = (PacketCompressor) connection.attributeMap().get(PacketCompressor.class);
+                if (compressor != null) {
+                    context.collect(rootDescriptor
+                            .copy()
+                            .withPrefix(TCP_PREFIX_CONNECTION_COMPRESSION)
+                            .withDiscriminator(TCP_DISCRIMINATOR_ENDPOINT, connection.getRemoteAddress().toString()), compressor);
+                }
             }
         }
 
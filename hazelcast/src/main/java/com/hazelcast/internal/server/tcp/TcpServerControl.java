@@ -36,6 +36,7 @@ import java.util.UUID;
 import java.util.logging.Level;
 
 import static com.hazelcast.spi.properties.ClusterProperty.CHANNEL_COUNT;
+import static com.hazelcast.spi.properties.ClusterProperty.PACKET_COMPRESSION_ENABLED;
 
 /**
  * The ServerControl is responsible for sending/receiving TcpServerControl messages.
@@ -48,6 +49,7 @@ public final class TcpServerControl {
     private final boolean unifiedEndpointManager;
     private final Set<ProtocolType> supportedProtocolTypes;
     private final int expectedPlaneCount;
+    private final boolean packetCompressionEnabled;
 
     public TcpServerControl(TcpServerConnectionManager connectionManager,
                             ServerContext serverContext,
@@ -59,6 +61,7 @@ public final class TcpServerControl {
         this.supportedProtocolTypes = supportedProtocolTypes;
         this.unifiedEndpointManager = connectionManager.getEndpointQualifier() == null;
         this.expectedPlaneCount = serverContext.properties().getInteger(CHANNEL_COUNT);
+        this.packetCompressionEnabled = serverContext.properties().getBoolean(PACKET_COMPRESSION_ENABLED);
     }
 
     public void process(Packet packet) {
@@ -89,9 +92,21 @@ public final class TcpServerControl {
         // before we register the connection on the plane, we make sure the plane index is set on the connection
         // so that we can safely remove the connection from the plane.
         connection.setPlaneIndex(handshake.getPlaneIndex());
+        negotiatePacketCompression(connection, handshake);
         process(connection, handshake);
     }
 
+    /**
+     * Enables the compression of outbound packets if it is enabled locally
+     * and the remote member is able to decompress them.
+     */
+    private void negotiatePacketCompression(TcpServerConnection connection, MemberHandshake handshake) {
+        PacketCompressor compressor = (PacketCompressor) connection.attributeMap().get(PacketCompressor.class);
+        if (compressor != null) {
+            compressor.setEnabled(packetCompressionEnabled && handshake.isPacketCompressionSupported());
+        }
+    }
+
     @SuppressWarnings("checkstyle:cyclomaticcomplexity")
     private synchronized void process(TcpServerConnection connection, MemberHandshake handshake) {
         if (logger.isFinestEnabled()) {
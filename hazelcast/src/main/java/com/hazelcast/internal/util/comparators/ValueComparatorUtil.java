@@ -28,7 +28,7 @@ public final class ValueComparatorUtil {
 
     public static ValueComparator getValueComparatorOf(InMemoryFormat inMemoryFormat) {
         switch (inMemoryFormat) {
-            case BINARY:
+            case BINARY, COLUMNAR:
                 return BinaryValueComparator.INSTANCE;
             case OBJECT:
                 return ObjectValueComparator.INSTANCE;
@@ -67,6 +67,11 @@ public class EdgeConfig implements IdentifiedDataSerializable {
      * edge capacity should strike a balance between performance and memory
      * usage. The default of {@value #DEFAULT_QUEUE_SIZE} is a good size for
      * simple DAGs and moderate parallelism.
+     * <p>
+     * If the {@link com.hazelcast.spi.properties.ClusterProperty#JET_EDGE_BATCH_SIZE
+     * hazelcast.jet.edge.batch.size} property is greater than 1, each queue
+     * entry is a batch of up to that many items, so the capacity is counted
+     * in batches rather than in items.
      *
      * @return {@code this} instance for fluent API
      */
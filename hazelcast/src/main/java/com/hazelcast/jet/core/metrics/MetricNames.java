@@ -59,6 +59,10 @@ public final class MetricNames {
      * {@link Vertex} on a particular {@link Processor}. They both can be
      * identified based on the {@link MetricTags#VERTEX} and
      * {@link MetricTags#PROCESSOR} tags of the metric.
+     * <p>
+     * The size is the number of queue entries: when the
+     * {@link com.hazelcast.spi.properties.ClusterProperty#JET_EDGE_BATCH_SIZE
+     * edge batching} is enabled, an entry is a batch of items.
      */
     public static final String QUEUES_SIZE = "queuesSize";
 
@@ -67,6 +71,9 @@ public final class MetricNames {
      * {@link Vertex} on a particular {@link Processor}. They both can be
      * identified based on the {@link MetricTags#VERTEX} and
      * {@link MetricTags#PROCESSOR} tags of the metric.
+     * <p>
+     * Like {@link #QUEUES_SIZE}, the capacity is counted in queue entries,
+     * which are batches of items when the edge batching is enabled.
      */
     public static final String QUEUES_CAPACITY = "queuesCapacity";
 
@@ -128,6 +135,18 @@ public final class MetricNames {
      */
     public static final String SNAPSHOT_BYTES = "snapshotBytes";
 
+    /**
+     * Tracks the total number of bytes written in the last snapshot by a
+     * particular {@link Vertex} before the chunks were compressed. It's
+     * equal to {@link #SNAPSHOT_BYTES} unless the snapshot compression is
+     * {@linkplain com.hazelcast.spi.properties.ClusterProperty#JET_SNAPSHOT_COMPRESSION_ENABLED
+     * enabled}. The name of the vertex can be found in the {@link
+     * MetricTags#VERTEX} tag of the metric.
+     *
+     * @since 6.0
+     */
+    public static final String SNAPSHOT_RAW_BYTES = "snapshotRawBytes";
+
     /**
      * Tracks the total number of keys written in the last snapshot
      * by a particular {@link Vertex}. The name of the vertex can be found
@@ -18,36 +18,93 @@ package com.hazelcast.jet.impl;
 
 import com.hazelcast.internal.nio.BufferObjectDataInput;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.jet.JetException;
 import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.BroadcastKey;
 import com.hazelcast.jet.impl.execution.BroadcastEntry;
 import com.hazelcast.jet.impl.execution.init.Contexts.ProcCtx;
+import com.hazelcast.jet.impl.SnapshotValidationRecord.IncrementalSnapshotKey;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataCompressedHeader;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataKey;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataTombstone;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataValueTerminator;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
 
 import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.impl.JobExecutionRecord.NO_SNAPSHOT;
 import static com.hazelcast.jet.impl.util.Util.uncheckCall;
 
+/**
+ * Reads the chunks of a snapshot and emits the entries in them to the
+ * vertices they belong to.
+ * <p>
+ * When restoring from an incremental snapshot, the chunks of the
+ * incremental vertices from the whole chain of snapshots are merged: for
+ * each key only the entries from the most recent snapshot containing the
+ * key are emitted. Since the chunks arrive in no particular order, they are
+ * buffered in their serialized form and read in {@link #complete()}, newest
+ * snapshot first. An entry is emitted unless its key was already seen in a
+ * more recent snapshot, so only the keys are kept on the heap, not the
+ * merged state. The chunks of other vertices are emitted right away, only
+ * those of the most recent snapshot are used.
+ * <p>
+ * Chunks written with {@link
+ * com.hazelcast.spi.properties.ClusterProperty#JET_SNAPSHOT_COMPRESSION_ENABLED}
+ * start with a {@link SnapshotDataCompressedHeader} and are decompressed
+ * before reading the entries.
+ */
 public class ExplodeSnapshotP extends AbstractProcessor {
 
     private final Map<String, FlatMapper<byte[], Object>> vertexToFlatMapper = new HashMap<>();
+    private final Map<String, Integer> vertexToOrdinal;
+    private final long[] snapshotChain;
     private final long expectedSnapshotId;
+    // ordinal -> snapshot ID, newest first -> chunks of the incremental vertex
+    private final Map<Integer, NavigableMap<Long, Deque<byte[]>>> chunksToMerge = new HashMap<>();
     private InternalSerializationService serializationService;
+    private Inflater inflater;
+
+    private Iterator<Entry<Integer, NavigableMap<Long, Deque<byte[]>>>> mergedStateIterator;
+    private Traverser<Object> mergedStateTraverser;
+    private int mergedStateOrdinal;
 
-    ExplodeSnapshotP(Map<String, Integer> vertexToOrdinal, long expectedSnapshotId) {
-        this.expectedSnapshotId = expectedSnapshotId;
+    ExplodeSnapshotP(Map<String, Integer> vertexToOrdinal, long... snapshotChain) {
+        this.vertexToOrdinal = vertexToOrdinal;
+        this.snapshotChain = snapshotChain;
+        this.expectedSnapshotId = snapshotChain[snapshotChain.length - 1];
         for (Entry<String, Integer> en : vertexToOrdinal.entrySet()) {
             Object oldValue = vertexToFlatMapper.put(en.getKey(), flatMapper(en.getValue(), this::traverser));
             assert oldValue == null : "Duplicate ordinal: " + en.getValue();
         }
     }
 
+    /**
+     * Returns the partition key of a snapshot map entry. The chunks with the
+     * same keys have the same partition key, so they are merged by the same
+     * processor if the entries are partitioned by it.
+     */
+    static Object partitionKey(Entry<Object, Object> snapshotMapEntry) {
+        return snapshotMapEntry.getKey() instanceof SnapshotDataKey dataKey
+                ? dataKey.getPartitionKey()
+                : snapshotMapEntry.getKey();
+    }
+
     @Override
     protected void init(@Nonnull Context context) {
         serializationService = ((ProcCtx) context).serializationService();
@@ -59,7 +116,7 @@ public class ExplodeSnapshotP extends AbstractProcessor {
     See #19799 */
     @SuppressWarnings("squid:S2095")
     private Traverser<Object> traverser(byte[] data) {
-        BufferObjectDataInput in = serializationService.createObjectDataInput(data);
+        BufferObjectDataInput in = chunkInput(data);
 
         return () -> uncheckCall(() -> {
             Object key = serializationService.readObject(in, true);
@@ -67,16 +124,42 @@ public class ExplodeSnapshotP extends AbstractProcessor {
                 return null;
             }
             Object value = serializationService.readObject(in, true);
-            return key instanceof BroadcastKey
-                    ? new BroadcastEntry<>(key, value)
-                    : entry(key, value);
+            return toItem(key, value);
         });
     }
 
+    /**
+     * Returns the input to read the entries of the chunk from, decompressing
+     * the chunk if it's compressed.
+     */
+    private BufferObjectDataInput chunkInput(byte[] chunk) {
+        BufferObjectDataInput in = serializationService.createObjectDataInput(chunk);
+        if (!(serializationService.readObject(in, true) instanceof SnapshotDataCompressedHeader header)) {
+            in.position(0);
+            return in;
+        }
+        if (inflater == null) {
+            inflater = new Inflater();
+        }
+        try {
+            return serializationService.createObjectDataInput(header.decompress(chunk, in.position(), inflater));
+        } catch (DataFormatException e) {
+            throw new JetException("Corrupted snapshot chunk: " + e.getMessage(), e);
+        }
+    }
+
+    private static Object toItem(Object key, Object value) {
+        return key instanceof BroadcastKey
+                ? new BroadcastEntry<>(key, value)
+                : entry(key, value);
+    }
+
     @Override
     protected boolean tryProcess0(@Nonnull Object item) {
-        if (((Entry) item).getKey() instanceof SnapshotValidationRecord.SnapshotValidationKey) {
-            // ignore the validation record
+        Object itemKey = ((Entry) item).getKey();
+        if (itemKey instanceof SnapshotValidationRecord.SnapshotValidationKey
+                || itemKey instanceof IncrementalSnapshotKey) {
+            // ignore the validation records
             return true;
         }
         Entry<SnapshotDataKey, byte[]> castItem = (Entry<SnapshotDataKey, byte[]>) item;
@@ -91,12 +174,104 @@ public class ExplodeSnapshotP extends AbstractProcessor {
             return true;
         }
         long snapshotId = castItem.getKey().snapshotId();
-        if (snapshotId != expectedSnapshotId) {
+        if (!isInChain(snapshotId)) {
             getLogger().warning("Data for unexpected snapshot ID encountered, ignoring. Expected="
-                    + expectedSnapshotId + ", found=" + snapshotId);
+                    + (snapshotChain.length == 1 ? expectedSnapshotId : Arrays.toString(snapshotChain))
+                    + ", found=" + snapshotId);
             return true;
         }
-        return flatMapper.tryProcess(castItem.getValue());
+        long baseSnapshotId = castItem.getKey().baseSnapshotId();
+        if (snapshotChain.length == 1 || baseSnapshotId == NO_SNAPSHOT) {
+            // a full snapshot of the vertex, only the most recent one is used
+            return snapshotId != expectedSnapshotId || flatMapper.tryProcess(castItem.getValue());
+        }
+        if (baseSnapshotId != snapshotChain[0]) {
+            getLogger().warning("Data for unexpected base snapshot ID encountered, ignoring. Expected="
+                    + snapshotChain[0] + ", found=" + baseSnapshotId);
+            return true;
+        }
+        chunksToMerge.computeIfAbsent(vertexToOrdinal.get(vertexName), x -> new TreeMap<>(Comparator.reverseOrder()))
+                     .computeIfAbsent(snapshotId, x -> new ArrayDeque<>())
+                     .add(castItem.getValue());
+        return true;
+    }
+
+    private boolean isInChain(long snapshotId) {
+        for (long id : snapshotChain) {
+            if (id == snapshotId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the merged entries of the given chunks of one vertex. The
+     * chunks are released as they are read.
+     */
+    private Traverser<Object> mergedTraverser(NavigableMap<Long, Deque<byte[]>> snapshotToChunks) {
+        // the keys of the more recent snapshots, their entries in the older snapshots are stale
+        Set<Object> newerKeys = new HashSet<>();
+        // the keys of the snapshot being read, broadcast keys are saved by each processor
+        Set<Object> keys = new HashSet<>();
+        Traverser<Deque<byte[]>> snapshots = () -> {
+            Entry<Long, Deque<byte[]>> snapshot = snapshotToChunks.pollFirstEntry();
+            return snapshot != null ? snapshot.getValue() : null;
+        };
+        return snapshots.flatMap(chunks -> {
+            newerKeys.addAll(keys);
+            keys.clear();
+            Traverser<byte[]> chunkTraverser = chunks::poll;
+            return chunkTraverser.flatMap(chunk -> mergedEntries(chunk, newerKeys, keys));
+        });
+    }
+
+    @SuppressWarnings("squid:S2095")
+    private Traverser<Object> mergedEntries(byte[] chunk, Set<Object> newerKeys, Set<Object> keys) {
+        BufferObjectDataInput in = chunkInput(chunk);
+
+        return () -> uncheckCall(() -> {
+            for (;;) {
+                Object key = serializationService.readObject(in, true);
+                if (key == SnapshotDataValueTerminator.INSTANCE) {
+                    return null;
+                }
+                Object value = serializationService.readObject(in, true);
+                if (newerKeys.contains(key)) {
+                    continue;
+                }
+                keys.add(key);
+                if (value != SnapshotDataTombstone.INSTANCE) {
+                    return toItem(key, value);
+                }
+            }
+        });
+    }
+
+    @Override
+    public boolean complete() {
+        if (mergedStateIterator == null) {
+            mergedStateIterator = chunksToMerge.entrySet().iterator();
+        }
+        for (;;) {
+            if (mergedStateTraverser != null && !emitFromTraverser(mergedStateOrdinal, mergedStateTraverser)) {
+                return false;
+            }
+            if (!mergedStateIterator.hasNext()) {
+                return true;
+            }
+            Entry<Integer, NavigableMap<Long, Deque<byte[]>>> ordinalChunks = mergedStateIterator.next();
+            mergedStateIterator.remove();
+            mergedStateOrdinal = ordinalChunks.getKey();
+            mergedStateTraverser = mergedTraverser(ordinalChunks.getValue());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (inflater != null) {
+            inflater.end();
+        }
     }
 
     @Override
@@ -22,6 +22,7 @@ import com.hazelcast.jet.impl.execution.init.JetInitDataSerializerHook;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.nio.serialization.impl.Versioned;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import javax.annotation.Nullable;
@@ -30,6 +31,7 @@ import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
+import static com.hazelcast.internal.cluster.Versions.V6_0;
 import static com.hazelcast.jet.impl.JobRepository.snapshotDataMapName;
 import static com.hazelcast.jet.impl.util.Util.toLocalTime;
 
@@ -40,7 +42,7 @@ import static com.hazelcast.jet.impl.util.Util.toLocalTime;
  * It should be updated only through MasterContext class, where multiple
  * updates are synchronized.
  */
-public class JobExecutionRecord implements IdentifiedDataSerializable {
+public class JobExecutionRecord implements IdentifiedDataSerializable, Versioned {
 
     public static final int NO_SNAPSHOT = -1;
     /**
@@ -82,6 +84,24 @@ public class JobExecutionRecord implements IdentifiedDataSerializable {
     private transient volatile String ongoingExportedSnapshotName;
 
     private volatile String exportedSnapshotName;
+
+    /**
+     * ID of the full snapshot the current successful snapshot is based on.
+     * Equal to {@link #snapshotId} if the current snapshot is a full one.
+     */
+    private volatile long baseSnapshotId = NO_SNAPSHOT;
+
+    /**
+     * Number of successful incremental snapshots written on top of the {@link
+     * #baseSnapshotId}.
+     */
+    private volatile int incrementalSnapshotCount;
+
+    /**
+     * True while an incremental snapshot is being written. Not needed after
+     * coordinator restart, so it's transient.
+     */
+    private transient volatile boolean ongoingSnapshotIncremental;
     @Nullable
     private volatile String lastSnapshotFailure;
     @Nullable
@@ -151,13 +171,21 @@ public class JobExecutionRecord implements IdentifiedDataSerializable {
         executed = true;
     }
 
+    /**
+     * Starts a new snapshot. An incremental snapshot is written to the data
+     * map of the current successful snapshot, next to the snapshots it's
+     * based on, and it can't be exported.
+     */
     @SuppressWarnings({"NonAtomicOperationOnVolatileField", "squid:S3078"})
     @SuppressFBWarnings(value = "VO_VOLATILE_INCREMENT",
             justification = "all updates to ongoingSnapshotId are synchronized")
-    public void startNewSnapshot(String exportedSnapshotName) {
+    public void startNewSnapshot(String exportedSnapshotName, boolean incremental) {
+        assert !incremental || exportedSnapshotName == null && this.exportedSnapshotName == null && snapshotId >= 0
+                : "incremental snapshot not possible: " + this;
         ongoingSnapshotId++;
         ongoingSnapshotStartTime = Clock.currentTimeMillis();
         this.ongoingExportedSnapshotName = exportedSnapshotName;
+        this.ongoingSnapshotIncremental = incremental;
     }
 
     public SnapshotStats ongoingSnapshotDone(
@@ -172,8 +200,9 @@ public class JobExecutionRecord implements IdentifiedDataSerializable {
             boolean isExport = ongoingExportedSnapshotName != null;
             boolean isExportOnly = isExport && !isTerminal;
 
-            if (!isExport) {
+            if (!isExport && !ongoingSnapshotIncremental) {
                 // switch dataMapIndex only if the snapshot was successful, and it wasn't an exported one
+                // or an incremental one, which is written to the map of the snapshot it's based on
                 dataMapIndex = ongoingDataMapIndex();
             }
 
@@ -183,9 +212,16 @@ public class JobExecutionRecord implements IdentifiedDataSerializable {
                 exportedSnapshotName = ongoingExportedSnapshotName;
                 snapshotId = ongoingSnapshotId;
                 snapshotStats = res;
+                if (ongoingSnapshotIncremental) {
+                    incrementalSnapshotCount++;
+                } else {
+                    baseSnapshotId = ongoingSnapshotId;
+                    incrementalSnapshotCount = 0;
+                }
             }
         }
         ongoingExportedSnapshotName = null;
+        ongoingSnapshotIncremental = false;
         ongoingSnapshotStartTime = Long.MIN_VALUE;
         return res;
     }
@@ -211,6 +247,9 @@ public class JobExecutionRecord implements IdentifiedDataSerializable {
      * written.
      */
     int ongoingDataMapIndex() {
+        if (ongoingSnapshotIncremental) {
+            return dataMapIndex;
+        }
         assert dataMapIndex == 0 // we'll return 1
                 || dataMapIndex == 1 // we'll return 0
                 || dataMapIndex == -1 // we'll return 0
@@ -218,6 +257,30 @@ public class JobExecutionRecord implements IdentifiedDataSerializable {
         return (dataMapIndex + 1) & 1;
     }
 
+    /**
+     * The ID of the full snapshot the current successful snapshot is based
+     * on. Equal to {@link #snapshotId()} if the current snapshot is a full
+     * one and {@link #NO_SNAPSHOT} if there's no successful snapshot.
+     */
+    public long baseSnapshotId() {
+        return baseSnapshotId;
+    }
+
+    /**
+     * The number of incremental snapshots in the chain of the current
+     * successful snapshot, 0 if it's a full snapshot.
+     */
+    public int incrementalSnapshotCount() {
+        return incrementalSnapshotCount;
+    }
+
+    /**
+     * Returns true if the ongoing snapshot is an incremental one.
+     */
+    public boolean isOngoingSnapshotIncremental() {
+        return ongoingSnapshotIncremental;
+    }
+
     /**
      * ID for the ongoing or the next snapshot. The value is incremented each
      * time we attempt a new snapshot.
@@ -316,6 +379,10 @@ public class JobExecutionRecord implements IdentifiedDataSerializable {
         out.writeObject(suspensionCause);
         out.writeBoolean(executed);
         out.writeLong(timestamp.get());
+        if (out.getVersion().isGreaterOrEqual(V6_0)) {
+            out.writeLong(baseSnapshotId);
+            out.writeInt(incrementalSnapshotCount);
+        }
     }
 
     @Override
@@ -332,6 +399,12 @@ public class JobExecutionRecord implements IdentifiedDataSerializable {
         suspensionCause = in.readObject();
         executed = in.readBoolean();
         timestamp.set(in.readLong());
+        if (in.getVersion().isGreaterOrEqual(V6_0)) {
+            baseSnapshotId = in.readLong();
+            incrementalSnapshotCount = in.readInt();
+        } else {
+            baseSnapshotId = snapshotId;
+        }
     }
 
     @Override
@@ -344,6 +417,8 @@ public class JobExecutionRecord implements IdentifiedDataSerializable {
                 ", executed=" + executed +
                 ", dataMapIndex=" + dataMapIndex +
                 ", snapshotId=" + snapshotId +
+                ", baseSnapshotId=" + baseSnapshotId +
+                ", incrementalSnapshotCount=" + incrementalSnapshotCount +
                 ", ongoingSnapshotId=" + ongoingSnapshotId +
                 ", ongoingSnapshotStartTime=" + toLocalTime(ongoingSnapshotStartTime) +
                 ", snapshotStats=" + snapshotStats +
@@ -66,6 +66,7 @@ import com.hazelcast.version.Version;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -529,19 +530,26 @@ public class MasterJobContext {
         // snapshot map is not updated here, so it does not need to be
         // configured with failOnIndeterminateOperationState
         IMap<Object, Object> snapshotMap = mc.nodeEngine().getHazelcastInstance().getMap(mapName);
-        long resolvedSnapshotId = validateSnapshot(
+        long[] snapshotChain = validateSnapshot(
                 snapshotId, snapshotMap, mc.jobIdString(), snapshotName);
+        long resolvedSnapshotId = snapshotChain[snapshotChain.length - 1];
         logger.info(String.format(
-                "About to restore the state of %s from snapshot %d, mapName = %s",
-                mc.jobIdString(), resolvedSnapshotId, mapName));
+                "About to restore the state of %s from snapshot %d%s, mapName = %s",
+                mc.jobIdString(), resolvedSnapshotId,
+                snapshotChain.length > 1 ? " based on snapshots " + Arrays.toString(snapshotChain) : "", mapName));
         List<Vertex> originalVertices = new ArrayList<>();
         dag.iterator().forEachRemaining(originalVertices::add);
 
         Map<String, Integer> vertexToOrdinal = new HashMap<>();
         Vertex readSnapshotVertex = dag.newVertex(SNAPSHOT_VERTEX_PREFIX + "read", readMapP(mapName));
         Vertex explodeVertex = dag.newVertex(SNAPSHOT_VERTEX_PREFIX + "explode",
-                () -> new ExplodeSnapshotP(vertexToOrdinal, resolvedSnapshotId));
-        dag.edge(between(readSnapshotVertex, explodeVertex).isolated());
+                () -> new ExplodeSnapshotP(vertexToOrdinal, snapshotChain));
+        Edge readToExplode = between(readSnapshotVertex, explodeVertex);
+        // the chunks of an incremental snapshot chain are merged by the
+        // processor, chunks with the same keys have to reach the same one
+        dag.edge(snapshotChain.length == 1
+                ? readToExplode.isolated()
+                : readToExplode.partitioned(ExplodeSnapshotP::partitionKey));
 
         int index = 0;
         // add the edges
@@ -20,12 +20,14 @@ import com.hazelcast.core.IndeterminateOperationStateException;
 import com.hazelcast.internal.cluster.MemberInfo;
 import com.hazelcast.jet.JetException;
 import com.hazelcast.jet.impl.JobExecutionRecord.SnapshotStats;
+import com.hazelcast.jet.impl.SnapshotValidationRecord.IncrementalSnapshotKey;
 import com.hazelcast.jet.impl.exception.ExecutionNotFoundException;
 import com.hazelcast.jet.impl.execution.SnapshotFlags;
 import com.hazelcast.jet.impl.execution.init.ExecutionPlan;
 import com.hazelcast.jet.impl.operation.SnapshotPhase1Operation;
 import com.hazelcast.jet.impl.operation.SnapshotPhase1Operation.SnapshotPhase1Result;
 import com.hazelcast.jet.impl.operation.SnapshotPhase2Operation;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataKey;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.IMap;
 import com.hazelcast.spi.impl.operationservice.Operation;
@@ -44,6 +46,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.logging.Level;
 
+import static com.hazelcast.internal.cluster.Versions.V6_0;
 import static com.hazelcast.jet.Util.idToString;
 import static com.hazelcast.jet.core.JobStatus.RUNNING;
 import static com.hazelcast.jet.impl.JobRepository.exportedSnapshotMapName;
@@ -51,6 +54,7 @@ import static com.hazelcast.jet.impl.JobRepository.safeImap;
 import static com.hazelcast.jet.impl.JobRepository.snapshotDataMapName;
 import static com.hazelcast.internal.util.ExceptionUtil.withTryCatch;
 import static com.hazelcast.jet.impl.util.Util.jobNameAndExecutionId;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_INCREMENTAL_SNAPSHOT_MAX_CHAIN_LENGTH;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 
 /**
@@ -110,7 +114,7 @@ class MasterSnapshotContext {
         }
 
         public int snapshotFlags() {
-            return SnapshotFlags.create(isTerminal, isExport());
+            return SnapshotFlags.create(isTerminal, isExport(), mc.jobExecutionRecord().isOngoingSnapshotIncremental());
         }
 
         public String mapName() {
@@ -200,19 +204,30 @@ class MasterSnapshotContext {
                     return;
                 }
                 snapshotInProgress = true;
-                mc.jobExecutionRecord().startNewSnapshot(requestedSnapshot.snapshotName);
+                mc.jobExecutionRecord().startNewSnapshot(requestedSnapshot.snapshotName,
+                        canTakeIncrementalSnapshot(requestedSnapshot));
                 localExecutionId = mc.executionId();
             } finally {
                 mc.unlock();
             }
 
-            long newSnapshotId = mc.jobExecutionRecord().ongoingSnapshotId();
+            JobExecutionRecord jobExecutionRecord = mc.jobExecutionRecord();
+            long newSnapshotId = jobExecutionRecord.ongoingSnapshotId();
+            boolean incremental = jobExecutionRecord.isOngoingSnapshotIncremental();
+            long baseSnapshotId = incremental ? jobExecutionRecord.baseSnapshotId() : newSnapshotId;
+            long lastSnapshotId = jobExecutionRecord.snapshotId();
             int snapshotFlags = requestedSnapshot.snapshotFlags();
             String mapName = requestedSnapshot.mapName();
 
             try {
                 mc.writeJobExecutionRecordSafe(false);
-                mc.nodeEngine().getHazelcastInstance().getMap(mapName).clear();
+                IMap<Object, Object> snapshotMap = mc.nodeEngine().getHazelcastInstance().getMap(mapName);
+                if (incremental) {
+                    // the map contains the snapshots the new one is based on
+                    removeSnapshotsAfter(snapshotMap, lastSnapshotId);
+                } else {
+                    snapshotMap.clear();
+                }
             } catch (Exception e) {
                 logger.warning(String.format("Failed to start snapshot %d for %s",
                         newSnapshotId, jobNameAndExecutionId(mc.jobName(), localExecutionId)),
@@ -226,7 +241,8 @@ class MasterSnapshotContext {
                     SnapshotFlags.toString(snapshotFlags), requestedSnapshot.snapshotName);
 
             Function<ExecutionPlan, Operation> factory = plan ->
-                    new SnapshotPhase1Operation(mc.jobId(), localExecutionId, newSnapshotId, mapName, snapshotFlags);
+                    new SnapshotPhase1Operation(mc.jobId(), localExecutionId, newSnapshotId, baseSnapshotId, mapName,
+                            snapshotFlags);
 
             // Need to take a copy of executionId: we don't cancel the scheduled task when the execution
             // finalizes. If a new execution is started in the meantime, we'll use the execution ID to detect it.
@@ -237,6 +253,34 @@ class MasterSnapshotContext {
         });
     }
 
+    /**
+     * Returns true if the requested snapshot can be an incremental one. Only
+     * automatic snapshots following a successful automatic snapshot can be
+     * incremental and after the configured number of incremental snapshots
+     * the next one is a full snapshot, which bounds the length of the chain
+     * to be merged when restoring.
+     */
+    private boolean canTakeIncrementalSnapshot(SnapshotRequest requestedSnapshot) {
+        JobExecutionRecord jobExecutionRecord = mc.jobExecutionRecord();
+        int maxChainLength = mc.nodeEngine().getProperties().getInteger(JET_INCREMENTAL_SNAPSHOT_MAX_CHAIN_LENGTH);
+        if (requestedSnapshot.isExport() || jobExecutionRecord.exportedSnapshotName() != null) {
+            return false;
+        }
+        return jobExecutionRecord.baseSnapshotId() >= 0
+                && jobExecutionRecord.snapshotId() >= 0
+                && jobExecutionRecord.incrementalSnapshotCount() < maxChainLength
+                && mc.nodeEngine().getClusterService().getClusterVersion().isGreaterOrEqual(V6_0);
+    }
+
+    /**
+     * Removes the chunks and the validation records of the snapshots newer
+     * than the given one, that is of failed incremental snapshots.
+     */
+    private static void removeSnapshotsAfter(IMap<Object, Object> snapshotMap, long snapshotId) {
+        snapshotMap.removeAll(entry -> entry.getKey() instanceof SnapshotDataKey dataKey && dataKey.snapshotId() > snapshotId
+                || entry.getKey() instanceof IncrementalSnapshotKey recordKey && recordKey.snapshotId() > snapshotId);
+    }
+
     /**
      * @param responses collected responses from the members
      */
@@ -327,8 +371,11 @@ class MasterSnapshotContext {
                 // Snapshot IMap proxy instance may be shared, but we always want it
                 // to have failOnIndeterminateOperationState enabled.
                 IMap<Object, Object> snapshotMap = safeImap(mc.nodeEngine().getHazelcastInstance().getMap(mapName));
+                boolean incremental = mc.jobExecutionRecord().isOngoingSnapshotIncremental();
+                long previousSnapshotId = mc.jobExecutionRecord().snapshotId();
                 try {
                     SnapshotValidationRecord validationRecord = new SnapshotValidationRecord(snapshotId,
+                            incremental ? previousSnapshotId : JobExecutionRecord.NO_SNAPSHOT,
                             mergedResult.getNumChunks(), mergedResult.getNumBytes(),
                             mc.jobExecutionRecord().ongoingSnapshotStartTime(), mc.jobId(), mc.jobName(),
                             mc.jobRecord().getDagJson());
@@ -346,7 +393,9 @@ class MasterSnapshotContext {
                     // to restore from only after and only if the job was cleanly terminated due to _this_ snapshot request.
                     // On API level, using this snapshot is not safe if cancelAndExportSnapshot throws exception
                     // and the job will not be cancelled but restarted.
-                    Object oldValue = snapshotMap.put(SnapshotValidationRecord.KEY, validationRecord);
+                    Object oldValue = snapshotMap.put(
+                            incremental ? new IncrementalSnapshotKey(snapshotId) : SnapshotValidationRecord.KEY,
+                            validationRecord);
 
                     if (requestedSnapshot.isExport()) {
                         assert requestedSnapshot.snapshotName != null;
@@ -414,8 +463,13 @@ class MasterSnapshotContext {
                     try {
                         // Clear data of failed snapshot (automatic or exported) to decrease memory usage.
                         // This can be done regardless of skipPhase2 because failed snapshot
-                        // can never be used for restore.
-                        snapshotMap.clear();
+                        // can never be used for restore. The map of an incremental snapshot also
+                        // contains the snapshots it's based on, we remove only the data of the failed one.
+                        if (incremental) {
+                            removeSnapshotsAfter(snapshotMap, previousSnapshotId);
+                        } else {
+                            snapshotMap.clear();
+                        }
                     } catch (Exception e) {
                         logger.warning(mc.jobIdString() + ": failed to clear snapshot map '" + mapName
                                 + "' after a failure", e);
@@ -20,14 +20,25 @@ import com.hazelcast.jet.impl.execution.init.JetInitDataSerializerHook;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.nio.serialization.impl.Versioned;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
 
-public class SnapshotValidationRecord implements IdentifiedDataSerializable {
+import static com.hazelcast.internal.cluster.Versions.V6_0;
+import static com.hazelcast.jet.impl.JobExecutionRecord.NO_SNAPSHOT;
+
+/**
+ * The record written to the snapshot map after the phase 1 of a snapshot
+ * succeeded. The record of a full snapshot is stored under {@link #KEY}, the
+ * record of an incremental snapshot under the {@link IncrementalSnapshotKey}
+ * with its ID.
+ */
+public class SnapshotValidationRecord implements IdentifiedDataSerializable, Versioned {
     public static final SnapshotValidationKey KEY = SnapshotValidationKey.KEY;
 
     private long snapshotId;
+    private long previousSnapshotId = NO_SNAPSHOT;
     private long numChunks;
     private long numBytes;
 
@@ -41,7 +52,13 @@ public class SnapshotValidationRecord implements IdentifiedDataSerializable {
 
     SnapshotValidationRecord(long snapshotId, long numChunks, long numBytes, long creationTime, long jobId,
                                     @Nonnull String jobName, @Nonnull String dagJsonString) {
+        this(snapshotId, NO_SNAPSHOT, numChunks, numBytes, creationTime, jobId, jobName, dagJsonString);
+    }
+
+    SnapshotValidationRecord(long snapshotId, long previousSnapshotId, long numChunks, long numBytes, long creationTime,
+                             long jobId, @Nonnull String jobName, @Nonnull String dagJsonString) {
         this.snapshotId = snapshotId;
+        this.previousSnapshotId = previousSnapshotId;
         this.numChunks = numChunks;
         this.numBytes = numBytes;
         this.creationTime = creationTime;
@@ -54,6 +71,19 @@ public class SnapshotValidationRecord implements IdentifiedDataSerializable {
         return snapshotId;
     }
 
+    /**
+     * Returns the ID of the snapshot an incremental snapshot is applied to or
+     * {@link JobExecutionRecord#NO_SNAPSHOT} for a full snapshot.
+     */
+    public long previousSnapshotId() {
+        return previousSnapshotId;
+    }
+
+    /**
+     * Returns the number of chunks written by the snapshot. For an
+     * incremental snapshot it doesn't include the chunks of the previous
+     * snapshots.
+     */
     public long numChunks() {
         return numChunks;
     }
@@ -97,6 +127,9 @@ public class SnapshotValidationRecord implements IdentifiedDataSerializable {
         out.writeLong(jobId);
         out.writeString(jobName);
         out.writeString(dagJsonString);
+        if (out.getVersion().isGreaterOrEqual(V6_0)) {
+            out.writeLong(previousSnapshotId);
+        }
     }
 
     @Override
@@ -108,12 +141,16 @@ public class SnapshotValidationRecord implements IdentifiedDataSerializable {
         jobId = in.readLong();
         jobName = in.readString();
         dagJsonString = in.readString();
+        if (in.getVersion().isGreaterOrEqual(V6_0)) {
+            previousSnapshotId = in.readLong();
+        }
     }
 
     @Override
     public String toString() {
         return "SnapshotValidationRecord{" +
                 "snapshotId=" + snapshotId +
+                ", previousSnapshotId=" + previousSnapshotId +
                 ", numChunks=" + numChunks +
                 ", numBytes=" + numBytes +
                 ", creationTime=" + creationTime +
@@ -126,4 +163,58 @@ public class SnapshotValidationRecord implements IdentifiedDataSerializable {
     enum SnapshotValidationKey {
         KEY
     }
+
+    /**
+     * The key of the validation record of an incremental snapshot.
+     */
+    public static final class IncrementalSnapshotKey implements IdentifiedDataSerializable {
+        private long snapshotId;
+
+        // for deserialization
+        public IncrementalSnapshotKey() {
+        }
+
+        public IncrementalSnapshotKey(long snapshotId) {
+            this.snapshotId = snapshotId;
+        }
+
+        public long snapshotId() {
+            return snapshotId;
+        }
+
+        @Override
+        public int getFactoryId() {
+            return JetInitDataSerializerHook.FACTORY_ID;
+        }
+
+        @Override
+        public int getClassId() {
+            return JetInitDataSerializerHook.INCREMENTAL_SNAPSHOT_VALIDATION_KEY;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeLong(snapshotId);
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            snapshotId = in.readLong();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IncrementalSnapshotKey that && snapshotId == that.snapshotId;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(snapshotId);
+        }
+
+        @Override
+        public String toString() {
+            return "IncrementalSnapshotKey{snapshotId=" + snapshotId + '}';
+        }
+    }
 }
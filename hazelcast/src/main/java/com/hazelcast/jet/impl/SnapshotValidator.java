@@ -18,9 +18,13 @@ package com.hazelcast.jet.impl;
 
 import com.hazelcast.aggregation.Aggregators;
 import com.hazelcast.jet.JetException;
+import com.hazelcast.jet.impl.SnapshotValidationRecord.IncrementalSnapshotKey;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataKey;
 import com.hazelcast.map.IMap;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+
 import static com.hazelcast.jet.impl.JobExecutionRecord.NO_SNAPSHOT;
 
 final class SnapshotValidator {
@@ -29,7 +33,8 @@ final class SnapshotValidator {
     }
 
     /**
-     * Validates a snapshot with the given id.
+     * Validates a snapshot with the given id. If the snapshot is an
+     * incremental one, validates also all the snapshots it's based on.
      *
      * @param snapshotId snapshot ID or {@link JobExecutionRecord#NO_SNAPSHOT}
      *                   if snapshot ID is not known
@@ -37,9 +42,11 @@ final class SnapshotValidator {
      * @param jobIdString name and ID of the job, for debug output
      * @param snapshotName user-supplied snapshot name for debug output,
      *                     null if it's not an exported snapshot
-     * @return the snapshot ID of the snapshot being validated
+     * @return the IDs of the snapshots to restore from in ascending order:
+     *      the ID of the full snapshot followed by the IDs of the incremental
+     *      snapshots based on it, the last one is the ID of the validated snapshot
      */
-    static long validateSnapshot(
+    static long[] validateSnapshot(
             long snapshotId, IMap<Object, Object> snapshotMap, String jobIdString, String snapshotName
     ) {
         SnapshotValidationRecord validationRecord =
@@ -50,6 +57,10 @@ final class SnapshotValidator {
                     "snapshot %s in IMap %s (%d entries) is damaged. Unable to restore the state for %s.",
                     nameOrId, snapshotMap.getName(), snapshotMap.size(), jobIdString));
         }
+        if (snapshotId > validationRecord.snapshotId()
+                && snapshotMap.containsKey(new IncrementalSnapshotKey(snapshotId))) {
+            return validateIncrementalSnapshot(snapshotId, validationRecord, snapshotMap, jobIdString);
+        }
         if (validationRecord.numChunks() != snapshotMap.size() - 1) {
             // fallback validation that counts using aggregate(), ignoring different snapshot IDs
             long filteredCount = snapshotMap.aggregate(
@@ -67,6 +78,51 @@ final class SnapshotValidator {
                     "%s: IMap '%s' was supposed to contain snapshotId %d, but it contains snapshotId %d",
                     jobIdString, snapshotMap.getName(), snapshotId, validationRecord.snapshotId()));
         }
-        return validationRecord.snapshotId();
+        return new long[]{validationRecord.snapshotId()};
+    }
+
+    /**
+     * Validates the chain of incremental snapshots ending with the snapshot
+     * with the given id and starting with the full snapshot with the given
+     * validation record.
+     */
+    private static long[] validateIncrementalSnapshot(
+            long snapshotId, SnapshotValidationRecord baseRecord, IMap<Object, Object> snapshotMap, String jobIdString
+    ) {
+        Deque<Long> chain = new ArrayDeque<>();
+        long numChunks = baseRecord.numChunks();
+        for (long id = snapshotId; id != baseRecord.snapshotId(); ) {
+            SnapshotValidationRecord record = (SnapshotValidationRecord) snapshotMap.get(new IncrementalSnapshotKey(id));
+            if (record == null || record.previousSnapshotId() >= id) {
+                throw new JetException(String.format(
+                        "%s: IMap '%s' was supposed to contain incremental snapshot %d based on snapshot %d, " +
+                                "but it's missing or damaged",
+                        jobIdString, snapshotMap.getName(), id, baseRecord.snapshotId()));
+            }
+            chain.addFirst(id);
+            numChunks += record.numChunks();
+            id = record.previousSnapshotId();
+        }
+        chain.addFirst(baseRecord.snapshotId());
+        long[] chainIds = chain.stream().mapToLong(Long::longValue).toArray();
+
+        long count = snapshotMap.aggregate(
+                Aggregators.count(),
+                e -> e.getKey() instanceof SnapshotDataKey snapshotDataKey && contains(chainIds, snapshotDataKey.snapshotId()));
+        if (numChunks != count) {
+            throw new JetException(String.format(
+                    "State for %s in IMap '%s' is corrupted: snapshots %s should have %,d entries, but have %,d",
+                    jobIdString, snapshotMap.getName(), chain, numChunks, count));
+        }
+        return chainIds;
+    }
+
+    private static boolean contains(long[] snapshotIds, long snapshotId) {
+        for (long id : snapshotIds) {
+            if (id == snapshotId) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -47,6 +47,11 @@ import static com.hazelcast.jet.impl.util.ProgressState.MADE_PROGRESS;
  * InboundEdgeStream} in terms of a {@link ConcurrentConveyor}. The
  * conveyor has as many 1-to-1 concurrent queues as there are upstream
  * tasklets contributing to it.
+ * <p>
+ * The {@link ItemBatch}es offered by the batching {@link ConveyorCollector}s
+ * are unpacked, the destination receives the individual items, unless the
+ * stream feeds a {@link SenderTasklet}, which sends each batch as one unit.
+ * Batching isn't used on ordered edges.
  */
 public final class ConcurrentInboundEdgeStream {
 
@@ -67,9 +72,30 @@ public final class ConcurrentInboundEdgeStream {
             boolean waitForAllBarriers,
             @Nonnull String debugName,
             @Nullable ComparatorEx<?> comparator
+    ) {
+        return create(conveyor, ordinal, priority, waitForAllBarriers, debugName, comparator, true);
+    }
+
+    /**
+     * @param waitForAllBarriers If {@code true}, a queue that had a barrier won't
+     *          be drained until the same barrier is received from all other
+     *          queues. This will enforce exactly-once vs. at-least-once, if it
+     *          is {@code false}.
+     * @param unpackBatches If {@code true}, the items of the {@link ItemBatch}es
+     *          are passed to the destination one by one, otherwise the batches
+     *          are passed as they are.
+     */
+    public static InboundEdgeStream create(
+            @Nonnull ConcurrentConveyor<Object> conveyor,
+            int ordinal,
+            int priority,
+            boolean waitForAllBarriers,
+            @Nonnull String debugName,
+            @Nullable ComparatorEx<?> comparator,
+            boolean unpackBatches
     ) {
         if (comparator == null) {
-            return new RoundRobinDrain(conveyor, ordinal, priority, debugName, waitForAllBarriers);
+            return new RoundRobinDrain(conveyor, ordinal, priority, debugName, waitForAllBarriers, unpackBatches);
         } else {
             return new OrderedDrain(conveyor, ordinal, priority, debugName, comparator);
         }
@@ -156,13 +182,15 @@ public final class ConcurrentInboundEdgeStream {
                 int ordinal,
                 int priority,
                 @Nonnull String debugName,
-                boolean waitForAllBarriers
+                boolean waitForAllBarriers,
+                boolean unpackBatches
         ) {
             super(conveyor, ordinal, priority, debugName);
 
             this.waitForAllBarriers = waitForAllBarriers;
             this.coalescers = new KeyedWatermarkCoalescer(conveyor.queueCount());
             receivedBarriers = new BitSet(conveyor.queueCount());
+            itemDetector.unpackBatches = unpackBatches;
         }
 
         @Nonnull @Override
@@ -278,6 +306,7 @@ public final class ConcurrentInboundEdgeStream {
             Consumer<Object> dest;
             SpecialBroadcastItem item;
             boolean normalItemObserved;
+            boolean unpackBatches;
 
             void reset(Consumer<Object> newDest) {
                 dest = newDest;
@@ -289,6 +318,10 @@ public final class ConcurrentInboundEdgeStream {
                 if (o instanceof SpecialBroadcastItem broadcastItem) {
                     item = broadcastItem;
                     return false;
+                } else if (unpackBatches && o instanceof ItemBatch batch) {
+                    normalItemObserved = true;
+                    batch.forEach(dest);
+                    return true;
                 } else {
                     normalItemObserved = true;
                     dest.accept(o);
@@ -364,6 +397,7 @@ public final class ConcurrentInboundEdgeStream {
                         }
                         continue outer;
                     }
+                    assert !(item instanceof ItemBatch) : "Batched items on an ordered edge";
                     if (item instanceof Watermark || item instanceof SnapshotBarrier) {
                         throw new JetException("Unexpected item observed: " + item);
                     }
@@ -22,18 +22,41 @@ import com.hazelcast.jet.impl.util.ProgressState;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
 import static java.util.Objects.requireNonNull;
 
+/**
+ * Offers the items to a queue of a conveyor.
+ * <p>
+ * If the batch size is more than 1, the items are collected into an {@link
+ * ItemBatch} which is offered to the queue as a single entry when it's
+ * full, before a {@link BroadcastItem} or when {@link #flush()} is called.
+ */
 public class ConveyorCollector implements OutboundCollector {
 
     private final ConcurrentConveyor<Object> conveyor;
     private final int queueIndex;
     private final int[] partitions;
+    private final int batchSize;
+    private ItemBatch batch;
 
     public ConveyorCollector(@Nonnull ConcurrentConveyor<Object> conveyor, int queueIndex, @Nullable int[] partitions) {
+        this(conveyor, queueIndex, partitions, 1);
+    }
+
+    /**
+     * @param batchSize the number of items offered to the queue as one
+     *                  entry, 1 to offer each item separately
+     */
+    public ConveyorCollector(@Nonnull ConcurrentConveyor<Object> conveyor, int queueIndex, @Nullable int[] partitions,
+                             int batchSize) {
         this.conveyor = requireNonNull(conveyor);
         this.queueIndex = queueIndex;
         this.partitions = partitions;
+        this.batchSize = checkPositive("batchSize", batchSize);
+        if (batchSize > 1) {
+            batch = new ItemBatch(batchSize);
+        }
     }
 
     @Override
@@ -43,7 +66,24 @@ public class ConveyorCollector implements OutboundCollector {
 
     @Override
     public ProgressState offerBroadcast(BroadcastItem item) {
-        return offerToConveyor(item);
+        // the batched items must precede the broadcast item
+        if (batch != null && !flushBatch()) {
+            return ProgressState.NO_PROGRESS;
+        }
+        return conveyor.offer(queueIndex, item) ? ProgressState.DONE : ProgressState.NO_PROGRESS;
+    }
+
+    @Override
+    public ProgressState flush() {
+        if (batch == null || batch.isEmpty()) {
+            return ProgressState.WAS_ALREADY_DONE;
+        }
+        return flushBatch() ? ProgressState.DONE : ProgressState.NO_PROGRESS;
+    }
+
+    @Override
+    public boolean isBatching() {
+        return batch != null;
     }
 
     @Override
@@ -52,7 +92,26 @@ public class ConveyorCollector implements OutboundCollector {
     }
 
     protected ProgressState offerToConveyor(Object item) {
-        return conveyor.offer(queueIndex, item) ? ProgressState.DONE : ProgressState.NO_PROGRESS;
+        if (batch == null) {
+            return conveyor.offer(queueIndex, item) ? ProgressState.DONE : ProgressState.NO_PROGRESS;
+        }
+        if (batch.isFull() && !flushBatch()) {
+            return ProgressState.NO_PROGRESS;
+        }
+        batch.add(item);
+        return ProgressState.DONE;
+    }
+
+    private boolean flushBatch() {
+        if (batch.isEmpty()) {
+            return true;
+        }
+        if (!conveyor.offer(queueIndex, batch)) {
+            return false;
+        }
+        // the consumer owns the offered batch now
+        batch = new ItemBatch(batchSize);
+        return true;
     }
 }
 
@@ -26,6 +26,11 @@ public class ConveyorCollectorWithPartition extends ConveyorCollector {
         super(conveyor, queueIndex, partitions);
     }
 
+    public ConveyorCollectorWithPartition(ConcurrentConveyor<Object> conveyor, int queueIndex, int[] partitions,
+                                          int batchSize) {
+        super(conveyor, queueIndex, partitions, batchSize);
+    }
+
     @Override
     public ProgressState offer(Object item, int partitionId) {
         return offerToConveyor(new ObjectWithPartitionId(item, partitionId));
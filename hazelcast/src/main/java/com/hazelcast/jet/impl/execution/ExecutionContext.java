@@ -345,7 +345,9 @@ public class ExecutionContext implements DynamicMetricsProvider {
     /**
      * Starts the phase 1 of a new snapshot.
      */
-    public CompletableFuture<SnapshotPhase1Result> beginSnapshotPhase1(long snapshotId, String mapName, int flags) {
+    public CompletableFuture<SnapshotPhase1Result> beginSnapshotPhase1(
+            long snapshotId, long baseSnapshotId, String mapName, int flags
+    ) {
         logger.fine("Starting snapshot %d phase 1 for %s on member", snapshotId, jobNameAndExecutionId());
         synchronized (executionLock) {
             if (cancellationFuture.isDone()) {
@@ -356,7 +358,7 @@ public class ExecutionContext implements DynamicMetricsProvider {
                         snapshotId, jobNameAndExecutionId());
                 return completedFuture(new SnapshotPhase1Result(0, 0, 0, null));
             }
-            return snapshotContext.startNewSnapshotPhase1(snapshotId, mapName, flags);
+            return snapshotContext.startNewSnapshotPhase1(snapshotId, baseSnapshotId, mapName, flags);
         }
     }
 
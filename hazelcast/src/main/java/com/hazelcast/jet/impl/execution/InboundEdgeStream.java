@@ -52,12 +52,13 @@ public interface InboundEdgeStream {
     boolean isDone();
 
     /**
-     * Returns the total capacity of input queues.
+     * Returns the total capacity of input queues, in queue entries.
      */
     int capacities();
 
     /**
-     * Returns the total number of items in input queues.
+     * Returns the total number of entries in input queues. An entry is
+     * a single item or, if the edge is batched, an {@link ItemBatch}.
      */
     int sizes();
 }
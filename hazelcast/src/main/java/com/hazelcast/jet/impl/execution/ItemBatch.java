@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.execution;
+
+import com.hazelcast.jet.impl.execution.init.JetInitDataSerializerHook;
+import com.hazelcast.jet.impl.util.ObjectWithPartitionId;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * A batch of items offered to a conveyor queue as a single queue entry by
+ * a {@link ConveyorCollector} with batching enabled. It's unpacked by the
+ * {@link ConcurrentInboundEdgeStream} draining the queue, so the consumers
+ * see the individual items.
+ * <p>
+ * On a distributed edge the {@link SenderTasklet} writes the batch to the
+ * packet as one object and the {@link ReceiverTasklet} unpacks it. The
+ * items of such a batch are {@link ObjectWithPartitionId}s.
+ */
+public final class ItemBatch implements IdentifiedDataSerializable {
+
+    private Object[] items;
+    private int size;
+
+    // for deserialization
+    public ItemBatch() {
+    }
+
+    ItemBatch(int capacity) {
+        items = new Object[capacity];
+    }
+
+    void add(Object item) {
+        items[size++] = item;
+    }
+
+    Object get(int index) {
+        return items[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean isFull() {
+        return size == items.length;
+    }
+
+    void forEach(Consumer<Object> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(items[i]);
+        }
+    }
+
+    @Override
+    public int getFactoryId() {
+        return JetInitDataSerializerHook.FACTORY_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return JetInitDataSerializerHook.ITEM_BATCH;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            ObjectWithPartitionId item = (ObjectWithPartitionId) items[i];
+            out.writeObject(item.getItem());
+            out.writeInt(item.getPartitionId());
+        }
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        size = in.readInt();
+        items = new Object[size];
+        for (int i = 0; i < size; i++) {
+            Object item = in.readObject();
+            items[i] = new ObjectWithPartitionId(item, in.readInt());
+        }
+    }
+}
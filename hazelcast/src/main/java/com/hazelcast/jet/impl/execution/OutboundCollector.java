@@ -48,6 +48,24 @@ public interface OutboundCollector {
         return offer(item);
     }
 
+    /**
+     * Offers the items buffered by this collector, if any. Returns {@link
+     * ProgressState#WAS_ALREADY_DONE} if there were no buffered items.
+     * If the collector cannot complete the operation, the call must be
+     * retried later.
+     */
+    default ProgressState flush() {
+        return ProgressState.WAS_ALREADY_DONE;
+    }
+
+    /**
+     * Returns {@code true} if this collector buffers the items, which
+     * requires calling {@link #flush()}.
+     */
+    default boolean isBatching() {
+        return false;
+    }
+
     /**
      * Returns the list of partitions handled by this collector (only if edge is partitioned).
      */
@@ -110,6 +128,25 @@ public interface OutboundCollector {
             }
             return progTracker.toProgressState();
         }
+
+        @Override
+        public ProgressState flush() {
+            progTracker.reset();
+            for (OutboundCollector collector : collectors) {
+                progTracker.mergeWith(collector.flush());
+            }
+            return progTracker.toProgressState();
+        }
+
+        @Override
+        public boolean isBatching() {
+            for (OutboundCollector collector : collectors) {
+                if (collector.isBatching()) {
+                    return true;
+                }
+            }
+            return false;
+        }
     }
 
     class RoundRobin extends Composite {
@@ -44,6 +44,7 @@ public class OutboxImpl implements OutboxInternal {
     private static final Function<Byte, Counter> CREATE_COUNTER_FUNCTION = x -> SwCounter.newSwCounter(Long.MIN_VALUE);
 
     private final OutboundCollector[] outstreams;
+    private final OutboundCollector[] batchingOutstreams;
     private final ProgressTracker progTracker;
     private final SerializationService serializationService;
     private final int batchSize;
@@ -76,6 +77,9 @@ public class OutboxImpl implements OutboxInternal {
     public OutboxImpl(OutboundCollector[] outstreams, boolean hasSnapshot, ProgressTracker progTracker,
                       SerializationService serializationService, int batchSize, AtomicLongArray counters) {
         this.outstreams = outstreams;
+        this.batchingOutstreams = Arrays.stream(outstreams)
+                                        .filter(OutboundCollector::isBatching)
+                                        .toArray(OutboundCollector[]::new);
         this.progTracker = progTracker;
         this.serializationService = serializationService;
         this.batchSize = batchSize;
@@ -247,6 +251,18 @@ public class OutboxImpl implements OutboxInternal {
         numRemainingInBatch = batchSize;
     }
 
+    /**
+     * Offers the items buffered by the batching collectors to their queues.
+     * The items which can't be offered now are offered in a later call.
+     */
+    public void flush() {
+        for (OutboundCollector collector : batchingOutstreams) {
+            if (collector.flush().isMadeProgress()) {
+                progTracker.madeProgress();
+            }
+        }
+    }
+
     private ProgressState doOffer(OutboundCollector collector, Object item) {
         if (item instanceof BroadcastItem broadcastItem) {
             return collector.offerBroadcast(broadcastItem);
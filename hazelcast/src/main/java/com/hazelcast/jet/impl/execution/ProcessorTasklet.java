@@ -38,6 +38,7 @@ import com.hazelcast.jet.core.Watermark;
 import com.hazelcast.jet.core.metrics.MetricNames;
 import com.hazelcast.jet.core.metrics.MetricTags;
 import com.hazelcast.jet.impl.execution.init.Contexts.ProcCtx;
+import com.hazelcast.jet.impl.processor.IncrementalSnapshotProcessor;
 import com.hazelcast.jet.impl.processor.ProcessorWrapper;
 import com.hazelcast.jet.impl.util.ArrayDequeInbox;
 import com.hazelcast.jet.impl.util.CircularListCursor;
@@ -289,6 +290,7 @@ public class ProcessorTasklet implements Tasklet {
         progTracker.notDone();
         outbox.reset();
         stateMachineStep();
+        outbox.flush();
         return progTracker.toProgressState();
     }
 
@@ -497,7 +499,7 @@ public class ProcessorTasklet implements Tasklet {
             } else if (numActiveOrdinals > 0
                     && receivedBarriers.cardinality() == numActiveOrdinals) {
                 // we have an empty inbox and received the current snapshot barrier from all active ordinals
-                state = SAVE_SNAPSHOT;
+                beginSaveSnapshot();
             } else if (numActiveOrdinals == 0) {
                 progTracker.madeProgress();
                 state = COMPLETE;
@@ -507,6 +509,15 @@ public class ProcessorTasklet implements Tasklet {
         }
     }
 
+    private void beginSaveSnapshot() {
+        if (processor instanceof IncrementalSnapshotProcessor incrementalProcessor) {
+            boolean incremental = ssContext.isIncrementalSnapshot();
+            boolean exportOnly = ssContext.isExportOnly();
+            doWithClassLoader(context.classLoader(), () -> incrementalProcessor.beginSnapshot(incremental, exportOnly));
+        }
+        state = SAVE_SNAPSHOT;
+    }
+
     private void complete() {
         // check ssContext to see if a snapshot phase should be executed
         if (pendingSnapshotId1 == pendingSnapshotId2) {
@@ -519,7 +530,7 @@ public class ProcessorTasklet implements Tasklet {
                     outbox.block();
                 } else {
                     outbox.unblock();
-                    state = SAVE_SNAPSHOT;
+                    beginSaveSnapshot();
                     currentBarrier = new SnapshotBarrier(currSnapshotId1, ssContext.isTerminalSnapshot());
                     progTracker.madeProgress();
                     return;
@@ -51,6 +51,8 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * Receives from a remote member the data associated with a single edge.
+ * The items of a received {@link ItemBatch} are offered to the collector one
+ * by one, since they're routed by partition.
  */
 public class ReceiverTasklet implements Tasklet {
 
@@ -177,6 +179,7 @@ public class ReceiverTasklet implements Tasklet {
             inbox.remove();
             ackItemLocal += o.estimatedMemoryFootprint;
         }
+        tracker.madeProgress(collector.flush().isMadeProgress());
         ackItem(ackItemLocal);
         numWaitingInInbox = inbox.size();
         return tracker.toProgressState();
@@ -307,9 +310,14 @@ public class ReceiverTasklet implements Tasklet {
                     final Object item = input.readObject();
                     final int itemSize = input.position() - mark;
                     int partitionId = input.readInt();
-                    inbox.add(new ObjWithPtionIdAndSize(item, partitionId, itemSize));
+                    if (item instanceof ItemBatch batch) {
+                        addToInbox(batch, itemSize);
+                        totalItems += batch.size();
+                    } else {
+                        inbox.add(new ObjWithPtionIdAndSize(item, partitionId, estimatedMemoryFootprint(itemSize)));
+                        totalItems++;
+                    }
                 }
-                totalItems += itemCount;
                 totalBytes += input.position();
                 tracker.madeProgress();
             }
@@ -320,6 +328,19 @@ public class ReceiverTasklet implements Tasklet {
         }
     }
 
+    /**
+     * Adds the items of the batch to the inbox. The sender accounts for the
+     * batch as a whole, so the last item carries the footprint of the batch
+     * and it's acknowledged once the whole batch is processed.
+     */
+    private void addToInbox(ItemBatch batch, int batchBlobSize) {
+        for (int i = 0; i < batch.size(); i++) {
+            ObjectWithPartitionId itemWithPId = (ObjectWithPartitionId) batch.get(i);
+            long footprint = i == batch.size() - 1 ? estimatedMemoryFootprint(batchBlobSize) : 0;
+            inbox.add(new ObjWithPtionIdAndSize(itemWithPId.getItem(), itemWithPId.getPartitionId(), footprint));
+        }
+    }
+
     public void initIncomingQueue(Queue<byte[]> incomingQueue) {
         incoming = incomingQueue;
     }
@@ -327,9 +348,9 @@ public class ReceiverTasklet implements Tasklet {
     private static class ObjWithPtionIdAndSize extends ObjectWithPartitionId {
         final long estimatedMemoryFootprint;
 
-        ObjWithPtionIdAndSize(Object item, int partitionId, int itemBlobSize) {
+        ObjWithPtionIdAndSize(Object item, int partitionId, long estimatedMemoryFootprint) {
             super(item, partitionId);
-            this.estimatedMemoryFootprint = estimatedMemoryFootprint(itemBlobSize);
+            this.estimatedMemoryFootprint = estimatedMemoryFootprint;
         }
     }
 
@@ -51,6 +51,8 @@ import static com.hazelcast.jet.impl.util.Util.uncheckRun;
 
 /**
  * The tasklet that sends the data associated with a single edge through network.
+ * An {@link ItemBatch} received from the inbound stream is written to the packet
+ * as one object.
  */
 public class SenderTasklet implements Tasklet {
     private static final int BUFFER_INITIAL_SIZE = 1 << 10;
@@ -143,6 +145,7 @@ public class SenderTasklet implements Tasklet {
             // header size + slot for writtenCount
             outputBuffer.position(bufPosPastHeader + Bits.INT_SIZE_IN_BYTES);
             int writtenCount = 0;
+            int itemCount = 0;
             for (Object item;
                  outputBuffer.position() < packetSizeLimit
                          && isWithinLimit(sentSeq, sendSeqLimitCompressed)
@@ -155,10 +158,11 @@ public class SenderTasklet implements Tasklet {
                 outputBuffer.writeObject(itemWithPId.getItem());
                 sentSeq += estimatedMemoryFootprint(outputBuffer.position() - mark);
                 outputBuffer.writeInt(itemWithPId.getPartitionId());
+                itemCount += item instanceof ItemBatch batch ? batch.size() : 1;
             }
             outputBuffer.writeInt(bufPosPastHeader, writtenCount);
             bytesOutCounter.inc(outputBuffer.position());
-            itemsOutCounter.inc(writtenCount);
+            itemsOutCounter.inc(itemCount);
             return writtenCount > 0;
         } catch (IOException e) {
             throw rethrow(e);
@@ -106,6 +106,13 @@ public class SnapshotContext {
      */
     private long currentSnapshotId;
 
+    /**
+     * The ID of the full snapshot the current snapshot builds on. It's equal
+     * to {@link #currentSnapshotId} unless the current snapshot is
+     * incremental.
+     */
+    private long currentBaseSnapshotId;
+
     /**
      * The data map name the active snapshot will be written to. If it's null,
      * we can't write the snapshot - we have to learn the name from the master
@@ -135,6 +142,7 @@ public class SnapshotContext {
     ) {
         this.jobNameAndExecutionId = jobNameAndExecutionId;
         this.activeSnapshotIdPhase1 = activeSnapshotIdPhase2 = currentSnapshotId = activeSnapshotId;
+        this.currentBaseSnapshotId = activeSnapshotId;
         this.guarantee = guarantee;
         this.logger = logger;
     }
@@ -157,6 +165,15 @@ public class SnapshotContext {
         return currentSnapshotId;
     }
 
+    /**
+     * Returns the ID of the full snapshot the current snapshot builds on,
+     * equal to {@link #currentSnapshotId()} if the current snapshot isn't
+     * incremental.
+     */
+    public long currentBaseSnapshotId() {
+        return currentBaseSnapshotId;
+    }
+
     /**
      * Returns the name of the map that the current snapshot should be written
      * to.
@@ -173,6 +190,10 @@ public class SnapshotContext {
         return SnapshotFlags.isExportOnly(snapshotFlags);
     }
 
+    boolean isIncrementalSnapshot() {
+        return SnapshotFlags.isIncremental(snapshotFlags);
+    }
+
     boolean isLastPhase1Successful() {
         return lastPhase1Successful;
     }
@@ -196,12 +217,21 @@ public class SnapshotContext {
         this.numPrioritySsTasklets = numPrioritySsTasklets;
     }
 
+    // for test
+    CompletableFuture<SnapshotPhase1Result> startNewSnapshotPhase1(long snapshotId, String mapName, int flags) {
+        return startNewSnapshotPhase1(snapshotId, snapshotId, mapName, flags);
+    }
+
     /**
      * This method is called when the member received {@link
      * SnapshotPhase1Operation}.
+     *
+     * @param baseSnapshotId the ID of the full snapshot an incremental
+     *                       snapshot builds on, equal to {@code snapshotId}
+     *                       for a full snapshot
      */
     synchronized CompletableFuture<SnapshotPhase1Result> startNewSnapshotPhase1(
-            long snapshotId, String mapName, int flags) {
+            long snapshotId, long baseSnapshotId, String mapName, int flags) {
         if (snapshotId == currentSnapshotId) {
             // This is possible when a SnapshotOperation is retried. We will throw because we
             // don't know the result of the previous snapshot (it may have failed) and this is rare
@@ -227,6 +257,7 @@ public class SnapshotContext {
         assert success : "numRemainingTasklets wasn't 0, but " + numRemainingTasklets.get();
 
         currentSnapshotId = snapshotId;
+        currentBaseSnapshotId = baseSnapshotId;
         currentMapName = mapName;
 
         if (numPrioritySsTasklets == 0) {
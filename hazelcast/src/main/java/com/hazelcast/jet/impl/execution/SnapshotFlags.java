@@ -32,6 +32,12 @@ public final class SnapshotFlags {
      */
     private static final int EXPORT = 2; // 0b10
 
+    /**
+     * If set, the processors that support it save only the state changed
+     * since the previous successful snapshot. Never set for an export.
+     */
+    private static final int INCREMENTAL = 4; // 0b100
+
     private SnapshotFlags() { }
 
     public static boolean isTerminal(int flags) {
@@ -42,6 +48,10 @@ public final class SnapshotFlags {
         return (flags & EXPORT) != 0;
     }
 
+    public static boolean isIncremental(int flags) {
+        return (flags & INCREMENTAL) != 0;
+    }
+
     /**
      * If set, the {@link Processor#snapshotCommitPrepare()} and {@link
      * Processor#snapshotCommitFinish(boolean)} methods won't be called, only
@@ -56,10 +66,16 @@ public final class SnapshotFlags {
 
     public static String toString(int flags) {
         return "terminal=" + (isTerminal(flags) ? "yes" : "no")
-                + ",export=" + (isExport(flags) ? "yes" : "no");
+                + ",export=" + (isExport(flags) ? "yes" : "no")
+                + ",incremental=" + (isIncremental(flags) ? "yes" : "no");
     }
 
     public static int create(boolean isTerminal, boolean isExport) {
-        return (isTerminal ? TERMINAL : 0) | (isExport ? EXPORT : 0);
+        return create(isTerminal, isExport, false);
+    }
+
+    public static int create(boolean isTerminal, boolean isExport, boolean isIncremental) {
+        assert !(isExport && isIncremental) : "an exported snapshot can't be incremental";
+        return (isTerminal ? TERMINAL : 0) | (isExport ? EXPORT : 0) | (isIncremental ? INCREMENTAL : 0);
     }
 }
@@ -22,7 +22,6 @@ import com.hazelcast.internal.metrics.ProbeLevel;
 import com.hazelcast.internal.metrics.ProbeUnit;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.jet.JetException;
-import com.hazelcast.jet.accumulator.LongLongAccumulator;
 import com.hazelcast.jet.core.metrics.MetricTags;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriter;
 import com.hazelcast.jet.impl.util.ProgressState;
@@ -36,6 +35,7 @@ import java.util.function.Consumer;
 
 import static com.hazelcast.jet.core.metrics.MetricNames.SNAPSHOT_BYTES;
 import static com.hazelcast.jet.core.metrics.MetricNames.SNAPSHOT_KEYS;
+import static com.hazelcast.jet.core.metrics.MetricNames.SNAPSHOT_RAW_BYTES;
 import static com.hazelcast.jet.impl.execution.StoreSnapshotTasklet.State.DONE;
 import static com.hazelcast.jet.impl.execution.StoreSnapshotTasklet.State.DRAIN;
 import static com.hazelcast.jet.impl.execution.StoreSnapshotTasklet.State.FLUSH;
@@ -53,7 +53,7 @@ public class StoreSnapshotTasklet implements Tasklet {
 
     private final AsyncSnapshotWriter ssWriter;
     private final ProgressTracker progTracker = new ProgressTracker();
-    private final AtomicReference<LongLongAccumulator> metrics = new AtomicReference<>(new LongLongAccumulator());
+    private final AtomicReference<SnapshotMetrics> metrics = new AtomicReference<>(new SnapshotMetrics(0, 0, 0));
     private State state = DRAIN;
     private boolean hasReachedBarrier;
     private Entry<Data, Data> pendingEntry;
@@ -134,7 +134,7 @@ public class StoreSnapshotTasklet implements Tasklet {
                 long keys = ssWriter.getTotalKeys();
                 long chunks = ssWriter.getTotalChunks();
                 snapshotContext.phase1DoneForTasklet(bytes, keys, chunks);
-                metrics.set(new LongLongAccumulator(bytes, keys));
+                metrics.set(new SnapshotMetrics(bytes, ssWriter.getTotalRawPayloadBytes(), keys));
                 ssWriter.resetStats();
                 pendingSnapshotId++;
                 hasReachedBarrier = false;
@@ -162,13 +162,19 @@ public class StoreSnapshotTasklet implements Tasklet {
         return true;
     }
 
+    @Override
+    public void close() {
+        ssWriter.close();
+    }
+
     @Override
     public void provideDynamicMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
         descriptor = descriptor.withTag(MetricTags.VERTEX, vertexName);
 
-        LongLongAccumulator metricValues = metrics.get();
-        context.collect(descriptor, SNAPSHOT_BYTES, ProbeLevel.INFO, ProbeUnit.COUNT, metricValues.get1());
-        context.collect(descriptor, SNAPSHOT_KEYS, ProbeLevel.INFO, ProbeUnit.COUNT, metricValues.get2());
+        SnapshotMetrics metricValues = metrics.get();
+        context.collect(descriptor, SNAPSHOT_BYTES, ProbeLevel.INFO, ProbeUnit.COUNT, metricValues.bytes);
+        context.collect(descriptor, SNAPSHOT_RAW_BYTES, ProbeLevel.INFO, ProbeUnit.COUNT, metricValues.rawBytes);
+        context.collect(descriptor, SNAPSHOT_KEYS, ProbeLevel.INFO, ProbeUnit.COUNT, metricValues.keys);
     }
 
     @Override
@@ -186,4 +192,19 @@ public class StoreSnapshotTasklet implements Tasklet {
         /** Input is done, terminal state. */
         DONE
     }
+
+    /**
+     * The stats of the last snapshot, published to the metrics together.
+     */
+    private static final class SnapshotMetrics {
+        final long bytes;
+        final long rawBytes;
+        final long keys;
+
+        SnapshotMetrics(long bytes, long rawBytes, long keys) {
+            this.bytes = bytes;
+            this.rawBytes = rawBytes;
+            this.keys = keys;
+        }
+    }
 }
@@ -18,6 +18,7 @@ package com.hazelcast.jet.impl.execution.init;
 
 import com.hazelcast.cluster.Address;
 import com.hazelcast.function.ComparatorEx;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.nio.Connection;
 import com.hazelcast.internal.partition.IPartitionService;
 import com.hazelcast.internal.serialization.InternalSerializationService;
@@ -41,6 +42,7 @@ import com.hazelcast.jet.impl.execution.ConcurrentInboundEdgeStream;
 import com.hazelcast.jet.impl.execution.ConveyorCollector;
 import com.hazelcast.jet.impl.execution.ConveyorCollectorWithPartition;
 import com.hazelcast.jet.impl.execution.InboundEdgeStream;
+import com.hazelcast.jet.impl.execution.ItemBatch;
 import com.hazelcast.jet.impl.execution.OutboundCollector;
 import com.hazelcast.jet.impl.execution.OutboundEdgeStream;
 import com.hazelcast.jet.impl.execution.ProcessorTasklet;
@@ -51,6 +53,9 @@ import com.hazelcast.jet.impl.execution.StoreSnapshotTasklet;
 import com.hazelcast.jet.impl.execution.Tasklet;
 import com.hazelcast.jet.impl.execution.init.Contexts.ProcCtx;
 import com.hazelcast.jet.impl.execution.init.Contexts.ProcSupplierCtx;
+import com.hazelcast.jet.impl.memory.SpillingProcessor;
+import com.hazelcast.jet.impl.processor.IncrementalSnapshotProcessor;
+import com.hazelcast.jet.impl.processor.ProcessorWrapper;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl;
 import com.hazelcast.jet.impl.util.ImdgUtil;
 import com.hazelcast.jet.impl.util.ObjectWithPartitionId;
@@ -97,6 +102,8 @@ import static com.hazelcast.jet.impl.util.PrefixedLogger.prefixedLogger;
 import static com.hazelcast.jet.impl.util.Util.doWithClassLoader;
 import static com.hazelcast.jet.impl.util.Util.memoize;
 import static com.hazelcast.spi.impl.executionservice.ExecutionService.JOB_OFFLOADABLE_EXECUTOR;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_EDGE_BATCH_SIZE;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SPILL_ENABLED;
 import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
 import static java.util.Collections.unmodifiableList;
@@ -145,6 +152,7 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
     private transient JobClassLoaderService jobClassLoaderService;
     private transient long executionId;
     private transient DagNodeUtil dagNodeUtil;
+    private transient int edgeBatchSize;
     private final transient Set<String> localCollectorsEdges = new HashSet<>();
 
     // list of unique remote members
@@ -186,6 +194,7 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
         this.jobClassLoaderService =
                 ((JetServiceBackend) nodeEngine.getService(JetServiceBackend.SERVICE_NAME)).getJobClassLoaderService();
         this.executionId = executionId;
+        this.edgeBatchSize = nodeEngine.getProperties().getInteger(JET_EDGE_BATCH_SIZE);
 
         CompletableFuture<?> procSuppliersInitFuture = initProcSuppliers(jobId, tempDirectories, jobSerializationService);
 
@@ -234,13 +243,20 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
                     StoreSnapshotTasklet ssTasklet = new StoreSnapshotTasklet(snapshotContext,
                             ConcurrentInboundEdgeStream.create(ssConveyor, 0, 0, true, jobPrefix + "/ssFrom", null),
                             new AsyncSnapshotWriterImpl(nodeEngine, snapshotContext, vertex.name(), memberIndex, memberCount,
+                                    !processors.isEmpty()
+                                            && processors.stream().allMatch(IncrementalSnapshotProcessor.class::isInstance),
                                     jobSerializationService),
                             storeSnapshotLogger, vertex.name(), higherPriorityVertices.contains(vertex.vertexId()));
                     tasklets.add(ssTasklet);
                 }
 
+                boolean spillingEnabled = nodeEngine.getProperties().getBoolean(JET_SPILL_ENABLED);
                 int localProcessorIdx = 0;
                 for (Processor processor : processors) {
+                    Processor unwrapped = processor instanceof ProcessorWrapper pw ? pw.getWrapped() : processor;
+                    if (unwrapped instanceof SpillingProcessor spillingProcessor) {
+                        spillingProcessor.setSpillingEnabled(spillingEnabled);
+                    }
                     int globalProcessorIndex = memberIndex * vertex.localParallelism() + localProcessorIdx;
                     String processorPrefix = prefix(jobConfig.getName(), jobId, vertex.name(), globalProcessorIndex);
                     ILogger logger = prefixedLogger(nodeEngine.getLogger(processor.getClass()), processorPrefix);
@@ -610,14 +626,15 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
             OutboundCollector[] localCollectors = IntStream.range(0, downstreamParallelism)
                     .filter(i -> i % upstreamParallelism == processorIndex % downstreamParallelism)
                     .mapToObj(i -> new ConveyorCollector(localConveyors[i],
-                            processorIndex / downstreamParallelism, null))
+                            processorIndex / downstreamParallelism, null, batchSize(edge)))
                     .toArray(OutboundCollector[]::new);
             return compositeCollector(localCollectors, edge, totalPartitionCount, true, false);
         } else {
             OutboundCollector[] localCollectors = new OutboundCollector[downstreamParallelism];
             Arrays.setAll(
                     localCollectors,
-                    n -> new ConveyorCollector(localConveyors[n], processorIndex, partitionsPerProcessor[n])
+                    n -> new ConveyorCollector(localConveyors[n], processorIndex, partitionsPerProcessor[n],
+                            batchSize(edge))
             );
             return compositeCollector(localCollectors, edge, totalPartitionCount, true, false);
         }
@@ -652,11 +669,34 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
             if (conveyor == null) {
                 continue;
             }
-            remoteCollectors.add(new ConveyorCollectorWithPartition(conveyor, processorIndex, memberPartitions));
+            remoteCollectors.add(new ConveyorCollectorWithPartition(conveyor, processorIndex, memberPartitions,
+                    remoteBatchSize(edge)));
         }
         return remoteCollectors.toArray(new OutboundCollector[0]);
     }
 
+    /**
+     * Returns the number of items the producers of the edge offer to the
+     * conveyor queues as one entry. The items on ordered edges aren't batched
+     * since the consumer merges the queues item by item.
+     */
+    private int batchSize(EdgeDef edge) {
+        return edge.getOrderComparator() == null ? edgeBatchSize : 1;
+    }
+
+    /**
+     * Returns the number of items the producers of the distributed edge offer
+     * to the sender queues as one entry. The sender writes such a batch to the
+     * network as one {@link ItemBatch}, which the members older than 6.0 can't
+     * read.
+     */
+    private int remoteBatchSize(EdgeDef edge) {
+        // RU_COMPAT_5_5
+        return nodeEngine.getClusterService().getClusterVersion().isGreaterOrEqual(Versions.V6_0)
+                ? batchSize(edge)
+                : 1;
+    }
+
     /**
      * Creates (if absent) for the given edge one sender tasklet per remote member,
      * each with a single conveyor with a number of producer queues feeding it.
@@ -692,7 +732,7 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
                     edge,
                     conveyor,
                     jobPrefix + "/toVertex:" + edge.destVertex().name() + "-toMember:" + destAddr,
-                    adaptedComparator);
+                    adaptedComparator, false);
             SenderTasklet t = new SenderTasklet(inboundEdgeStream, nodeEngine, destAddr,
                     memberConnections.get(destAddr),
                     destVertexId, edge.getConfig().getPacketSizeLimit(), executionId,
@@ -784,7 +824,7 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
                         final int queueOffset = --offset;
                         Arrays.setAll(collectors, n -> new ConveyorCollector(
                                 localConveyors[n], localConveyors[n].queueCount() + queueOffset,
-                                ptionsPerProcessor[n]));
+                                ptionsPerProcessor[n], batchSize(edge)));
                         final OutboundCollector collector = compositeCollector(collectors, edge, totalPtionCount, true, false);
                         ReceiverTasklet receiverTasklet = new ReceiverTasklet(
                                 collector, jobSerializationService,
@@ -813,17 +853,18 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
             // each tasklet has one input conveyor per edge
             final ConcurrentConveyor<Object> conveyor = localConveyorMap.get(inEdge.edgeId())[localProcessorIdx];
             inboundStreams.add(newEdgeStream(inEdge, conveyor,
-                    jobPrefix + "#" + globalProcessorIdx, inEdge.getOrderComparator()));
+                    jobPrefix + "#" + globalProcessorIdx, inEdge.getOrderComparator(), true));
         }
         return inboundStreams;
     }
 
     private InboundEdgeStream newEdgeStream(
-            EdgeDef inEdge, ConcurrentConveyor<Object> conveyor, String debugName, ComparatorEx<?> comparator
+            EdgeDef inEdge, ConcurrentConveyor<Object> conveyor, String debugName, ComparatorEx<?> comparator,
+            boolean unpackBatches
     ) {
         return ConcurrentInboundEdgeStream.create(conveyor, inEdge.destOrdinal(), inEdge.priority(),
                 jobConfig.getProcessingGuarantee() == ProcessingGuarantee.EXACTLY_ONCE,
-                debugName, comparator);
+                debugName, comparator, unpackBatches);
     }
 
     public List<Processor> getProcessors() {
@@ -29,6 +29,7 @@ import com.hazelcast.jet.impl.JobSummary;
 import com.hazelcast.jet.impl.JobSuspensionCauseImpl;
 import com.hazelcast.jet.impl.SnapshotValidationRecord;
 import com.hazelcast.jet.impl.connector.WriteFileP;
+import com.hazelcast.jet.impl.execution.ItemBatch;
 import com.hazelcast.jet.impl.operation.AddJobStatusListenerOperation;
 import com.hazelcast.jet.impl.operation.CheckLightJobsOperation;
 import com.hazelcast.jet.impl.operation.GetJobAndSqlSummaryListOperation;
@@ -122,6 +123,10 @@ public final class JetInitDataSerializerHook implements DataSerializerHook {
     public static final int UPLOAD_JOB_METADATA_OP = 52;
     public static final int UPLOAD_JOB_MULTIPART_OP = 53;
     public static final int UPDATE_JOB_CONFIG_OP = 54;
+    public static final int ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_TOMBSTONE = 55;
+    public static final int INCREMENTAL_SNAPSHOT_VALIDATION_KEY = 56;
+    public static final int ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_COMPRESSED_HEADER = 57;
+    public static final int ITEM_BATCH = 58;
 
     public static final int FACTORY_ID = FactoryIdHelper.getFactoryId(JET_IMPL_DS_FACTORY, JET_IMPL_DS_FACTORY_ID);
 
@@ -165,6 +170,10 @@ public final class JetInitDataSerializerHook implements DataSerializerHook {
                 case ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_KEY -> new AsyncSnapshotWriterImpl.SnapshotDataKey();
                 case ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_VALUE_TERMINATOR ->
                         AsyncSnapshotWriterImpl.SnapshotDataValueTerminator.INSTANCE;
+                case ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_TOMBSTONE -> AsyncSnapshotWriterImpl.SnapshotDataTombstone.INSTANCE;
+                case ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_COMPRESSED_HEADER ->
+                        new AsyncSnapshotWriterImpl.SnapshotDataCompressedHeader();
+                case ITEM_BATCH -> new ItemBatch();
                 case SNAPSHOT_PHASE1_RESULT -> new SnapshotPhase1Result();
                 case RESUME_JOB_OP -> new ResumeJobOperation();
                 case NOTIFY_MEMBER_SHUTDOWN_OP -> new NotifyMemberShutdownOperation();
@@ -173,6 +182,7 @@ public final class JetInitDataSerializerHook implements DataSerializerHook {
                 case SNAPSHOT_STATS -> new SnapshotStats();
                 case PREPARE_FOR_PASSIVE_CLUSTER_OP -> new PrepareForPassiveClusterOperation();
                 case SNAPSHOT_VALIDATION_RECORD -> new SnapshotValidationRecord();
+                case INCREMENTAL_SNAPSHOT_VALIDATION_KEY -> new SnapshotValidationRecord.IncrementalSnapshotKey();
                 case ADD_JOB_STATUS_LISTENER_OP -> new AddJobStatusListenerOperation();
                 case UPDATE_JOB_CONFIG_OP -> new UpdateJobConfigOperation();
                 case GET_JOB_METRICS_OP -> new GetJobMetricsOperation();
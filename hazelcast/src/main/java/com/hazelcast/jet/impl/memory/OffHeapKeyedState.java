@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.impl.MemoryManagerBean;
+import com.hazelcast.internal.memory.impl.SlabMemoryAllocator;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.util.hashslot.HashSlotCursor8byteKey;
+import com.hazelcast.internal.util.hashslot.SlotAssignmentResult;
+import com.hazelcast.internal.util.hashslot.impl.HashSlotArray8byteKeyImpl;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.hazelcast.internal.memory.MemoryAllocator.NULL_ADDRESS;
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
+import static com.hazelcast.internal.util.hashslot.impl.CapacityUtil.DEFAULT_LOAD_FACTOR;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link java.util.Map} which keeps its keys and values serialized in
+ * native memory, leaving no per-entry objects on the Java heap. Used by the
+ * window processors to keep keyed state whose size would otherwise make the
+ * garbage collector dominate the processing.
+ * <p>
+ * Entries are indexed by an open-addressing {@link HashSlotArray8byteKeyImpl}
+ * keyed by {@link Data#hash64()} of the serialized key. Each slot points to a
+ * chain of entry blocks sharing the same 64-bit hash, and the keys in a chain
+ * are compared by their serialized form. An entry block is laid out as:
+ * <pre>
+ * | next block (8) | key size (4) | value size (4) | key bytes | value bytes |
+ * </pre>
+ * Values are deserialized on every read, so a value obtained from this map
+ * is a copy: changes to it must be written back with {@link #set} or done
+ * in {@link #update}. The map doesn't support {@code null} values.
+ * <p>
+ * The blocks are allocated from an allocator shared by all the states of a
+ * processor, see {@link OffHeapKeyedStateFactory}. The native memory of a
+ * state is freed when it's {@linkplain #dispose() disposed}. Like the
+ * processor using it, this map is not thread-safe.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+public final class OffHeapKeyedState<K, V> extends AbstractMap<K, V> {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int CHAIN_HEAD_SIZE = LONG_SIZE_IN_BYTES;
+    private static final int NEXT_OFFSET = 0;
+    private static final int KEY_SIZE_OFFSET = NEXT_OFFSET + LONG_SIZE_IN_BYTES;
+    private static final int VALUE_SIZE_OFFSET = KEY_SIZE_OFFSET + INT_SIZE_IN_BYTES;
+    private static final int KEY_OFFSET = VALUE_SIZE_OFFSET + INT_SIZE_IN_BYTES;
+
+    private final SlabMemoryAllocator malloc;
+    private final MemoryAccessor mem;
+    private final InternalSerializationService serializationService;
+    private final HashSlotArray8byteKeyImpl table;
+
+    private int size;
+    private EntrySet entrySet;
+
+    OffHeapKeyedState(SlabMemoryAllocator malloc, InternalSerializationService serializationService) {
+        this.malloc = malloc;
+        this.mem = malloc.getAccessor();
+        this.serializationService = serializationService;
+        this.table = new HashSlotArray8byteKeyImpl(NULL_ADDRESS, new MemoryManagerBean(malloc, mem),
+                CHAIN_HEAD_SIZE, INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+        this.table.gotoNew();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(serializationService.toData(key)) != NULL_ADDRESS;
+    }
+
+    @Override
+    public V get(Object key) {
+        long blockAddress = find(serializationService.toData(key));
+        return blockAddress == NULL_ADDRESS ? null : readValue(blockAddress);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Data keyData = serializationService.toData(key);
+        long blockAddress = find(keyData);
+        V oldValue = blockAddress == NULL_ADDRESS ? null : readValue(blockAddress);
+        store(keyData, blockAddress, value);
+        return oldValue;
+    }
+
+    /**
+     * Same as {@link #put} except that it doesn't deserialize and return
+     * the previous value.
+     */
+    public void set(@Nonnull K key, @Nonnull V value) {
+        Data keyData = serializationService.toData(key);
+        store(keyData, find(keyData), value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        Data keyData = serializationService.toData(key);
+        long blockAddress = find(keyData);
+        if (blockAddress == NULL_ADDRESS) {
+            return null;
+        }
+        V oldValue = readValue(blockAddress);
+        unlink(keyData.hash64(), blockAddress);
+        return oldValue;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, @Nonnull Function<? super K, ? extends V> mappingFunction) {
+        Data keyData = serializationService.toData(key);
+        long blockAddress = find(keyData);
+        if (blockAddress != NULL_ADDRESS) {
+            return readValue(blockAddress);
+        }
+        V value = mappingFunction.apply(key);
+        if (value != null) {
+            store(keyData, NULL_ADDRESS, value);
+        }
+        return value;
+    }
+
+    @Override
+    public V merge(K key, @Nonnull V value, @Nonnull BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Data keyData = serializationService.toData(key);
+        long blockAddress = find(keyData);
+        V newValue = blockAddress == NULL_ADDRESS ? value : remappingFunction.apply(readValue(blockAddress), value);
+        if (newValue == null) {
+            unlink(keyData.hash64(), blockAddress);
+        } else {
+            store(keyData, blockAddress, newValue);
+        }
+        return newValue;
+    }
+
+    /**
+     * Applies the given function to the value of the given key and writes
+     * the value back. If there is no value for the key, it's first created
+     * with the given function. The key is serialized and looked up once.
+     *
+     * @param key      the key to update
+     * @param createFn creates the value if the key is absent
+     * @param updateFn mutates the value in place
+     */
+    public void update(
+            @Nonnull K key,
+            @Nonnull Function<? super K, ? extends V> createFn,
+            @Nonnull Consumer<? super V> updateFn
+    ) {
+        Data keyData = serializationService.toData(key);
+        long blockAddress = find(keyData);
+        V value = blockAddress == NULL_ADDRESS ? createFn.apply(key) : readValue(blockAddress);
+        updateFn.accept(value);
+        store(keyData, blockAddress, value);
+    }
+
+    @Override
+    public void clear() {
+        HashSlotCursor8byteKey cursor = table.cursor();
+        while (cursor.advance()) {
+            long blockAddress = mem.getLong(cursor.valueAddress());
+            while (blockAddress != NULL_ADDRESS) {
+                long nextAddress = mem.getLong(blockAddress + NEXT_OFFSET);
+                free(blockAddress);
+                blockAddress = nextAddress;
+            }
+        }
+        table.clear();
+        size = 0;
+    }
+
+    /**
+     * Frees the native memory of this state. The state must not be used
+     * afterwards.
+     */
+    public void dispose() {
+        clear();
+        table.dispose();
+    }
+
+    @Nonnull
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private long find(Data keyData) {
+        long chainHeadAddress = table.get(keyData.hash64());
+        if (chainHeadAddress == NULL_ADDRESS) {
+            return NULL_ADDRESS;
+        }
+        byte[] keyPayload = keyData.toByteArray();
+        long blockAddress = mem.getLong(chainHeadAddress);
+        while (blockAddress != NULL_ADDRESS && !keyEquals(blockAddress, keyPayload)) {
+            blockAddress = mem.getLong(blockAddress + NEXT_OFFSET);
+        }
+        return blockAddress;
+    }
+
+    /**
+     * Stores the value, in place if the block of the existing entry has the
+     * same size, otherwise in a new block replacing the existing one.
+     */
+    private void store(Data keyData, long existingAddress, V value) {
+        byte[] valuePayload = serializationService.toData(requireNonNull(value, "value")).toByteArray();
+        if (existingAddress != NULL_ADDRESS && mem.getInt(existingAddress + VALUE_SIZE_OFFSET) == valuePayload.length) {
+            writeValue(existingAddress, valuePayload);
+            return;
+        }
+        long hash = keyData.hash64();
+        if (existingAddress != NULL_ADDRESS) {
+            unlink(hash, existingAddress);
+        }
+        byte[] keyPayload = keyData.toByteArray();
+        long blockAddress = malloc.allocate(blockSize(keyPayload.length, valuePayload.length));
+        mem.putInt(blockAddress + KEY_SIZE_OFFSET, keyPayload.length);
+        mem.copyFromByteArray(keyPayload, 0, blockAddress + KEY_OFFSET, keyPayload.length);
+        writeValue(blockAddress, valuePayload);
+
+        SlotAssignmentResult slot = table.ensure(hash);
+        long chainHeadAddress = slot.address();
+        mem.putLong(blockAddress + NEXT_OFFSET, slot.isNew() ? NULL_ADDRESS : mem.getLong(chainHeadAddress));
+        mem.putLong(chainHeadAddress, blockAddress);
+        size++;
+    }
+
+    private void unlink(long hash, long blockAddress) {
+        long chainHeadAddress = table.get(hash);
+        long nextAddress = mem.getLong(blockAddress + NEXT_OFFSET);
+        long previousAddress = NULL_ADDRESS;
+        long address = mem.getLong(chainHeadAddress);
+        while (address != blockAddress) {
+            previousAddress = address;
+            address = mem.getLong(address + NEXT_OFFSET);
+        }
+        if (previousAddress != NULL_ADDRESS) {
+            mem.putLong(previousAddress + NEXT_OFFSET, nextAddress);
+        } else if (nextAddress != NULL_ADDRESS) {
+            mem.putLong(chainHeadAddress, nextAddress);
+        } else {
+            table.remove(hash);
+        }
+        free(blockAddress);
+        size--;
+    }
+
+    private boolean keyEquals(long blockAddress, byte[] keyPayload) {
+        if (mem.getInt(blockAddress + KEY_SIZE_OFFSET) != keyPayload.length) {
+            return false;
+        }
+        long keyAddress = blockAddress + KEY_OFFSET;
+        for (int i = 0; i < keyPayload.length; i++) {
+            if (mem.getByte(keyAddress + i) != keyPayload[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeValue(long blockAddress, byte[] valuePayload) {
+        mem.putInt(blockAddress + VALUE_SIZE_OFFSET, valuePayload.length);
+        mem.copyFromByteArray(valuePayload, 0, valueAddress(blockAddress), valuePayload.length);
+    }
+
+    private K readKey(long blockAddress) {
+        byte[] keyPayload = new byte[mem.getInt(blockAddress + KEY_SIZE_OFFSET)];
+        mem.copyToByteArray(blockAddress + KEY_OFFSET, keyPayload, 0, keyPayload.length);
+        return serializationService.toObject(new HeapData(keyPayload));
+    }
+
+    private V readValue(long blockAddress) {
+        byte[] valuePayload = new byte[mem.getInt(blockAddress + VALUE_SIZE_OFFSET)];
+        mem.copyToByteArray(valueAddress(blockAddress), valuePayload, 0, valuePayload.length);
+        return serializationService.toObject(new HeapData(valuePayload));
+    }
+
+    private long valueAddress(long blockAddress) {
+        return blockAddress + KEY_OFFSET + mem.getInt(blockAddress + KEY_SIZE_OFFSET);
+    }
+
+    private void free(long blockAddress) {
+        malloc.free(blockAddress, blockSize(mem.getInt(blockAddress + KEY_SIZE_OFFSET),
+                mem.getInt(blockAddress + VALUE_SIZE_OFFSET)));
+    }
+
+    private static long blockSize(int keySize, int valueSize) {
+        return KEY_OFFSET + (long) keySize + valueSize;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+        @Nonnull
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            OffHeapKeyedState.this.clear();
+        }
+    }
+
+    /**
+     * Iterates the entries slot by slot, deserializing the entries of one
+     * chain at a time. The map must not be modified during the iteration.
+     */
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+        private final HashSlotCursor8byteKey cursor = table.cursor();
+        private final List<Entry<K, V>> chainEntries = new ArrayList<>();
+        private int chainIndex;
+        private boolean exhausted;
+
+        @Override
+        public boolean hasNext() {
+            while (chainIndex == chainEntries.size()) {
+                if (exhausted || !cursor.advance()) {
+                    // the cursor fails if advanced past the last slot
+                    exhausted = true;
+                    return false;
+                }
+                chainEntries.clear();
+                chainIndex = 0;
+                for (long address = mem.getLong(cursor.valueAddress());
+                     address != NULL_ADDRESS;
+                     address = mem.getLong(address + NEXT_OFFSET)) {
+                    chainEntries.add(new SimpleImmutableEntry<>(readKey(address), readValue(address)));
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return chainEntries.get(chainIndex++);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.memory.impl.SlabMemoryAllocator;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.impl.execution.init.Contexts.InternalProcSupplierCtx;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_WINDOW_OFF_HEAP_STATE_ENABLED;
+
+/**
+ * Creates the {@link OffHeapKeyedState off-heap keyed states} of a single
+ * processor. All the states share one {@link SlabMemoryAllocator}, whose
+ * native memory is returned to the system when the factory is {@linkplain
+ * #dispose() disposed}.
+ */
+public final class OffHeapKeyedStateFactory {
+
+    private final SlabMemoryAllocator malloc = new SlabMemoryAllocator();
+    private final InternalSerializationService serializationService;
+
+    OffHeapKeyedStateFactory(InternalSerializationService serializationService) {
+        this.serializationService = serializationService;
+    }
+
+    /**
+     * Returns a factory for the given processor if off-heap window state is
+     * {@linkplain com.hazelcast.spi.properties.ClusterProperty#JET_WINDOW_OFF_HEAP_STATE_ENABLED
+     * enabled} on the member and native memory is accessible, otherwise
+     * returns {@code null} and the processor keeps its state on the heap.
+     */
+    @Nullable
+    public static OffHeapKeyedStateFactory create(@Nonnull Processor.Context context) {
+        // the test contexts don't always have an instance or an internal serialization service
+        HazelcastInstance instance = context.hazelcastInstance();
+        if (instance == null || !(context instanceof InternalProcSupplierCtx internalContext)
+                || !getNodeEngine(instance).getProperties().getBoolean(JET_WINDOW_OFF_HEAP_STATE_ENABLED)) {
+            return null;
+        }
+        if (!SlabMemoryAllocator.isAvailable()) {
+            context.logger().warning("Native memory access is not available, " + context.vertexName()
+                    + " keeps its state on the heap");
+            return null;
+        }
+        return new OffHeapKeyedStateFactory(internalContext.serializationService());
+    }
+
+    /**
+     * Creates a new empty state.
+     */
+    @Nonnull
+    public <K, V> OffHeapKeyedState<K, V> newState() {
+        return new OffHeapKeyedState<>(malloc, serializationService);
+    }
+
+    /**
+     * Returns the native memory used by the states in bytes.
+     */
+    public long getUsedMemory() {
+        return malloc.getUsedMemory();
+    }
+
+    /**
+     * Frees the native memory of all the states created by this factory.
+     * The states must not be used afterwards.
+     */
+    public void dispose() {
+        malloc.dispose();
+    }
+}
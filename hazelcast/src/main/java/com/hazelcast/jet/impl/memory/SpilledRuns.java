@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.core.HazelcastException;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.impl.execution.init.Contexts.InternalProcSupplierCtx;
+import com.hazelcast.spi.properties.HazelcastProperties;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import static com.hazelcast.internal.nio.IOUtil.closeResource;
+import static com.hazelcast.internal.nio.IOUtil.deleteQuietly;
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SPILL_DIR;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SPILL_ENABLED;
+
+/**
+ * Sorted runs of items which a processor wrote to local temporary files
+ * because its in-memory state reached the {@linkplain
+ * Processor.Context#maxProcessorAccumulatedRecords() accumulation limit}.
+ * <p>
+ * Each {@linkplain #spill spilled} run is a file holding the serialized
+ * items in the order of the comparator. Once the processor received all its
+ * input, it {@linkplain #merge merges} the runs with what remained in
+ * memory, keeping only the next item of each run in memory. Runs are
+ * written and read with buffered streams on the processor's thread, so the
+ * processor must not be cooperative, see {@link SpillingProcessor}.
+ * <p>
+ * The files are deleted when the runs are {@linkplain #close() closed}.
+ * Not thread-safe.
+ *
+ * @param <T> type of the items
+ */
+public final class SpilledRuns<T> implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path baseDir;
+    private final String name;
+    private final Comparator<? super T> comparator;
+    private final InternalSerializationService serializationService;
+    private final List<Path> runs = new ArrayList<>();
+    private final List<RunIterator> openRuns = new ArrayList<>();
+
+    private Path directory;
+
+    /**
+     * @param baseDir              directory to create the directory of the runs in
+     * @param name                 name of the processor, used as the prefix of the directory name
+     * @param comparator           the order of the items in the runs
+     * @param serializationService used to serialize the items
+     */
+    public SpilledRuns(
+            @Nonnull Path baseDir,
+            @Nonnull String name,
+            @Nonnull Comparator<? super T> comparator,
+            @Nonnull InternalSerializationService serializationService
+    ) {
+        this.baseDir = baseDir;
+        this.name = name;
+        this.comparator = comparator;
+        this.serializationService = serializationService;
+    }
+
+    /**
+     * Creates the spilled runs for the given processor if spilling is
+     * {@linkplain com.hazelcast.spi.properties.ClusterProperty#JET_SPILL_ENABLED
+     * enabled} on the member, otherwise returns {@code null}. No files are
+     * created until the first run is spilled.
+     */
+    @Nullable
+    public static <T> SpilledRuns<T> create(@Nonnull Processor.Context context, @Nonnull Comparator<? super T> comparator) {
+        // the test contexts don't always have an instance or an internal serialization service
+        HazelcastInstance instance = context.hazelcastInstance();
+        if (instance == null || !(context instanceof InternalProcSupplierCtx internalContext)) {
+            return null;
+        }
+        HazelcastProperties properties = getNodeEngine(instance).getProperties();
+        if (!properties.getBoolean(JET_SPILL_ENABLED)) {
+            return null;
+        }
+        String baseDir = properties.getString(JET_SPILL_DIR);
+        return new SpilledRuns<>(Paths.get(baseDir != null ? baseDir : System.getProperty("java.io.tmpdir")),
+                "jet-spill-" + context.vertexName() + '#' + context.globalProcessorIndex(),
+                comparator, internalContext.serializationService());
+    }
+
+    /**
+     * Writes the given items to a new run. The items must be sorted by the
+     * comparator of the runs.
+     *
+     * @param sortedItems the items to spill
+     * @param count       the number of the items
+     */
+    public void spill(@Nonnull Iterator<? extends T> sortedItems, int count) {
+        Path run = directory().resolve("run-" + runs.size() + ".bin");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run), BUFFER_SIZE))) {
+            out.writeInt(count);
+            for (int i = 0; i < count; i++) {
+                byte[] bytes = serializationService.toData(sortedItems.next()).toByteArray();
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        } catch (IOException e) {
+            throw new HazelcastException("Could not spill the state of the processor to " + run, e);
+        }
+        runs.add(run);
+    }
+
+    /**
+     * Returns the number of runs spilled so far.
+     */
+    public int runCount() {
+        return runs.size();
+    }
+
+    /**
+     * Returns a traverser over all the spilled items and the given in-memory
+     * items, in the order of the comparator. The spilled runs are read
+     * lazily as the traverser advances.
+     *
+     * @param sortedInMemoryItems the items which were not spilled, sorted by
+     *                            the comparator of the runs
+     */
+    @Nonnull
+    public Traverser<T> merge(@Nonnull Iterator<? extends T> sortedInMemoryItems) {
+        PriorityQueue<Cursor<T>> cursors = new PriorityQueue<>(runs.size() + 1,
+                (left, right) -> comparator.compare(left.head, right.head));
+        for (Path run : runs) {
+            RunIterator iterator = new RunIterator(run);
+            openRuns.add(iterator);
+            Cursor.addTo(cursors, iterator);
+        }
+        Cursor.addTo(cursors, sortedInMemoryItems);
+        return () -> {
+            Cursor<T> cursor = cursors.poll();
+            if (cursor == null) {
+                return null;
+            }
+            T item = cursor.head;
+            Cursor.addTo(cursors, cursor.items);
+            return item;
+        };
+    }
+
+    /**
+     * Closes the runs being merged and deletes the spilled files.
+     */
+    @Override
+    public void close() {
+        openRuns.forEach(RunIterator::close);
+        openRuns.clear();
+        runs.clear();
+        if (directory != null) {
+            deleteQuietly(directory.toFile());
+            directory = null;
+        }
+    }
+
+    private Path directory() {
+        if (directory == null) {
+            try {
+                Files.createDirectories(baseDir);
+                directory = Files.createTempDirectory(baseDir, name.replaceAll("[^A-Za-z0-9._-]", "_") + '-');
+            } catch (IOException e) {
+                throw new HazelcastException("Could not create the spill directory of " + name + " under " + baseDir, e);
+            }
+        }
+        return directory;
+    }
+
+    /**
+     * The next item of a run or of the in-memory items, ordered in the merge
+     * queue by the head item.
+     */
+    private static final class Cursor<T> {
+        private final T head;
+        private final Iterator<? extends T> items;
+
+        private Cursor(T head, Iterator<? extends T> items) {
+            this.head = head;
+            this.items = items;
+        }
+
+        static <T> void addTo(PriorityQueue<Cursor<T>> cursors, Iterator<? extends T> items) {
+            if (items.hasNext()) {
+                cursors.add(new Cursor<>(items.next(), items));
+            }
+        }
+    }
+
+    /**
+     * Reads the items of a spilled run one by one.
+     */
+    private final class RunIterator implements Iterator<T> {
+        private final Path run;
+        private final DataInputStream in;
+        private int remaining;
+
+        RunIterator(Path run) {
+            this.run = run;
+            try {
+                in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run), BUFFER_SIZE));
+                remaining = in.readInt();
+            } catch (IOException e) {
+                throw new HazelcastException("Could not read the spilled run " + run, e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (remaining == 0) {
+                close();
+            }
+            return remaining > 0;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                remaining--;
+                Data data = new HeapData(bytes);
+                return serializationService.toObject(data);
+            } catch (IOException e) {
+                throw new HazelcastException("Could not read the spilled run " + run, e);
+            }
+        }
+
+        void close() {
+            remaining = 0;
+            closeResource(in);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.jet.core.Processor;
+
+/**
+ * Implemented by processors which can spill their state to {@link
+ * SpilledRuns}. Spilling does blocking file I/O, so such a processor must
+ * not be cooperative when spilling is enabled. Since {@link
+ * Processor#isCooperative()} is called before {@link Processor#init}, the
+ * execution plan tells the processor whether spilling is enabled on the
+ * member right after creating it.
+ */
+public interface SpillingProcessor extends Processor {
+
+    /**
+     * Called before any other method of the processor.
+     *
+     * @param spillingEnabled whether {@linkplain
+     *                        com.hazelcast.spi.properties.ClusterProperty#JET_SPILL_ENABLED
+     *                        spilling} is enabled on the member
+     */
+    void setSpillingEnabled(boolean spillingEnabled);
+}
@@ -39,6 +39,7 @@ public class SnapshotPhase1Operation extends AsyncJobOperation {
     private static final int RETRY_MS = 100;
     private long executionId;
     private long snapshotId;
+    private long baseSnapshotId;
     private String mapName;
     private int flags;
 
@@ -46,10 +47,12 @@ public class SnapshotPhase1Operation extends AsyncJobOperation {
     public SnapshotPhase1Operation() {
     }
 
-    public SnapshotPhase1Operation(long jobId, long executionId, long snapshotId, String mapName, int flags) {
+    public SnapshotPhase1Operation(long jobId, long executionId, long snapshotId, long baseSnapshotId, String mapName,
+                                   int flags) {
         super(jobId);
         this.executionId = executionId;
         this.snapshotId = snapshotId;
+        this.baseSnapshotId = baseSnapshotId;
         this.mapName = mapName;
         this.flags = flags;
     }
@@ -63,7 +66,7 @@ public class SnapshotPhase1Operation extends AsyncJobOperation {
         assert !ctx.isLightJob() : "snapshot phase 1 started on a light job: " + idToString(executionId);
 
         CompletableFuture<SnapshotPhase1Result> future =
-            ctx.beginSnapshotPhase1(snapshotId, mapName, flags)
+            ctx.beginSnapshotPhase1(snapshotId, baseSnapshotId, mapName, flags)
                 .exceptionally(exc -> new SnapshotPhase1Result(0, 0, 0, exc))
                 .thenApply(result -> {
                     if (result.getError() == null) {
@@ -107,6 +110,7 @@ public class SnapshotPhase1Operation extends AsyncJobOperation {
         super.writeInternal(out);
         out.writeLong(executionId);
         out.writeLong(snapshotId);
+        out.writeLong(baseSnapshotId);
         out.writeString(mapName);
         out.writeInt(flags);
     }
@@ -116,6 +120,7 @@ public class SnapshotPhase1Operation extends AsyncJobOperation {
         super.readInternal(in);
         executionId = in.readLong();
         snapshotId = in.readLong();
+        baseSnapshotId = in.readLong();
         mapName = in.readString();
         flags = in.readInt();
     }
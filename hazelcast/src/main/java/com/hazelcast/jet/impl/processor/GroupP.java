@@ -23,17 +23,23 @@ import com.hazelcast.jet.aggregate.AggregateOperation1;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.memory.SpilledRuns;
+import com.hazelcast.jet.impl.memory.SpillingProcessor;
 
 import javax.annotation.Nonnull;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import static com.hazelcast.internal.util.Preconditions.checkTrue;
+import static com.hazelcast.jet.Util.entry;
+import static java.util.Collections.emptyIterator;
 import static java.util.Collections.singletonList;
 
 /**
@@ -41,8 +47,16 @@ import static java.util.Collections.singletonList;
  * aggregate operation on each group. The items may originate from one or
  * more inbound edges. The supplied aggregate operation must have as many
  * accumulation functions as there are inbound edges.
+ * <p>
+ * If {@linkplain com.hazelcast.spi.properties.ClusterProperty#JET_SPILL_ENABLED
+ * spilling} is enabled and the aggregate operation has a combine function,
+ * the groups are written to disk once their number reaches the accumulation
+ * limit, sorted by the hash code of the key. At completion, the spilled runs
+ * are merged and the accumulators of the same key are combined. The processor
+ * is then not cooperative, because the runs are written and read with
+ * blocking file I/O.
  */
-public class GroupP<K, A, R, OUT> extends AbstractProcessor {
+public class GroupP<K, A, R, OUT> extends AbstractProcessor implements SpillingProcessor {
 
     protected final Map<K, A> keyToAcc = new HashMap<>();
 
@@ -50,7 +64,9 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
     private final AggregateOperation<A, R> aggrOp;
     private final BiFunction<? super K, ? super R, OUT> mapToOutputFn;
 
+    private boolean spillingEnabled;
     private long maxEntries;
+    private SpilledRuns<Entry<K, A>> spilledRuns;
     private Traverser<OUT> resultTraverser;
 
     public GroupP(
@@ -73,9 +89,23 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
         this(singletonList(groupKeyFn), aggrOp, mapToOutputFn);
     }
 
+    @Override
+    public void setSpillingEnabled(boolean spillingEnabled) {
+        // without a combine function the groups can't be spilled
+        this.spillingEnabled = spillingEnabled && aggrOp.combineFn() != null;
+    }
+
+    @Override
+    public boolean isCooperative() {
+        return !spillingEnabled;
+    }
+
     @Override
     protected void init(@Nonnull Processor.Context context) throws Exception {
         maxEntries = context.maxProcessorAccumulatedRecords();
+        if (spillingEnabled) {
+            spilledRuns = SpilledRuns.create(context, Comparator.comparingInt(GroupP::keyHash));
+        }
     }
 
     @Override
@@ -83,13 +113,14 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
     protected boolean tryProcess(int ordinal, @Nonnull Object item) {
         Function<Object, ? extends K> keyFn = (Function<Object, ? extends K>) groupKeyFns.get(ordinal);
         K key = keyFn.apply(item);
-        A acc = keyToAcc.computeIfAbsent(key, k -> {
+        A acc = keyToAcc.get(key);
+        if (acc == null) {
             if (keyToAcc.size() == maxEntries) {
-                throw new AccumulationLimitExceededException();
+                spill();
             }
-
-            return aggrOp.createFn().get();
-        });
+            acc = aggrOp.createFn().get();
+            keyToAcc.put(key, acc);
+        }
         aggrOp.accumulateFn(ordinal).accept(acc, item);
         return true;
     }
@@ -97,7 +128,10 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
     @Override
     public boolean complete() {
         if (resultTraverser == null) {
-            resultTraverser = new ResultTraverser()
+            Traverser<Entry<K, A>> entries = spilledRuns == null || spilledRuns.runCount() == 0
+                    ? new ResultTraverser()
+                    : new MergingTraverser(spilledRuns.merge(sortedEntries()));
+            resultTraverser = entries
                     // reuse null filtering done by map()
                     .map(e -> mapToOutputFn.apply(e.getKey(), aggrOp.finishFn().apply(e.getValue())));
         }
@@ -106,7 +140,33 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
 
     @Override
     public boolean closeIsCooperative() {
-        return true;
+        return !spillingEnabled;
+    }
+
+    @Override
+    public void close() {
+        if (spilledRuns != null) {
+            spilledRuns.close();
+        }
+    }
+
+    private void spill() {
+        if (spilledRuns == null) {
+            throw new AccumulationLimitExceededException();
+        }
+        spilledRuns.spill(sortedEntries(), keyToAcc.size());
+        keyToAcc.clear();
+    }
+
+    private Iterator<Entry<K, A>> sortedEntries() {
+        return keyToAcc.entrySet().stream()
+                       .sorted(Comparator.comparingInt(GroupP::keyHash))
+                       .map(e -> entry(e.getKey(), e.getValue()))
+                       .iterator();
+    }
+
+    private static int keyHash(Entry<?, ?> entry) {
+        return Objects.hashCode(entry.getKey());
     }
 
     private class ResultTraverser implements Traverser<Entry<K, A>> {
@@ -124,4 +184,41 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
             }
         }
     }
+
+    /**
+     * Combines the accumulators of equal keys in the merged spilled runs. The
+     * runs are sorted by the hash code of the key, so equal keys are adjacent
+     * within a group of entries with the same hash code.
+     */
+    private class MergingTraverser implements Traverser<Entry<K, A>> {
+        private final Traverser<Entry<K, A>> sortedEntries;
+        private final Map<K, A> group = new HashMap<>();
+        private Iterator<Entry<K, A>> groupIter = emptyIterator();
+        private Entry<K, A> pending;
+
+        MergingTraverser(Traverser<Entry<K, A>> sortedEntries) {
+            this.sortedEntries = sortedEntries;
+            this.pending = sortedEntries.next();
+        }
+
+        @Override
+        public Entry<K, A> next() {
+            if (!groupIter.hasNext()) {
+                if (pending == null) {
+                    return null;
+                }
+                group.clear();
+                int hash = keyHash(pending);
+                do {
+                    group.merge(pending.getKey(), pending.getValue(), (left, right) -> {
+                        aggrOp.combineFn().accept(left, right);
+                        return left;
+                    });
+                    pending = sortedEntries.next();
+                } while (pending != null && keyHash(pending) == hash);
+                groupIter = group.entrySet().iterator();
+            }
+            return groupIter.next();
+        }
+    }
 }
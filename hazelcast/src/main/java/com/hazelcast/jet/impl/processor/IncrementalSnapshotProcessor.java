@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataTombstone;
+
+/**
+ * Implemented by processors which can save only the part of their state
+ * that changed since the last successful snapshot, see {@link
+ * com.hazelcast.spi.properties.ClusterProperty#JET_INCREMENTAL_SNAPSHOT_MAX_CHAIN_LENGTH}.
+ * <p>
+ * The state of an incremental snapshot is restored by merging it with the
+ * previous snapshots down to the last full one: for each key, only the
+ * entries saved to the most recent snapshot containing the key are
+ * restored. Therefore the snapshot keys must have a stable serialized form
+ * and must implement {@code equals()} and {@code hashCode()}. A key removed
+ * from the state has to be saved with the {@link
+ * SnapshotDataTombstone#INSTANCE tombstone} value, unless the processor
+ * discards such stale keys in {@link Processor#finishSnapshotRestore()}.
+ * <p>
+ * A processor is free to save its full state to an incremental snapshot,
+ * for example if it didn't track the changes.
+ */
+public interface IncrementalSnapshotProcessor extends Processor {
+
+    /**
+     * Called before the first call to {@link #saveToSnapshot()} for a
+     * snapshot.
+     *
+     * @param incremental if {@code true}, the processor needs to save only
+     *                    the keys changed since the last successful snapshot,
+     *                    otherwise it has to save the full state
+     * @param exportOnly  if {@code true}, the snapshot is exported and doesn't
+     *                    replace the last successful snapshot. {@link
+     *                    #snapshotCommitFinish(boolean)} won't be called for
+     *                    it. Otherwise the processor has to remember the
+     *                    changes saved to the snapshot until it's committed:
+     *                    if it fails, the next snapshot has to include them
+     *                    again
+     */
+    void beginSnapshot(boolean incremental, boolean exportOnly);
+}
@@ -16,6 +16,7 @@
 
 package com.hazelcast.jet.impl.processor;
 
+import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.util.collection.Long2ObjectHashMap;
 import com.hazelcast.internal.util.counters.Counter;
@@ -33,6 +34,8 @@ import com.hazelcast.jet.core.function.KeyedWindowResultFunction;
 import com.hazelcast.jet.core.processor.Processors;
 import com.hazelcast.jet.impl.execution.init.JetInitDataSerializerHook;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.memory.OffHeapKeyedState;
+import com.hazelcast.jet.impl.memory.OffHeapKeyedStateFactory;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
@@ -42,10 +45,12 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.LongFunction;
@@ -61,11 +66,13 @@ import static com.hazelcast.jet.Traversers.traverseStream;
 import static com.hazelcast.jet.Util.entry;
 import static com.hazelcast.jet.config.ProcessingGuarantee.EXACTLY_ONCE;
 import static com.hazelcast.jet.core.BroadcastKey.broadcastKey;
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
 import static com.hazelcast.jet.impl.util.Util.logLateEvent;
 import static java.lang.Math.max;
 import static java.lang.Math.min;
 import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_INCREMENTAL_SNAPSHOT_MAX_CHAIN_LENGTH;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
@@ -75,7 +82,7 @@ import static java.util.concurrent.TimeUnit.NANOSECONDS;
  * @param <A> type of the frame accumulator object
  * @param <R> type of the finished result
  */
-public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
+public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor implements IncrementalSnapshotProcessor {
 
     // package-visible for testing
     final Long2ObjectHashMap<Map<K, A>> tsToKeyToAcc = new Long2ObjectHashMap<>();
@@ -108,6 +115,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
     // extracted lambdas to reduce GC litter
     private final LongFunction<Map<K, A>> createMapPerTsFunction;
     private final Function<K, A> createAccFunction;
+    private final LongFunction<Set<K>> createKeySetFunction = x -> new HashSet<>();
 
     @Probe(name = "lateEventsDropped")
     private final Counter lateEventsDropped = SwCounter.newSwCounter();
@@ -121,10 +129,19 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
     private long lastTimeEarlyResultsEmitted;
     private Traverser<? extends OUT> earlyWinTraverser;
     private long maxEntries;
+    // non-null if the frames are kept off-heap
+    private OffHeapKeyedStateFactory offHeapState;
 
     private Traverser<Object> flushTraverser;
     private Traverser<Entry> snapshotTraverser;
 
+    // Keys changed in each frame since the last snapshot, non-null if the
+    // processor saves incremental snapshots. The keys being saved to the
+    // ongoing snapshot are moved to savedChangedKeys until it's committed.
+    private Long2ObjectHashMap<Set<K>> changedKeys;
+    private Long2ObjectHashMap<Set<K>> savedChangedKeys;
+    private boolean saveChangesOnly;
+
     // Tracks the upper bound for the keyset of tsToKeyToAcc. Serves as an
     // optimization that avoids a full scan over the entire keyset.
     private long topTs = Long.MIN_VALUE;
@@ -167,7 +184,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         this.emptyAcc = aggrOp.createFn().get();
         this.createMapPerTsFunction = x -> {
             totalFrames.inc();
-            return new HashMap<>();
+            return offHeapState != null ? offHeapState.newState() : new HashMap<>();
         };
         this.createAccFunction = k -> {
             long newCount = totalKeysInFrames.inc();
@@ -184,6 +201,12 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         processingGuarantee = context.processingGuarantee();
         lastTimeEarlyResultsEmitted = NANOSECONDS.toMillis(System.nanoTime());
         maxEntries = context.maxProcessorAccumulatedRecords();
+        offHeapState = OffHeapKeyedStateFactory.create(context);
+        HazelcastInstance instance = context.hazelcastInstance();
+        if (isLastStage && context.snapshottingEnabled() && instance != null
+                && getNodeEngine(instance).getProperties().getInteger(JET_INCREMENTAL_SNAPSHOT_MAX_CHAIN_LENGTH) > 0) {
+            changedKeys = new Long2ObjectHashMap<>();
+        }
     }
 
     @Override
@@ -244,10 +267,16 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
             return true;
         }
         final K key = keyFns.get(ordinal).apply(item);
-        A acc = tsToKeyToAcc
-                .computeIfAbsent(frameTs, createMapPerTsFunction)
-                .computeIfAbsent(key, createAccFunction);
-        aggrOp.accumulateFn(ordinal).accept(acc, item);
+        Map<K, A> frame = tsToKeyToAcc.computeIfAbsent(frameTs, createMapPerTsFunction);
+        if (frame instanceof OffHeapKeyedState<K, A> offHeapFrame) {
+            // the accumulator is a deserialized copy, it has to be written back
+            offHeapFrame.update(key, createAccFunction, acc -> aggrOp.accumulateFn(ordinal).accept(acc, item));
+        } else {
+            aggrOp.accumulateFn(ordinal).accept(frame.computeIfAbsent(key, createAccFunction), item);
+        }
+        if (changedKeys != null) {
+            changedKeys.computeIfAbsent(frameTs, createKeySetFunction).add(key);
+        }
         topTs = max(topTs, frameTs);
         return true;
     }
@@ -266,16 +295,46 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         return flushBuffers();
     }
 
+    @Override
+    public void beginSnapshot(boolean incremental, boolean exportOnly) {
+        saveChangesOnly = incremental && changedKeys != null;
+        if (changedKeys != null && !exportOnly) {
+            // the next snapshot will only contain the keys changed after this one
+            if (savedChangedKeys == null) {
+                savedChangedKeys = changedKeys;
+                changedKeys = new Long2ObjectHashMap<>();
+            } else {
+                mergeChangedKeys(changedKeys, savedChangedKeys);
+                changedKeys.clear();
+            }
+        }
+    }
+
+    @Override
+    public boolean snapshotCommitFinish(boolean success) {
+        if (savedChangedKeys != null) {
+            if (!success) {
+                // the changes have to be included in the next snapshot
+                mergeChangedKeys(savedChangedKeys, changedKeys);
+            }
+            savedChangedKeys = null;
+        }
+        return true;
+    }
+
+    private void mergeChangedKeys(Long2ObjectHashMap<Set<K>> from, Long2ObjectHashMap<Set<K>> to) {
+        for (Entry<Long, Set<K>> e : from.entrySet()) {
+            to.computeIfAbsent(e.getKey(), createKeySetFunction).addAll(e.getValue());
+        }
+    }
+
     @Override
     public boolean saveToSnapshot() {
         if (!isLastStage || flushTraverser != null) {
             return flushBuffers();
         }
         if (snapshotTraverser == null) {
-            snapshotTraverser = traverseIterable(tsToKeyToAcc.entrySet())
-                    .<Entry>flatMap(e -> traverseIterable(e.getValue().entrySet())
-                            .map(e2 -> entry(new SnapshotKey(e.getKey(), e2.getKey()), e2.getValue()))
-                    )
+            snapshotTraverser = (saveChangesOnly ? changedFramesTraverser() : allFramesTraverser())
                     .append(entry(broadcastKey(Keys.NEXT_WIN_TO_EMIT), nextWinToEmit))
                     .onFirstNull(() -> {
                         getLogger().finest("Saved nextWinToEmit: %s", nextWinToEmit);
@@ -285,6 +344,29 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         return emitFromTraverserToSnapshot(snapshotTraverser);
     }
 
+    private Traverser<Entry> allFramesTraverser() {
+        return traverseIterable(tsToKeyToAcc.entrySet())
+                .flatMap(e -> traverseIterable(e.getValue().entrySet())
+                        .map(e2 -> entry(new SnapshotKey(e.getKey(), e2.getKey()), e2.getValue())));
+    }
+
+    /**
+     * Returns the entries changed since the previous snapshot. Keys of the
+     * evicted frames aren't saved, they are removed from the restored state
+     * in {@link #finishSnapshotRestore()}.
+     */
+    private Traverser<Entry> changedFramesTraverser() {
+        return traverseIterable(savedChangedKeys != null ? savedChangedKeys.entrySet() : changedKeys.entrySet())
+                .flatMap(e -> {
+                    Map<K, A> frame = tsToKeyToAcc.getOrDefault(e.getKey(), emptyMap());
+                    return traverseIterable(e.getValue())
+                            .map(key -> {
+                                A acc = frame.get(key);
+                                return acc != null ? entry(new SnapshotKey(e.getKey(), key), acc) : null;
+                            });
+                });
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     protected void restoreFromSnapshot(@Nonnull Object key, @Nonnull Object value) {
@@ -352,6 +434,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
                     if (removed != null) {
                         totalFrames.inc(-1);
                         totalKeysInFrames.inc(-removed.size());
+                        dispose(removed);
                     }
                 }
             }
@@ -364,6 +447,14 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         return true;
     }
 
+    @Override
+    public void close() {
+        if (offHeapState != null) {
+            // frees the frames which weren't evicted
+            offHeapState.dispose();
+        }
+    }
+
     private Traverser<Object> windowTraverserAndEvictor(long wm) {
         long rangeStart = startingWindowTs(wm);
         if (rangeStart == Long.MIN_VALUE) {
@@ -449,6 +540,12 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
     private void completeWindow(long frameTs) {
         long tsOfFrameToEvict = frameTs - winPolicy.windowSize() + winPolicy.frameSize();
         Map<K, A> evictedFrame = tsToKeyToAcc.remove(tsOfFrameToEvict);
+        if (changedKeys != null) {
+            changedKeys.remove(tsOfFrameToEvict);
+            if (savedChangedKeys != null) {
+                savedChangedKeys.remove(tsOfFrameToEvict);
+            }
+        }
         if (evictedFrame != null) {
             totalKeysInFrames.inc(-evictedFrame.size());
             totalFrames.inc(-1);
@@ -456,6 +553,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
                 // deduct trailing-edge frame
                 patchSlidingWindow(aggrOp.deductFn(), evictedFrame);
             }
+            dispose(evictedFrame);
         }
         assert tsToKeyToAcc.values().stream().mapToInt(Map::size).sum() == totalKeysInFrames.get()
                 : "totalKeysInFrames mismatch, expected=" + tsToKeyToAcc.values().stream().mapToInt(Map::size).sum()
@@ -472,6 +570,12 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         }
     }
 
+    private void dispose(Map<K, A> frame) {
+        if (frame instanceof OffHeapKeyedState<K, A> offHeapFrame) {
+            offHeapFrame.dispose();
+        }
+    }
+
     private boolean flushBuffers() {
         if (flushTraverser == null) {
             if (tsToKeyToAcc.isEmpty()) {
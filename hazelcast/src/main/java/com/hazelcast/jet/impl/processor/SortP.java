@@ -20,34 +20,58 @@ import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.memory.SpilledRuns;
+import com.hazelcast.jet.impl.memory.SpillingProcessor;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.PriorityQueue;
 
-public class SortP<T> extends AbstractProcessor {
+public class SortP<T> extends AbstractProcessor implements SpillingProcessor {
 
+    private final Comparator<? super T> comparator;
     private final PriorityQueue<T> priorityQueue;
-    private final Traverser<T> resultTraverser;
 
+    private boolean spillingEnabled;
     private long maxItems;
+    private SpilledRuns<T> spilledRuns;
+    private Traverser<T> resultTraverser;
 
+    @SuppressWarnings("unchecked")
     public SortP(@Nullable Comparator<T> comparator) {
+        this.comparator = comparator != null ? comparator : (Comparator<? super T>) Comparator.naturalOrder();
         this.priorityQueue = new PriorityQueue<>(comparator);
-        this.resultTraverser = priorityQueue::poll;
+    }
+
+    @Override
+    public void setSpillingEnabled(boolean spillingEnabled) {
+        this.spillingEnabled = spillingEnabled;
+    }
+
+    @Override
+    public boolean isCooperative() {
+        // the spilled runs are written and read with blocking file I/O
+        return !spillingEnabled;
     }
 
     @Override
     protected void init(@Nonnull Processor.Context context) throws Exception {
         maxItems = context.maxProcessorAccumulatedRecords();
+        if (spillingEnabled) {
+            spilledRuns = SpilledRuns.create(context, comparator);
+        }
     }
 
     @Override
     @SuppressWarnings("unchecked")
     protected boolean tryProcess0(@Nonnull Object item) {
         if (priorityQueue.size() == maxItems) {
-            throw new AccumulationLimitExceededException();
+            if (spilledRuns == null) {
+                throw new AccumulationLimitExceededException();
+            }
+            spilledRuns.spill(pollingIterator(), priorityQueue.size());
         }
 
         priorityQueue.add((T) item);
@@ -56,11 +80,37 @@ public class SortP<T> extends AbstractProcessor {
 
     @Override
     public boolean complete() {
+        if (resultTraverser == null) {
+            resultTraverser = spilledRuns == null || spilledRuns.runCount() == 0
+                    ? priorityQueue::poll
+                    : spilledRuns.merge(pollingIterator());
+        }
         return emitFromTraverser(resultTraverser);
     }
 
     @Override
     public boolean closeIsCooperative() {
-        return true;
+        return !spillingEnabled;
+    }
+
+    @Override
+    public void close() {
+        if (spilledRuns != null) {
+            spilledRuns.close();
+        }
+    }
+
+    private Iterator<T> pollingIterator() {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !priorityQueue.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                return priorityQueue.remove();
+            }
+        };
     }
 }
@@ -41,6 +41,21 @@ public interface AsyncSnapshotWriter {
     boolean isEmpty();
 
     long getTotalPayloadBytes();
+
+    /**
+     * Returns the number of bytes written before the chunks were compressed,
+     * the same as {@link #getTotalPayloadBytes()} if they weren't.
+     */
+    default long getTotalRawPayloadBytes() {
+        return getTotalPayloadBytes();
+    }
+
     long getTotalKeys();
     long getTotalChunks();
+
+    /**
+     * Releases the resources held by the writer. Called when the execution
+     * completes, the writer isn't used afterwards.
+     */
+    void close();
 }
@@ -24,6 +24,7 @@ import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.impl.HeapData;
 import com.hazelcast.internal.serialization.impl.SerializationConstants;
 import com.hazelcast.jet.impl.JetServiceBackend;
+import com.hazelcast.jet.impl.JobExecutionRecord;
 import com.hazelcast.jet.impl.execution.SnapshotContext;
 import com.hazelcast.jet.impl.execution.init.JetInitDataSerializerHook;
 import com.hazelcast.logging.ILogger;
@@ -31,6 +32,7 @@ import com.hazelcast.map.IMap;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.nio.serialization.impl.Versioned;
 import com.hazelcast.partition.PartitionAware;
 import com.hazelcast.spi.impl.NodeEngine;
 
@@ -47,8 +49,14 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
+import static com.hazelcast.internal.cluster.Versions.V6_0;
+import static com.hazelcast.jet.impl.JobExecutionRecord.NO_SNAPSHOT;
 import static com.hazelcast.jet.impl.JobRepository.safeImap;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SNAPSHOT_COMPRESSION_ENABLED;
 
 public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
 
@@ -70,8 +78,13 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
     private final SnapshotContext snapshotContext;
     private final String vertexName;
     private final int memberCount;
+    private final boolean incremental;
+    private final boolean compress;
+    private final InternalSerializationService serializationService;
+    private Deflater deflater;
     private IMap<SnapshotDataKey, Object> currentMap;
     private long currentSnapshotId;
+    private long currentBaseSnapshotId;
     private final AtomicReference<Throwable> firstError = new AtomicReference<>();
     private final AtomicInteger numActiveFlushes = new AtomicInteger();
 
@@ -79,16 +92,24 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
     private long totalKeys;
     private long totalChunks;
     private long totalPayloadBytes;
+    private long totalRawPayloadBytes;
 
     private final BiConsumer<Object, Throwable> putResponseConsumer = this::consumePutResponse;
 
+    /**
+     * @param incremental if the processors of the vertex save incremental
+     *                    snapshots, see {@link
+     *                    com.hazelcast.jet.impl.processor.IncrementalSnapshotProcessor}
+     */
     public AsyncSnapshotWriterImpl(NodeEngine nodeEngine,
                                    SnapshotContext snapshotContext,
                                    String vertexName,
                                    int memberIndex,
                                    int memberCount,
+                                   boolean incremental,
                                    InternalSerializationService serializationService) {
-        this(DEFAULT_CHUNK_SIZE, nodeEngine, snapshotContext, vertexName, memberIndex, memberCount, serializationService);
+        this(DEFAULT_CHUNK_SIZE, nodeEngine, snapshotContext, vertexName, memberIndex, memberCount, incremental,
+                serializationService);
     }
 
     // for test
@@ -99,6 +120,18 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
                             int memberIndex,
                             int memberCount,
                             InternalSerializationService serializationService) {
+        this(chunkSize, nodeEngine, snapshotContext, vertexName, memberIndex, memberCount, false, serializationService);
+    }
+
+    @SuppressWarnings("checkstyle:ExecutableStatementCount")
+    private AsyncSnapshotWriterImpl(int chunkSize,
+                                    NodeEngine nodeEngine,
+                                    SnapshotContext snapshotContext,
+                                    String vertexName,
+                                    int memberIndex,
+                                    int memberCount,
+                                    boolean incremental,
+                                    InternalSerializationService serializationService) {
         if (Integer.bitCount(chunkSize) != 1) {
             throw new IllegalArgumentException("chunkSize must be a power of two, but is " + chunkSize);
         }
@@ -108,7 +141,13 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         this.snapshotContext = snapshotContext;
         this.vertexName = vertexName;
         this.memberCount = memberCount;
+        this.incremental = incremental;
+        this.serializationService = serializationService;
+        // members older than 6.0 can't read the compressed chunk header
+        this.compress = nodeEngine.getProperties().getBoolean(JET_SNAPSHOT_COMPRESSION_ENABLED)
+                && nodeEngine.getClusterService().getClusterVersion().isGreaterOrEqual(V6_0);
         currentSnapshotId = snapshotContext.currentSnapshotId();
+        currentBaseSnapshotId = snapshotContext.currentBaseSnapshotId();
 
         useBigEndian = serializationService.getByteOrder().equals(ByteOrder.BIG_ENDIAN);
 
@@ -254,11 +293,14 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         }
         try {
             // we put a Data instance to the map directly to avoid the serialization of the byte array
-            Data data = dataSupplier.get();
+            Data rawData = dataSupplier.get();
+            Data data = compress ? compress(rawData) : rawData;
+            totalRawPayloadBytes += rawData.dataSize();
             totalPayloadBytes += data.dataSize();
             totalChunks++;
             CompletableFuture<Object> future = currentMap.putAsync(
-                    new SnapshotDataKey(partitionKeys[partitionId], currentSnapshotId, vertexName, partitionSequence),
+                    new SnapshotDataKey(partitionKeys[partitionId], currentSnapshotId,
+                            incremental ? currentBaseSnapshotId : NO_SNAPSHOT, vertexName, partitionSequence),
                     data).toCompletableFuture();
             partitionSequence += memberCount;
             future.whenComplete(putResponseConsumer);
@@ -269,6 +311,54 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         return true;
     }
 
+    /**
+     * Returns the chunk with its contents deflated and prefixed with a {@link
+     * SnapshotDataCompressedHeader}, or the original chunk, if it doesn't
+     * shrink.
+     */
+    private Data compress(Data rawData) {
+        byte[] raw = rawData.toByteArray();
+        int contentOffset = serializedByteArrayHeader.length;
+        int rawLength = raw.length - contentOffset;
+        byte[] headerWithType = serializationService.toData(
+                new SnapshotDataCompressedHeader(SnapshotDataCompressedHeader.CODEC_DEFLATE, rawLength)).toByteArray();
+        int headerLength = headerWithType.length - HeapData.TYPE_OFFSET;
+        int maxDeflatedLength = rawLength - headerLength;
+        if (maxDeflatedLength <= 0) {
+            return rawData;
+        }
+
+        if (deflater == null) {
+            deflater = new Deflater(Deflater.BEST_SPEED);
+        }
+        byte[] data = new byte[raw.length];
+        System.arraycopy(raw, 0, data, 0, contentOffset);
+        System.arraycopy(headerWithType, HeapData.TYPE_OFFSET, data, contentOffset, headerLength);
+        int deflatedOffset = contentOffset + headerLength;
+        try {
+            deflater.setInput(raw, contentOffset, rawLength);
+            deflater.finish();
+            int deflatedLength = deflater.deflate(data, deflatedOffset, maxDeflatedLength);
+            if (!deflater.finished()) {
+                // the compressed chunk wouldn't be smaller
+                return rawData;
+            }
+            data = Arrays.copyOf(data, deflatedOffset + deflatedLength);
+        } finally {
+            deflater.reset();
+        }
+        updateSerializedBytesLength(data);
+        return new HeapData(data);
+    }
+
+    @Override
+    public void close() {
+        if (deflater != null) {
+            deflater.end();
+            deflater = null;
+        }
+    }
+
     private boolean initCurrentMap() {
         if (currentMap == null) {
             String mapName = snapshotContext.currentMapName();
@@ -279,6 +369,7 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
             // to have failOnIndeterminateOperationState enabled.
             currentMap = safeImap(nodeEngine.getHazelcastInstance().getMap(mapName));
             this.currentSnapshotId = snapshotContext.currentSnapshotId();
+            this.currentBaseSnapshotId = snapshotContext.currentBaseSnapshotId();
         }
         return true;
     }
@@ -306,15 +397,15 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         // we're done
         currentMap = null;
         if (logger.isFineEnabled()) {
-            logger.fine("Stats for %s: keys=%,d, chunks=%,d, bytes=%,d",
-                    vertexName, totalKeys, totalChunks, totalPayloadBytes);
+            logger.fine("Stats for %s: keys=%,d, chunks=%,d, bytes=%,d, rawBytes=%,d",
+                    vertexName, totalKeys, totalChunks, totalPayloadBytes, totalRawPayloadBytes);
         }
         return true;
     }
 
     @Override
     public void resetStats() {
-        totalKeys = totalChunks = totalPayloadBytes = 0;
+        totalKeys = totalChunks = totalPayloadBytes = totalRawPayloadBytes = 0;
     }
 
     @Override
@@ -336,9 +427,19 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         return partitionKeys[partitionId];
     }
 
-    public static final class SnapshotDataKey implements IdentifiedDataSerializable, PartitionAware {
+    /**
+     * The key of a chunk in the snapshot map.
+     * <p>
+     * The chunks written by the processors which save {@linkplain
+     * com.hazelcast.jet.impl.processor.IncrementalSnapshotProcessor
+     * incremental snapshots} reference the full snapshot they build on, the
+     * other chunks have {@link JobExecutionRecord#NO_SNAPSHOT} as the base
+     * snapshot ID and are valid only for their own snapshot.
+     */
+    public static final class SnapshotDataKey implements IdentifiedDataSerializable, PartitionAware, Versioned {
         private int partitionKey;
         private long snapshotId;
+        private long baseSnapshotId = NO_SNAPSHOT;
         private String vertexName;
         private int sequence;
 
@@ -347,8 +448,13 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         }
 
         public SnapshotDataKey(int partitionKey, long snapshotId, String vertexName, int sequence) {
+            this(partitionKey, snapshotId, NO_SNAPSHOT, vertexName, sequence);
+        }
+
+        public SnapshotDataKey(int partitionKey, long snapshotId, long baseSnapshotId, String vertexName, int sequence) {
             this.partitionKey = partitionKey;
             this.snapshotId = snapshotId;
+            this.baseSnapshotId = baseSnapshotId;
             this.vertexName = vertexName;
             this.sequence = sequence;
         }
@@ -362,6 +468,15 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
             return snapshotId;
         }
 
+        /**
+         * Returns the ID of the full snapshot this chunk builds on or {@link
+         * JobExecutionRecord#NO_SNAPSHOT} if the chunk isn't part of a chain
+         * of incremental snapshots.
+         */
+        public long baseSnapshotId() {
+            return baseSnapshotId;
+        }
+
         public String vertexName() {
             return vertexName;
         }
@@ -371,6 +486,7 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
             return "SnapshotDataKey{" +
                     "partitionKey=" + partitionKey +
                     ", snapshotId=" + snapshotId +
+                    ", baseSnapshotId=" + baseSnapshotId +
                     ", vertexName='" + vertexName + '\'' +
                     ", sequence=" + sequence +
                     '}';
@@ -392,6 +508,9 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
             out.writeLong(snapshotId);
             out.writeString(vertexName);
             out.writeInt(sequence);
+            if (out.getVersion().isGreaterOrEqual(V6_0)) {
+                out.writeLong(baseSnapshotId);
+            }
         }
 
         @Override
@@ -400,6 +519,9 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
             snapshotId = in.readLong();
             vertexName = in.readString();
             sequence = in.readInt();
+            if (in.getVersion().isGreaterOrEqual(V6_0)) {
+                baseSnapshotId = in.readLong();
+            }
         }
 
         @Override
@@ -413,13 +535,14 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
             SnapshotDataKey that = (SnapshotDataKey) o;
             return partitionKey == that.partitionKey &&
                     snapshotId == that.snapshotId &&
+                    baseSnapshotId == that.baseSnapshotId &&
                     sequence == that.sequence &&
                     Objects.equals(vertexName, that.vertexName);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(partitionKey, snapshotId, vertexName, sequence);
+            return Objects.hash(partitionKey, snapshotId, baseSnapshotId, vertexName, sequence);
         }
     }
 
@@ -449,6 +572,115 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         }
     }
 
+    /**
+     * The value saved by an {@link
+     * com.hazelcast.jet.impl.processor.IncrementalSnapshotProcessor} for a key
+     * removed from its state since the previous snapshot. The key isn't
+     * restored from the snapshot.
+     */
+    public static final class SnapshotDataTombstone implements IdentifiedDataSerializable {
+
+        public static final IdentifiedDataSerializable INSTANCE = new SnapshotDataTombstone();
+
+        private SnapshotDataTombstone() {
+        }
+
+        @Override
+        public int getFactoryId() {
+            return JetInitDataSerializerHook.FACTORY_ID;
+        }
+
+        @Override
+        public int getClassId() {
+            return JetInitDataSerializerHook.ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_TOMBSTONE;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) {
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) {
+        }
+    }
+
+    /**
+     * The first object in a compressed chunk. The rest of the chunk is the
+     * compressed sequence of the entries and the terminator, as stored in
+     * an uncompressed chunk.
+     */
+    public static final class SnapshotDataCompressedHeader implements IdentifiedDataSerializable {
+
+        /**
+         * The chunk is compressed with {@link Deflater}.
+         */
+        public static final byte CODEC_DEFLATE = 1;
+
+        private byte codec;
+        private int rawLength;
+
+        // for deserialization
+        public SnapshotDataCompressedHeader() {
+        }
+
+        SnapshotDataCompressedHeader(byte codec, int rawLength) {
+            this.codec = codec;
+            this.rawLength = rawLength;
+        }
+
+        /**
+         * Decompresses the contents of the chunk following this header.
+         *
+         * @param chunk    the compressed chunk
+         * @param offset   the offset of the compressed contents in the chunk
+         * @param inflater the inflater to use, it's reset after use
+         * @return the uncompressed contents of the chunk
+         */
+        public byte[] decompress(byte[] chunk, int offset, Inflater inflater) throws DataFormatException {
+            if (codec != CODEC_DEFLATE) {
+                throw new DataFormatException("Unknown snapshot chunk codec: " + codec);
+            }
+            byte[] raw = new byte[rawLength];
+            try {
+                inflater.setInput(chunk, offset, chunk.length - offset);
+                int length = 0;
+                while (length < rawLength) {
+                    int n = inflater.inflate(raw, length, rawLength - length);
+                    if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+                        throw new DataFormatException("Truncated snapshot chunk, expected " + rawLength
+                                + " bytes, got " + length);
+                    }
+                    length += n;
+                }
+            } finally {
+                inflater.reset();
+            }
+            return raw;
+        }
+
+        @Override
+        public int getFactoryId() {
+            return JetInitDataSerializerHook.FACTORY_ID;
+        }
+
+        @Override
+        public int getClassId() {
+            return JetInitDataSerializerHook.ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_COMPRESSED_HEADER;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeByte(codec);
+            out.writeInt(rawLength);
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            codec = in.readByte();
+            rawLength = in.readInt();
+        }
+    }
+
     /**
      * Non-synchronized variant of {@code java.io.ByteArrayOutputStream} with capacity limit.
      */
@@ -516,6 +748,11 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         return totalPayloadBytes;
     }
 
+    @Override
+    public long getTotalRawPayloadBytes() {
+        return totalRawPayloadBytes;
+    }
+
     @Override
     public long getTotalKeys() {
         return totalKeys;
@@ -51,6 +51,8 @@ import com.hazelcast.internal.services.WanSupportingService;
 import com.hazelcast.internal.util.MutableLong;
 import com.hazelcast.map.LocalMapStats;
 import com.hazelcast.map.impl.event.MapEventPublishingService;
+import com.hazelcast.map.impl.mapstore.MapStoreContext;
+import com.hazelcast.map.impl.mapstore.writebehind.WriteBehindManager;
 import com.hazelcast.map.impl.recordstore.RecordStore;
 import com.hazelcast.nearcache.NearCacheStats;
 import com.hazelcast.query.LocalIndexStats;
@@ -81,6 +83,7 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_PREFI
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_PREFIX_INDEX;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_PREFIX_MAP_STORE_OFFLOADED_OPERATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_PREFIX_NEARCACHE;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_PREFIX_WRITE_BEHIND;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_TAG_INDEX;
 
 /**
@@ -373,6 +376,24 @@ public class MapService implements ManagedService, ChunkedMigrationAwareService,
 
         // mapStore offloaded operations
         setMapStoreOffloadedOperationMetrics(descriptor, context);
+
+        // write-behind batching
+        setWriteBehindMetrics(descriptor, context);
+    }
+
+    private void setWriteBehindMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        for (MapContainer mapContainer : mapServiceContext.getMapContainers().values()) {
+            MapStoreContext mapStoreContext = mapContainer.getMapStoreContext();
+            if (mapStoreContext == null
+                    || !(mapStoreContext.getMapStoreManager() instanceof WriteBehindManager writeBehindManager)) {
+                continue;
+            }
+            MetricDescriptor writeBehindDescriptor = descriptor
+                    .copy()
+                    .withPrefix(MAP_PREFIX_WRITE_BEHIND)
+                    .withDiscriminator(MAP_DISCRIMINATOR_NAME, mapContainer.getName());
+            context.collect(writeBehindDescriptor, writeBehindManager.getBatchController());
+        }
     }
 
     private void setMapStoreOffloadedOperationMetrics(MetricDescriptor descriptor,
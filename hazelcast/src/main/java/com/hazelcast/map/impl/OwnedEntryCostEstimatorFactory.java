@@ -19,6 +19,7 @@ package com.hazelcast.map.impl;
 import com.hazelcast.config.InMemoryFormat;
 
 import static com.hazelcast.config.InMemoryFormat.BINARY;
+import static com.hazelcast.config.InMemoryFormat.COLUMNAR;
 
 /**
  * Static factory methods for various entry cost estimators.
@@ -34,7 +35,7 @@ public final class OwnedEntryCostEstimatorFactory {
     }
 
     public static <K, V> EntryCostEstimator<K, V> createMapSizeEstimator(InMemoryFormat inMemoryFormat) {
-        if (BINARY == inMemoryFormat) {
+        if (BINARY == inMemoryFormat || COLUMNAR == inMemoryFormat) {
             return (EntryCostEstimator<K, V>) new BinaryMapEntryCostEstimator();
         }
         return ZERO_SIZE_ESTIMATOR;
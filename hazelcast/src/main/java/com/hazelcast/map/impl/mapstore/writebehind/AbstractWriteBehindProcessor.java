@@ -41,6 +41,8 @@ abstract class AbstractWriteBehindProcessor<T> implements WriteBehindProcessor<T
 
     protected final MapStoreWrapper mapStore;
 
+    protected final WriteBehindBatchController batchController;
+
     private final SerializationService serializationService;
 
     AbstractWriteBehindProcessor(MapStoreContext mapStoreContext) {
@@ -50,6 +52,12 @@ abstract class AbstractWriteBehindProcessor<T> implements WriteBehindProcessor<T
         MapStoreConfig mapStoreConfig = mapStoreContext.getMapStoreConfig();
         this.writeBatchSize = mapStoreConfig.getWriteBatchSize();
         this.writeCoalescing = mapStoreConfig.isWriteCoalescing();
+        this.batchController = new WriteBehindBatchController(mapStoreConfig);
+    }
+
+    @Override
+    public WriteBehindBatchController getBatchController() {
+        return batchController;
     }
 
     protected Object toObject(Object obj) {
@@ -29,6 +29,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.locks.LockSupport;
 
 import static com.hazelcast.internal.util.CollectionUtil.isNotEmpty;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
@@ -59,9 +60,23 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
 
     @Override
     public Map<Integer, List<DelayedEntry>> process(List<DelayedEntry> delayedEntries) {
+        return process(delayedEntries, true);
+    }
+
+    /**
+     * @param delayedEntries to be written to store.
+     * @param paced          {@code true} if the batches may be delayed when the
+     *                       store is saturated, which must not happen when the
+     *                       caller is a partition thread.
+     * @return failed store operations per partition.
+     */
+    private Map<Integer, List<DelayedEntry>> process(List<DelayedEntry> delayedEntries, boolean paced) {
         Map<Integer, List<DelayedEntry>> failMap;
         sort(delayedEntries);
-        if (writeBatchSize > 1) {
+        // batching is only possible with write-coalescing, see callHandler
+        if (batchController.isAdaptive() && writeCoalescing) {
+            failMap = doStoreUsingAdaptiveBatchSize(delayedEntries, paced);
+        } else if (writeBatchSize > 1) {
             failMap = doStoreUsingBatchSize(delayedEntries);
         } else {
             failMap = processInternal(delayedEntries);
@@ -276,7 +291,7 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
     private void flushInternal(List<DelayedEntry> delayedEntries) {
         sort(delayedEntries);
 
-        Map<Integer, List<DelayedEntry>> failedStoreOpPerPartition = process(delayedEntries);
+        Map<Integer, List<DelayedEntry>> failedStoreOpPerPartition = process(delayedEntries, false);
 
         if (failedStoreOpPerPartition.size() > 0) {
             printErrorLog(failedStoreOpPerPartition);
@@ -320,6 +335,33 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
         return failsPerPartition;
     }
 
+    /**
+     * Store chunk by chunk using the batch size decided by the {@link #batchController},
+     * which may change from one chunk to the next.
+     *
+     * @param sortedDelayedEntries entries to be stored.
+     * @param paced                {@code true} to delay the chunks while the store is saturated.
+     * @return not-stored entries per partition.
+     */
+    private Map<Integer, List<DelayedEntry>> doStoreUsingAdaptiveBatchSize(List<DelayedEntry> sortedDelayedEntries,
+                                                                           boolean paced) {
+        Map<Integer, List<DelayedEntry>> failsPerPartition = new HashMap<>();
+        int size = sortedDelayedEntries.size();
+        int start = 0;
+        while (start < size) {
+            if (paced) {
+                pause(batchController.getPauseNanos());
+            }
+            int end = Math.min(start + batchController.getBatchSize(), size);
+            Map<Integer, List<DelayedEntry>> fails = processInternal(sortedDelayedEntries.subList(start, end));
+            for (List<DelayedEntry> partitionFails : fails.values()) {
+                addFailsTo(failsPerPartition, partitionFails);
+            }
+            start = end;
+        }
+        return failsPerPartition;
+    }
+
     private List<DelayedEntry> retryCall(RetryTask task) {
         boolean result = false;
         Exception exception = null;
@@ -404,14 +446,21 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
             final Object key = toObject(entry.getKey());
             final Object value = toObject(entry.getValue());
             boolean result;
-            // if value is null, then we have a DeletedDelayedEntry. We should not create
-            // an EntryLoaderEntry for that
-            if (withTtl && value != null) {
-                long expirationTime = entry.getExpirationTime();
-                result = operationType.processSingle(key, new MetadataAwareValue(value, expirationTime), mapStore);
-            } else {
-                result = operationType.processSingle(key, value, mapStore);
+            long startNanos = System.nanoTime();
+            try {
+                // if value is null, then we have a DeletedDelayedEntry. We should not create
+                // an EntryLoaderEntry for that
+                if (withTtl && value != null) {
+                    long expirationTime = entry.getExpirationTime();
+                    result = operationType.processSingle(key, new MetadataAwareValue(value, expirationTime), mapStore);
+                } else {
+                    result = operationType.processSingle(key, value, mapStore);
+                }
+            } catch (Exception ex) {
+                batchController.onFlush(1, System.nanoTime() - startNanos, false);
+                throw ex;
             }
+            batchController.onFlush(1, System.nanoTime() - startNanos, result);
             callAfterStoreListeners(entry);
             return result;
         }
@@ -442,12 +491,17 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
             callBeforeStoreListeners(batchMap.values());
             final Map map = convertToObject(batchMap);
             boolean result;
+            // the store may remove the stored entries from the map when it fails
+            int entryCount = map.size();
+            long startNanos = System.nanoTime();
             try {
                 result = operationType.processBatch(map, mapStore);
             } catch (Exception ex) {
+                batchController.onFlush(entryCount, System.nanoTime() - startNanos, false);
                 batchMap.keySet().removeIf(o -> !map.containsKey(toObject(o)));
                 throw ex;
             }
+            batchController.onFlush(entryCount, System.nanoTime() - startNanos, result);
             callAfterStoreListeners(batchMap.values());
             return result;
         }
@@ -474,6 +528,12 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
         }
     }
 
+    private static void pause(long nanos) {
+        if (nanos > 0) {
+            LockSupport.parkNanos(nanos);
+        }
+    }
+
     private void sleepSeconds(long secs) {
         try {
             SECONDS.sleep(secs);
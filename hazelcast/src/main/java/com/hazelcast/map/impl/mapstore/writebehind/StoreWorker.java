@@ -121,6 +121,7 @@ public class StoreWorker implements Runnable {
 
         List<DelayedEntry> ownersList = null;
         List<DelayedEntry> backupsList = null;
+        long backlog = 0;
 
         for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
             if (currentThread().isInterrupted()) {
@@ -140,9 +141,12 @@ public class StoreWorker implements Runnable {
             } else {
                 ownersList = initListIfNull(ownersList, partitionCount);
                 selectEntriesToStore(recordStore, ownersList, ownerHighestStoreTime);
+                backlog += getWriteBehindQueue(recordStore).size();
             }
         }
 
+        writeBehindProcessor.getBatchController().setBacklog(backlog);
+
         if (!isEmpty(ownersList)) {
             Map<Integer, List<DelayedEntry>> failuresPerPartition = writeBehindProcessor.process(ownersList);
             removeFinishedStoreOperationsFromQueues(mapName, ownersList);
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.mapstore.writebehind;
+
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.util.counters.SwCounter;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_WRITE_BEHIND_BACKLOG;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_WRITE_BEHIND_BATCH_SIZE;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_WRITE_BEHIND_FAILED_FLUSH_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_WRITE_BEHIND_FLUSHED_ENTRY_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_WRITE_BEHIND_FLUSH_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_WRITE_BEHIND_LAST_FLUSH_LATENCY;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_WRITE_BEHIND_TOTAL_FLUSH_LATENCY;
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
+import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Sizes and paces the batches a write-behind map passes to
+ * {@link com.hazelcast.map.MapStore#storeAll} and
+ * {@link com.hazelcast.map.MapStore#deleteAll}, and keeps the flush metrics
+ * of the map on this member.
+ * <p>
+ * Without {@link MapStoreConfig#isAdaptiveWriteBatching() adaptive write
+ * batching} the configured write batch size is used and only the metrics are
+ * recorded. With it, the batch size follows the latency of the store: it
+ * grows while the write-behind queues hold more entries than fit into a
+ * single batch and the latency per entry stays close to the best one seen so
+ * far, and it is halved as soon as the latency per entry degrades or a
+ * batch fails. After such a back-off the next batch is delayed by the
+ * latency of the last one, which gives a saturated store the time to recover
+ * instead of piling up retries.
+ */
+public class WriteBehindBatchController {
+
+    /**
+     * The initial batch size in adaptive mode when batching is not configured.
+     */
+    static final int DEFAULT_INITIAL_BATCH_SIZE = 100;
+    static final int MAX_BATCH_SIZE = 10_000;
+
+    // a latency per entry this many times the baseline means the store is saturated
+    private static final double SATURATION_FACTOR = 2;
+    // weight of the last batch in the smoothed latency per entry
+    private static final double SMOOTHING_FACTOR = 0.2;
+    // the baseline slowly follows the smoothed latency upwards, so that a store
+    // which became permanently slower is not treated as saturated forever
+    private static final double BASELINE_DRIFT_FACTOR = 0.01;
+    private static final int GROWTH_DIVISOR = 4;
+    private static final long MAX_PAUSE_NANOS = SECONDS.toNanos(1);
+
+    @Probe(name = MAP_METRIC_WRITE_BEHIND_FLUSH_COUNT)
+    private final SwCounter flushCount = newSwCounter();
+    @Probe(name = MAP_METRIC_WRITE_BEHIND_FLUSHED_ENTRY_COUNT)
+    private final SwCounter flushedEntryCount = newSwCounter();
+    @Probe(name = MAP_METRIC_WRITE_BEHIND_FAILED_FLUSH_COUNT)
+    private final SwCounter failedFlushCount = newSwCounter();
+    @Probe(name = MAP_METRIC_WRITE_BEHIND_TOTAL_FLUSH_LATENCY, unit = NS)
+    private final SwCounter totalFlushLatencyNanos = newSwCounter();
+    @Probe(name = MAP_METRIC_WRITE_BEHIND_LAST_FLUSH_LATENCY, unit = NS)
+    private volatile long lastFlushLatencyNanos;
+    @Probe(name = MAP_METRIC_WRITE_BEHIND_BATCH_SIZE)
+    private volatile int batchSize;
+    @Probe(name = MAP_METRIC_WRITE_BEHIND_BACKLOG)
+    private volatile long backlog;
+
+    private final boolean adaptive;
+    private double smoothedNanosPerEntry;
+    private double baselineNanosPerEntry;
+    private long pauseNanos;
+
+    public WriteBehindBatchController(MapStoreConfig mapStoreConfig) {
+        this.adaptive = mapStoreConfig.isAdaptiveWriteBatching();
+        int writeBatchSize = mapStoreConfig.getWriteBatchSize();
+        if (adaptive && writeBatchSize < 2) {
+            this.batchSize = DEFAULT_INITIAL_BATCH_SIZE;
+        } else {
+            this.batchSize = adaptive ? Math.min(writeBatchSize, MAX_BATCH_SIZE) : writeBatchSize;
+        }
+    }
+
+    /**
+     * Returns {@code true} if the batch size is adapted to the observed
+     * latency of the store.
+     */
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Returns the number of entries to pass to the store in the next batch.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Returns the number of entries waiting in the write-behind queues of the
+     * partitions owned by this member, as of the last run of the
+     * {@link StoreWorker}.
+     */
+    public long getBacklog() {
+        return backlog;
+    }
+
+    void setBacklog(long backlog) {
+        this.backlog = backlog;
+    }
+
+    /**
+     * Returns the time in nanoseconds the next batch should be delayed by to
+     * let a saturated store recover, {@code 0} if it should be sent right away.
+     */
+    synchronized long getPauseNanos() {
+        return pauseNanos;
+    }
+
+    /**
+     * Records a call to the store and, in adaptive mode, adjusts the batch
+     * size to its latency.
+     *
+     * @param entryCount   the number of entries passed to the store
+     * @param latencyNanos the time the store took, in nanoseconds
+     * @param success      {@code false} if the store failed
+     */
+    synchronized void onFlush(int entryCount, long latencyNanos, boolean success) {
+        flushCount.inc();
+        totalFlushLatencyNanos.inc(latencyNanos);
+        lastFlushLatencyNanos = latencyNanos;
+        if (success) {
+            flushedEntryCount.inc(entryCount);
+        } else {
+            failedFlushCount.inc();
+        }
+
+        if (!adaptive || entryCount == 0) {
+            return;
+        }
+
+        if (!success) {
+            backOff(latencyNanos);
+            return;
+        }
+
+        double nanosPerEntry = (double) latencyNanos / entryCount;
+        if (baselineNanosPerEntry == 0) {
+            smoothedNanosPerEntry = nanosPerEntry;
+            baselineNanosPerEntry = nanosPerEntry;
+        } else {
+            smoothedNanosPerEntry += SMOOTHING_FACTOR * (nanosPerEntry - smoothedNanosPerEntry);
+            baselineNanosPerEntry = Math.min(smoothedNanosPerEntry,
+                    baselineNanosPerEntry + BASELINE_DRIFT_FACTOR * (smoothedNanosPerEntry - baselineNanosPerEntry));
+        }
+
+        if (smoothedNanosPerEntry > SATURATION_FACTOR * baselineNanosPerEntry) {
+            backOff(latencyNanos);
+        } else {
+            pauseNanos = 0;
+            int size = batchSize;
+            if (backlog > size && size < MAX_BATCH_SIZE) {
+                batchSize = Math.min(MAX_BATCH_SIZE, size + Math.max(1, size / GROWTH_DIVISOR));
+            }
+        }
+    }
+
+    private void backOff(long latencyNanos) {
+        batchSize = Math.max(1, batchSize / 2);
+        pauseNanos = Math.min(latencyNanos, MAX_PAUSE_NANOS);
+        // the next back-off needs fresh evidence, otherwise the smoothed
+        // latency would keep halving the batch size while it settles down
+        smoothedNanosPerEntry = baselineNanosPerEntry;
+    }
+
+    @Override
+    public String toString() {
+        return "WriteBehindBatchController{"
+                + "adaptive=" + adaptive
+                + ", batchSize=" + batchSize
+                + ", backlog=" + backlog
+                + '}';
+    }
+}
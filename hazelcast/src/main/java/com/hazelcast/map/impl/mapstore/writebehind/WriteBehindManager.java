@@ -52,6 +52,14 @@ public class WriteBehindManager implements MapStoreManager {
         storeWorker.stop();
     }
 
+    /**
+     * Returns the controller which sizes the store batches of the map and
+     * keeps its write-behind flush metrics.
+     */
+    public WriteBehindBatchController getBatchController() {
+        return writeBehindProcessor.getBatchController();
+    }
+
     //todo get this via constructor function.
     @Override
     public MapDataStore getMapDataStore(String mapName, int partitionId) {
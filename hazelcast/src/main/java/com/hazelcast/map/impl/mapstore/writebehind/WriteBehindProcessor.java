@@ -55,4 +55,12 @@ public interface WriteBehindProcessor<E> {
      * @param key to be flushed.
      */
     void flush(E key);
+
+    /**
+     * Returns the controller which sizes the store batches of this processor
+     * and keeps its flush metrics.
+     *
+     * @return the batch controller of this processor.
+     */
+    WriteBehindBatchController getBatchController();
 }
@@ -407,7 +407,7 @@ public class EntryOperation extends LockAwareOperation
             case OBJECT:
                 return getNodeEngine().getSerializationService()
                         .toData(oldValue);
-            case BINARY:
+            case BINARY, COLUMNAR:
                 return oldValue;
             default:
                 throw new IllegalArgumentException("Unknown in memory format: " + inMemoryFormat);
@@ -16,10 +16,14 @@
 
 package com.hazelcast.map.impl.operation;
 
+import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.core.OperationTimeoutException;
 import com.hazelcast.internal.locksupport.LockWaitNotifyKey;
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.Clock;
 import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.map.impl.mapstore.MapDataStores;
+import com.hazelcast.map.impl.record.Record;
 import com.hazelcast.map.impl.operation.steps.GetOpSteps;
 import com.hazelcast.map.impl.operation.steps.engine.Step;
 import com.hazelcast.map.impl.operation.steps.engine.State;
@@ -29,6 +33,7 @@ import com.hazelcast.spi.impl.operationservice.WaitNotifyKey;
 public final class GetOperation extends ReadonlyKeyBasedMapOperation implements BlockingOperation {
 
     private Data result;
+    private transient boolean directRead;
 
     public GetOperation() {
     }
@@ -43,14 +48,40 @@ public final class GetOperation extends ReadonlyKeyBasedMapOperation implements
     protected void innerBeforeRun() throws Exception {
         super.innerBeforeRun();
         recordStore.checkIfLoaded();
+        directRead = canReadDirectly();
     }
 
     @Override
     protected void runInternal() {
+        if (directRead) {
+            result = readDirectly();
+            return;
+        }
         Object currentValue = recordStore.get(dataKey, false, getCallerAddress());
         result = extractResult(currentValue);
     }
 
+    /**
+     * A value can be read straight from the storage when it is kept as
+     * an immutable on-heap {@link Data}, there is no map store to load a
+     * missing value from and there are no interceptors to run. The stored
+     * instance is then returned as it is, without any copy.
+     */
+    private boolean canReadDirectly() {
+        return recordStore.getInMemoryFormat() == InMemoryFormat.BINARY
+                && recordStore.getMapDataStore() == MapDataStores.EMPTY_MAP_DATA_STORE
+                && mapContainer.getInterceptorRegistry().getInterceptors().isEmpty();
+    }
+
+    private Data readDirectly() {
+        Record record = recordStore.getRecordOrNull(dataKey, false);
+        if (record == null) {
+            return null;
+        }
+        recordStore.accessRecord(dataKey, record, Clock.currentTimeMillis());
+        return (Data) record.getValue();
+    }
+
     public Data extractResult(Object currentValue) {
         if (noCopyReadAllowed(currentValue)) {
             // in case of a 'remote' call (e.g a client call) we prevent making
@@ -82,7 +113,9 @@ public final class GetOperation extends ReadonlyKeyBasedMapOperation implements
 
     @Override
     public void afterRunInternal() {
-        mapServiceContext.interceptAfterGet(mapContainer.getInterceptorRegistry(), result);
+        if (!directRead) {
+            mapServiceContext.interceptAfterGet(mapContainer.getInterceptorRegistry(), result);
+        }
         super.afterRunInternal();
     }
 
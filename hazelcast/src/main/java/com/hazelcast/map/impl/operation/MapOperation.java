@@ -370,7 +370,8 @@ public abstract class MapOperation extends AbstractNamedOperation
     public void disposeDeferredBlocks() {
         if (!disposeDeferredBlocks
                 || recordStore == null
-                || recordStore.getInMemoryFormat() != NATIVE) {
+                || (recordStore.getInMemoryFormat() != NATIVE
+                && !recordStore.getMapContainer().getMapConfig().isOffHeapStorageEnabled())) {
             return;
         }
 
@@ -98,6 +98,7 @@ import com.hazelcast.spi.properties.HazelcastProperty;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -107,6 +108,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -181,6 +183,20 @@ abstract class MapProxySupport<K, V>
     private static final HazelcastProperty MAP_PUT_ALL_BATCH_SIZE
             = new HazelcastProperty("hazelcast.map.put.all.batch.size", 0);
 
+    /**
+     * Defines the maximum number of batches of an {@link IMap#putAll(Map)} or
+     * {@link IMap#setAll(Map)} call in flight to a single member, see
+     * {@link #MAP_PUT_ALL_BATCH_SIZE}. Once a member has this many batches in
+     * flight, the call waits for the oldest one to complete before sending
+     * the next one, which bounds the memory used by the call.
+     * <p>
+     * The default of {@code 1} sends the batches of a member one by one.
+     * Larger values stream the batches, so the member applies a batch while
+     * the next ones are prepared and sent, which speeds up bulk loads.
+     */
+    private static final HazelcastProperty MAP_PUT_ALL_MAX_IN_FLIGHT_BATCHES
+            = new HazelcastProperty("hazelcast.map.put.all.max.in.flight.batches", 1);
+
     /**
      * Defines the initial size of entry arrays per partition for {@link IMap#putAll(Map)} and {@link IMap#setAll(Map)} calls.
      * <p>
@@ -227,6 +243,7 @@ abstract class MapProxySupport<K, V>
     private boolean failOnIndeterminateOperationState;
 
     private final int putAllBatchSize;
+    private final int putAllMaxInFlightBatches;
     private final float putAllInitialSizeFactor;
 
     protected MapProxySupport(String name, MapService service, NodeEngine nodeEngine, MapConfig mapConfig) {
@@ -250,6 +267,7 @@ abstract class MapProxySupport<K, V>
         this.statisticsEnabled = mapConfig.isStatisticsEnabled();
 
         this.putAllBatchSize = properties.getInteger(MAP_PUT_ALL_BATCH_SIZE);
+        this.putAllMaxInFlightBatches = Math.max(properties.getInteger(MAP_PUT_ALL_MAX_IN_FLIGHT_BATCHES), 1);
         this.putAllInitialSizeFactor = properties.getFloat(MAP_PUT_ALL_INITIAL_SIZE_FACTOR);
         // default value the same as in OperationService
         this.failOnIndeterminateOperationState = properties.getBoolean(FAIL_ON_INDETERMINATE_OPERATION_STATE);
@@ -1001,9 +1019,11 @@ abstract class MapProxySupport<K, V>
             // init counters for batching
             MutableLong[] counterPerMember = null;
             Address[] addresses = null;
+            Map<Address, Queue<InternalCompletableFuture<Void>>> inFlightBatches = null;
             if (useBatching) {
                 counterPerMember = new MutableLong[partitionCount];
                 addresses = new Address[partitionCount];
+                inFlightBatches = createHashMap(memberPartitionsMap.size());
                 for (Entry<Address, List<Integer>> addressListEntry : memberPartitionsMap.entrySet()) {
                     MutableLong counter = new MutableLong();
                     Address address = addressListEntry.getKey();
@@ -1033,9 +1053,22 @@ abstract class MapProxySupport<K, V>
                 if (useBatching) {
                     long currentSize = ++counterPerMember[partitionId].value;
                     if (currentSize % putAllBatchSize == 0) {
-                        List<Integer> partitions = memberPartitionsMap.get(addresses[partitionId]);
-                        invokePutAllOperation(addresses[partitionId], partitions, entriesPerPartition, true, triggerMapLoader)
-                                .get();
+                        Address address = addresses[partitionId];
+                        List<Integer> partitions = memberPartitionsMap.get(address);
+                        Queue<InternalCompletableFuture<Void>> memberBatches =
+                                inFlightBatches.computeIfAbsent(address, k -> new ArrayDeque<>());
+                        memberBatches.add(
+                                invokePutAllOperation(address, partitions, entriesPerPartition, true, triggerMapLoader));
+                        if (memberBatches.size() >= putAllMaxInFlightBatches) {
+                            memberBatches.poll().get();
+                        }
+                    }
+                }
+            }
+            if (inFlightBatches != null) {
+                for (Queue<InternalCompletableFuture<Void>> memberBatches : inFlightBatches.values()) {
+                    for (InternalCompletableFuture<Void> batch : memberBatches) {
+                        batch.get();
                     }
                 }
             }
@@ -17,6 +17,7 @@
 package com.hazelcast.map.impl.query;
 
 import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.aggregation.impl.ColumnarAccumulator;
 import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.util.collection.PartitionIdSet;
 import com.hazelcast.query.impl.QueryableEntry;
@@ -39,8 +40,12 @@ public class CallerRunsAccumulationExecutor implements AccumulationExecutor {
                                      PartitionIdSet partitionIds) {
         Aggregator resultAggregator = serializationService.toObject(serializationService.toData(aggregator));
         try {
-            for (QueryableEntry entry : entries) {
-                resultAggregator.accumulate(entry);
+            if (ColumnarAccumulator.isColumnar(resultAggregator)) {
+                new ColumnarAccumulator().accumulate(resultAggregator, entries.iterator());
+            } else {
+                for (QueryableEntry entry : entries) {
+                    resultAggregator.accumulate(entry);
+                }
             }
         } finally {
             resultAggregator.onAccumulationFinished();
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.map.impl.record.ColumnarRecord;
+import com.hazelcast.query.impl.CachedQueryEntry;
+import com.hazelcast.query.impl.getters.Extractors;
+
+/**
+ * A query entry of a {@link ColumnarRecord} which extracts the attributes
+ * of the value from the columns of the record. The value is only assembled
+ * when it is requested as a whole.
+ * <p>
+ * The entry reads the value from the record on demand, so it must be
+ * consumed by the partition operation that created it.
+ */
+public final class ColumnarQueryEntry<K, V> extends CachedQueryEntry<K, V> {
+
+    private ColumnarRecord columnarRecord;
+
+    ColumnarQueryEntry<K, V> init(InternalSerializationService ss, Data key, ColumnarRecord record,
+                                  Extractors extractors) {
+        super.init(ss, key, null, extractors);
+        setRecord(record);
+        this.columnarRecord = record;
+        return this;
+    }
+
+    @Override
+    public V getValue() {
+        assembleValue();
+        return super.getValue();
+    }
+
+    @Override
+    public Data getValueData() {
+        assembleValue();
+        return super.getValueData();
+    }
+
+    @Override
+    protected Object getTargetObject(boolean key) {
+        if (key) {
+            return super.getTargetObject(true);
+        }
+        if (valueData == null && valueObject == null && columnarRecord.isStoredInColumns()) {
+            return columnarRecord.getQueryTarget();
+        }
+        assembleValue();
+        return super.getTargetObject(false);
+    }
+
+    private void assembleValue() {
+        if (valueData == null && valueObject == null) {
+            valueData = columnarRecord.getValue();
+        }
+    }
+}
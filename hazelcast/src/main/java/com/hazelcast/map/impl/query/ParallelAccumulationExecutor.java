@@ -17,6 +17,7 @@
 package com.hazelcast.map.impl.query;
 
 import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.aggregation.impl.ColumnarAccumulator;
 import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.util.collection.PartitionIdSet;
 import com.hazelcast.internal.util.executor.ManagedExecutorService;
@@ -36,6 +37,9 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
  * Implementation of the {@link AccumulationExecutor} that runs the accumulation in a multi-threaded way.
  * Entries are split into chunks and each chunk is sent as a task to the underlying executor.
  * At the end the result is merged to a single AggregationResult.
+ * <p>
+ * If the aggregator is {@linkplain ColumnarAccumulator#isColumnar columnar}, a chunk is a whole
+ * column of entries whose attribute values are extracted and accumulated at once.
  */
 public class ParallelAccumulationExecutor implements AccumulationExecutor {
 
@@ -76,10 +80,11 @@ public class ParallelAccumulationExecutor implements AccumulationExecutor {
     protected Collection<Aggregator> accumulateParallel(Aggregator aggregator, Iterable<QueryableEntry> entries) {
         Collection<Future<Aggregator>> futures = new ArrayList<>();
 
+        int chunkSize = ColumnarAccumulator.isColumnar(aggregator) ? ColumnarAccumulator.BATCH_SIZE : THREAD_SPLIT_COUNT;
         List<QueryableEntry> buffer = new ArrayList<>();
         for (QueryableEntry entry : entries) {
             buffer.add(entry);
-            if (buffer.size() == THREAD_SPLIT_COUNT) {
+            if (buffer.size() == chunkSize) {
                 futures.add(executor.submit(new AccumulatePartitionCallable(clone(aggregator), buffer)));
                 buffer = new ArrayList<>();
             }
@@ -98,9 +103,9 @@ public class ParallelAccumulationExecutor implements AccumulationExecutor {
 
     private static final class AccumulatePartitionCallable implements Callable<Aggregator> {
         private final Aggregator aggregator;
-        private final Iterable<QueryableEntry> entries;
+        private final List<QueryableEntry> entries;
 
-        private AccumulatePartitionCallable(Aggregator aggregator, Iterable<QueryableEntry> entries) {
+        private AccumulatePartitionCallable(Aggregator aggregator, List<QueryableEntry> entries) {
             this.aggregator = aggregator;
             this.entries = entries;
         }
@@ -108,8 +113,12 @@ public class ParallelAccumulationExecutor implements AccumulationExecutor {
         @Override
         public Aggregator call() {
             try {
-                for (QueryableEntry entry : entries) {
-                    aggregator.accumulate(entry);
+                if (ColumnarAccumulator.isColumnar(aggregator)) {
+                    new ColumnarAccumulator().accumulate(aggregator, entries.iterator());
+                } else {
+                    for (QueryableEntry entry : entries) {
+                        aggregator.accumulate(entry);
+                    }
                 }
             } finally {
                 aggregator.onAccumulationFinished();
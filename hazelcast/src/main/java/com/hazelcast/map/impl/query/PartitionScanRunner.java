@@ -16,6 +16,7 @@
 
 package com.hazelcast.map.impl.query;
 
+import com.hazelcast.aggregation.impl.ColumnarAccumulator;
 import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.internal.cluster.ClusterService;
 import com.hazelcast.internal.iteration.IterationPointer;
@@ -30,6 +31,7 @@ import com.hazelcast.map.impl.MapService;
 import com.hazelcast.map.impl.MapServiceContext;
 import com.hazelcast.map.impl.PartitionContainer;
 import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
+import com.hazelcast.map.impl.record.ColumnarRecord;
 import com.hazelcast.map.impl.record.Record;
 import com.hazelcast.map.impl.recordstore.RecordStore;
 import com.hazelcast.query.Predicate;
@@ -88,6 +90,11 @@ public class PartitionScanRunner {
         Map.Entry<Integer, Map.Entry> nearestAnchorEntry =
                 pagingPredicate == null ? null : pagingPredicate.getNearestAnchorEntry();
 
+        if (recordStore.getInMemoryFormat() == InMemoryFormat.COLUMNAR) {
+            runColumnar(recordStore, predicate, pagingPredicate, nearestAnchorEntry, extractors, result);
+            return;
+        }
+
         recordStore.forEachAfterLoad(new BiConsumer<>() {
             LazyMapEntry queryEntry = new LazyMapEntry();
 
@@ -119,6 +126,44 @@ public class PartitionScanRunner {
         result.orderAndLimit(pagingPredicate, nearestAnchorEntry);
     }
 
+    /**
+     * Evaluates the predicate against the columns of the records. When the
+     * result consumes the matching entries without keeping them, as columnar
+     * aggregations and projections do, the entries keep reading the
+     * attributes from the columns. Otherwise the values of the matching
+     * entries are assembled, since the entries may outlive the scan.
+     */
+    private void runColumnar(RecordStore<Record> recordStore, Predicate predicate,
+                             PagingPredicateImpl pagingPredicate, Map.Entry<Integer, Map.Entry> nearestAnchorEntry,
+                             Extractors extractors, Result result) {
+        boolean consumedOnAdd = result instanceof QueryResult queryResult
+                ? !queryResult.isOrderAndLimitExpected()
+                // only the columnar aggregators are known not to keep the entries
+                : ColumnarAccumulator.isColumnar(((AggregationResult) result).getAggregator());
+
+        recordStore.forEachAfterLoad(new BiConsumer<>() {
+            ColumnarQueryEntry queryEntry = new ColumnarQueryEntry();
+
+            @Override
+            public void accept(Data key, Record record) {
+                ColumnarRecord columnarRecord = (ColumnarRecord) record;
+                queryEntry.init(ss, key, columnarRecord, extractors);
+                queryEntry.setMetadata(recordStore.getOrCreateMetadataStore().get(key));
+
+                if (predicate.apply(queryEntry)
+                        && compareAnchor(pagingPredicate, queryEntry, nearestAnchorEntry)) {
+                    if (consumedOnAdd) {
+                        result.add(queryEntry.init(ss, toHeapData(key), columnarRecord, extractors));
+                        queryEntry = new ColumnarQueryEntry();
+                    } else {
+                        result.add(new LazyMapEntry<>().init(ss, toHeapData(key), record.getValue(), extractors));
+                    }
+                }
+            }
+        }, false);
+        result.orderAndLimit(pagingPredicate, nearestAnchorEntry);
+    }
+
     /**
      * Executes the predicate on a partition chunk. The offset in the partition
      * is defined by the {@code pointers} and the soft limit is defined by the
@@ -92,6 +92,7 @@ public class QueryOperation extends AbstractNamedOperation implements ReadonlyOp
                 result = queryRunner.runIndexOrPartitionScanQueryOnOwnedPartitions(query);
                 return RESPONSE;
             case NATIVE:
+            case COLUMNAR:
                 boolean useGlobalIndex = getMapServiceContext().getMapContainer(getName()).shouldUseGlobalIndex();
 
                 if (useGlobalIndex) {
@@ -104,7 +105,8 @@ public class QueryOperation extends AbstractNamedOperation implements ReadonlyOp
                     }
                 }
 
-                // Offload query run on the partition threads.
+                // Offload query run on the partition threads,
+                // the columns of the COLUMNAR format are not thread-safe either.
                 BitSet queryPartitions = localPartitions();
                 if (query.getPartitionIdSet() != null) {
                     queryPartitions.and(query.getPartitionIdSet().bitSetCopy());
@@ -195,6 +195,14 @@ public class QueryResult implements Result<QueryResult>, Iterable<QueryResultRow
         rows.add(orderAndLimitExpected ? entry : convertEntryToRow(entry));
     }
 
+    /**
+     * Returns whether the entries are kept until {@link #completeConstruction}
+     * instead of being converted to rows when they are added.
+     */
+    boolean isOrderAndLimitExpected() {
+        return orderAndLimitExpected;
+    }
+
     @Override
     public QueryResult createSubResult() {
         return new QueryResult(iterationType, projection, ss, resultLimit, orderAndLimitExpected, mapStats);
@@ -44,6 +44,7 @@ import java.util.UUID;
 import java.util.function.Function;
 
 import static com.hazelcast.core.LifecycleEvent.LifecycleState.SHUTTING_DOWN;
+import static com.hazelcast.spi.properties.ClusterProperty.QUERY_CACHE_POPULATE_FETCH_SIZE;
 
 /**
  * Node side implementation of {@link QueryCacheContext}.
@@ -72,7 +73,8 @@ public class NodeQueryCacheContext implements QueryCacheContext {
         this.queryCacheConfigurator = new NodeQueryCacheConfigurator(nodeEngine, nodeEngine.getConfig(), queryCacheEventService);
         this.invokerWrapper = new NodeInvokerWrapper(nodeEngine.getOperationService());
         // init these in the end
-        this.subscriberContext = new NodeSubscriberContext(this);
+        this.subscriberContext = new NodeSubscriberContext(this,
+                nodeEngine.getProperties().getInteger(QUERY_CACHE_POPULATE_FETCH_SIZE));
         this.publisherContext = new DefaultPublisherContext(this, nodeEngine, new RegisterMapListenerFunction());
         flushPublishersOnNodeShutdown();
     }
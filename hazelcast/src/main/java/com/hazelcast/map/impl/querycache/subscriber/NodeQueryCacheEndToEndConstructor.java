@@ -17,12 +17,19 @@
 package com.hazelcast.map.impl.querycache.subscriber;
 
 import com.hazelcast.cluster.Member;
+import com.hazelcast.internal.iteration.IterationPointer;
 import com.hazelcast.internal.util.ExceptionUtil;
+import com.hazelcast.internal.util.IterationType;
+import com.hazelcast.map.impl.operation.MapFetchWithQueryOperation;
+import com.hazelcast.map.impl.query.Query;
 import com.hazelcast.map.impl.query.QueryResult;
+import com.hazelcast.map.impl.query.ResultSegment;
 import com.hazelcast.map.impl.querycache.InvokerWrapper;
 import com.hazelcast.map.impl.querycache.accumulator.AccumulatorInfo;
+import com.hazelcast.map.impl.querycache.event.QueryCacheEventData;
 import com.hazelcast.map.impl.querycache.subscriber.operation.MadePublishableOperation;
 import com.hazelcast.map.impl.querycache.subscriber.operation.PublisherCreateOperation;
+import com.hazelcast.map.impl.querycache.subscriber.operation.ReadAndResetAccumulatorOperation;
 import com.hazelcast.spi.impl.operationservice.Operation;
 
 import java.util.ArrayList;
@@ -42,41 +49,112 @@ import static java.util.concurrent.TimeUnit.MINUTES;
  */
 public class NodeQueryCacheEndToEndConstructor extends AbstractQueryCacheEndToEndConstructor {
 
-    public NodeQueryCacheEndToEndConstructor(QueryCacheRequest request) {
+    private final int populateFetchSize;
+
+    /**
+     * @param request           the query cache creation request
+     * @param populateFetchSize the maximum number of entries fetched at once
+     *                          while the query cache is populated partition by
+     *                          partition, not positive to populate it with a
+     *                          single query on each member
+     */
+    public NodeQueryCacheEndToEndConstructor(QueryCacheRequest request, int populateFetchSize) {
         super(request);
+        this.populateFetchSize = populateFetchSize;
     }
 
     @Override
     public void createPublisherAccumulator(AccumulatorInfo info, boolean urgent) {
+        boolean populate = info.isPopulate();
+        boolean populateByPartition = populate && populateFetchSize > 0;
+
         // create publishers and execute initial population query in one go
-        Collection<QueryResult> results = createPublishersAndGetQueryResults(info);
+        Collection<QueryResult> results = createPublishersAndGetQueryResults(info, populateByPartition);
         if (!isEmpty(results)) {
             prepopulate(queryCache, results);
         }
 
-        boolean populate = info.isPopulate();
-
         if (logger.isFinestEnabled()) {
             logger.finest("Pre population is %s", populate ? "enabled" : "disabled");
         }
 
+        if (populateByPartition) {
+            populateByPartition(info);
+        }
+
         if (populate) {
             madePublishable(info.getMapName(), info.getCacheId());
         }
     }
 
-    private Collection<QueryResult> createPublishersAndGetQueryResults(AccumulatorInfo info) {
+    private Collection<QueryResult> createPublishersAndGetQueryResults(AccumulatorInfo info, boolean populateByPartition) {
         InvokerWrapper invokerWrapper = context.getInvokerWrapper();
         Collection<Member> members = context.getMemberList();
 
         List<Future<QueryResult>> futures = new ArrayList<>(members.size());
         for (Member member : members) {
-            Future future = invokerWrapper.invokeOnTarget(new PublisherCreateOperation(info), member);
+            Future future = invokerWrapper.invokeOnTarget(new PublisherCreateOperation(info, populateByPartition), member);
             futures.add(future);
         }
         return returnWithDeadline(futures, OPERATION_WAIT_TIMEOUT_MINUTES, MINUTES);
     }
 
+    /**
+     * Populates the query cache by fetching the matching entries of one
+     * partition at a time in chunks of {@link #populateFetchSize} entries.
+     * <p>
+     * The publisher accumulators keep the events until they are made
+     * publishable. The events accumulated before a partition is fetched are
+     * dropped, since the fetched entries already reflect them, and the ones
+     * accumulated while it is fetched are applied over the fetched entries
+     * right after its last chunk is received. The events of a partition
+     * which happen after that are published once all partitions are
+     * populated.
+     */
+    private void populateByPartition(AccumulatorInfo info) {
+        IterationType iterationType = info.isIncludeValue() ? IterationType.ENTRY : IterationType.KEY;
+        Query query = Query.of().mapName(mapName).predicate(info.getPredicate()).iterationType(iterationType).build();
+        SubscriberAccumulatorHandler eventHandler
+                = new SubscriberAccumulatorHandler(info.isIncludeValue(), queryCache, context.getSerializationService());
+
+        int partitionCount = context.getPartitionCount();
+        for (int partitionId = 0; partitionId < partitionCount && !queryCache.reachedMaxCapacity(); partitionId++) {
+            readAndResetAccumulator(info, partitionId);
+
+            IterationPointer[] pointers = {new IterationPointer(Integer.MAX_VALUE, -1)};
+            do {
+                Operation operation = new MapFetchWithQueryOperation(mapName, pointers, populateFetchSize, query);
+                ResultSegment segment = await(context.getInvokerWrapper().invokeOnPartitionOwner(operation, partitionId));
+                QueryResult result = (QueryResult) segment.getResult();
+                if (!result.isEmpty()) {
+                    queryCache.prepopulate(result.iterator());
+                }
+                pointers = segment.getPointers();
+            } while (pointers[pointers.length - 1].getIndex() >= 0 && !queryCache.reachedMaxCapacity());
+
+            List<QueryCacheEventData> events = readAndResetAccumulator(info, partitionId);
+            if (events != null) {
+                for (QueryCacheEventData event : events) {
+                    eventHandler.handle(event, false);
+                }
+            }
+        }
+    }
+
+    private List<QueryCacheEventData> readAndResetAccumulator(AccumulatorInfo info, int partitionId) {
+        Operation operation = new ReadAndResetAccumulatorOperation(info.getMapName(), info.getCacheId());
+        return await(context.getInvokerWrapper().invokeOnPartitionOwner(operation, partitionId));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T await(Future future) {
+        try {
+            return (T) toObject(future.get(OPERATION_WAIT_TIMEOUT_MINUTES, MINUTES));
+        } catch (Exception e) {
+            throw ExceptionUtil.rethrow(e);
+        }
+    }
+
     private void madePublishable(String mapName, String cacheId) {
         InvokerWrapper invokerWrapper = context.getInvokerWrapper();
 
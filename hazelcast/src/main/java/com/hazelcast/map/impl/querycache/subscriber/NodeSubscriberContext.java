@@ -26,9 +26,22 @@ import com.hazelcast.map.impl.querycache.QueryCacheContext;
 public class NodeSubscriberContext extends AbstractSubscriberContext {
 
     private final SubscriberContextSupport subscriberContextSupport;
+    private final int populateFetchSize;
 
     public NodeSubscriberContext(QueryCacheContext context) {
+        this(context, -1);
+    }
+
+    /**
+     * @param context           the query cache context of this member
+     * @param populateFetchSize the maximum number of entries fetched at once
+     *                          while a query cache is populated partition by
+     *                          partition, not positive to populate it with a
+     *                          single query on each member
+     */
+    public NodeSubscriberContext(QueryCacheContext context, int populateFetchSize) {
         super(context);
+        this.populateFetchSize = populateFetchSize;
         subscriberContextSupport = new NodeSubscriberContextSupport(context.getSerializationService());
     }
 
@@ -39,6 +52,6 @@ public class NodeSubscriberContext extends AbstractSubscriberContext {
 
     @Override
     public QueryCacheEndToEndConstructor newEndToEndConstructor(QueryCacheRequest request) {
-        return new NodeQueryCacheEndToEndConstructor(request);
+        return new NodeQueryCacheEndToEndConstructor(request, populateFetchSize);
     }
 }
@@ -37,6 +37,7 @@ import com.hazelcast.map.impl.querycache.publisher.QueryCacheListenerRegistry;
 import com.hazelcast.map.impl.querycache.utils.QueryCacheUtil;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.impl.Versioned;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.spi.impl.operationservice.AbstractNamedOperation;
 import com.hazelcast.spi.impl.operationservice.Operation;
@@ -54,18 +55,22 @@ import java.util.Map;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
+import static com.hazelcast.internal.cluster.Versions.V6_0;
 import static com.hazelcast.internal.util.FutureUtil.returnWithDeadline;
 
 /**
  * An idempotent create operation which creates
  * publisher side functionality. And also responsible
- * for running initial snapshot creation phase.
+ * for running initial snapshot creation phase, unless
+ * the subscriber populates the query cache partition
+ * by partition.
  */
-public class PublisherCreateOperation extends AbstractNamedOperation {
+public class PublisherCreateOperation extends AbstractNamedOperation implements Versioned {
 
     private static final long ACCUMULATOR_READ_OPERATION_TIMEOUT_MINUTES = 5;
 
     private AccumulatorInfo info;
+    private boolean populateByPartition;
 
     private transient QueryResult queryResult;
 
@@ -73,8 +78,21 @@ public class PublisherCreateOperation extends AbstractNamedOperation {
     }
 
     public PublisherCreateOperation(AccumulatorInfo info) {
+        this(info, false);
+    }
+
+    /**
+     * @param info                the accumulator info of the query cache
+     * @param populateByPartition {@code true} if the subscriber populates the
+     *                            query cache partition by partition, in which
+     *                            case no snapshot is created, the accumulators
+     *                            only keep the events until they are made
+     *                            publishable
+     */
+    public PublisherCreateOperation(AccumulatorInfo info, boolean populateByPartition) {
         super(info.getMapName());
         this.info = info;
+        this.populateByPartition = populateByPartition;
     }
 
     @Override
@@ -84,7 +102,7 @@ public class PublisherCreateOperation extends AbstractNamedOperation {
             info.setPublishable(false);
         }
         init();
-        if (populate) {
+        if (populate && !populateByPartition) {
             this.queryResult = createSnapshot();
         } else {
             this.queryResult = null;
@@ -95,12 +113,18 @@ public class PublisherCreateOperation extends AbstractNamedOperation {
     protected void writeInternal(ObjectDataOutput out) throws IOException {
         super.writeInternal(out);
         out.writeObject(info);
+        if (out.getVersion().isGreaterOrEqual(V6_0)) {
+            out.writeBoolean(populateByPartition);
+        }
     }
 
     @Override
     protected void readInternal(ObjectDataInput in) throws IOException {
         super.readInternal(in);
         info = in.readObject();
+        if (in.getVersion().isGreaterOrEqual(V6_0)) {
+            populateByPartition = in.readBoolean();
+        }
     }
 
     @Override
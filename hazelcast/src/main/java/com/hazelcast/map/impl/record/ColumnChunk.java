@@ -0,0 +1,588 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.internal.serialization.impl.compact.CompactGenericRecord;
+import com.hazelcast.internal.serialization.impl.compact.DeserializedGenericRecord;
+import com.hazelcast.internal.serialization.impl.compact.FieldDescriptor;
+import com.hazelcast.internal.serialization.impl.compact.Schema;
+import com.hazelcast.nio.serialization.FieldKind;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.util.JVMUtil.OBJECT_HEADER_SIZE;
+import static com.hazelcast.internal.util.JVMUtil.REFERENCE_COST_IN_BYTES;
+
+/**
+ * The values of all records of a single Compact {@link Schema} in a record
+ * store, laid out column by column.
+ * <p>
+ * Each field of the schema is kept in its own column. Fields of the
+ * fixed-size primitive kinds are kept in primitive arrays, all the other
+ * fields are kept in object arrays holding the deserialized field values.
+ * A record owns a row of the chunk; rows of released records are reused.
+ * <p>
+ * Schemas with nested Compact fields are not supported, since the nested
+ * records would have to be kept in their serialized form anyway.
+ * <p>
+ * Like the rest of the record store, a chunk must only be accessed from the
+ * partition thread.
+ */
+final class ColumnChunk {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int ARRAY_HEADER_SIZE_IN_BYTES = 16;
+    private static final int COMPOSITE_VALUE_COST = 64;
+
+    private final Schema schema;
+    private final String[] fieldNames;
+    private final Map<String, Column> columns;
+    private final ObjectColumn[] objectColumns;
+    private final long fixedRowCost;
+
+    private int capacity = INITIAL_CAPACITY;
+    private int rowCount;
+    private int[] freeRows = new int[INITIAL_CAPACITY];
+    private int freeRowCount;
+
+    ColumnChunk(Schema schema) {
+        this.schema = schema;
+        this.fieldNames = schema.getFieldNames().toArray(new String[0]);
+        Arrays.sort(fieldNames);
+        this.columns = new HashMap<>(schema.getFieldCount() * 2);
+        List<ObjectColumn> objectColumns = new ArrayList<>();
+        long fixedRowCost = 0;
+        for (FieldDescriptor field : schema.getFields()) {
+            Column column = newColumn(field.getKind(), capacity);
+            columns.put(field.getFieldName(), column);
+            if (column instanceof ObjectColumn objectColumn) {
+                objectColumns.add(objectColumn);
+            } else {
+                fixedRowCost += column.cost();
+            }
+        }
+        this.objectColumns = objectColumns.toArray(new ObjectColumn[0]);
+        this.fixedRowCost = fixedRowCost;
+    }
+
+    /**
+     * Returns whether the values of the given schema can be stored in columns.
+     */
+    static boolean supports(Schema schema) {
+        for (FieldDescriptor field : schema.getFields()) {
+            FieldKind kind = field.getKind();
+            if (kind == FieldKind.COMPACT || kind == FieldKind.ARRAY_OF_COMPACT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    Schema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Copies the fields of the given record into a free row.
+     *
+     * @return the row the record was copied to
+     */
+    int append(CompactGenericRecord record) {
+        int row;
+        if (freeRowCount > 0) {
+            row = freeRows[--freeRowCount];
+        } else {
+            if (rowCount == capacity) {
+                capacity *= 2;
+                for (Column column : columns.values()) {
+                    column.grow(capacity);
+                }
+            }
+            row = rowCount++;
+        }
+        for (Map.Entry<String, Column> entry : columns.entrySet()) {
+            entry.getValue().write(row, record, entry.getKey());
+        }
+        return row;
+    }
+
+    void release(int row) {
+        for (Column column : columns.values()) {
+            column.clear(row);
+        }
+        if (freeRowCount == freeRows.length) {
+            freeRows = Arrays.copyOf(freeRows, freeRows.length * 2);
+        }
+        freeRows[freeRowCount++] = row;
+    }
+
+    /**
+     * Returns the value of a single field of the given row.
+     */
+    Object read(int row, String fieldName) {
+        Column column = columns.get(fieldName);
+        return column == null ? null : column.read(row);
+    }
+
+    /**
+     * Returns a generic record view of the given row which reads the fields
+     * from the columns on demand.
+     */
+    CompactGenericRecord view(int row) {
+        return new DeserializedGenericRecord(schema, new RowView(row));
+    }
+
+    /**
+     * Returns the number of rows used by records.
+     */
+    int size() {
+        return rowCount - freeRowCount;
+    }
+
+    /**
+     * Returns the heap cost of the given row in bytes, including an estimate
+     * of the objects referenced by the fields which are not stored in
+     * primitive arrays.
+     */
+    long rowCost(int row) {
+        long cost = fixedRowCost;
+        for (ObjectColumn column : objectColumns) {
+            cost += column.cost(row);
+        }
+        return cost;
+    }
+
+    /**
+     * Estimates the heap cost of a deserialized field value in bytes.
+     */
+    static long valueCost(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String string) {
+            // the String and its backing array, assuming two bytes per character
+            return OBJECT_HEADER_SIZE + INT_SIZE_IN_BYTES + REFERENCE_COST_IN_BYTES
+                    + ARRAY_HEADER_SIZE_IN_BYTES + (long) string.length() * Character.BYTES;
+        }
+        if (value instanceof Object[] array) {
+            long cost = ARRAY_HEADER_SIZE_IN_BYTES + (long) array.length * REFERENCE_COST_IN_BYTES;
+            for (Object element : array) {
+                cost += valueCost(element);
+            }
+            return cost;
+        }
+        if (value.getClass().isArray()) {
+            return ARRAY_HEADER_SIZE_IN_BYTES + (long) Array.getLength(value) * primitiveSize(value.getClass());
+        }
+        if (value instanceof BigDecimal decimal) {
+            // the BigDecimal, its BigInteger and the magnitude of the BigInteger
+            return COMPOSITE_VALUE_COST + decimal.unscaledValue().bitLength() / Byte.SIZE;
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return OBJECT_HEADER_SIZE + Long.BYTES;
+        }
+        // the date and time values, which consist of a few small objects
+        return COMPOSITE_VALUE_COST;
+    }
+
+    private static int primitiveSize(Class<?> arrayClass) {
+        Class<?> componentType = arrayClass.getComponentType();
+        if (componentType == long.class || componentType == double.class) {
+            return Long.BYTES;
+        } else if (componentType == int.class || componentType == float.class) {
+            return Integer.BYTES;
+        } else if (componentType == short.class || componentType == char.class) {
+            return Short.BYTES;
+        }
+        return Byte.BYTES;
+    }
+
+    private static Column newColumn(FieldKind kind, int capacity) {
+        return switch (kind) {
+            case BOOLEAN -> new BooleanColumn();
+            case INT8 -> new Int8Column(capacity);
+            case INT16 -> new Int16Column(capacity);
+            case INT32 -> new Int32Column(capacity);
+            case INT64 -> new Int64Column(capacity);
+            case FLOAT32 -> new Float32Column(capacity);
+            case FLOAT64 -> new Float64Column(capacity);
+            default -> new ObjectColumn(capacity);
+        };
+    }
+
+    /**
+     * A sorted, read-only map of the fields of a row, which is how a
+     * {@link DeserializedGenericRecord} expects its fields.
+     */
+    private final class RowView extends AbstractMap<String, Object> implements SortedMap<String, Object> {
+
+        private final int row;
+
+        RowView(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public Object get(Object key) {
+            return key instanceof String fieldName ? read(row, fieldName) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String fieldName && schema.hasField(fieldName);
+        }
+
+        @Override
+        public int size() {
+            return fieldNames.length;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new Iterator<>() {
+                        private int index;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < fieldNames.length;
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            String fieldName = fieldNames[index++];
+                            return new SimpleImmutableEntry<>(fieldName, read(row, fieldName));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return fieldNames.length;
+                }
+            };
+        }
+
+        @Override
+        public Comparator<? super String> comparator() {
+            return null;
+        }
+
+        @Override
+        public SortedMap<String, Object> subMap(String fromKey, String toKey) {
+            return new TreeMap<>(this).subMap(fromKey, toKey);
+        }
+
+        @Override
+        public SortedMap<String, Object> headMap(String toKey) {
+            return new TreeMap<>(this).headMap(toKey);
+        }
+
+        @Override
+        public SortedMap<String, Object> tailMap(String fromKey) {
+            return new TreeMap<>(this).tailMap(fromKey);
+        }
+
+        @Override
+        public String firstKey() {
+            if (fieldNames.length == 0) {
+                throw new NoSuchElementException();
+            }
+            return fieldNames[0];
+        }
+
+        @Override
+        public String lastKey() {
+            if (fieldNames.length == 0) {
+                throw new NoSuchElementException();
+            }
+            return fieldNames[fieldNames.length - 1];
+        }
+    }
+
+    private abstract static class Column {
+
+        abstract void write(int row, CompactGenericRecord record, String fieldName);
+
+        abstract Object read(int row);
+
+        abstract void grow(int capacity);
+
+        /**
+         * Returns the heap cost of a single value of the column in bytes,
+         * not counting the objects it references.
+         */
+        abstract int cost();
+
+        void clear(int row) {
+        }
+    }
+
+    private static final class BooleanColumn extends Column {
+        private final BitSet values = new BitSet();
+
+        @Override
+        void write(int row, CompactGenericRecord record, String fieldName) {
+            values.set(row, record.getBoolean(fieldName));
+        }
+
+        @Override
+        Object read(int row) {
+            return values.get(row);
+        }
+
+        @Override
+        void grow(int capacity) {
+            // BitSet grows on its own
+        }
+
+        @Override
+        int cost() {
+            return 1;
+        }
+    }
+
+    private static final class Int8Column extends Column {
+        private byte[] values;
+
+        Int8Column(int capacity) {
+            values = new byte[capacity];
+        }
+
+        @Override
+        void write(int row, CompactGenericRecord record, String fieldName) {
+            values[row] = record.getInt8(fieldName);
+        }
+
+        @Override
+        Object read(int row) {
+            return values[row];
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        int cost() {
+            return Byte.BYTES;
+        }
+    }
+
+    private static final class Int16Column extends Column {
+        private short[] values;
+
+        Int16Column(int capacity) {
+            values = new short[capacity];
+        }
+
+        @Override
+        void write(int row, CompactGenericRecord record, String fieldName) {
+            values[row] = record.getInt16(fieldName);
+        }
+
+        @Override
+        Object read(int row) {
+            return values[row];
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        int cost() {
+            return Short.BYTES;
+        }
+    }
+
+    private static final class Int32Column extends Column {
+        private int[] values;
+
+        Int32Column(int capacity) {
+            values = new int[capacity];
+        }
+
+        @Override
+        void write(int row, CompactGenericRecord record, String fieldName) {
+            values[row] = record.getInt32(fieldName);
+        }
+
+        @Override
+        Object read(int row) {
+            return values[row];
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        int cost() {
+            return Integer.BYTES;
+        }
+    }
+
+    private static final class Int64Column extends Column {
+        private long[] values;
+
+        Int64Column(int capacity) {
+            values = new long[capacity];
+        }
+
+        @Override
+        void write(int row, CompactGenericRecord record, String fieldName) {
+            values[row] = record.getInt64(fieldName);
+        }
+
+        @Override
+        Object read(int row) {
+            return values[row];
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        int cost() {
+            return Long.BYTES;
+        }
+    }
+
+    private static final class Float32Column extends Column {
+        private float[] values;
+
+        Float32Column(int capacity) {
+            values = new float[capacity];
+        }
+
+        @Override
+        void write(int row, CompactGenericRecord record, String fieldName) {
+            values[row] = record.getFloat32(fieldName);
+        }
+
+        @Override
+        Object read(int row) {
+            return values[row];
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        int cost() {
+            return Float.BYTES;
+        }
+    }
+
+    private static final class Float64Column extends Column {
+        private double[] values;
+
+        Float64Column(int capacity) {
+            values = new double[capacity];
+        }
+
+        @Override
+        void write(int row, CompactGenericRecord record, String fieldName) {
+            values[row] = record.getFloat64(fieldName);
+        }
+
+        @Override
+        Object read(int row) {
+            return values[row];
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        int cost() {
+            return Double.BYTES;
+        }
+    }
+
+    /**
+     * Keeps the deserialized values of the nullable, variable-size and
+     * array fields.
+     */
+    private static final class ObjectColumn extends Column {
+        private Object[] values;
+
+        ObjectColumn(int capacity) {
+            values = new Object[capacity];
+        }
+
+        @Override
+        void write(int row, CompactGenericRecord record, String fieldName) {
+            values[row] = record.readAny(fieldName);
+        }
+
+        @Override
+        Object read(int row) {
+            return values[row];
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        int cost() {
+            return REFERENCE_COST_IN_BYTES;
+        }
+
+        long cost(int row) {
+            return REFERENCE_COST_IN_BYTES + valueCost(values[row]);
+        }
+
+        @Override
+        void clear(int row) {
+            values[row] = null;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
+import com.hazelcast.internal.serialization.impl.compact.CompactGenericRecord;
+import com.hazelcast.internal.serialization.impl.compact.Schema;
+import com.hazelcast.internal.util.collection.Long2ObjectHashMap;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
+
+/**
+ * Keeps the values of the {@link ColumnarRecord}s of a single record store
+ * in one {@link ColumnChunk} per Compact schema.
+ * <p>
+ * Values which are not Compact serialized, or whose schema can't be stored
+ * in columns, are left in their serialized form in the records.
+ * <p>
+ * Like the rest of the record store, this store must only be accessed from
+ * the partition thread.
+ */
+public class ColumnStore {
+
+    private final InternalSerializationService serializationService;
+    private final Long2ObjectHashMap<ColumnChunk> chunks = new Long2ObjectHashMap<>();
+    private final Set<Long> unsupportedSchemaIds = new HashSet<>();
+
+    public ColumnStore(InternalSerializationService serializationService) {
+        this.serializationService = serializationService;
+    }
+
+    /**
+     * Returns the Compact generic record of the given value if the value can
+     * be stored in columns, {@code null} otherwise.
+     */
+    CompactGenericRecord toColumnarRow(Data value) {
+        if (value == null || !value.isCompact()) {
+            return null;
+        }
+        InternalGenericRecord record;
+        try {
+            record = serializationService.readAsInternalGenericRecord(value);
+        } catch (IOException e) {
+            throw rethrow(e);
+        }
+        return record instanceof CompactGenericRecord compactRecord
+                && chunkOf(compactRecord.getSchema()) != null ? compactRecord : null;
+    }
+
+    /**
+     * Returns the chunk of the given schema, creating it if needed, or
+     * {@code null} if the schema can't be stored in columns.
+     */
+    ColumnChunk chunkOf(Schema schema) {
+        long schemaId = schema.getSchemaId();
+        ColumnChunk chunk = chunks.get(schemaId);
+        if (chunk != null || unsupportedSchemaIds.contains(schemaId)) {
+            return chunk;
+        }
+        if (!ColumnChunk.supports(schema)) {
+            unsupportedSchemaIds.add(schemaId);
+            return null;
+        }
+        chunk = new ColumnChunk(schema);
+        chunks.put(schemaId, chunk);
+        return chunk;
+    }
+
+    Data toData(ColumnChunk chunk, int row) {
+        return serializationService.toData(chunk.view(row));
+    }
+
+    /**
+     * Drops all chunks. Records which still reference a dropped chunk keep
+     * reading their values from it: new values are only appended to the
+     * chunks of this store, so the rows a dropped chunk releases are never
+     * handed out again.
+     */
+    public void clear() {
+        chunks.clear();
+    }
+
+    /**
+     * Returns the number of values stored in columns.
+     */
+    public int size() {
+        int size = 0;
+        for (ColumnChunk chunk : chunks.values()) {
+            size += chunk.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the number of schemas which have a chunk in this store.
+     */
+    public int chunkCount() {
+        return chunks.size();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.compact.CompactGenericRecord;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.util.JVMUtil.REFERENCE_COST_IN_BYTES;
+
+/**
+ * A record of a map with {@link com.hazelcast.config.InMemoryFormat#COLUMNAR}
+ * in-memory format, which keeps its value in a row of a {@link ColumnChunk}.
+ * <p>
+ * Records start detached, holding their value in serialized form, and are
+ * attached to the {@link ColumnStore} of the record store when they are put
+ * into its storage; from then on, updates of the value are written to the
+ * columns. Values which can't be stored in columns are kept in serialized
+ * form, as in {@link DataRecordWithStats}.
+ * <p>
+ * {@link #getValue()} assembles the serialized value from the columns on
+ * every call, queries should use {@link #getQueryTarget()} instead, which
+ * only reads the fields the query needs. Partition scans evaluate the
+ * predicates, aggregations and projections this way.
+ */
+public class ColumnarRecord extends AbstractRecord<Data> {
+
+    private static final int NUMBER_OF_REFERENCES = 3;
+
+    private ColumnStore columnStore;
+    private ColumnChunk chunk;
+    private int row = -1;
+    // the value if it is not stored in columns
+    private Data value;
+
+    ColumnarRecord(Data value) {
+        this.value = value;
+    }
+
+    /**
+     * Moves the value of this record into the columns of the given store.
+     */
+    public void attach(ColumnStore columnStore) {
+        if (this.columnStore == columnStore) {
+            return;
+        }
+        Data detachedValue = getValue();
+        releaseRow();
+        this.columnStore = columnStore;
+        store(detachedValue);
+    }
+
+    /**
+     * Moves the value of this record out of the columns, making the record
+     * independent of its store. Called when the record is removed from its
+     * storage, since the row of the record can be reused afterwards.
+     */
+    public void detach() {
+        if (columnStore == null) {
+            return;
+        }
+        value = getValue();
+        releaseRow();
+        columnStore = null;
+    }
+
+    public boolean isStoredInColumns() {
+        return chunk != null;
+    }
+
+    /**
+     * Returns the object to evaluate query attributes against: a generic
+     * record view which reads the fields from the columns on demand if the
+     * value is stored in columns, otherwise the serialized value.
+     */
+    public Object getQueryTarget() {
+        return chunk != null ? chunk.view(row) : value;
+    }
+
+    @Override
+    public Data getValue() {
+        return chunk != null ? columnStore.toData(chunk, row) : value;
+    }
+
+    @Override
+    public void setValue(Data value) {
+        if (columnStore == null) {
+            this.value = value;
+            return;
+        }
+        releaseRow();
+        store(value);
+    }
+
+    @Override
+    public long getCost() {
+        long valueCost;
+        if (chunk != null) {
+            valueCost = chunk.rowCost(row);
+        } else {
+            valueCost = value == null ? 0L : value.getHeapCost();
+        }
+        return super.getCost() + NUMBER_OF_REFERENCES * REFERENCE_COST_IN_BYTES + INT_SIZE_IN_BYTES + valueCost;
+    }
+
+    private void store(Data newValue) {
+        CompactGenericRecord columnarRow = columnStore.toColumnarRow(newValue);
+        if (columnarRow == null) {
+            value = newValue;
+            return;
+        }
+        chunk = columnStore.chunkOf(columnarRow.getSchema());
+        row = chunk.append(columnarRow);
+        value = null;
+    }
+
+    private void releaseRow() {
+        if (chunk != null) {
+            chunk.release(row);
+            chunk = null;
+            row = -1;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+
+        ColumnarRecord that = (ColumnarRecord) o;
+        return getValue().equals(that.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        result = 31 * result + getValue().hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnarRecord{"
+                + "value=" + getValue()
+                + ", storedInColumns=" + isStoredInColumns()
+                + ", " + super.toString()
+                + "} ";
+    }
+}
@@ -0,0 +1,480 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.MemoryAllocator;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+
+import static com.hazelcast.internal.memory.MemoryAllocator.NULL_ADDRESS;
+import static com.hazelcast.internal.util.TimeStripUtil.recomputeWithBaseTime;
+import static com.hazelcast.internal.util.TimeStripUtil.stripBaseTime;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.DATA_RECORD_WITH_STATS_READER_WRITER;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.SIMPLE_DATA_RECORD_WITH_LFU_EVICTION_READER_WRITER;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.SIMPLE_DATA_RECORD_WITH_LRU_EVICTION_READER_WRITER;
+
+/**
+ * A {@link Record} whose key, value and metadata live in native memory.
+ * <p>
+ * Instances are flyweights over a native record block laid out as follows:
+ * <pre>
+ * +------------------+----------------------------------------------+
+ * | next       (8)   | address of the next record in the hash chain |
+ * | value addr (8)   | address of the value payload block           |
+ * | value size (4)   | size of the value payload                    |
+ * | key size   (4)   | size of the key payload                      |
+ * | version    (4)   |                                              |
+ * | hits       (4)   |                                              |
+ * | creation   (4)   | all times are stored as seconds relative     |
+ * | access     (4)   | to {@link com.hazelcast.internal.util        |
+ * | update     (4)   | .TimeStripUtil#EPOCH_TIME_MILLIS}            |
+ * | stored     (4)   |                                              |
+ * | key payload ...  |                                              |
+ * +------------------+----------------------------------------------+
+ * </pre>
+ * A record created by {@link OffHeapRecordFactory} starts <i>detached</i>:
+ * its state is kept on-heap until the owning storage
+ * {@link #attach(Owner, Data, long) attaches} it to a native block. From
+ * then on all reads and writes go through to native memory, so mutations
+ * made by callers holding this instance are visible to every other
+ * flyweight over the same block.
+ * <p>
+ * The block layout is the same for every record type, but like the on-heap
+ * records only the metadata of the {@link #getMatchingRecordReaderWriter()
+ * record type} selected for the map is maintained, the other fields read as
+ * {@link Record#UNSET}.
+ * <p>
+ * The owner frees the blocks of removed records only after the running
+ * operation is done with them. Once the owner freed any block, a flyweight
+ * checks that its block is still the one stored for its key before
+ * touching it again, and fails with {@link IllegalStateException} if it
+ * is not, so a flyweight kept for too long never reads or writes freed
+ * memory.
+ * <p>
+ * Values are always returned as on-heap copies. Like all records, instances
+ * must only be used by the partition thread owning them.
+ */
+@SuppressWarnings("checkstyle:methodcount")
+public final class OffHeapRecord implements Record<Data> {
+
+    /**
+     * Offset of the pointer to the next record in the same hash chain
+     */
+    public static final int NEXT_OFFSET = 0;
+    /**
+     * Offset of the value block address
+     */
+    public static final int VALUE_ADDRESS_OFFSET = 8;
+    /**
+     * Offset of the value size
+     */
+    public static final int VALUE_SIZE_OFFSET = 16;
+    /**
+     * Offset of the key size
+     */
+    public static final int KEY_SIZE_OFFSET = 20;
+    /**
+     * Offset of the inlined key payload, also the size of the record header
+     */
+    public static final int KEY_OFFSET = 48;
+
+    private static final int VERSION_OFFSET = 24;
+    private static final int HITS_OFFSET = 28;
+    private static final int CREATION_TIME_OFFSET = 32;
+    private static final int LAST_ACCESS_TIME_OFFSET = 36;
+    private static final int LAST_UPDATE_TIME_OFFSET = 40;
+    private static final int LAST_STORED_TIME_OFFSET = 44;
+
+    private final RecordReaderWriter type;
+    private Owner owner;
+    private MemoryAccessor mem;
+    private MemoryAllocator malloc;
+    private Data key;
+    private long address = NULL_ADDRESS;
+    private long freeEpoch;
+    private DataRecordWithStats detached;
+
+    OffHeapRecord(Data value, RecordReaderWriter type) {
+        this.type = type;
+        this.detached = new DataRecordWithStats(value);
+    }
+
+    /**
+     * Creates a flyweight over the native record block currently stored
+     * for the given key.
+     */
+    public OffHeapRecord(Owner owner, Data key, long address, RecordReaderWriter type) {
+        assert address != NULL_ADDRESS;
+        this.type = type;
+        bind(owner, key, address);
+    }
+
+    /**
+     * @return the size of the native record block for a key of the given size
+     */
+    public static long recordBlockSize(int keySize) {
+        return KEY_OFFSET + keySize;
+    }
+
+    /**
+     * Frees the value block of the given record block. The record block
+     * itself is owned and freed by the storage.
+     */
+    public static void freeValue(long recordAddress, MemoryAccessor mem, MemoryAllocator malloc) {
+        long valueAddress = mem.getLong(recordAddress + VALUE_ADDRESS_OFFSET);
+        if (valueAddress != NULL_ADDRESS) {
+            malloc.free(valueAddress, mem.getInt(recordAddress + VALUE_SIZE_OFFSET));
+            mem.putLong(recordAddress + VALUE_ADDRESS_OFFSET, NULL_ADDRESS);
+            mem.putInt(recordAddress + VALUE_SIZE_OFFSET, 0);
+        }
+    }
+
+    /**
+     * @return the address of the native record block or {@link MemoryAllocator#NULL_ADDRESS}
+     * if this record is not attached yet
+     */
+    public long address() {
+        return address;
+    }
+
+    public boolean isAttached() {
+        return address != NULL_ADDRESS;
+    }
+
+    /**
+     * Moves the state of this record into the given freshly allocated
+     * (zeroed) native record block. The key must already be written into
+     * the block by the caller.
+     */
+    public void attach(Owner owner, Data key, long recordAddress) {
+        assert !isAttached() : "Record is already attached to " + address;
+        DataRecordWithStats state = detached;
+        bind(owner, key, recordAddress);
+        this.detached = null;
+        copyFrom(state);
+    }
+
+    /**
+     * Copies value and metadata of the given record into this attached record.
+     */
+    public void copyFrom(Record<?> from) {
+        assert isAttached();
+        setValue((Data) from.getValue());
+        setVersion(from.getVersion());
+        setHits(from.getHits());
+        setRawCreationTime(from.getRawCreationTime());
+        setRawLastAccessTime(from.getRawLastAccessTime());
+        setRawLastUpdateTime(from.getRawLastUpdateTime());
+        setRawLastStoredTime(from.getRawLastStoredTime());
+    }
+
+    @Override
+    public Data getValue() {
+        if (!isAttached()) {
+            return detached.getValue();
+        }
+        long base = base();
+        long valueAddress = mem.getLong(base + VALUE_ADDRESS_OFFSET);
+        if (valueAddress == NULL_ADDRESS) {
+            return null;
+        }
+        byte[] payload = new byte[mem.getInt(base + VALUE_SIZE_OFFSET)];
+        mem.copyToByteArray(valueAddress, payload, 0, payload.length);
+        return new HeapData(payload);
+    }
+
+    @Override
+    public void setValue(Data value) {
+        if (!isAttached()) {
+            detached.setValue(value);
+            return;
+        }
+        long base = base();
+        if (value == null) {
+            freeValue(base, mem, malloc);
+            return;
+        }
+        long valueAddress = mem.getLong(base + VALUE_ADDRESS_OFFSET);
+        int currentSize = mem.getInt(base + VALUE_SIZE_OFFSET);
+        byte[] payload = value.toByteArray();
+        int newSize = payload.length;
+        if (valueAddress == NULL_ADDRESS) {
+            valueAddress = malloc.allocate(newSize);
+        } else if (currentSize != newSize) {
+            valueAddress = malloc.reallocate(valueAddress, currentSize, newSize);
+        }
+        mem.copyFromByteArray(payload, 0, valueAddress, newSize);
+        mem.putLong(base + VALUE_ADDRESS_OFFSET, valueAddress);
+        mem.putInt(base + VALUE_SIZE_OFFSET, newSize);
+    }
+
+    /**
+     * Returns the number of native bytes occupied by this
+     * record: the record block, inlined key and value block.
+     */
+    @Override
+    public long getCost() {
+        if (!isAttached()) {
+            return detached.getCost();
+        }
+        long base = base();
+        return recordBlockSize(mem.getInt(base + KEY_SIZE_OFFSET)) + mem.getInt(base + VALUE_SIZE_OFFSET);
+    }
+
+    public int getKeySize() {
+        return isAttached() ? mem.getInt(base() + KEY_SIZE_OFFSET) : 0;
+    }
+
+    @Override
+    public int getVersion() {
+        return isAttached() ? mem.getInt(base() + VERSION_OFFSET) : detached.getVersion();
+    }
+
+    @Override
+    public void setVersion(int version) {
+        if (isAttached()) {
+            mem.putInt(base() + VERSION_OFFSET, version);
+        } else {
+            detached.setVersion(version);
+        }
+    }
+
+    @Override
+    public long getLastAccessTime() {
+        return tracksAccessTime() ? recomputeWithBaseTime(getRawLastAccessTime()) : UNSET;
+    }
+
+    @Override
+    public void setLastAccessTime(long lastAccessTime) {
+        setRawLastAccessTime(stripBaseTime(lastAccessTime));
+    }
+
+    @Override
+    public long getLastUpdateTime() {
+        return tracksStats() ? recomputeWithBaseTime(getRawLastUpdateTime()) : UNSET;
+    }
+
+    @Override
+    public void setLastUpdateTime(long lastUpdateTime) {
+        setRawLastUpdateTime(stripBaseTime(lastUpdateTime));
+    }
+
+    @Override
+    public long getCreationTime() {
+        return tracksStats() ? recomputeWithBaseTime(getRawCreationTime()) : UNSET;
+    }
+
+    @Override
+    public void setCreationTime(long creationTime) {
+        setRawCreationTime(stripBaseTime(creationTime));
+    }
+
+    @Override
+    public long getLastStoredTime() {
+        if (!tracksStats()) {
+            return UNSET;
+        }
+        int lastStoredTime = getRawLastStoredTime();
+        if (lastStoredTime == UNSET) {
+            return 0L;
+        }
+        return recomputeWithBaseTime(lastStoredTime);
+    }
+
+    @Override
+    public void setLastStoredTime(long lastStoredTime) {
+        setRawLastStoredTime(stripBaseTime(lastStoredTime));
+    }
+
+    @Override
+    public int getHits() {
+        return tracksHits()
+                ? (isAttached() ? mem.getInt(base() + HITS_OFFSET) : detached.getHits()) : UNSET;
+    }
+
+    @Override
+    public void setHits(int hits) {
+        if (!tracksHits()) {
+            return;
+        }
+        if (isAttached()) {
+            mem.putInt(base() + HITS_OFFSET, hits);
+        } else {
+            detached.setHits(hits);
+        }
+    }
+
+    @Override
+    public RecordReaderWriter getMatchingRecordReaderWriter() {
+        return type;
+    }
+
+    @Override
+    public int getRawCreationTime() {
+        return tracksStats()
+                ? (isAttached() ? mem.getInt(base() + CREATION_TIME_OFFSET) : detached.getRawCreationTime()) : UNSET;
+    }
+
+    @Override
+    public void setRawCreationTime(int creationTime) {
+        if (!tracksStats()) {
+            return;
+        }
+        if (isAttached()) {
+            mem.putInt(base() + CREATION_TIME_OFFSET, creationTime);
+        } else {
+            detached.setRawCreationTime(creationTime);
+        }
+    }
+
+    @Override
+    public int getRawLastAccessTime() {
+        return tracksAccessTime()
+                ? (isAttached() ? mem.getInt(base() + LAST_ACCESS_TIME_OFFSET) : detached.getRawLastAccessTime()) : UNSET;
+    }
+
+    @Override
+    public void setRawLastAccessTime(int lastAccessTime) {
+        if (!tracksAccessTime()) {
+            return;
+        }
+        if (isAttached()) {
+            mem.putInt(base() + LAST_ACCESS_TIME_OFFSET, lastAccessTime);
+        } else {
+            detached.setRawLastAccessTime(lastAccessTime);
+        }
+    }
+
+    @Override
+    public int getRawLastUpdateTime() {
+        return tracksStats()
+                ? (isAttached() ? mem.getInt(base() + LAST_UPDATE_TIME_OFFSET) : detached.getRawLastUpdateTime()) : UNSET;
+    }
+
+    @Override
+    public void setRawLastUpdateTime(int lastUpdateTime) {
+        if (!tracksStats()) {
+            return;
+        }
+        if (isAttached()) {
+            mem.putInt(base() + LAST_UPDATE_TIME_OFFSET, lastUpdateTime);
+        } else {
+            detached.setRawLastUpdateTime(lastUpdateTime);
+        }
+    }
+
+    @Override
+    public int getRawLastStoredTime() {
+        return tracksStats()
+                ? (isAttached() ? mem.getInt(base() + LAST_STORED_TIME_OFFSET) : detached.getRawLastStoredTime()) : UNSET;
+    }
+
+    @Override
+    public void setRawLastStoredTime(int lastStoredTime) {
+        if (!tracksStats()) {
+            return;
+        }
+        if (isAttached()) {
+            mem.putInt(base() + LAST_STORED_TIME_OFFSET, lastStoredTime);
+        } else {
+            detached.setRawLastStoredTime(lastStoredTime);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OffHeapRecord that)) {
+            return false;
+        }
+        return isAttached() && address == that.address;
+    }
+
+    @Override
+    public int hashCode() {
+        return isAttached() ? Long.hashCode(address) : System.identityHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapRecord{"
+                + "address=" + address
+                + ", type=" + type
+                + "} ";
+    }
+
+    private void bind(Owner owner, Data key, long address) {
+        this.owner = owner;
+        this.mem = owner.mem();
+        this.malloc = owner.malloc();
+        this.key = key;
+        this.address = address;
+        this.freeEpoch = owner.freeEpoch();
+    }
+
+    /**
+     * @return the address of the record block, after checking that
+     * it was not freed since this flyweight last accessed it
+     */
+    private long base() {
+        long currentEpoch = owner.freeEpoch();
+        if (currentEpoch != freeEpoch) {
+            if (owner.addressOf(key) != address) {
+                throw new IllegalStateException("Record of key " + key
+                        + " was removed and its native memory was freed");
+            }
+            freeEpoch = currentEpoch;
+        }
+        return address;
+    }
+
+    private boolean tracksStats() {
+        return type == DATA_RECORD_WITH_STATS_READER_WRITER;
+    }
+
+    private boolean tracksAccessTime() {
+        return tracksStats() || type == SIMPLE_DATA_RECORD_WITH_LRU_EVICTION_READER_WRITER;
+    }
+
+    private boolean tracksHits() {
+        return tracksStats() || type == SIMPLE_DATA_RECORD_WITH_LFU_EVICTION_READER_WRITER;
+    }
+
+    /**
+     * The storage owning the native record blocks.
+     */
+    public interface Owner {
+
+        MemoryAccessor mem();
+
+        MemoryAllocator malloc();
+
+        /**
+         * @return a counter which changes every time the owner frees record blocks
+         */
+        long freeEpoch();
+
+        /**
+         * @return the address of the record block currently stored for the
+         * given key or {@link MemoryAllocator#NULL_ADDRESS} if there is none
+         */
+        long addressOf(Data key);
+    }
+}
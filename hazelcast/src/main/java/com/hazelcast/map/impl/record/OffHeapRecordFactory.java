@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.map.impl.MapContainer;
+
+import static com.hazelcast.map.impl.eviction.Evictor.NULL_EVICTOR;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.DATA_RECORD_WITH_STATS_READER_WRITER;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.SIMPLE_DATA_RECORD_READER_WRITER;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.SIMPLE_DATA_RECORD_WITH_LFU_EVICTION_READER_WRITER;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.SIMPLE_DATA_RECORD_WITH_LRU_EVICTION_READER_WRITER;
+
+/**
+ * Creates detached {@link OffHeapRecord}s, which are moved to
+ * native memory once they are put into the off-heap storage.
+ * <p>
+ * The record type is selected the same way as {@link DataRecordFactory}
+ * does. Values are never cached deserialized since they are always
+ * copied out of native memory, so the
+ * {@link com.hazelcast.config.CacheDeserializedValues} setting does not
+ * apply.
+ */
+public class OffHeapRecordFactory implements RecordFactory<Data> {
+
+    private final MapContainer mapContainer;
+    private final SerializationService ss;
+
+    public OffHeapRecordFactory(MapContainer mapContainer, SerializationService ss) {
+        this.mapContainer = mapContainer;
+        this.ss = ss;
+    }
+
+    @Override
+    public Record<Data> newRecord(Data key, Object value) {
+        return new OffHeapRecord(ss.toData(value), getRecordType());
+    }
+
+    /**
+     * @return the type of the records of the map, it decides which
+     * metadata is maintained and how records are replicated
+     */
+    public RecordReaderWriter getRecordType() {
+        MapConfig mapConfig = mapContainer.getMapConfig();
+        if (mapConfig.isPerEntryStatsEnabled()) {
+            return DATA_RECORD_WITH_STATS_READER_WRITER;
+        }
+
+        if (mapContainer.getEvictor() != NULL_EVICTOR) {
+            EvictionPolicy evictionPolicy = mapConfig.getEvictionConfig().getEvictionPolicy();
+            if (evictionPolicy == EvictionPolicy.LRU) {
+                return SIMPLE_DATA_RECORD_WITH_LRU_EVICTION_READER_WRITER;
+            }
+
+            if (evictionPolicy == EvictionPolicy.LFU) {
+                return SIMPLE_DATA_RECORD_WITH_LFU_EVICTION_READER_WRITER;
+            }
+
+            if (evictionPolicy == EvictionPolicy.RANDOM) {
+                return SIMPLE_DATA_RECORD_READER_WRITER;
+            }
+
+            return DATA_RECORD_WITH_STATS_READER_WRITER;
+        }
+
+        return SIMPLE_DATA_RECORD_READER_WRITER;
+    }
+}
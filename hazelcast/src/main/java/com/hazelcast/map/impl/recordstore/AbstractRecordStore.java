@@ -26,6 +26,7 @@ import com.hazelcast.internal.locksupport.LockSupportService;
 import com.hazelcast.internal.monitor.LocalRecordStoreStats;
 import com.hazelcast.internal.monitor.impl.LocalRecordStoreStatsImpl;
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.util.Clock;
 import com.hazelcast.internal.util.comparators.ValueComparator;
@@ -37,8 +38,10 @@ import com.hazelcast.map.impl.MapServiceContext;
 import com.hazelcast.map.impl.MapStoreWrapper;
 import com.hazelcast.map.impl.mapstore.MapDataStore;
 import com.hazelcast.map.impl.mapstore.MapStoreContext;
+import com.hazelcast.map.impl.record.ColumnarRecordFactory;
 import com.hazelcast.map.impl.record.DataRecordFactory;
 import com.hazelcast.map.impl.record.ObjectRecordFactory;
+import com.hazelcast.map.impl.record.OffHeapRecordFactory;
 import com.hazelcast.map.impl.record.Record;
 import com.hazelcast.map.impl.record.RecordFactory;
 import com.hazelcast.map.impl.record.RecordReaderWriter;
@@ -89,9 +92,14 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
         MapConfig mapConfig = mapContainer.getMapConfig();
         switch (mapConfig.getInMemoryFormat()) {
             case BINARY:
+                if (mapConfig.isOffHeapStorageEnabled()) {
+                    return new OffHeapRecordFactory(mapContainer, serializationService);
+                }
                 return new DataRecordFactory(mapContainer, serializationService);
             case OBJECT:
                 return new ObjectRecordFactory(mapContainer, serializationService);
+            case COLUMNAR:
+                return new ColumnarRecordFactory(serializationService);
             default:
                 throw new IllegalArgumentException("Invalid storage format: " + mapConfig.getInMemoryFormat());
         }
@@ -175,6 +183,12 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
     }
 
     public Storage createStorage(RecordFactory recordFactory, InMemoryFormat memoryFormat) {
+        if (recordFactory instanceof OffHeapRecordFactory offHeapRecordFactory) {
+            return new OffHeapStorage(getExpirySystem(), serializationService, offHeapRecordFactory.getRecordType());
+        }
+        if (recordFactory instanceof ColumnarRecordFactory) {
+            return new ColumnarStorage(getExpirySystem(), (InternalSerializationService) serializationService);
+        }
         return new StorageImpl(memoryFormat, getExpirySystem(), serializationService);
     }
 
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.map.impl.record.ColumnStore;
+import com.hazelcast.map.impl.record.ColumnarRecord;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.recordstore.expiry.ExpirySystem;
+
+/**
+ * {@link Storage} of a map with {@link InMemoryFormat#COLUMNAR} in-memory
+ * format. Records are indexed like in {@link StorageImpl}, but their values
+ * are kept in the {@link ColumnStore} of the storage.
+ * <p>
+ * Records are attached to the column store when they are put and detached
+ * from it when they are removed, so that a removed record stays usable by
+ * the running operation after its row has been released.
+ */
+public class ColumnarStorage extends StorageImpl<Record> {
+
+    private final ColumnStore columnStore;
+
+    public ColumnarStorage(ExpirySystem expirySystem, InternalSerializationService serializationService) {
+        super(InMemoryFormat.COLUMNAR, expirySystem, serializationService);
+        this.columnStore = new ColumnStore(serializationService);
+    }
+
+    @Override
+    public void put(Data key, Record record) {
+        Record previousRecord = get(key);
+        if (record instanceof ColumnarRecord columnarRecord) {
+            columnarRecord.attach(columnStore);
+        }
+        super.put(key, record);
+        if (previousRecord != record && previousRecord instanceof ColumnarRecord previousColumnarRecord) {
+            previousColumnarRecord.detach();
+        }
+    }
+
+    @Override
+    public void removeRecord(Data dataKey, Record record) {
+        super.removeRecord(dataKey, record);
+        if (record instanceof ColumnarRecord columnarRecord) {
+            columnarRecord.detach();
+        }
+    }
+
+    @Override
+    public void clear(boolean isDuringShutdown) {
+        super.clear(isDuringShutdown);
+        columnStore.clear();
+    }
+
+    public ColumnStore getColumnStore() {
+        return columnStore;
+    }
+}
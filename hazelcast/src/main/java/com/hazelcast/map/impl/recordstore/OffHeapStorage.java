@@ -0,0 +1,644 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.core.EntryView;
+import com.hazelcast.internal.iteration.IterationPointer;
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.MemoryAllocator;
+import com.hazelcast.internal.memory.impl.MemoryManagerBean;
+import com.hazelcast.internal.memory.impl.SlabMemoryAllocator;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.util.hashslot.SlotAssignmentResult;
+import com.hazelcast.internal.util.hashslot.impl.HashSlotArray8byteKeyImpl;
+import com.hazelcast.map.impl.EntryCostEstimator;
+import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
+import com.hazelcast.map.impl.iterator.MapKeysWithCursor;
+import com.hazelcast.map.impl.record.OffHeapRecord;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.record.RecordReaderWriter;
+import com.hazelcast.map.impl.recordstore.expiry.ExpirySystem;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+
+import static com.hazelcast.internal.memory.MemoryAllocator.NULL_ADDRESS;
+import static com.hazelcast.internal.util.HashUtil.fastLongMix;
+import static com.hazelcast.internal.util.hashslot.impl.CapacityUtil.DEFAULT_LOAD_FACTOR;
+import static com.hazelcast.map.impl.record.OffHeapRecord.KEY_OFFSET;
+import static com.hazelcast.map.impl.record.OffHeapRecord.KEY_SIZE_OFFSET;
+import static com.hazelcast.map.impl.record.OffHeapRecord.NEXT_OFFSET;
+import static com.hazelcast.map.impl.record.OffHeapRecord.recordBlockSize;
+
+/**
+ * {@link Storage} which keeps keys, values and record metadata of a
+ * {@link RecordStore} in native memory slabs, leaving no per-entry objects
+ * on the Java heap.
+ * <p>
+ * Records are indexed by an open-addressing {@link HashSlotArray8byteKeyImpl}
+ * keyed by {@link Data#hash64()} of the key. Each slot points to a chain of
+ * record blocks sharing the same 64-bit hash, so collisions are handled
+ * without ever comparing hashes only. Records handed out by this storage are
+ * {@link OffHeapRecord} flyweights.
+ * <p>
+ * Blocks of removed records are not freed immediately since the removed
+ * record may still be used by the running operation; they are freed on
+ * {@link #disposeDeferredBlocks()}. Flyweights check that their block is
+ * still stored once any block was freed, see {@link OffHeapRecord}.
+ * <p>
+ * Nothing is allocated until the first record is put, and all native
+ * memory is given back when the storage is cleared, so partitions without
+ * entries do not hold a slab.
+ * <p>
+ * Like the rest of the record store, this storage must only be accessed
+ * from the partition thread.
+ */
+@SuppressWarnings({"checkstyle:methodcount", "rawtypes"})
+public class OffHeapStorage implements Storage<Data, Record> {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int CHAIN_HEAD_SIZE = 8;
+    private static final int INITIAL_DEFERRED_CAPACITY = 16;
+
+    private final SlabMemoryAllocator malloc;
+    private final MemoryAccessor mem;
+    private final ExpirySystem expirySystem;
+    private final SerializationService serializationService;
+    private final RecordReaderWriter recordType;
+    private final OffHeapRecord.Owner owner = new RecordOwner();
+
+    private RecordTable table;
+    private long freeEpoch;
+    private int size;
+    private long[] deferredRecords = new long[INITIAL_DEFERRED_CAPACITY];
+    private int deferredRecordCount;
+    private EntryCostEstimator<Data, Record> entryCostEstimator = new OffHeapEntryCostEstimator();
+
+    public OffHeapStorage(ExpirySystem expirySystem, SerializationService serializationService,
+                          RecordReaderWriter recordType) {
+        this(new SlabMemoryAllocator(), expirySystem, serializationService, recordType);
+    }
+
+    OffHeapStorage(SlabMemoryAllocator malloc, ExpirySystem expirySystem,
+                   SerializationService serializationService, RecordReaderWriter recordType) {
+        this.malloc = malloc;
+        this.mem = malloc.getAccessor();
+        this.expirySystem = expirySystem;
+        this.serializationService = serializationService;
+        this.recordType = recordType;
+    }
+
+    @Override
+    public void put(Data key, Record record) {
+        byte[] keyPayload = key.toByteArray();
+        long hash = key.hash64();
+        SlotAssignmentResult slot = ensureTable().ensure(hash);
+        long chainHeadAddress = slot.address();
+
+        long previousAddress = NULL_ADDRESS;
+        long existingAddress = slot.isNew() ? NULL_ADDRESS : mem.getLong(chainHeadAddress);
+        while (existingAddress != NULL_ADDRESS && !keyEquals(existingAddress, keyPayload)) {
+            previousAddress = existingAddress;
+            existingAddress = mem.getLong(existingAddress + NEXT_OFFSET);
+        }
+
+        if (existingAddress != NULL_ADDRESS && record instanceof OffHeapRecord offHeapRecord
+                && offHeapRecord.address() == existingAddress) {
+            // already stored, all mutations were written through
+            return;
+        }
+
+        long recordAddress = allocateRecordBlock(keyPayload);
+        OffHeapRecord newRecord = attach(record, key, recordAddress);
+        if (existingAddress == NULL_ADDRESS) {
+            mem.putLong(recordAddress + NEXT_OFFSET, mem.getLong(chainHeadAddress));
+            mem.putLong(chainHeadAddress, recordAddress);
+            size++;
+            updateCostEstimate(entryCostEstimator.calculateEntryCost(key, newRecord));
+        } else {
+            mem.putLong(recordAddress + NEXT_OFFSET, mem.getLong(existingAddress + NEXT_OFFSET));
+            if (previousAddress == NULL_ADDRESS) {
+                mem.putLong(chainHeadAddress, recordAddress);
+            } else {
+                mem.putLong(previousAddress + NEXT_OFFSET, recordAddress);
+            }
+            updateCostEstimate(-entryCostEstimator.calculateEntryCost(key, flyweight(existingAddress, key)));
+            updateCostEstimate(entryCostEstimator.calculateEntryCost(key, newRecord));
+            deferFree(existingAddress);
+        }
+    }
+
+    @Override
+    public Record updateRecordValue(Data key, Record record, Object value) {
+        updateCostEstimate(-entryCostEstimator.calculateValueCost(record));
+        record.setValue(serializationService.toData(value));
+        updateCostEstimate(entryCostEstimator.calculateValueCost(record));
+        return record;
+    }
+
+    @Override
+    public Record get(Data key) {
+        long recordAddress = find(key);
+        return recordAddress == NULL_ADDRESS ? null : flyweight(recordAddress, key);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Keys are inlined into the record blocks, so only the keys read from
+     * a record block by this storage (e.g. by its iterators) are the same
+     * key blob, and only as long as that record block is stored.
+     */
+    @Override
+    public Record getIfSameKey(Data key) {
+        if (!(key instanceof StoredKeyData storedKey)) {
+            return null;
+        }
+        long recordAddress = find(key);
+        return recordAddress != NULL_ADDRESS && recordAddress == storedKey.recordAddress
+                ? flyweight(recordAddress, key) : null;
+    }
+
+    @Override
+    public void removeRecord(Data dataKey, @Nonnull Record record) {
+        byte[] keyPayload = dataKey.toByteArray();
+        long hash = dataKey.hash64();
+        long chainHeadAddress = table == null ? NULL_ADDRESS : table.get(hash);
+        if (chainHeadAddress == NULL_ADDRESS) {
+            return;
+        }
+
+        long previousAddress = NULL_ADDRESS;
+        long recordAddress = mem.getLong(chainHeadAddress);
+        while (recordAddress != NULL_ADDRESS && !keyEquals(recordAddress, keyPayload)) {
+            previousAddress = recordAddress;
+            recordAddress = mem.getLong(recordAddress + NEXT_OFFSET);
+        }
+        if (recordAddress == NULL_ADDRESS) {
+            return;
+        }
+
+        long nextAddress = mem.getLong(recordAddress + NEXT_OFFSET);
+        if (previousAddress != NULL_ADDRESS) {
+            mem.putLong(previousAddress + NEXT_OFFSET, nextAddress);
+        } else if (nextAddress != NULL_ADDRESS) {
+            mem.putLong(chainHeadAddress, nextAddress);
+        } else {
+            table.remove(hash);
+        }
+        size--;
+        updateCostEstimate(-entryCostEstimator.calculateEntryCost(dataKey, flyweight(recordAddress, dataKey)));
+        deferFree(recordAddress);
+    }
+
+    @Override
+    public boolean containsKey(Data key) {
+        return find(key) != NULL_ADDRESS;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The iterator walks the hash slots by index and re-reads the slot array
+     * on every step, so it tolerates resizes and removals. After a resize it
+     * may return an entry twice or miss an entry which was moved. It never
+     * holds native addresses between calls, thus it is safe to keep it across
+     * operations.
+     */
+    @Override
+    public Iterator<Map.Entry<Data, Record>> mutationTolerantIterator() {
+        return new MutationTolerantIterator();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear(boolean isDuringShutdown) {
+        // all records, the table and the deferred blocks live in the
+        // slabs of this storage, so disposing the allocator frees them all
+        // and gives the slabs back until the next put
+        if (table != null) {
+            table.dispose();
+            table = null;
+        }
+        malloc.dispose();
+        freeEpoch++;
+        size = 0;
+        deferredRecordCount = 0;
+        entryCostEstimator.reset();
+    }
+
+    @Override
+    public void destroy(boolean isDuringShutdown) {
+        clear(isDuringShutdown);
+    }
+
+    @Override
+    public EntryCostEstimator getEntryCostEstimator() {
+        return entryCostEstimator;
+    }
+
+    @Override
+    public void setEntryCostEstimator(EntryCostEstimator entryCostEstimator) {
+        this.entryCostEstimator = entryCostEstimator;
+    }
+
+    @Override
+    public void disposeDeferredBlocks() {
+        if (deferredRecordCount == 0) {
+            return;
+        }
+        for (int i = 0; i < deferredRecordCount; i++) {
+            freeRecord(deferredRecords[i]);
+        }
+        deferredRecordCount = 0;
+        freeEpoch++;
+    }
+
+    @Override
+    public Iterable<EntryView> getRandomSamples(int sampleCount) {
+        List<EntryView> samples = new ArrayList<>(sampleCount);
+        if (size == 0) {
+            return samples;
+        }
+        long capacity = table.capacity();
+        long startSlot = ThreadLocalRandom.current().nextLong(capacity);
+        for (long i = 0; i < capacity && samples.size() < sampleCount; i++) {
+            long recordAddress = table.chainHeadOfSlot((startSlot + i) & (capacity - 1));
+            while (recordAddress != NULL_ADDRESS && samples.size() < sampleCount) {
+                Data key = readKey(recordAddress);
+                samples.add(new LazyEvictableEntryView<>(key, flyweight(recordAddress, key),
+                        expirySystem.getExpiryMetadata(key), serializationService));
+                recordAddress = mem.getLong(recordAddress + NEXT_OFFSET);
+            }
+        }
+        return samples;
+    }
+
+    @Override
+    public MapKeysWithCursor fetchKeys(IterationPointer[] pointers, int size) {
+        List<Data> keys = new ArrayList<>(size);
+        IterationPointer[] newPointers = fetchNext(pointers, size, (key, recordAddress) -> keys.add(key));
+        return new MapKeysWithCursor(keys, newPointers);
+    }
+
+    @Override
+    public MapEntriesWithCursor fetchEntries(IterationPointer[] pointers, int size) {
+        List<Map.Entry<Data, Data>> entries = new ArrayList<>(size);
+        IterationPointer[] newPointers = fetchNext(pointers, size, (key, recordAddress) ->
+                entries.add(new AbstractMap.SimpleEntry<>(key, flyweight(recordAddress, key).getValue())));
+        return new MapEntriesWithCursor(entries, newPointers);
+    }
+
+    @Override
+    public Data extractDataKeyFromLazy(EntryView entryView) {
+        return ((LazyEvictableEntryView) entryView).getDataKey();
+    }
+
+    @Override
+    public Data toBackingDataKeyFormat(Data key) {
+        return key;
+    }
+
+    /**
+     * @return the number of native memory bytes currently used by this storage
+     */
+    public long getUsedMemory() {
+        return malloc.getUsedMemory();
+    }
+
+    /**
+     * @return the number of native memory bytes currently reserved by this storage
+     */
+    public long getCommittedMemory() {
+        return malloc.getCommittedMemory();
+    }
+
+    protected void updateCostEstimate(long entrySize) {
+        entryCostEstimator.adjustEstimateBy(entrySize);
+    }
+
+    /**
+     * Fetches entries walking the slot array from the highest index to the
+     * lowest one, tracking resizes the same way as
+     * {@link com.hazelcast.internal.util.SampleableConcurrentHashMap} does.
+     */
+    private IterationPointer[] fetchNext(IterationPointer[] pointers, int size,
+                                         BiConsumer<Data, Long> consumer) {
+        int capacity = (int) capacity();
+        pointers = checkPointers(pointers, capacity);
+        IterationPointer lastPointer = pointers[pointers.length - 1];
+
+        int nextSlot = lastPointer.getIndex() >= 0 && lastPointer.getIndex() < capacity
+                ? lastPointer.getIndex() : capacity - 1;
+        int counter = 0;
+        while (nextSlot >= 0 && counter < size) {
+            long recordAddress = table.chainHeadOfSlot(nextSlot--);
+            while (recordAddress != NULL_ADDRESS) {
+                Data key = readKey(recordAddress);
+                if (hasNotBeenObserved(key, pointers)) {
+                    consumer.accept(key, recordAddress);
+                    counter++;
+                }
+                recordAddress = mem.getLong(recordAddress + NEXT_OFFSET);
+            }
+        }
+        lastPointer.setIndex(nextSlot);
+        return pointers;
+    }
+
+    private static IterationPointer[] checkPointers(IterationPointer[] pointers, int currentCapacity) {
+        IterationPointer lastPointer = pointers[pointers.length - 1];
+        boolean iterationStarted = lastPointer.getSize() == -1;
+        boolean tableResized = lastPointer.getSize() != currentCapacity;
+        int newLength = !iterationStarted && tableResized ? pointers.length + 1 : pointers.length;
+
+        IterationPointer[] updatedPointers = new IterationPointer[newLength];
+        for (int i = 0; i < pointers.length; i++) {
+            updatedPointers[i] = new IterationPointer(pointers[i]);
+        }
+        if (iterationStarted || tableResized) {
+            updatedPointers[updatedPointers.length - 1] = new IterationPointer(Integer.MAX_VALUE, currentCapacity);
+        }
+        return updatedPointers;
+    }
+
+    private static boolean hasNotBeenObserved(Data key, IterationPointer[] pointers) {
+        if (pointers.length < 2) {
+            return true;
+        }
+        long hash = fastLongMix(key.hash64());
+        for (int i = 0; i < pointers.length - 1; i++) {
+            IterationPointer pointer = pointers[i];
+            long homeSlot = hash & (pointer.getSize() - 1);
+            if (homeSlot > pointer.getIndex()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private RecordTable ensureTable() {
+        if (table == null) {
+            table = new RecordTable(new MemoryManagerBean(malloc, mem));
+            table.gotoNew();
+        }
+        return table;
+    }
+
+    private long capacity() {
+        return table == null ? 0 : table.capacity();
+    }
+
+    private long find(Data key) {
+        if (table == null) {
+            return NULL_ADDRESS;
+        }
+        long chainHeadAddress = table.get(key.hash64());
+        if (chainHeadAddress == NULL_ADDRESS) {
+            return NULL_ADDRESS;
+        }
+        byte[] keyPayload = key.toByteArray();
+        long recordAddress = mem.getLong(chainHeadAddress);
+        while (recordAddress != NULL_ADDRESS && !keyEquals(recordAddress, keyPayload)) {
+            recordAddress = mem.getLong(recordAddress + NEXT_OFFSET);
+        }
+        return recordAddress;
+    }
+
+    private boolean keyEquals(long recordAddress, byte[] keyPayload) {
+        if (mem.getInt(recordAddress + KEY_SIZE_OFFSET) != keyPayload.length) {
+            return false;
+        }
+        long keyAddress = recordAddress + KEY_OFFSET;
+        for (int i = 0; i < keyPayload.length; i++) {
+            if (mem.getByte(keyAddress + i) != keyPayload[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Data readKey(long recordAddress) {
+        byte[] keyPayload = new byte[mem.getInt(recordAddress + KEY_SIZE_OFFSET)];
+        mem.copyToByteArray(recordAddress + KEY_OFFSET, keyPayload, 0, keyPayload.length);
+        return new StoredKeyData(keyPayload, recordAddress);
+    }
+
+    private long allocateRecordBlock(byte[] keyPayload) {
+        long recordAddress = malloc.allocate(recordBlockSize(keyPayload.length));
+        mem.putInt(recordAddress + KEY_SIZE_OFFSET, keyPayload.length);
+        mem.copyFromByteArray(keyPayload, 0, recordAddress + KEY_OFFSET, keyPayload.length);
+        return recordAddress;
+    }
+
+    private OffHeapRecord attach(Record record, Data key, long recordAddress) {
+        if (record instanceof OffHeapRecord offHeapRecord && !offHeapRecord.isAttached()) {
+            assert offHeapRecord.getMatchingRecordReaderWriter() == recordType;
+            offHeapRecord.attach(owner, key, recordAddress);
+            return offHeapRecord;
+        }
+        // a record which is not ours or which is already stored
+        // under another address: copy its state to the new block
+        OffHeapRecord newRecord = flyweight(recordAddress, key);
+        newRecord.copyFrom(record);
+        return newRecord;
+    }
+
+    private OffHeapRecord flyweight(long recordAddress, Data key) {
+        return new OffHeapRecord(owner, key, recordAddress, recordType);
+    }
+
+    private void deferFree(long recordAddress) {
+        if (deferredRecordCount == deferredRecords.length) {
+            deferredRecords = Arrays.copyOf(deferredRecords, deferredRecords.length * 2);
+        }
+        deferredRecords[deferredRecordCount++] = recordAddress;
+    }
+
+    private void freeRecord(long recordAddress) {
+        OffHeapRecord.freeValue(recordAddress, mem, malloc);
+        malloc.free(recordAddress, recordBlockSize(mem.getInt(recordAddress + KEY_SIZE_OFFSET)));
+    }
+
+    /**
+     * Hash slot array exposing random access to the chain heads, which is
+     * needed by sampling and by the resumable cursor based fetches.
+     */
+    private static final class RecordTable extends HashSlotArray8byteKeyImpl {
+
+        private static final int KEY_SIZE = 8;
+
+        RecordTable(MemoryManagerBean memoryManager) {
+            super(NULL_ADDRESS, memoryManager, CHAIN_HEAD_SIZE, INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+        }
+
+        long chainHeadOfSlot(long slot) {
+            return mem().getLong(slotBase(address(), slot) + KEY_SIZE);
+        }
+    }
+
+    /**
+     * A key read from a record block, remembering the block it was read
+     * from for {@link #getIfSameKey(Data)}.
+     */
+    private static final class StoredKeyData extends HeapData {
+
+        private final long recordAddress;
+
+        StoredKeyData(byte[] payload, long recordAddress) {
+            super(payload);
+            this.recordAddress = recordAddress;
+        }
+    }
+
+    private final class RecordOwner implements OffHeapRecord.Owner {
+
+        @Override
+        public MemoryAccessor mem() {
+            return mem;
+        }
+
+        @Override
+        public MemoryAllocator malloc() {
+            return malloc;
+        }
+
+        @Override
+        public long freeEpoch() {
+            return freeEpoch;
+        }
+
+        @Override
+        public long addressOf(Data key) {
+            return find(key);
+        }
+    }
+
+    /**
+     * Costs are the native footprint of records, the
+     * key is already accounted for in the record block.
+     */
+    private static final class OffHeapEntryCostEstimator implements EntryCostEstimator<Data, Record> {
+
+        private long estimate;
+
+        @Override
+        public long getEstimate() {
+            return estimate;
+        }
+
+        @Override
+        public void adjustEstimateBy(long adjustment) {
+            estimate += adjustment;
+        }
+
+        @Override
+        public long calculateValueCost(Record record) {
+            return record.getCost() - recordBlockSize(((OffHeapRecord) record).getKeySize());
+        }
+
+        @Override
+        public long calculateEntryCost(Data key, Record record) {
+            return record.getCost() + CHAIN_HEAD_SIZE;
+        }
+
+        @Override
+        public void reset() {
+            estimate = 0;
+        }
+    }
+
+    private final class MutationTolerantIterator implements Iterator<Map.Entry<Data, Record>> {
+
+        private final List<Data> slotKeys = new ArrayList<>();
+        private long nextSlot = capacity() - 1;
+        private int slotKeyIndex;
+        private Map.Entry<Data, Record> next;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (slotKeyIndex < slotKeys.size()) {
+                    Data key = slotKeys.get(slotKeyIndex++);
+                    Record record = get(key);
+                    if (record != null) {
+                        next = new AbstractMap.SimpleImmutableEntry<>(key, record);
+                    }
+                } else if (!advanceSlot()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Map.Entry<Data, Record> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<Data, Record> entry = next;
+            next = null;
+            return entry;
+        }
+
+        /**
+         * Slots are visited from the highest index to the lowest one: removing
+         * an entry shifts the conflicting entries from higher slots (already
+         * visited) to lower ones, so removals do not make us miss entries.
+         */
+        private boolean advanceSlot() {
+            slotKeys.clear();
+            slotKeyIndex = 0;
+            while (nextSlot >= 0) {
+                nextSlot = Math.min(nextSlot, capacity() - 1);
+                if (nextSlot < 0) {
+                    // the storage was cleared
+                    break;
+                }
+                long recordAddress = table.chainHeadOfSlot(nextSlot--);
+                if (recordAddress == NULL_ADDRESS) {
+                    continue;
+                }
+                while (recordAddress != NULL_ADDRESS) {
+                    slotKeys.add(readKey(recordAddress));
+                    recordAddress = mem.getLong(recordAddress + NEXT_OFFSET);
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+}
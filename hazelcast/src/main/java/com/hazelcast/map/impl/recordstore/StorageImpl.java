@@ -33,7 +33,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
-import static com.hazelcast.config.InMemoryFormat.BINARY;
+import static com.hazelcast.config.InMemoryFormat.OBJECT;
 import static com.hazelcast.internal.util.IterableUtil.asReadOnlyIterator;
 import static com.hazelcast.map.impl.OwnedEntryCostEstimatorFactory.createMapSizeEstimator;
 
@@ -87,8 +87,8 @@ public class StorageImpl<R extends Record> implements Storage<Data, R> {
     public R updateRecordValue(Data key, R record, Object value) {
         updateCostEstimate(-entryCostEstimator.calculateValueCost(record));
 
-        record.setValue(inMemoryFormat == BINARY
-                ? serializationService.toData(value) : serializationService.toObject(value));
+        record.setValue(inMemoryFormat == OBJECT
+                ? serializationService.toObject(value) : serializationService.toData(value));
 
         updateCostEstimate(entryCostEstimator.calculateValueCost(record));
         return record;
@@ -32,7 +32,9 @@ import com.hazelcast.query.impl.getters.MultiResult;
 import com.hazelcast.query.impl.predicates.PredicateDataSerializerHook;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import static com.hazelcast.internal.util.SetUtil.createHashSet;
@@ -60,6 +62,8 @@ public abstract class AbstractIndex implements InternalIndex {
     protected final IndexCopyBehavior copyBehavior;
 
     private final String[] components;
+    // the indexed and included attributes of a covering index, null otherwise
+    private final String[] coveredAttributes;
     private final IndexConfig config;
     private final boolean ordered;
     private final PerIndexStats stats;
@@ -78,6 +82,7 @@ public abstract class AbstractIndex implements InternalIndex {
             int partitionId) {
         this.config = config;
         this.components = IndexUtils.getComponents(config);
+        this.coveredAttributes = coveredAttributes(components, config);
         this.ordered = config.getType() == IndexType.SORTED;
         this.ss = ss;
         this.extractors = extractors;
@@ -133,12 +138,14 @@ public abstract class AbstractIndex implements InternalIndex {
         }
 
         Object newAttributeValue = extractAttributeValue(newEntry);
+        QueryableEntry storedEntry = coveredAttributes == null ? entryToStore
+                : new CoveringQueryEntry<>(entryToStore, coveredAttributes, coveredValues(newEntry, newAttributeValue));
         if (oldEntry == null) {
-            indexStore.insert(newAttributeValue, newEntry, entryToStore, operationStats);
+            indexStore.insert(newAttributeValue, newEntry, storedEntry, operationStats);
             stats.onInsert(timestamp, operationStats, operationSource);
         } else {
             Object oldAttributeValue = extractAttributeValue(oldEntry);
-            indexStore.update(oldAttributeValue, newAttributeValue, newEntry, entryToStore, operationStats);
+            indexStore.update(oldAttributeValue, newAttributeValue, newEntry, storedEntry, operationStats);
             stats.onUpdate(timestamp, operationStats, operationSource);
         }
     }
@@ -360,6 +367,33 @@ public abstract class AbstractIndex implements InternalIndex {
                 + '}';
     }
 
+    private static String[] coveredAttributes(String[] components, IndexConfig config) {
+        List<String> includedAttributes = config.getIncludedAttributes();
+        if (includedAttributes.isEmpty()) {
+            return null;
+        }
+        String[] attributes = Arrays.copyOf(components, components.length + includedAttributes.size());
+        for (int i = 0; i < includedAttributes.size(); i++) {
+            attributes[components.length + i] = includedAttributes.get(i);
+        }
+        return attributes;
+    }
+
+    private Object[] coveredValues(QueryableEntry entry, Object attributeValue) {
+        Object[] values = new Object[coveredAttributes.length];
+        if (components.length == 1) {
+            values[0] = attributeValue;
+        } else {
+            // copied before the index store sanitizes the components in place
+            Comparable[] valueComponents = ((CompositeValue) attributeValue).getComponents();
+            System.arraycopy(valueComponents, 0, values, 0, components.length);
+        }
+        for (int i = components.length; i < coveredAttributes.length; i++) {
+            values[i] = entry.getAttributeValue(coveredAttributes[i]);
+        }
+        return values;
+    }
+
     private Object extractAttributeValue(QueryableEntry entry) {
         if (components.length == 1) {
             return entry.getAttributeValue(components[0]);
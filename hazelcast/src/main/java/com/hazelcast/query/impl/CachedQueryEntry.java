@@ -251,6 +251,9 @@ public class CachedQueryEntry<K, V> extends QueryableEntry<K, V> implements Iden
         if (this == o) {
             return true;
         }
+        if (o instanceof CoveringQueryEntry) {
+            return o.equals(this);
+        }
         if (o == null || getClass() != o.getClass()) {
             return false;
         }
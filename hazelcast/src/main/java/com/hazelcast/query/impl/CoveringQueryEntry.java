@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.query.QueryException;
+
+/**
+ * Entry stored by a covering index: it wraps the entry to store and keeps the
+ * values of the indexed and included attributes of the index, so they can be
+ * read without extracting them from the value of the entry again.
+ * <p>
+ * The values are captured when the entry is inserted into the index. Since
+ * every update of an entry re-inserts it into its indexes, they never get
+ * stale. The values of the attributes which are not covered by the index are
+ * extracted by the wrapped entry.
+ * <p>
+ * The entry is equal to any other {@link QueryableEntry} with the same key,
+ * so the results of covering and non-covering indexes can be intersected and
+ * merged by the {@code AND} and {@code OR} predicates.
+ *
+ * @see com.hazelcast.config.IndexConfig#setIncludedAttributes
+ */
+final class CoveringQueryEntry<K, V> extends QueryableEntry<K, V> {
+
+    private static final String THIS_PREFIX = "this.";
+
+    private final QueryableEntry<K, V> delegate;
+    private final String[] attributes;
+    private final Object[] values;
+
+    CoveringQueryEntry(QueryableEntry<K, V> delegate, String[] attributes, Object[] values) {
+        this.delegate = delegate;
+        this.attributes = attributes;
+        this.values = values;
+        this.serializationService = delegate.serializationService;
+        this.extractors = delegate.extractors;
+    }
+
+    @Override
+    public Object getAttributeValue(String attributeName) throws QueryException {
+        for (int i = 0; i < attributes.length; i++) {
+            if (attributes[i].equals(attributeName)) {
+                return values[i];
+            }
+        }
+        if (attributeName.startsWith(THIS_PREFIX)) {
+            return getAttributeValue(IndexUtils.canonicalizeAttribute(attributeName));
+        }
+        return delegate.getAttributeValue(attributeName);
+    }
+
+    @Override
+    public K getKey() {
+        return delegate.getKey();
+    }
+
+    @Override
+    public V getValue() {
+        return delegate.getValue();
+    }
+
+    @Override
+    public V setValue(V value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Data getKeyData() {
+        return delegate.getKeyData();
+    }
+
+    @Override
+    public Data getValueData() {
+        return delegate.getValueData();
+    }
+
+    @Override
+    public K getKeyIfPresent() {
+        return delegate.getKeyIfPresent();
+    }
+
+    @Override
+    public Data getKeyDataIfPresent() {
+        return delegate.getKeyDataIfPresent();
+    }
+
+    @Override
+    public V getValueIfPresent() {
+        return delegate.getValueIfPresent();
+    }
+
+    @Override
+    public Data getValueDataIfPresent() {
+        return delegate.getValueDataIfPresent();
+    }
+
+    @Override
+    protected Object getTargetObject(boolean key) {
+        return delegate.getTargetObject(key);
+    }
+
+    @Override
+    public Record getRecord() {
+        return delegate.getRecord();
+    }
+
+    @Override
+    public void setRecord(Record record) {
+        delegate.setRecord(record);
+    }
+
+    @Override
+    public JsonMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public void setMetadata(JsonMetadata metadata) {
+        delegate.setMetadata(metadata);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        // the other indexes of the map return the plain entries for the same keys
+        if (!(o instanceof QueryableEntry<?, ?> that)) {
+            return false;
+        }
+        return getKeyData().equals(that.getKeyData());
+    }
+
+    @Override
+    public int hashCode() {
+        return getKeyData().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "CoveringQueryEntry{delegate=" + delegate + '}';
+    }
+}
@@ -50,7 +50,11 @@ public class IndexImpl extends AbstractIndex {
                                           PerIndexStats stats, String mapName, int ignored) {
         switch (config.getType()) {
             case SORTED:
-                return new OrderedIndexStore(copyBehavior);
+                // the numeric store falls back to the generic one on the first
+                // non-numeric value, so it's only pointless for composite values
+                return config.getAttributes().size() == 1
+                        ? new NumericOrderedIndexStore(copyBehavior)
+                        : new OrderedIndexStore(copyBehavior);
             case HASH:
                 return new UnorderedIndexStore(copyBehavior);
             case BITMAP:
@@ -123,6 +123,8 @@ public final class IndexUtils {
         IndexConfig normalizedConfig =
             buildNormalizedConfig(mapName, config.getType(), name, normalizedAttributeNames, config.getBTreeIndexConfig());
 
+        addNormalizedIncludedAttributes(config, normalizedAttributeNames, normalizedConfig);
+
         if (config.getType() == IndexType.BITMAP) {
             String uniqueKey = config.getBitmapIndexOptions().getUniqueKey();
             UniqueKeyTransformation uniqueKeyTransformation = config.getBitmapIndexOptions().getUniqueKeyTransformation();
@@ -136,6 +138,20 @@ public final class IndexUtils {
         return normalizedConfig;
     }
 
+    private static void addNormalizedIncludedAttributes(IndexConfig config, List<String> normalizedAttributeNames,
+                                                        IndexConfig normalizedConfig) {
+        for (String includedAttribute : config.getIncludedAttributes()) {
+            validateAttribute(config, includedAttribute);
+
+            String normalizedIncludedAttribute = canonicalizeAttribute(includedAttribute.trim());
+            // the values of the indexed attributes are stored anyway
+            if (!normalizedAttributeNames.contains(normalizedIncludedAttribute)
+                    && !normalizedConfig.getIncludedAttributes().contains(normalizedIncludedAttribute)) {
+                normalizedConfig.addIncludedAttribute(normalizedIncludedAttribute);
+            }
+        }
+    }
+
     private static IndexConfig buildNormalizedConfig(String mapName, IndexType indexType, String indexName,
                                                      List<String> normalizedAttributeNames,
                                                      BTreeIndexConfig btreeIndexConfig) {
@@ -285,6 +301,14 @@ public final class IndexUtils {
             }
             gen.close();
 
+            if (!indexCfg.getIncludedAttributes().isEmpty()) {
+                gen.open("included-attributes");
+                for (String includedAttribute : indexCfg.getIncludedAttributes()) {
+                    gen.node("attribute", includedAttribute);
+                }
+                gen.close();
+            }
+
             if (indexCfg.getType() == IndexType.BITMAP) {
                 BitmapIndexOptions bitmapIndexOptions = indexCfg.getBitmapIndexOptions();
 
@@ -328,14 +352,11 @@ public final class IndexUtils {
         IndexConfig res = new IndexConfig().setName(name).setType(type);
 
         for (Node attributesNode : childElements(indexNode)) {
-            if ("attributes".equals(cleanNodeName(attributesNode))) {
-                for (Node attributeNode : childElements(attributesNode)) {
-                    if ("attribute".equals(cleanNodeName(attributeNode))) {
-                        String attribute = getTextContent(attributeNode, domLevel3);
-
-                        res.addAttribute(attribute);
-                    }
-                }
+            String attributesNodeName = cleanNodeName(attributesNode);
+            if ("attributes".equals(attributesNodeName)) {
+                attributesFromXml(attributesNode, domLevel3).forEach(res::addAttribute);
+            } else if ("included-attributes".equals(attributesNodeName)) {
+                attributesFromXml(attributesNode, domLevel3).forEach(res::addIncludedAttribute);
             }
         }
 
@@ -371,6 +392,16 @@ public final class IndexUtils {
         return res;
     }
 
+    private static List<String> attributesFromXml(Node attributesNode, boolean domLevel3) {
+        List<String> attributes = new ArrayList<>();
+        for (Node attributeNode : childElements(attributesNode)) {
+            if ("attribute".equals(cleanNodeName(attributeNode))) {
+                attributes.add(getTextContent(attributeNode, domLevel3));
+            }
+        }
+        return attributes;
+    }
+
     private static Capacity getCapacity(Node node, boolean domLevel3) {
         if (node == null) {
             return null;
@@ -421,6 +452,13 @@ public final class IndexUtils {
             res.addAttribute(attribute);
         }
 
+        Node includedAttributesNode = attrs.getNamedItem("included-attributes");
+        if (includedAttributesNode != null) {
+            for (Node attributeNode : childElements(includedAttributesNode)) {
+                res.addIncludedAttribute(attributeNode.getNodeValue());
+            }
+        }
+
         if (type == IndexType.BITMAP) {
             Node optionsNode = childElementWithName(indexNode, "bitmap-index-options", strict);
             if (optionsNode != null) {
@@ -0,0 +1,486 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import java.util.Arrays;
+
+/**
+ * A sorted map from primitive {@code long} keys to non-null values,
+ * implemented as a copy-on-write B+-tree.
+ * <p>
+ * The tree must be updated by a single thread at a time. Updates never modify
+ * the published nodes: the nodes on the path from the root to the updated
+ * leaf are copied and the new root is published at the end of the update. So
+ * the readers don't block and always traverse a consistent snapshot of the
+ * tree, like the readers of {@link java.util.concurrent.ConcurrentSkipListMap}
+ * but without boxing the keys or allocating a node per key.
+ * <p>
+ * All leaves are at the same depth. Nodes are split once they exceed
+ * {@link #MAX_NODE_SIZE} and merged with a sibling once they fall below a
+ * quarter of it, so the cost of an update is bounded by the height of the
+ * tree times the node size.
+ */
+final class LongBPlusTree {
+
+    static final int MAX_NODE_SIZE = 64;
+
+    private static final int MIN_NODE_SIZE = MAX_NODE_SIZE / 4;
+    private static final Leaf EMPTY = new Leaf(new long[0], new Object[0]);
+
+    private volatile Node root = EMPTY;
+    private volatile int size;
+
+    /**
+     * Compares the keys of the tree with some search bound.
+     */
+    @FunctionalInterface
+    interface KeyComparator {
+
+        /**
+         * @return a negative integer, zero or a positive integer as the given
+         * key is less than, equal to or greater than the search bound
+         */
+        int compare(long key);
+    }
+
+    int size() {
+        return size;
+    }
+
+    Object get(long key) {
+        Node node = root;
+        while (node instanceof Inner inner) {
+            node = inner.children[childIndex(inner.keys, key)];
+        }
+        Leaf leaf = (Leaf) node;
+        int index = Arrays.binarySearch(leaf.keys, key);
+        return index >= 0 ? leaf.values[index] : null;
+    }
+
+    /**
+     * Associates the given value with the given key, replacing the previous
+     * value if there is any.
+     */
+    void put(long key, Object value) {
+        assert value != null;
+        Object result = put(root, key, value);
+        if (result instanceof Split split) {
+            root = new Inner(new long[]{split.separator}, new Node[]{split.left, split.right});
+        } else {
+            root = (Node) result;
+        }
+    }
+
+    /**
+     * Removes the value associated with the given key.
+     *
+     * @return the removed value or {@code null} if there was none
+     */
+    Object remove(long key) {
+        Object value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Node newRoot = remove(root, key);
+        while (newRoot instanceof Inner inner && inner.children.length == 1) {
+            newRoot = inner.children[0];
+        }
+        root = newRoot == null ? EMPTY : newRoot;
+        size--;
+        return value;
+    }
+
+    void clear() {
+        root = EMPTY;
+        size = 0;
+    }
+
+    /**
+     * Returns a cursor over the entries of the current snapshot of the tree
+     * within the given bounds. A {@code null} bound means the range is
+     * unbounded on that side.
+     */
+    Cursor cursor(KeyComparator from, boolean fromInclusive, KeyComparator to, boolean toInclusive, boolean descending) {
+        return new Cursor(root, from, fromInclusive, to, toInclusive, descending);
+    }
+
+    private Object put(Node node, long key, Object value) {
+        if (node instanceof Leaf leaf) {
+            int index = Arrays.binarySearch(leaf.keys, key);
+            if (index >= 0) {
+                return leaf.withValue(index, value);
+            }
+            size++;
+            Leaf grown = leaf.withInserted(-(index + 1), key, value);
+            return grown.keys.length > MAX_NODE_SIZE ? grown.split() : grown;
+        }
+        Inner inner = (Inner) node;
+        int childIndex = childIndex(inner.keys, key);
+        Object child = put(inner.children[childIndex], key, value);
+        if (child instanceof Split split) {
+            Inner grown = inner.withSplitChild(childIndex, split);
+            return grown.children.length > MAX_NODE_SIZE ? grown.split() : grown;
+        }
+        return inner.withChild(childIndex, (Node) child);
+    }
+
+    /**
+     * Removes the given existing key from the given subtree.
+     *
+     * @return the new subtree or {@code null} if it became empty
+     */
+    private static Node remove(Node node, long key) {
+        if (node instanceof Leaf leaf) {
+            return leaf.keys.length == 1 ? null : leaf.without(Arrays.binarySearch(leaf.keys, key));
+        }
+        Inner inner = (Inner) node;
+        int childIndex = childIndex(inner.keys, key);
+        Node child = remove(inner.children[childIndex], key);
+        if (child == null) {
+            return inner.children.length == 1 ? null : inner.withoutChild(childIndex);
+        }
+        return inner.withChild(childIndex, child).mergedIfSparse(childIndex);
+    }
+
+    /**
+     * Returns the index of the child of an inner node whose subtree may
+     * contain the given key.
+     */
+    private static int childIndex(long[] separators, long key) {
+        int index = Arrays.binarySearch(separators, key);
+        return index >= 0 ? index + 1 : -(index + 1);
+    }
+
+    /**
+     * Returns the index of the first key which is greater than the search
+     * bound, or greater than or equal to it if {@code orEqual} is set.
+     */
+    private static int firstIndexAbove(long[] keys, KeyComparator comparator, boolean orEqual) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int order = comparator.compare(keys[mid]);
+            if (order > 0 || orEqual && order == 0) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private static long[] insert(long[] array, int index, long value) {
+        long[] result = new long[array.length + 1];
+        System.arraycopy(array, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        return result;
+    }
+
+    private static <T> T[] insert(T[] array, int index, T value) {
+        T[] result = Arrays.copyOf(array, array.length + 1);
+        result[index] = value;
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        return result;
+    }
+
+    private static long[] delete(long[] array, int index) {
+        long[] result = new long[array.length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        System.arraycopy(array, index + 1, result, index, result.length - index);
+        return result;
+    }
+
+    private static <T> T[] delete(T[] array, int index) {
+        T[] result = Arrays.copyOf(array, array.length - 1);
+        System.arraycopy(array, index + 1, result, index, result.length - index);
+        return result;
+    }
+
+    private static long[] concat(long[] left, long[] right) {
+        long[] result = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, result, left.length, right.length);
+        return result;
+    }
+
+    private static <T> T[] concat(T[] left, T[] right) {
+        T[] result = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, result, left.length, right.length);
+        return result;
+    }
+
+    private abstract static class Node {
+
+        abstract int size();
+    }
+
+    /**
+     * A leaf node, {@code values[i]} is the value of {@code keys[i]}.
+     */
+    private static final class Leaf extends Node {
+
+        final long[] keys;
+        final Object[] values;
+
+        Leaf(long[] keys, Object[] values) {
+            this.keys = keys;
+            this.values = values;
+        }
+
+        @Override
+        int size() {
+            return keys.length;
+        }
+
+        Leaf withValue(int index, Object value) {
+            Object[] newValues = values.clone();
+            newValues[index] = value;
+            return new Leaf(keys, newValues);
+        }
+
+        Leaf withInserted(int index, long key, Object value) {
+            return new Leaf(insert(keys, index, key), insert(values, index, value));
+        }
+
+        Leaf without(int index) {
+            return new Leaf(delete(keys, index), delete(values, index));
+        }
+
+        Split split() {
+            int mid = keys.length / 2;
+            Leaf left = new Leaf(Arrays.copyOfRange(keys, 0, mid), Arrays.copyOfRange(values, 0, mid));
+            Leaf right = new Leaf(Arrays.copyOfRange(keys, mid, keys.length),
+                    Arrays.copyOfRange(values, mid, values.length));
+            return new Split(left, right.keys[0], right);
+        }
+    }
+
+    /**
+     * An inner node, all the keys of {@code children[i]} are less than
+     * {@code keys[i]} which is less than or equal to all the keys of
+     * {@code children[i + 1]}.
+     */
+    private static final class Inner extends Node {
+
+        final long[] keys;
+        final Node[] children;
+
+        Inner(long[] keys, Node[] children) {
+            this.keys = keys;
+            this.children = children;
+        }
+
+        @Override
+        int size() {
+            return children.length;
+        }
+
+        Inner withChild(int index, Node child) {
+            Node[] newChildren = children.clone();
+            newChildren[index] = child;
+            return new Inner(keys, newChildren);
+        }
+
+        Inner withSplitChild(int index, Split split) {
+            Node[] newChildren = insert(children, index + 1, split.right);
+            newChildren[index] = split.left;
+            return new Inner(insert(keys, index, split.separator), newChildren);
+        }
+
+        Inner withoutChild(int index) {
+            return new Inner(delete(keys, index > 0 ? index - 1 : 0), delete(children, index));
+        }
+
+        Inner mergedIfSparse(int index) {
+            if (children[index].size() >= MIN_NODE_SIZE) {
+                return this;
+            }
+            int leftIndex = index > 0 ? index - 1 : index;
+            if (leftIndex + 1 == children.length
+                    || children[leftIndex].size() + children[leftIndex + 1].size() > MAX_NODE_SIZE) {
+                return this;
+            }
+            Node merged = merge(children[leftIndex], keys[leftIndex], children[leftIndex + 1]);
+            Node[] newChildren = delete(children, leftIndex + 1);
+            newChildren[leftIndex] = merged;
+            return new Inner(delete(keys, leftIndex), newChildren);
+        }
+
+        private static Node merge(Node left, long separator, Node right) {
+            if (left instanceof Leaf leftLeaf) {
+                Leaf rightLeaf = (Leaf) right;
+                return new Leaf(concat(leftLeaf.keys, rightLeaf.keys), concat(leftLeaf.values, rightLeaf.values));
+            }
+            Inner leftInner = (Inner) left;
+            Inner rightInner = (Inner) right;
+            long[] keys = concat(insert(leftInner.keys, leftInner.keys.length, separator), rightInner.keys);
+            return new Inner(keys, concat(leftInner.children, rightInner.children));
+        }
+
+        Split split() {
+            int mid = children.length / 2;
+            Inner left = new Inner(Arrays.copyOfRange(keys, 0, mid - 1), Arrays.copyOfRange(children, 0, mid));
+            Inner right = new Inner(Arrays.copyOfRange(keys, mid, keys.length),
+                    Arrays.copyOfRange(children, mid, children.length));
+            return new Split(left, keys[mid - 1], right);
+        }
+    }
+
+    private record Split(Node left, long separator, Node right) {
+    }
+
+    /**
+     * Iterates over the entries of a snapshot of the tree in the ascending or
+     * descending order of their keys.
+     */
+    static final class Cursor {
+
+        private final KeyComparator from;
+        private final boolean fromInclusive;
+        private final KeyComparator to;
+        private final boolean toInclusive;
+        private final boolean descending;
+
+        // the inner nodes on the path to the current leaf and the
+        // indexes of the children followed at each of them
+        private final Inner[] path;
+        private final int[] childIndexes;
+
+        private Leaf leaf;
+        private int index;
+        private boolean started;
+        private boolean finished;
+
+        Cursor(Node root, KeyComparator from, boolean fromInclusive, KeyComparator to, boolean toInclusive,
+               boolean descending) {
+            this.from = from;
+            this.fromInclusive = fromInclusive;
+            this.to = to;
+            this.toInclusive = toInclusive;
+            this.descending = descending;
+
+            int height = 0;
+            for (Node node = root; node instanceof Inner inner; node = inner.children[0]) {
+                height++;
+            }
+            path = new Inner[height];
+            childIndexes = new int[height];
+            descend(root, descending ? to : from);
+        }
+
+        /**
+         * Positions the cursor at the first entry within the start bound.
+         */
+        private void descend(Node root, KeyComparator start) {
+            Node node = root;
+            for (int level = 0; level < path.length; level++) {
+                Inner inner = (Inner) node;
+                int childIndex;
+                if (start == null) {
+                    childIndex = descending ? inner.children.length - 1 : 0;
+                } else {
+                    childIndex = firstIndexAbove(inner.keys, start, false);
+                }
+                path[level] = inner;
+                childIndexes[level] = childIndex;
+                node = inner.children[childIndex];
+            }
+            leaf = (Leaf) node;
+            if (start == null) {
+                index = descending ? leaf.keys.length - 1 : 0;
+            } else if (descending) {
+                index = firstIndexAbove(leaf.keys, start, !toInclusive) - 1;
+            } else {
+                index = firstIndexAbove(leaf.keys, start, fromInclusive);
+            }
+        }
+
+        /**
+         * Moves the cursor to the next entry.
+         *
+         * @return {@code true} if there is a next entry, {@code false} if the
+         * cursor is exhausted
+         */
+        boolean next() {
+            if (finished) {
+                return false;
+            }
+            if (started) {
+                index += descending ? -1 : 1;
+            } else {
+                started = true;
+            }
+            while (index < 0 || index >= leaf.keys.length) {
+                if (!nextLeaf()) {
+                    finished = true;
+                    return false;
+                }
+            }
+            if (isBeyondEnd(leaf.keys[index])) {
+                finished = true;
+                return false;
+            }
+            return true;
+        }
+
+        long key() {
+            return leaf.keys[index];
+        }
+
+        Object value() {
+            return leaf.values[index];
+        }
+
+        private boolean isBeyondEnd(long key) {
+            if (descending) {
+                if (from == null) {
+                    return false;
+                }
+                int order = from.compare(key);
+                return order < 0 || order == 0 && !fromInclusive;
+            } else {
+                if (to == null) {
+                    return false;
+                }
+                int order = to.compare(key);
+                return order > 0 || order == 0 && !toInclusive;
+            }
+        }
+
+        private boolean nextLeaf() {
+            for (int level = path.length - 1; level >= 0; level--) {
+                int childIndex = childIndexes[level] + (descending ? -1 : 1);
+                if (childIndex >= 0 && childIndex < path[level].children.length) {
+                    childIndexes[level] = childIndex;
+                    Node node = path[level].children[childIndex];
+                    for (int lower = level + 1; lower < path.length; lower++) {
+                        Inner inner = (Inner) node;
+                        int lowerChildIndex = descending ? inner.children.length - 1 : 0;
+                        path[lower] = inner;
+                        childIndexes[lower] = lowerChildIndex;
+                        node = inner.children[lowerChildIndex];
+                    }
+                    leaf = (Leaf) node;
+                    index = descending ? leaf.keys.length - 1 : 0;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
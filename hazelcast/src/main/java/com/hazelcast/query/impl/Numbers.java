@@ -141,7 +141,7 @@ public final class Numbers {
             } else if (clazz == Float.class) {
                 return doubleValue;
             }
-        } else if (isLongRepresentableExceptLong(clazz)) {
+        } else if (isIntRepresentable(clazz)) {
             return number.longValue();
         }
 
@@ -188,7 +188,7 @@ public final class Numbers {
     public static double asDoubleExactly(Number number) {
         Class clazz = number.getClass();
 
-        if (isDoubleRepresentable(clazz) || isLongRepresentableExceptLong(clazz)) {
+        if (isDoubleRepresentable(clazz) || isIntRepresentable(clazz)) {
             return number.doubleValue();
         } else if (clazz == Long.class) {
             double doubleValue = number.doubleValue();
@@ -237,7 +237,7 @@ public final class Numbers {
     public static int asIntExactly(Number number) {
         Class clazz = number.getClass();
 
-        if (isLongRepresentableExceptLong(clazz)) {
+        if (isIntRepresentable(clazz)) {
             return number.intValue();
         } else if (clazz == Long.class) {
             int intValue = number.intValue();
@@ -272,6 +272,15 @@ public final class Numbers {
         return clazz == Long.class || clazz == Integer.class || clazz == Short.class || clazz == Byte.class;
     }
 
+    /**
+     * @return {@code true} if instances of the given class can be represented
+     * as int values without any magnitude and precision losses, {@code false}
+     * otherwise.
+     */
+    public static boolean isIntRepresentable(Class clazz) {
+        return clazz == Integer.class || clazz == Short.class || clazz == Byte.class;
+    }
+
     /**
      * Checks the provided long and double values for equality.
      * <p>
@@ -307,10 +316,6 @@ public final class Numbers {
         return l == (long) d;
     }
 
-    private static boolean isLongRepresentableExceptLong(Class clazz) {
-        return clazz == Integer.class || clazz == Short.class || clazz == Byte.class;
-    }
-
     @SuppressWarnings("checkstyle:magicnumber")
     private static int compareLongWithDouble(long l, double d) {
         if (d > -0x1p53 && d < +0x1p53) {
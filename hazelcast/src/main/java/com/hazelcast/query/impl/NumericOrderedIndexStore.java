@@ -0,0 +1,658 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.core.TypeConverter;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.LongBPlusTree.Cursor;
+import com.hazelcast.query.impl.LongBPlusTree.KeyComparator;
+
+import javax.annotation.Nonnull;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+import static com.hazelcast.query.impl.CompositeValue.POSITIVE_INFINITY;
+import static com.hazelcast.query.impl.OrderedIndexStore.SPECIAL_AWARE_COMPARATOR;
+import static java.util.Collections.emptyIterator;
+import static java.util.Collections.emptySet;
+
+/**
+ * Store indexes rankly, specialized for numeric attributes.
+ * <p>
+ * The store binds itself to the type of the first non-null attribute value
+ * inserted into it. If it is one of the primitive wrapper numeric types, the
+ * values are encoded as order-preserving {@code long} keys of a
+ * {@link LongBPlusTree} whose values are compact {@link Postings posting
+ * lists}, so neither the keys are boxed nor a skip list is allocated per
+ * distinct value. Otherwise, or once a value of another type is inserted, the
+ * store falls back to an {@link OrderedIndexStore} holding all the entries,
+ * so the store behaves exactly as an {@link OrderedIndexStore} in all cases.
+ * <p>
+ * Updates are serialized by the global lock, the readers of the tree don't
+ * take any locks and see a consistent snapshot of it.
+ */
+@SuppressWarnings("rawtypes")
+public class NumericOrderedIndexStore extends BaseSingleValueIndexStore {
+
+    private final IndexCopyBehavior copyOn;
+    private final boolean copyOnWrite;
+    private final LongBPlusTree tree = new LongBPlusTree();
+
+    /**
+     * The posting list of the entries whose attribute value is {@code null},
+     * they precede all other entries.
+     */
+    private volatile Object nullPosting;
+    private volatile KeyType keyType;
+    private volatile OrderedIndexStore fallback;
+
+    public NumericOrderedIndexStore(IndexCopyBehavior copyOn) {
+        super(copyOn, true);
+        assert copyOn != null;
+        this.copyOn = copyOn;
+        this.copyOnWrite = copyOn == IndexCopyBehavior.COPY_ON_WRITE;
+    }
+
+    /**
+     * @return {@code true} if the store fell back to a generic
+     * {@link OrderedIndexStore} because of non-numeric or mixed-type values
+     */
+    boolean isFallback() {
+        return fallback != null;
+    }
+
+    @Override
+    Object insertInternal(Comparable value, QueryableEntry record) {
+        OrderedIndexStore fallback = this.fallback;
+        if (fallback != null) {
+            return fallback.insertInternal(value, record);
+        }
+        if (value == NULL) {
+            QueryableEntry oldEntry = Postings.get(nullPosting, record.getKeyData());
+            nullPosting = Postings.add(nullPosting, record, copyOnWrite);
+            return oldEntry;
+        }
+
+        KeyType type = keyType;
+        if (type == null) {
+            type = KeyType.of(value.getClass());
+            if (type == null) {
+                return fallBack().insertInternal(value, record);
+            }
+            keyType = type;
+        } else if (value.getClass() != type.valueClass) {
+            return fallBack().insertInternal(value, record);
+        }
+
+        long key = type.encode((Number) value);
+        Object posting = tree.get(key);
+        QueryableEntry oldEntry = Postings.get(posting, record.getKeyData());
+        Object newPosting = Postings.add(posting, record, copyOnWrite);
+        if (newPosting != posting) {
+            tree.put(key, newPosting);
+        }
+        return oldEntry;
+    }
+
+    @Override
+    Object removeInternal(Comparable value, Data recordKey) {
+        OrderedIndexStore fallback = this.fallback;
+        if (fallback != null) {
+            return fallback.removeInternal(value, recordKey);
+        }
+        if (value == NULL) {
+            QueryableEntry oldEntry = Postings.get(nullPosting, recordKey);
+            if (oldEntry != null) {
+                nullPosting = Postings.remove(nullPosting, recordKey, copyOnWrite);
+            }
+            return oldEntry;
+        }
+
+        KeyType type = keyType;
+        if (type == null) {
+            return null;
+        }
+        long key;
+        Object posting;
+        if (type.isEncodable(value)) {
+            key = type.encode((Number) value);
+            posting = tree.get(key);
+        } else {
+            Cursor cursor = find(type, value);
+            if (cursor == null) {
+                return null;
+            }
+            key = cursor.key();
+            posting = cursor.value();
+        }
+        QueryableEntry oldEntry = Postings.get(posting, recordKey);
+        if (oldEntry == null) {
+            return null;
+        }
+        Object newPosting = Postings.remove(posting, recordKey, copyOnWrite);
+        if (newPosting == null) {
+            tree.remove(key);
+        } else if (newPosting != posting) {
+            tree.put(key, newPosting);
+        }
+        return oldEntry;
+    }
+
+    @Override
+    public Comparable canonicalizeQueryArgumentScalar(Comparable value) {
+        // We still need to canonicalize query arguments for ordered indexes to
+        // support InPredicate queries.
+        return Comparables.canonicalizeForHashLookup(value);
+    }
+
+    @Override
+    public Comparable canonicalizeScalarForStorage(Comparable value) {
+        // Returning the original value since ordered indexes are not supporting
+        // hash lookups on their stored values, so there is no need in providing
+        // canonical representations.
+        return value;
+    }
+
+    @Override
+    public void clear() {
+        takeWriteLock();
+        try {
+            OrderedIndexStore fallback = this.fallback;
+            if (fallback != null) {
+                fallback.clear();
+            }
+            tree.clear();
+            nullPosting = null;
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    @Override
+    public boolean isEvaluateOnly() {
+        return false;
+    }
+
+    @Override
+    public boolean canEvaluate(Class<? extends Predicate> predicateClass) {
+        return false;
+    }
+
+    @Override
+    public Set<QueryableEntry> evaluate(Predicate predicate, TypeConverter converter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(boolean descending) {
+        return new OrderedIndexStore.IteratorFromBatch(getSqlRecordIteratorBatch(descending));
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(@Nonnull Comparable value) {
+        return new OrderedIndexStore.IteratorFromBatch(getSqlRecordIteratorBatch(value, false));
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(Comparison comparison, Comparable searchedValue, boolean descending) {
+        return new OrderedIndexStore.IteratorFromBatch(getSqlRecordIteratorBatch(comparison, searchedValue, descending));
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(
+            Comparable from,
+            boolean fromInclusive,
+            Comparable to,
+            boolean toInclusive,
+            boolean descending
+    ) {
+        return new OrderedIndexStore.IteratorFromBatch(
+                getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive, descending));
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(@Nonnull Comparable value, boolean descending) {
+        return getSqlRecordIteratorBatch(value, descending, null);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparable value,
+            boolean descending,
+            Data lastEntryKeyData
+    ) {
+        OrderedIndexStore fallback = this.fallback;
+        if (fallback != null) {
+            return fallback.getSqlRecordIteratorBatch(value, descending, lastEntryKeyData);
+        }
+
+        Object posting = posting(value);
+        if (posting == null) {
+            return emptyIterator();
+        }
+        return Stream.of(
+                new IndexKeyEntries(
+                        value,
+                        Postings.iterator(posting, descending, lastEntryKeyData)
+                )
+        ).iterator();
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(boolean descending) {
+        OrderedIndexStore fallback = this.fallback;
+        if (fallback != null) {
+            return fallback.getSqlRecordIteratorBatch(descending);
+        }
+        return new IndexKeyEntriesIterator(NULL, true, POSITIVE_INFINITY, true, descending, null);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparison comparison,
+            @Nonnull Comparable searchedValue,
+            boolean descending
+    ) {
+        return getSqlRecordIteratorBatch(comparison, searchedValue, descending, null);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparison comparison,
+            @Nonnull Comparable searchedValue,
+            boolean descending,
+            Data lastEntryKeyData
+    ) {
+        switch (comparison) {
+            case LESS:
+                return getSqlRecordIteratorBatch(NULL, false, searchedValue, false, descending, lastEntryKeyData);
+            case LESS_OR_EQUAL:
+                return getSqlRecordIteratorBatch(NULL, false, searchedValue, true, descending, lastEntryKeyData);
+            case GREATER:
+                return getSqlRecordIteratorBatch(searchedValue, false, POSITIVE_INFINITY, true, descending, lastEntryKeyData);
+            case GREATER_OR_EQUAL:
+                return getSqlRecordIteratorBatch(searchedValue, true, POSITIVE_INFINITY, true, descending, lastEntryKeyData);
+            default:
+                throw new IllegalArgumentException("Unrecognized comparison: " + comparison);
+        }
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparable from,
+            boolean fromInclusive,
+            @Nonnull Comparable to,
+            boolean toInclusive,
+            boolean descending
+    ) {
+        return getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive, descending, null);
+    }
+
+    @Override
+    @SuppressWarnings({"checkstyle:NPathComplexity", "checkstyle:CyclomaticComplexity"})
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparable from,
+            boolean fromInclusive,
+            @Nonnull Comparable to,
+            boolean toInclusive,
+            boolean descending,
+            Data lastEntryKeyData
+    ) {
+        OrderedIndexStore fallback = this.fallback;
+        if (fallback != null) {
+            return fallback.getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive, descending, lastEntryKeyData);
+        }
+
+        boolean useCursor = lastEntryKeyData != null;
+        if (useCursor && !descending && !fromInclusive) {
+            throw new IllegalArgumentException("If `lastEntryKeyData` is not null then `from` must be inclusive");
+        }
+        if (useCursor && descending && !toInclusive) {
+            throw new IllegalArgumentException("If `lastEntryKeyData` is not null then `to` must be inclusive");
+        }
+
+        int order = SPECIAL_AWARE_COMPARATOR.compare(from, to);
+        if (order == 0) {
+            if (!fromInclusive || !toInclusive) {
+                return emptyIterator();
+            }
+            return getSqlRecordIteratorBatch(from, descending, lastEntryKeyData);
+        } else if (order > 0) {
+            return emptyIterator();
+        }
+        return new IndexKeyEntriesIterator(from, fromInclusive, to, toInclusive, descending, lastEntryKeyData);
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable value) {
+        takeReadLock();
+        try {
+            OrderedIndexStore fallback = this.fallback;
+            if (fallback != null) {
+                return fallback.getRecords(value);
+            }
+            return toSingleResultSet(Postings.asMap(posting(value)));
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Set<Comparable> values) {
+        takeReadLock();
+        try {
+            OrderedIndexStore fallback = this.fallback;
+            if (fallback != null) {
+                return fallback.getRecords(values);
+            }
+            MultiResultSet results = createMultiResultSet();
+            for (Comparable value : values) {
+                Object posting = posting(value);
+                if (posting != null) {
+                    copyToMultiResultSet(results, Postings.asMap(posting));
+                }
+            }
+            return results;
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparison comparison, Comparable searchedValue) {
+        switch (comparison) {
+            case LESS:
+                return getRecords(NULL, false, searchedValue, false);
+            case LESS_OR_EQUAL:
+                return getRecords(NULL, false, searchedValue, true);
+            case GREATER:
+                return getRecords(searchedValue, false, POSITIVE_INFINITY, true);
+            case GREATER_OR_EQUAL:
+                return getRecords(searchedValue, true, POSITIVE_INFINITY, true);
+            default:
+                throw new IllegalArgumentException("Unrecognized comparison: " + comparison);
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive) {
+        takeReadLock();
+        try {
+            OrderedIndexStore fallback = this.fallback;
+            if (fallback != null) {
+                return fallback.getRecords(from, fromInclusive, to, toInclusive);
+            }
+            int order = SPECIAL_AWARE_COMPARATOR.compare(from, to);
+            if (order == 0) {
+                if (!fromInclusive || !toInclusive) {
+                    return emptySet();
+                }
+                return toSingleResultSet(Postings.asMap(posting(from)));
+            } else if (order > 0) {
+                return emptySet();
+            }
+            MultiResultSet results = createMultiResultSet();
+            Object nullPosting = this.nullPosting;
+            if (nullPosting != null && includesNull(from, fromInclusive)) {
+                copyToMultiResultSet(results, Postings.asMap(nullPosting));
+            }
+            KeyType type = keyType;
+            if (type != null) {
+                Cursor cursor = cursor(type, from, fromInclusive, to, toInclusive, false);
+                while (cursor.next()) {
+                    copyToMultiResultSet(results, Postings.asMap(cursor.value()));
+                }
+            }
+            return results;
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    /**
+     * Moves all the entries to an {@link OrderedIndexStore} which is used from
+     * now on. Must be called under the write lock.
+     */
+    private OrderedIndexStore fallBack() {
+        OrderedIndexStore store = new OrderedIndexStore(copyOn);
+        Postings.forEach(nullPosting, entry -> store.insertInternal(NULL, entry));
+        KeyType type = keyType;
+        if (type != null) {
+            Cursor cursor = tree.cursor(null, true, null, true, false);
+            while (cursor.next()) {
+                Comparable value = type.decode(cursor.key());
+                Postings.forEach(cursor.value(), entry -> store.insertInternal(value, entry));
+            }
+        }
+        fallback = store;
+        tree.clear();
+        nullPosting = null;
+        return store;
+    }
+
+    /**
+     * @return the posting list of the given attribute value or {@code null}
+     * if there is none
+     */
+    private Object posting(Comparable value) {
+        if (value == NULL) {
+            return nullPosting;
+        }
+        KeyType type = keyType;
+        if (type == null) {
+            return null;
+        }
+        if (type.isEncodable(value)) {
+            return tree.get(type.encode((Number) value));
+        }
+        Cursor cursor = find(type, value);
+        return cursor == null ? null : cursor.value();
+    }
+
+    /**
+     * Finds the key equal to the given value, which may be of any type
+     * comparable with the type of the keys.
+     *
+     * @return the cursor positioned at the found key or {@code null} if there
+     * is no such key
+     */
+    private Cursor find(KeyType type, Comparable value) {
+        Cursor cursor = cursor(type, value, true, value, true, false);
+        return cursor.next() ? cursor : null;
+    }
+
+    private Cursor cursor(KeyType type, Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive,
+                          boolean descending) {
+        // all the keys are greater than NULL and less than POSITIVE_INFINITY
+        KeyComparator fromComparator = from == NULL ? null : comparator(type, from);
+        KeyComparator toComparator = to == POSITIVE_INFINITY ? null : comparator(type, to);
+        return tree.cursor(fromComparator, fromInclusive, toComparator, toInclusive, descending);
+    }
+
+    private static KeyComparator comparator(KeyType type, Comparable bound) {
+        if (type.isEncodable(bound)) {
+            long encodedBound = type.encode((Number) bound);
+            return key -> Long.compare(key, encodedBound);
+        }
+        return key -> SPECIAL_AWARE_COMPARATOR.compare(type.decode(key), bound);
+    }
+
+    private static boolean includesNull(Comparable from, boolean fromInclusive) {
+        int order = SPECIAL_AWARE_COMPARATOR.compare(from, NULL);
+        return order < 0 || order == 0 && fromInclusive;
+    }
+
+    /**
+     * The numeric types of the attribute values supported by the store. The
+     * values of the integral types are encoded as they are, the values of the
+     * floating-point types are encoded such that the order of the keys is the
+     * order defined by {@link Double#compare}.
+     */
+    private enum KeyType {
+        BYTE(Byte.class, false) {
+            @Override
+            Comparable decode(long key) {
+                return (byte) key;
+            }
+        },
+        SHORT(Short.class, false) {
+            @Override
+            Comparable decode(long key) {
+                return (short) key;
+            }
+        },
+        INT(Integer.class, false) {
+            @Override
+            Comparable decode(long key) {
+                return (int) key;
+            }
+        },
+        LONG(Long.class, false) {
+            @Override
+            Comparable decode(long key) {
+                return key;
+            }
+        },
+        FLOAT(Float.class, true) {
+            @Override
+            Comparable decode(long key) {
+                return (float) decodeDouble(key);
+            }
+        },
+        DOUBLE(Double.class, true) {
+            @Override
+            Comparable decode(long key) {
+                return decodeDouble(key);
+            }
+        };
+
+        private static final KeyType[] VALUES = values();
+
+        final Class<?> valueClass;
+        final boolean floatingPoint;
+
+        KeyType(Class<?> valueClass, boolean floatingPoint) {
+            this.valueClass = valueClass;
+            this.floatingPoint = floatingPoint;
+        }
+
+        abstract Comparable decode(long key);
+
+        /**
+         * @return {@code true} if the given value can be encoded without
+         * changing its order relative to the values of this type
+         */
+        boolean isEncodable(Object value) {
+            Class<?> clazz = value.getClass();
+            return floatingPoint ? Numbers.isDoubleRepresentable(clazz) : Numbers.isLongRepresentable(clazz);
+        }
+
+        long encode(Number value) {
+            if (floatingPoint) {
+                long bits = Double.doubleToLongBits(value.doubleValue());
+                // flip all the bits but the sign bit of the negative values
+                return bits ^ ((bits >> (Long.SIZE - 1)) & Long.MAX_VALUE);
+            }
+            return value.longValue();
+        }
+
+        static double decodeDouble(long key) {
+            return Double.longBitsToDouble(key ^ ((key >> (Long.SIZE - 1)) & Long.MAX_VALUE));
+        }
+
+        static KeyType of(Class<?> valueClass) {
+            for (KeyType type : VALUES) {
+                if (type.valueClass == valueClass) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Iterates over the entries of the attribute values within a range,
+     * including the {@code null} attribute values if the range includes them.
+     */
+    private final class IndexKeyEntriesIterator implements Iterator<IndexKeyEntries> {
+
+        private final KeyType type;
+        private final Cursor cursor;
+        private final boolean descending;
+        private final Comparable cursorBound;
+        private final Data lastEntryKeyData;
+
+        private Object pendingNullPosting;
+        private IndexKeyEntries next;
+
+        IndexKeyEntriesIterator(Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive,
+                                boolean descending, Data lastEntryKeyData) {
+            this.type = keyType;
+            this.cursor = type == null ? null : cursor(type, from, fromInclusive, to, toInclusive, descending);
+            this.descending = descending;
+            this.cursorBound = descending ? to : from;
+            this.lastEntryKeyData = lastEntryKeyData;
+            this.pendingNullPosting = includesNull(from, fromInclusive) ? nullPosting : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public IndexKeyEntries next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            IndexKeyEntries result = next;
+            next = null;
+            return result;
+        }
+
+        private IndexKeyEntries advance() {
+            // the null attribute values precede all other values
+            if (!descending && pendingNullPosting != null) {
+                return nullEntries();
+            }
+            if (cursor != null && cursor.next()) {
+                return entries(type.decode(cursor.key()), cursor.value());
+            }
+            return pendingNullPosting != null ? nullEntries() : null;
+        }
+
+        private IndexKeyEntries nullEntries() {
+            Object posting = pendingNullPosting;
+            pendingNullPosting = null;
+            return entries(NULL, posting);
+        }
+
+        private IndexKeyEntries entries(Comparable indexKey, Object posting) {
+            Data after = lastEntryKeyData != null && SPECIAL_AWARE_COMPARATOR.compare(cursorBound, indexKey) == 0
+                    ? lastEntryKeyData
+                    : null;
+            return new IndexKeyEntries(indexKey, Postings.iterator(posting, descending, after));
+        }
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.internal.serialization.Data;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+import static com.hazelcast.query.impl.OrderedIndexStore.DATA_COMPARATOR;
+import static java.util.Collections.emptyIterator;
+import static java.util.Collections.singletonMap;
+
+/**
+ * Compact posting lists: the entries associated with a single attribute value
+ * in an ordered index, ordered by their key {@link Data}.
+ * <p>
+ * Most attribute values of a numeric attribute are associated with a single
+ * entry, so a posting list is represented as:
+ * <ul>
+ * <li>the {@link QueryableEntry} itself if it contains a single entry,
+ * <li>a sorted {@code QueryableEntry[]} if it contains up to
+ * {@link #MAX_ARRAY_SIZE} entries,
+ * <li>a {@link NavigableMap} from the key to the entry otherwise.
+ * </ul>
+ * Single entries and arrays are immutable, so they can be shared with the
+ * readers. A map is mutated in place, unless the index copies on write, see
+ * {@link IndexCopyBehavior#COPY_ON_WRITE}.
+ */
+final class Postings {
+
+    static final int MAX_ARRAY_SIZE = 16;
+
+    private Postings() {
+    }
+
+    /**
+     * @return the entry with the given key or {@code null} if there is none
+     */
+    @SuppressWarnings("unchecked")
+    static QueryableEntry get(Object posting, Data keyData) {
+        if (posting == null) {
+            return null;
+        } else if (posting instanceof QueryableEntry entry) {
+            return entry.getKeyData().equals(keyData) ? entry : null;
+        } else if (posting instanceof QueryableEntry[] entries) {
+            int index = indexOf(entries, keyData);
+            return index >= 0 ? entries[index] : null;
+        } else {
+            return ((Map<Data, QueryableEntry>) posting).get(keyData);
+        }
+    }
+
+    /**
+     * Adds the given entry to the given posting list, replacing the entry with
+     * the same key if there is any.
+     *
+     * @return the new posting list, which may be the given one if it was
+     * updated in place
+     */
+    @SuppressWarnings("unchecked")
+    static Object add(Object posting, QueryableEntry entry, boolean copyOnWrite) {
+        Data keyData = entry.getKeyData();
+        if (posting == null) {
+            return entry;
+        } else if (posting instanceof QueryableEntry existing) {
+            int order = DATA_COMPARATOR.compare(existing.getKeyData(), keyData);
+            if (order == 0) {
+                return entry;
+            }
+            return order < 0 ? new QueryableEntry[]{existing, entry} : new QueryableEntry[]{entry, existing};
+        } else if (posting instanceof QueryableEntry[] entries) {
+            int index = indexOf(entries, keyData);
+            if (index >= 0) {
+                QueryableEntry[] updated = entries.clone();
+                updated[index] = entry;
+                return updated;
+            } else if (entries.length < MAX_ARRAY_SIZE) {
+                int insertionPoint = -(index + 1);
+                QueryableEntry[] updated = new QueryableEntry[entries.length + 1];
+                System.arraycopy(entries, 0, updated, 0, insertionPoint);
+                updated[insertionPoint] = entry;
+                System.arraycopy(entries, insertionPoint, updated, insertionPoint + 1, entries.length - insertionPoint);
+                return updated;
+            }
+            NavigableMap<Data, QueryableEntry> map = copyOnWrite
+                    ? new TreeMap<>(DATA_COMPARATOR)
+                    : new ConcurrentSkipListMap<>(DATA_COMPARATOR);
+            for (QueryableEntry existing : entries) {
+                map.put(existing.getKeyData(), existing);
+            }
+            map.put(keyData, entry);
+            return map;
+        } else {
+            NavigableMap<Data, QueryableEntry> map = (NavigableMap<Data, QueryableEntry>) posting;
+            if (copyOnWrite) {
+                map = new TreeMap<>(map);
+            }
+            map.put(keyData, entry);
+            return map;
+        }
+    }
+
+    /**
+     * Removes the entry with the given key from the given posting list.
+     *
+     * @return the new posting list, which may be the given one if it was
+     * updated in place, or {@code null} if it became empty
+     */
+    @SuppressWarnings("unchecked")
+    static Object remove(Object posting, Data keyData, boolean copyOnWrite) {
+        if (posting == null) {
+            return null;
+        } else if (posting instanceof QueryableEntry entry) {
+            return entry.getKeyData().equals(keyData) ? null : entry;
+        } else if (posting instanceof QueryableEntry[] entries) {
+            int index = indexOf(entries, keyData);
+            if (index < 0) {
+                return entries;
+            } else if (entries.length == 2) {
+                return entries[1 - index];
+            }
+            QueryableEntry[] updated = new QueryableEntry[entries.length - 1];
+            System.arraycopy(entries, 0, updated, 0, index);
+            System.arraycopy(entries, index + 1, updated, index, updated.length - index);
+            return updated;
+        } else {
+            NavigableMap<Data, QueryableEntry> map = (NavigableMap<Data, QueryableEntry>) posting;
+            if (copyOnWrite) {
+                map = new TreeMap<>(map);
+            }
+            map.remove(keyData);
+            return map.isEmpty() ? null : map;
+        }
+    }
+
+    /**
+     * @return the given posting list as a map from the key to the entry or
+     * {@code null} if the posting list is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    static Map<Data, QueryableEntry> asMap(Object posting) {
+        if (posting == null) {
+            return null;
+        } else if (posting instanceof QueryableEntry entry) {
+            return singletonMap(entry.getKeyData(), entry);
+        } else if (posting instanceof QueryableEntry[] entries) {
+            return new ArrayPostingMap(entries);
+        } else {
+            return (Map<Data, QueryableEntry>) posting;
+        }
+    }
+
+    /**
+     * Iterates over the entries of the given posting list in the order of
+     * their keys.
+     *
+     * @param after if not {@code null}, only the entries following the entry
+     *              with this key in the iteration order are returned
+     */
+    @SuppressWarnings("unchecked")
+    static Iterator<QueryableEntry> iterator(Object posting, boolean descending, Data after) {
+        if (posting == null) {
+            return emptyIterator();
+        } else if (posting instanceof QueryableEntry entry) {
+            return after == null || isAfter(entry.getKeyData(), after, descending)
+                    ? Collections.singleton(entry).iterator()
+                    : emptyIterator();
+        } else if (posting instanceof QueryableEntry[] entries) {
+            return new ArrayPostingIterator(entries, startIndex(entries, descending, after), descending);
+        } else {
+            NavigableMap<Data, QueryableEntry> map = (NavigableMap<Data, QueryableEntry>) posting;
+            if (descending) {
+                map = map.descendingMap();
+            }
+            if (after != null) {
+                map = map.tailMap(after, false);
+            }
+            return map.values().iterator();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static void forEach(Object posting, Consumer<QueryableEntry> action) {
+        if (posting == null) {
+            return;
+        } else if (posting instanceof QueryableEntry entry) {
+            action.accept(entry);
+        } else if (posting instanceof QueryableEntry[] entries) {
+            for (QueryableEntry entry : entries) {
+                action.accept(entry);
+            }
+        } else {
+            ((Map<Data, QueryableEntry>) posting).values().forEach(action);
+        }
+    }
+
+    private static int startIndex(QueryableEntry[] entries, boolean descending, Data after) {
+        if (after == null) {
+            return descending ? entries.length - 1 : 0;
+        }
+        int index = indexOf(entries, after);
+        if (index >= 0) {
+            return descending ? index - 1 : index + 1;
+        }
+        int insertionPoint = -(index + 1);
+        return descending ? insertionPoint - 1 : insertionPoint;
+    }
+
+    private static boolean isAfter(Data keyData, Data after, boolean descending) {
+        int order = DATA_COMPARATOR.compare(keyData, after);
+        return descending ? order < 0 : order > 0;
+    }
+
+    private static int indexOf(QueryableEntry[] entries, Data keyData) {
+        int low = 0;
+        int high = entries.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int order = DATA_COMPARATOR.compare(entries[mid].getKeyData(), keyData);
+            if (order < 0) {
+                low = mid + 1;
+            } else if (order > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static final class ArrayPostingIterator implements Iterator<QueryableEntry> {
+
+        private final QueryableEntry[] entries;
+        private final boolean descending;
+        private int index;
+
+        ArrayPostingIterator(QueryableEntry[] entries, int start, boolean descending) {
+            this.entries = entries;
+            this.index = start;
+            this.descending = descending;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index >= 0 && index < entries.length;
+        }
+
+        @Override
+        public QueryableEntry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            QueryableEntry entry = entries[index];
+            index += descending ? -1 : 1;
+            return entry;
+        }
+    }
+
+    /**
+     * A read-only map view of an array posting list.
+     */
+    private static final class ArrayPostingMap extends AbstractMap<Data, QueryableEntry> {
+
+        private final QueryableEntry[] entries;
+
+        ArrayPostingMap(QueryableEntry[] entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public int size() {
+            return entries.length;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Data keyData && indexOf(entries, keyData) >= 0;
+        }
+
+        @Override
+        public QueryableEntry get(Object key) {
+            if (!(key instanceof Data keyData)) {
+                return null;
+            }
+            int index = indexOf(entries, keyData);
+            return index >= 0 ? entries[index] : null;
+        }
+
+        @Override
+        public Collection<QueryableEntry> values() {
+            return Collections.unmodifiableList(Arrays.asList(entries));
+        }
+
+        @Override
+        public Set<Entry<Data, QueryableEntry>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<Data, QueryableEntry>> iterator() {
+                    Iterator<QueryableEntry> iterator = values().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<Data, QueryableEntry> next() {
+                            QueryableEntry entry = iterator.next();
+                            return new SimpleImmutableEntry<>(entry.getKeyData(), entry);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return entries.length;
+                }
+            };
+        }
+    }
+}
@@ -132,6 +132,9 @@ public class QueryEntry extends QueryableEntry {
         if (this == o) {
             return true;
         }
+        if (o instanceof CoveringQueryEntry) {
+            return o.equals(this);
+        }
         if (o == null || getClass() != o.getClass()) {
             return false;
         }
@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.ringbuffer.impl;
+
+import com.hazelcast.core.HazelcastException;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.util.collection.Int2ObjectHashMap;
+import com.hazelcast.ringbuffer.StaleSequenceException;
+import com.hazelcast.spi.properties.HazelcastProperties;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE;
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE_AVAILABLE;
+import static com.hazelcast.internal.nio.IOUtil.deleteQuietly;
+import static com.hazelcast.spi.properties.ClusterProperty.RINGBUFFER_MAPPED_SEGMENT_SIZE;
+import static com.hazelcast.spi.properties.ClusterProperty.RINGBUFFER_MAPPED_STORAGE_DIR;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+
+/**
+ * A {@link Ringbuffer} which keeps the serialized items in memory-mapped
+ * segment files instead of on the Java heap.
+ * <p>
+ * Items are appended to the active segment file and the ringbuffer only
+ * keeps the position and the length of the item in each slot, which costs
+ * 12 bytes of heap per slot regardless of the size of the items. Once the
+ * active segment is full, a new one is created. Since items are appended in
+ * sequence order and overwritten in the same order, the oldest segments stop
+ * being referenced as the ringbuffer wraps around, at which point they are
+ * unmapped and deleted.
+ * <p>
+ * Reading an item copies it from the mapped segment into a new {@link HeapData}
+ * once, without any intermediate buffers. Like the {@link ArrayRingbuffer},
+ * this ringbuffer is only accessed by the partition thread, except for
+ * {@link #destroy()} which may be called by any thread and is therefore
+ * synchronized with the accesses to the segments.
+ * <p>
+ * The mapped files only move the items off the heap, they do not make the
+ * ringbuffer persistent: each ringbuffer maps its segments in a new
+ * directory, they are deleted when the ringbuffer is {@link #destroy()
+ * destroyed} and they are not recovered after a restart of the member.
+ * Use a {@link com.hazelcast.ringbuffer.RingbufferStore} for that.
+ */
+public class MappedRingbuffer implements Ringbuffer<Data> {
+
+    private static final long NULL_ADDRESS = -1;
+    private static final int SEGMENT_ID_SHIFT = 32;
+    private static final long OFFSET_MASK = 0xFFFFFFFFL;
+
+    private final File directory;
+    private final int segmentSize;
+    private final int capacity;
+    // (segment ID << 32) | offset of the item in the segment for each slot
+    private final long[] addresses;
+    private final int[] lengths;
+    private final Int2ObjectHashMap<Segment> segments = new Int2ObjectHashMap<>();
+
+    private Segment activeSegment;
+    private int nextSegmentId;
+    private long tailSequence = -1;
+    private long headSequence = tailSequence + 1;
+
+    /**
+     * @param capacity    the capacity of the ringbuffer
+     * @param directory   the directory to create the segment files in, it
+     *                    is created if it doesn't exist
+     * @param segmentSize the size of the segment files in bytes
+     */
+    public MappedRingbuffer(int capacity, File directory, int segmentSize) {
+        this.capacity = capacity;
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.addresses = new long[capacity];
+        this.lengths = new int[capacity];
+        Arrays.fill(addresses, NULL_ADDRESS);
+        try {
+            Files.createDirectories(directory.toPath());
+        } catch (IOException e) {
+            throw new HazelcastException("Could not create the ringbuffer storage directory " + directory, e);
+        }
+    }
+
+    /**
+     * Creates a memory-mapped ringbuffer in a new directory under the
+     * directory configured with the
+     * {@link com.hazelcast.spi.properties.ClusterProperty#RINGBUFFER_MAPPED_STORAGE_DIR}
+     * property.
+     *
+     * @param name       the name of the ringbuffer, used as the prefix of the directory name
+     * @param capacity   the capacity of the ringbuffer
+     * @param properties the properties of the member
+     * @return the created ringbuffer
+     */
+    public static MappedRingbuffer create(String name, int capacity, HazelcastProperties properties) {
+        String baseDir = properties.getString(RINGBUFFER_MAPPED_STORAGE_DIR);
+        Path basePath = Paths.get(baseDir != null ? baseDir : System.getProperty("java.io.tmpdir"));
+        try {
+            Files.createDirectories(basePath);
+            Path directory = Files.createTempDirectory(basePath, name.replaceAll("[^A-Za-z0-9._-]", "_") + '-');
+            return new MappedRingbuffer(capacity, directory.toFile(), properties.getInteger(RINGBUFFER_MAPPED_SEGMENT_SIZE));
+        } catch (IOException e) {
+            throw new HazelcastException("Could not create the storage directory of the ringbuffer " + name
+                    + " under " + basePath, e);
+        }
+    }
+
+    @Override
+    public long tailSequence() {
+        return tailSequence;
+    }
+
+    @Override
+    public long peekNextTailSequence() {
+        return tailSequence + 1;
+    }
+
+    @Override
+    public void setTailSequence(long sequence) {
+        this.tailSequence = sequence;
+    }
+
+    @Override
+    public long headSequence() {
+        return headSequence;
+    }
+
+    @Override
+    public void setHeadSequence(long sequence) {
+        this.headSequence = sequence;
+    }
+
+    @Override
+    public long getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public long size() {
+        return tailSequence - headSequence + 1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public long add(Data item) {
+        tailSequence++;
+
+        if (tailSequence - capacity == headSequence) {
+            headSequence++;
+        }
+
+        write(toIndex(tailSequence), item);
+        return tailSequence;
+    }
+
+    @Override
+    public Data read(long sequence) {
+        checkReadSequence(sequence);
+        return readSlot(toIndex(sequence));
+    }
+
+    @Override
+    public void checkBlockableReadSequence(long readSequence) {
+        if (readSequence > tailSequence + 1) {
+            throw new IllegalArgumentException("sequence:" + readSequence
+                    + " is too large. The current tailSequence is:" + tailSequence);
+        }
+
+        if (readSequence < headSequence) {
+            throw new StaleSequenceException("sequence:" + readSequence
+                    + " is too small. The current headSequence is:" + headSequence
+                    + " tailSequence is:" + tailSequence, headSequence);
+        }
+    }
+
+    @Override
+    public void checkReadSequence(long sequence) {
+        if (sequence > tailSequence) {
+            throw new IllegalArgumentException("sequence:" + sequence
+                    + " is too large. The current tailSequence is:" + tailSequence);
+        }
+
+        if (sequence < headSequence) {
+            throw new StaleSequenceException("sequence:" + sequence
+                    + " is too small. The current headSequence is:" + headSequence
+                    + " tailSequence is:" + tailSequence, headSequence);
+        }
+    }
+
+    @Override
+    public void set(long seq, Data data) {
+        write(toIndex(seq), data);
+    }
+
+    @Override
+    public synchronized void clear() {
+        for (int slot = 0; slot < capacity; slot++) {
+            release(slot);
+        }
+        if (activeSegment != null) {
+            segments.remove(activeSegment.id);
+            activeSegment.delete();
+            activeSegment = null;
+        }
+        tailSequence = -1;
+        headSequence = tailSequence + 1;
+    }
+
+    @Override
+    public Iterator<Data> iterator() {
+        return new ReadOnlyRingbufferIterator<>(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned array is a copy of the items, so changes to it are not
+     * reflected in the ringbuffer.
+     */
+    @Override
+    public Data[] getItems() {
+        Data[] items = new Data[capacity];
+        for (int slot = 0; slot < capacity; slot++) {
+            items[slot] = readSlot(slot);
+        }
+        return items;
+    }
+
+    /**
+     * Unmaps and deletes the segment files and deletes the directory of this
+     * ringbuffer. All slots are released, so reading a destroyed ringbuffer
+     * returns {@code null} items instead of accessing an unmapped segment.
+     */
+    @Override
+    public synchronized void destroy() {
+        Arrays.fill(addresses, NULL_ADDRESS);
+        for (Segment segment : segments.values()) {
+            segment.delete();
+        }
+        segments.clear();
+        activeSegment = null;
+        deleteQuietly(directory);
+    }
+
+    /**
+     * Returns the number of segment files this ringbuffer currently maps.
+     */
+    int segmentCount() {
+        return segments.size();
+    }
+
+    File getDirectory() {
+        return directory;
+    }
+
+    private int toIndex(long sequence) {
+        return (int) (sequence % capacity);
+    }
+
+    private synchronized Data readSlot(int slot) {
+        long address = addresses[slot];
+        if (address == NULL_ADDRESS) {
+            return null;
+        }
+        byte[] bytes = new byte[lengths[slot]];
+        segments.get((int) (address >>> SEGMENT_ID_SHIFT)).buffer.get((int) (address & OFFSET_MASK), bytes);
+        return new HeapData(bytes);
+    }
+
+    private synchronized void write(int slot, Data item) {
+        release(slot);
+        if (item == null) {
+            return;
+        }
+
+        byte[] bytes = item.toByteArray();
+        int length = bytes != null ? bytes.length : 0;
+        Segment segment = segmentWithRoomFor(length);
+        int offset = segment.position;
+        if (length > 0) {
+            segment.buffer.put(offset, bytes);
+        }
+        segment.position += length;
+        segment.liveItems++;
+        addresses[slot] = ((long) segment.id << SEGMENT_ID_SHIFT) | offset;
+        lengths[slot] = length;
+    }
+
+    private void release(int slot) {
+        long address = addresses[slot];
+        if (address == NULL_ADDRESS) {
+            return;
+        }
+        addresses[slot] = NULL_ADDRESS;
+        int segmentId = (int) (address >>> SEGMENT_ID_SHIFT);
+        Segment segment = segments.get(segmentId);
+        if (--segment.liveItems == 0 && segment != activeSegment) {
+            segments.remove(segmentId);
+            segment.delete();
+        }
+    }
+
+    private Segment segmentWithRoomFor(int length) {
+        Segment active = activeSegment;
+        if (active != null && active.buffer.capacity() - active.position >= length) {
+            return active;
+        }
+        if (active != null && active.liveItems == 0) {
+            segments.remove(active.id);
+            active.delete();
+        }
+
+        // items larger than a segment get a segment of their own
+        Segment segment = new Segment(directory, nextSegmentId++, Math.max(segmentSize, length));
+        segments.put(segment.id, segment);
+        activeSegment = segment;
+        return segment;
+    }
+
+    /**
+     * A memory-mapped file the items are appended to.
+     */
+    private static final class Segment {
+
+        private final int id;
+        private final File file;
+        private final MappedByteBuffer buffer;
+        private int position;
+        private int liveItems;
+
+        Segment(File directory, int id, int size) {
+            this.id = id;
+            this.file = new File(directory, "segment-" + id + ".dat");
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(size);
+                // the mapping stays valid after the file is closed
+                this.buffer = raf.getChannel().map(READ_WRITE, 0, size);
+            } catch (IOException e) {
+                throw new HazelcastException("Could not create the ringbuffer segment file " + file, e);
+            }
+        }
+
+        /**
+         * Unmaps the segment before deleting the file, otherwise the mapping
+         * keeps the disk space (and on some platforms the file) until the
+         * buffer is garbage collected. The buffer must not be accessed after
+         * this call.
+         */
+        void delete() {
+            if (UNSAFE_AVAILABLE) {
+                UNSAFE.invokeCleaner(buffer);
+            }
+            deleteQuietly(file);
+        }
+    }
+}
@@ -185,4 +185,11 @@ public interface Ringbuffer<E> extends Iterable<E> {
      * sequence and the modulo of the array.
      */
     E[] getItems();
+
+    /**
+     * Releases the resources this ringbuffer holds outside the Java heap.
+     * The ringbuffer must not be modified afterwards.
+     */
+    default void destroy() {
+    }
 }
@@ -126,7 +126,7 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
         this(namespace, partitionId, config.getUserCodeNamespace());
 
         this.inMemoryFormat = config.getInMemoryFormat();
-        this.ringbuffer = new ArrayRingbuffer<>(config.getCapacity());
+        this.ringbuffer = createRingbuffer(config, config.getCapacity(), nodeEngine);
 
         final long ttlMs = SECONDS.toMillis(config.getTimeToLiveSeconds());
         if (ttlMs != TTL_DISABLED) {
@@ -149,9 +149,33 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
         this.config = config;
         this.userCodeNamespace = config.getUserCodeNamespace();
         this.serializationService = nodeEngine.getSerializationService();
+        if (config.isMemoryMappedStorageEnabled() && !(ringbuffer instanceof MappedRingbuffer)) {
+            // a replicated container is read into an on-heap ringbuffer since
+            // the member properties are not available at that time
+            moveToMappedRingbuffer(nodeEngine);
+        }
         initRingbufferStore(NamespaceUtil.getClassLoaderForNamespace(nodeEngine, config.getUserCodeNamespace()), nodeEngine);
     }
 
+    @SuppressWarnings("unchecked")
+    private Ringbuffer<E> createRingbuffer(RingbufferConfig config, int capacity, NodeEngine nodeEngine) {
+        if (config.isMemoryMappedStorageEnabled()) {
+            return (Ringbuffer<E>) MappedRingbuffer.create(objectNamespace.getObjectName(), capacity,
+                    nodeEngine.getProperties());
+        }
+        return new ArrayRingbuffer<>(capacity);
+    }
+
+    private void moveToMappedRingbuffer(NodeEngine nodeEngine) {
+        Ringbuffer<E> mappedRingbuffer = createRingbuffer(config, (int) ringbuffer.getCapacity(), nodeEngine);
+        mappedRingbuffer.setTailSequence(ringbuffer.tailSequence());
+        mappedRingbuffer.setHeadSequence(ringbuffer.headSequence());
+        for (long seq = ringbuffer.headSequence(); seq <= ringbuffer.tailSequence(); seq++) {
+            mappedRingbuffer.set(seq, ringbuffer.read(seq));
+        }
+        ringbuffer = mappedRingbuffer;
+    }
+
     private void initRingbufferStore(ClassLoader classLoader, NodeEngine nodeEngine) {
         this.store = RingbufferStoreWrapper.create(objectNamespace,
                 config.getRingbufferStoreConfig(),
@@ -709,6 +733,15 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
         return emptyRingWaitNotifyKey;
     }
 
+    /**
+     * Releases the resources of the ringbuffer which are not on the Java heap,
+     * like the segment files of a memory-mapped ringbuffer. Called when the
+     * container is removed from the {@link RingbufferService}.
+     */
+    public void destroy() {
+        ringbuffer.destroy();
+    }
+
     /**
      * Clears the data in the ringbuffer.
      */
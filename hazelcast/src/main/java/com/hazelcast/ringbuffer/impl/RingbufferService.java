@@ -152,11 +152,19 @@ public class RingbufferService implements ManagedService, RemoteService, Chunked
         if (partitionContainers == null) {
             return;
         }
-        partitionContainers.remove(namespace);
+        final RingbufferContainer container = partitionContainers.remove(namespace);
+        if (container != null) {
+            container.destroy();
+        }
     }
 
     @Override
     public void reset() {
+        for (Map<ObjectNamespace, RingbufferContainer> partitionContainers : containers.values()) {
+            for (RingbufferContainer container : partitionContainers.values()) {
+                container.destroy();
+            }
+        }
         containers.clear();
     }
 
@@ -236,7 +244,10 @@ public class RingbufferService implements ManagedService, RemoteService, Chunked
         checkNotNull(ringbuffer, "ringbuffer can't be null");
         ringbuffer.init(config, nodeEngine);
         ringbuffer.getStore().instrument(nodeEngine);
-        getOrCreateRingbufferContainers(partitionId).put(ringbuffer.getNamespace(), ringbuffer);
+        RingbufferContainer previous = getOrCreateRingbufferContainers(partitionId).put(ringbuffer.getNamespace(), ringbuffer);
+        if (previous != null && previous != ringbuffer) {
+            previous.destroy();
+        }
     }
 
     @Override
@@ -297,6 +308,7 @@ public class RingbufferService implements ManagedService, RemoteService, Chunked
             final RingbufferContainer container = entry.getValue();
             if (thresholdReplicaIndex < 0 || container.getConfig().getTotalBackupCount() < thresholdReplicaIndex) {
                 iterator.remove();
+                container.destroy();
             }
         }
     }
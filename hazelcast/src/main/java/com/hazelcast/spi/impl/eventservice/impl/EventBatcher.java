@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.eventservice.impl;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.spi.impl.executionservice.ExecutionService;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.ObjIntConsumer;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.readIntB;
+import static com.hazelcast.internal.nio.Bits.writeIntB;
+import static com.hazelcast.internal.nio.Packet.FLAG_EVENT_BATCH;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Accumulates the serialized remote events per subscriber member and sends
+ * them in a single {@link Packet} flagged with {@link Packet#FLAG_EVENT_BATCH},
+ * once the batch is full or the batching window elapsed.
+ * <p>
+ * The payload of a batch packet is a sequence of the order key of an event,
+ * the size of the serialized {@link EventEnvelope} and the envelope itself.
+ * The receiving member {@link #unpack unpacks} the envelopes, so each of them
+ * is processed on the event thread of its order key, the same way as events
+ * sent in packets of their own. A batch is sent while holding its lock, so
+ * the batches to a member, and the events of an order key, are sent in the
+ * order the events were published.
+ */
+class EventBatcher {
+
+    private static final int ENTRY_HEADER_SIZE = 2 * INT_SIZE_IN_BYTES;
+
+    private final EventServiceImpl eventService;
+    private final long windowMicros;
+    private final int maxBatchSize;
+    private final int maxBatchBytes;
+    private final ConcurrentMap<Address, Batch> batches = new ConcurrentHashMap<>();
+
+    EventBatcher(EventServiceImpl eventService, long windowMicros, int maxBatchSize, int maxBatchBytes) {
+        this.eventService = eventService;
+        this.windowMicros = windowMicros;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchBytes = maxBatchBytes;
+    }
+
+    /**
+     * Adds the serialized event to the batch of the subscriber. The batch is
+     * sent right away if it is full.
+     */
+    void add(Address subscriber, byte[] eventEnvelope, int orderKey) {
+        batches.computeIfAbsent(subscriber, Batch::new).add(eventEnvelope, orderKey);
+    }
+
+    /**
+     * Sends the batch of the subscriber, if there is any.
+     */
+    void flush(Address subscriber) {
+        Batch batch = batches.get(subscriber);
+        if (batch != null) {
+            batch.flush();
+        }
+    }
+
+    /**
+     * Drops the batch of a member which left the cluster.
+     */
+    void remove(Address subscriber) {
+        batches.remove(subscriber);
+    }
+
+    /**
+     * Passes the serialized event envelopes of a batch payload, along with
+     * their order keys, to the given consumer in the order they were batched.
+     */
+    static void unpack(byte[] payload, ObjIntConsumer<byte[]> consumer) {
+        int position = 0;
+        while (position < payload.length) {
+            int orderKey = readIntB(payload, position);
+            int length = readIntB(payload, position + INT_SIZE_IN_BYTES);
+            position += ENTRY_HEADER_SIZE;
+            consumer.accept(Arrays.copyOfRange(payload, position, position + length), orderKey);
+            position += length;
+        }
+    }
+
+    private final class Batch {
+
+        private final Address subscriber;
+        // the buffer is reused by the consecutive batches
+        private byte[] buffer = new byte[0];
+        private int position;
+        private int size;
+        private boolean flushScheduled;
+
+        Batch(Address subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        synchronized void add(byte[] eventEnvelope, int orderKey) {
+            ensureCapacity(ENTRY_HEADER_SIZE + eventEnvelope.length);
+            writeIntB(buffer, position, orderKey);
+            writeIntB(buffer, position + INT_SIZE_IN_BYTES, eventEnvelope.length);
+            System.arraycopy(eventEnvelope, 0, buffer, position + ENTRY_HEADER_SIZE, eventEnvelope.length);
+            position += ENTRY_HEADER_SIZE + eventEnvelope.length;
+            size++;
+
+            if (size >= maxBatchSize || position >= maxBatchBytes) {
+                flush();
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                eventService.nodeEngine.getExecutionService()
+                        .schedule(ExecutionService.ASYNC_EXECUTOR, this::flush, windowMicros, MICROSECONDS);
+            }
+        }
+
+        synchronized void flush() {
+            flushScheduled = false;
+            if (size == 0) {
+                return;
+            }
+
+            Packet packet;
+            if (size == 1) {
+                // a single event is sent the same way as without batching
+                packet = new Packet(Arrays.copyOfRange(buffer, ENTRY_HEADER_SIZE, position), readIntB(buffer, 0))
+                        .setPacketType(Packet.Type.EVENT);
+            } else {
+                packet = new Packet(Arrays.copyOf(buffer, position))
+                        .setPacketType(Packet.Type.EVENT)
+                        .raiseFlags(FLAG_EVENT_BATCH);
+            }
+            position = 0;
+            size = 0;
+            if (buffer.length > 2 * maxBatchBytes) {
+                // don't hold on to the buffer grown by an exceptionally large event
+                buffer = new byte[0];
+            }
+            eventService.transmit(packet, subscriber);
+        }
+
+        private void ensureCapacity(int length) {
+            if (buffer.length - position < length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+            }
+        }
+    }
+}
@@ -20,6 +20,7 @@ import com.hazelcast.cluster.Address;
 import com.hazelcast.cluster.impl.MemberImpl;
 import com.hazelcast.core.HazelcastInstanceNotActiveException;
 import com.hazelcast.internal.cluster.ClusterService;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.metrics.MetricDescriptor;
 import com.hazelcast.internal.metrics.MetricsRegistry;
 import com.hazelcast.internal.metrics.Probe;
@@ -81,6 +82,9 @@ import static com.hazelcast.internal.util.Preconditions.checkNotNull;
 import static com.hazelcast.internal.util.ThreadUtil.createThreadName;
 import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
 import static com.hazelcast.spi.impl.InternalCompletableFuture.newCompletedFuture;
+import static com.hazelcast.spi.properties.ClusterProperty.EVENT_BATCH_MAX_BYTES;
+import static com.hazelcast.spi.properties.ClusterProperty.EVENT_BATCH_MAX_SIZE;
+import static com.hazelcast.spi.properties.ClusterProperty.EVENT_BATCH_WINDOW_MICROS;
 import static com.hazelcast.spi.properties.ClusterProperty.EVENT_QUEUE_CAPACITY;
 import static com.hazelcast.spi.properties.ClusterProperty.EVENT_QUEUE_TIMEOUT_MILLIS;
 import static com.hazelcast.spi.properties.ClusterProperty.EVENT_SYNC_TIMEOUT_MILLIS;
@@ -184,6 +188,9 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
 
     private final ConcurrentMap<UUID, Object> listenerCache = new ConcurrentHashMap<>();
 
+    /** Batches the remote events per subscriber, {@code null} if batching is disabled */
+    private final EventBatcher eventBatcher;
+
     public EventServiceImpl(NodeEngineImpl nodeEngine) {
         this.nodeEngine = nodeEngine;
         this.serializationService = (InternalSerializationService) nodeEngine.getSerializationService();
@@ -194,6 +201,11 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
         this.eventQueueTimeoutMs = hazelcastProperties.getMillis(EVENT_QUEUE_TIMEOUT_MILLIS);
         this.sendEventSyncTimeoutMillis = hazelcastProperties.getInteger(EVENT_SYNC_TIMEOUT_MILLIS);
         this.eventSyncFrequency = loadEventSyncFrequency();
+        long eventBatchWindowMicros = hazelcastProperties.getLong(EVENT_BATCH_WINDOW_MICROS);
+        this.eventBatcher = eventBatchWindowMicros > 0
+                ? new EventBatcher(this, eventBatchWindowMicros, hazelcastProperties.getInteger(EVENT_BATCH_MAX_SIZE),
+                hazelcastProperties.getInteger(EVENT_BATCH_MAX_BYTES))
+                : null;
 
         this.eventExecutor = new StripedExecutor(
                 nodeEngine.getNode().getLogger(EventServiceImpl.class),
@@ -625,14 +637,20 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
      * A synchronous event means that we send the event as an {@link SendEventOperation} and in case of failure
      * we increase the failure count and log the failure (see {@link EventProcessor})
      * Otherwise, we send an asynchronous event. This means that we don't wait to see if the processing failed with an
-     * exception (see {@link RemoteEventProcessor})
+     * exception (see {@link RemoteEventProcessor}). If event batching is enabled, asynchronous events are
+     * batched per subscriber (see {@link EventBatcher}).
      */
     private void sendEvent(Address subscriber, EventEnvelope eventEnvelope, int orderKey) {
         String serviceName = eventEnvelope.getServiceName();
         EventServiceSegment segment = getSegment(serviceName, true);
         boolean sync = segment.incrementPublish() % eventSyncFrequency == 0;
+        boolean batching = isEventBatchingEnabled();
 
         if (sync) {
+            if (batching) {
+                // the batched events were published before the synchronous one
+                eventBatcher.flush(subscriber);
+            }
             SendEventOperation op = new SendEventOperation(eventEnvelope, orderKey);
             Future f = nodeEngine.getOperationService()
                     .createInvocationBuilder(serviceName, op, subscriber)
@@ -645,15 +663,29 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
                     logger.finest("Sync event delivery failed. Event: " + eventEnvelope, e);
                 }
             }
+        } else if (batching) {
+            eventBatcher.add(subscriber, serializationService.toBytes(eventEnvelope), orderKey);
         } else {
             Packet packet = new Packet(serializationService.toBytes(eventEnvelope), orderKey)
                     .setPacketType(Packet.Type.EVENT);
+            transmit(packet, subscriber);
+        }
+    }
 
-            ServerConnectionManager cm = nodeEngine.getNode().getServer().getConnectionManager(MEMBER);
-            if (!cm.transmit(packet, subscriber)) {
-                if (nodeEngine.isRunning()) {
-                    logFailure("Failed to send event packet to: %s, connection might not be alive.", subscriber);
-                }
+    /**
+     * Returns {@code true} if the remote events are batched. Members of older versions are not able to unpack
+     * the batches, so the events are not batched until the cluster is upgraded.
+     */
+    private boolean isEventBatchingEnabled() {
+        return eventBatcher != null && nodeEngine.getClusterService().getClusterVersion().isGreaterOrEqual(Versions.V6_0);
+    }
+
+    /** Sends an event packet to the {@code subscriber}, logs a failure if it can't be sent */
+    void transmit(Packet packet, Address subscriber) {
+        ServerConnectionManager cm = nodeEngine.getNode().getServer().getConnectionManager(MEMBER);
+        if (!cm.transmit(packet, subscriber)) {
+            if (nodeEngine.isRunning()) {
+                logFailure("Failed to send event packet to: %s, connection might not be alive.", subscriber);
             }
         }
     }
@@ -741,11 +773,18 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
      * processor may determine the thread which will handle the event. If the execution is rejected,
      * the rejection count is increased and a failure is logged. The event processing is not retried.
      *
+     * The events of a batch are handled the same way, each of them by the thread of its order key.
+     *
      * @param packet the response packet to handle
      * @see #sendEvent(Address, EventEnvelope, int)
      */
     @Override
     public void accept(Packet packet) {
+        if (packet.isFlagRaised(Packet.FLAG_EVENT_BATCH)) {
+            EventBatcher.unpack(packet.toByteArray(), (eventEnvelope, orderKey) -> accept(
+                    new Packet(eventEnvelope, orderKey).setPacketType(Packet.Type.EVENT).setConn(packet.getConn())));
+            return;
+        }
         try {
             eventExecutor.execute(new RemoteEventProcessor(this, packet));
         } catch (RejectedExecutionException e) {
@@ -802,6 +841,9 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
         for (EventServiceSegment segment : segments.values()) {
             segment.onMemberLeft(address);
         }
+        if (eventBatcher != null) {
+            eventBatcher.remove(address);
+        }
     }
 
     /**
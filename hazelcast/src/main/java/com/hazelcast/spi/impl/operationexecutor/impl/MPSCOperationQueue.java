@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationexecutor.impl;
+
+import com.hazelcast.internal.util.concurrent.ManyToOneConcurrentArrayQueue;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.hazelcast.internal.util.Preconditions.checkNotNegative;
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static java.lang.Integer.parseInt;
+import static java.lang.Long.parseLong;
+import static java.lang.String.format;
+
+/**
+ * An {@link OperationQueue} with a single consumer, backed by bounded
+ * {@link ManyToOneConcurrentArrayQueue array queues}, so adding a task doesn't
+ * allocate a node and there is no lock to contend on.
+ * <p>
+ * If there is nothing to take, the consumer busy-spins, then yields and
+ * eventually parks. A producer only needs to unpark the consumer if it is
+ * actually parked, so as long as the consumer is busy, adding a task is a
+ * single CAS.
+ * <p>
+ * Since there is no back pressure between members, adding a task never fails
+ * or blocks. If an array queue is full, the task overflows into an unbounded
+ * linked queue, and while the overflow is not empty, all tasks are added to it
+ * so that the tasks of a producer are still taken in the order they were added.
+ * <p>
+ * This queue can't be shared by multiple consumers, so it is only used for the
+ * partition threads.
+ */
+public final class MPSCOperationQueue implements OperationQueue {
+
+    static final int DEFAULT_CAPACITY = 1 << 14;
+    static final int DEFAULT_PRIORITY_CAPACITY = 1 << 10;
+    static final long DEFAULT_MAX_SPINS = 100;
+    static final long DEFAULT_MAX_YIELDS = 50;
+
+    private static final String CONFIG_PREFIX = "array";
+    private static final int ARG_COUNT = 4;
+    private static final int ARG_CAPACITY = 1;
+    private static final int ARG_MAX_SPINS = 2;
+    private static final int ARG_MAX_YIELDS = 3;
+
+    private final Lane normalLane;
+    private final Lane priorityLane;
+    private final long yieldThreshold;
+    private final long parkThreshold;
+
+    private volatile Thread parkedThread;
+
+    public MPSCOperationQueue() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_SPINS, DEFAULT_MAX_YIELDS);
+    }
+
+    /**
+     * @param capacity  the capacity of the array queue of the normal tasks, it is
+     *                  rounded up to the next power of two
+     * @param maxSpins  the number of times to busy-spin before yielding
+     * @param maxYields the number of times to yield before parking
+     */
+    public MPSCOperationQueue(int capacity, long maxSpins, long maxYields) {
+        checkPositive("capacity", capacity);
+        checkNotNegative(maxSpins, "maxSpins must be positive or zero");
+        checkNotNegative(maxYields, "maxYields must be positive or zero");
+        this.normalLane = new Lane(capacity);
+        this.priorityLane = new Lane(Math.min(capacity, DEFAULT_PRIORITY_CAPACITY));
+        this.yieldThreshold = maxSpins;
+        this.parkThreshold = maxSpins + maxYields;
+    }
+
+    /**
+     * Checks if the given configuration selects this queue.
+     *
+     * @see #createMPSCOperationQueue(String)
+     */
+    static boolean isMPSCOperationQueueConfig(String config) {
+        return CONFIG_PREFIX.equals(config) || config.startsWith(CONFIG_PREFIX + ",");
+    }
+
+    /**
+     * Creates a new MPSCOperationQueue from a configuration which is either
+     * {@code array} to use the defaults or {@code array,capacity,maxSpins,maxYields}.
+     */
+    static MPSCOperationQueue createMPSCOperationQueue(String config) {
+        if (CONFIG_PREFIX.equals(config)) {
+            return new MPSCOperationQueue();
+        }
+        String[] args = config.split(",");
+        if (args.length != ARG_COUNT) {
+            throw new IllegalArgumentException(
+                    format("Invalid array queue configuration '%s', 3 arguments expected", config));
+        }
+        return new MPSCOperationQueue(parseInt(args[ARG_CAPACITY]),
+                parseLong(args[ARG_MAX_SPINS]), parseLong(args[ARG_MAX_YIELDS]));
+    }
+
+    @Override
+    public int normalSize() {
+        return normalLane.size();
+    }
+
+    @Override
+    public int prioritySize() {
+        return priorityLane.size();
+    }
+
+    @Override
+    public int size() {
+        return normalLane.size() + priorityLane.size();
+    }
+
+    @Override
+    public void add(Object task, boolean priority) {
+        checkNotNull(task, "task can't be null");
+
+        if (priority) {
+            priorityLane.offer(task);
+        } else {
+            normalLane.offer(task);
+        }
+
+        // the task is visible before the parked thread is read, so either this
+        // producer sees the parked thread or the consumer sees the task
+        Thread thread = parkedThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public Object poll() {
+        Object priorityItem = priorityLane.poll();
+        if (priorityItem != null) {
+            return priorityItem;
+        }
+        return normalLane.poll();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return normalLane.isEmpty() && priorityLane.isEmpty();
+    }
+
+    @Override
+    public Object take(boolean priorityOnly) throws InterruptedException {
+        for (long iteration = 0; ; iteration++) {
+            Object item = priorityOnly ? priorityLane.poll() : poll();
+            if (item != null) {
+                return item;
+            }
+            idle(iteration, priorityOnly);
+        }
+    }
+
+    private void idle(long iteration, boolean priorityOnly) throws InterruptedException {
+        if (iteration < yieldThreshold) {
+            Thread.onSpinWait();
+        } else if (iteration < parkThreshold) {
+            Thread.yield();
+        } else {
+            park(priorityOnly);
+        }
+    }
+
+    private void park(boolean priorityOnly) throws InterruptedException {
+        parkedThread = Thread.currentThread();
+        try {
+            if (priorityLane.isEmpty() && (priorityOnly || normalLane.isEmpty())) {
+                LockSupport.park(this);
+            }
+        } finally {
+            parkedThread = null;
+        }
+
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    /**
+     * A bounded array queue which overflows into an unbounded linked queue.
+     */
+    private static final class Lane {
+        private final ManyToOneConcurrentArrayQueue<Object> array;
+        private final Queue<Object> overflow = new ConcurrentLinkedQueue<>();
+        // incremented before a task is added to the overflow and decremented after it is taken
+        private final AtomicInteger overflowSize = new AtomicInteger();
+
+        Lane(int capacity) {
+            this.array = new ManyToOneConcurrentArrayQueue<>(capacity);
+        }
+
+        void offer(Object task) {
+            if (overflowSize.get() == 0 && array.offer(task)) {
+                return;
+            }
+            overflowSize.incrementAndGet();
+            overflow.offer(task);
+        }
+
+        Object poll() {
+            for (; ; ) {
+                Object task = array.poll();
+                if (task != null || overflowSize.get() == 0) {
+                    return task;
+                }
+
+                Object overflowTask = overflow.peek();
+                if (overflowTask == null) {
+                    return null;
+                }
+
+                // the producer of the overflow task may have added tasks to the array
+                // before, which are not visible yet; these have to be taken first
+                if (array.size() == 0) {
+                    overflow.poll();
+                    overflowSize.decrementAndGet();
+                    return overflowTask;
+                }
+                Thread.onSpinWait();
+            }
+        }
+
+        boolean isEmpty() {
+            return array.size() == 0 && overflowSize.get() == 0;
+        }
+
+        int size() {
+            return array.size() + overflowSize.get();
+        }
+    }
+}
@@ -95,6 +95,9 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 public final class OperationExecutorImpl implements OperationExecutor, StaticMetricsProvider {
     private static final HazelcastProperty IDLE_STRATEGY
             = new HazelcastProperty("hazelcast.operation.partitionthread.idlestrategy", "block");
+    // either 'linked' or 'array' which can be followed by ',capacity,maxSpins,maxYields', see MPSCOperationQueue
+    private static final HazelcastProperty PARTITION_QUEUE
+            = new HazelcastProperty("hazelcast.operation.partitionthread.queue", "linked");
     private static final int TERMINATION_TIMEOUT_SECONDS = 3;
     private final ThreadAffinity threadAffinity = newSystemThreadAffinity("hazelcast.operation.thread.affinity");
     private final ILogger logger;
@@ -175,20 +178,34 @@ public final class OperationExecutorImpl implements OperationExecutor, StaticMet
             threadCount = threadAffinity.getThreadCount();
         }
 
+        String queueConfig = properties.getString(PARTITION_QUEUE);
+        boolean arrayQueue = MPSCOperationQueue.isMPSCOperationQueueConfig(queueConfig);
+        if (!arrayQueue && !"linked".equals(queueConfig)) {
+            throw new IllegalStateException("Unrecognized " + PARTITION_QUEUE.getName() + " value=" + queueConfig);
+        }
+
         IdleStrategy idleStrategy = getIdleStrategy(properties, IDLE_STRATEGY);
         PartitionOperationThread[] threads = new PartitionOperationThread[threadCount];
         for (int threadId = 0; threadId < threads.length; threadId++) {
             String threadName = createThreadPoolName(hzName, "partition-operation") + threadId;
-            // the normalQueue will be a blocking queue. We don't want to idle, because there are many operation threads.
-            MPSCQueue<Object> normalQueue = new MPSCQueue<>(idleStrategy);
+            PartitionOperationThread partitionThread;
+            if (arrayQueue) {
+                // the MPSCOperationQueue has its own spin, yield and park idling
+                OperationQueue operationQueue = MPSCOperationQueue.createMPSCOperationQueue(queueConfig);
+                partitionThread = new PartitionOperationThread(threadName, threadId,
+                        operationQueue, logger, nodeExtension, partitionOperationRunners, configClassLoader);
+            } else {
+                // the normalQueue will be a blocking queue. We don't want to idle, because there are many operation threads.
+                MPSCQueue<Object> normalQueue = new MPSCQueue<>(idleStrategy);
 
-            OperationQueue operationQueue = new OperationQueueImpl(normalQueue, new ConcurrentLinkedQueue<>());
+                OperationQueue operationQueue = new OperationQueueImpl(normalQueue, new ConcurrentLinkedQueue<>());
 
-            PartitionOperationThread partitionThread = new PartitionOperationThread(threadName, threadId,
-                    operationQueue, logger, nodeExtension, partitionOperationRunners, configClassLoader);
+                partitionThread = new PartitionOperationThread(threadName, threadId,
+                        operationQueue, logger, nodeExtension, partitionOperationRunners, configClassLoader);
+                normalQueue.setConsumerThread(partitionThread);
+            }
             partitionThread.setThreadAffinity(threadAffinity);
             threads[threadId] = partitionThread;
-            normalQueue.setConsumerThread(partitionThread);
         }
 
         // we need to assign the PartitionOperationThreads to all OperationRunners they own
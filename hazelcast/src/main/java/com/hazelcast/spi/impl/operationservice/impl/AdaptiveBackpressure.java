@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.core.HazelcastOverloadException;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.util.ThreadLocalRandomProvider;
+import com.hazelcast.internal.util.Timer;
+import com.hazelcast.internal.util.concurrent.BackoffIdleStrategy;
+import com.hazelcast.internal.util.concurrent.IdleStrategy;
+import com.hazelcast.internal.util.counters.MwCounter;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_BACKPRESSURE_DELAYED_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_BACKPRESSURE_LIMIT_AVERAGE;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_BACKPRESSURE_LIMIT_DECREASE_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_BACKPRESSURE_LIMIT_MIN;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_BACKPRESSURE_REJECTED_COUNT;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Limits the number of in-flight invocations per partition with a window
+ * that adapts to the latency of the invocations (AIMD).
+ * <p>
+ * The time a partition operation spends in the queue of its partition thread
+ * is the dominant part of its latency once the partition thread falls behind,
+ * so the latency of an invocation is used as a signal for the queue residency
+ * time of its partition. A member can't observe the operation queues of the
+ * other members, measuring it at the caller covers local and remote
+ * partitions in the same way.
+ * <ul>
+ * <li>When an invocation completes within the target latency, the window of
+ * its partition grows by one invocation per window of completed
+ * invocations, up to the configured maximum.</li>
+ * <li>When an invocation takes longer than the target latency, the window is
+ * shrunk by a constant factor. The window is shrunk at most once per target
+ * latency, since all invocations which were already in flight will report
+ * the same congestion.</li>
+ * </ul>
+ * An invocation that finds the window of its partition full is delayed until
+ * there is room in the window or until the backoff timeout has elapsed, at
+ * which point a {@link HazelcastOverloadException} is thrown. An invocation
+ * keeps its slot while it is retried, so retries are never delayed and never
+ * push the window over its limit. Urgent invocations bypass the window.
+ * <p>
+ * The latency of an invocation is measured from its last attempt, the time it
+ * spent waiting for a slot or for earlier attempts is not a sign of congestion.
+ */
+class AdaptiveBackpressure {
+
+    static final double DECREASE_FACTOR = 0.75;
+    static final int MIN_LIMIT = 1;
+
+    private static final int MIN_DELAY_MICROS = 100;
+    private static final int MAX_DELAY_MS = 10;
+    private static final IdleStrategy IDLER = new BackoffIdleStrategy(
+            0, 0, MICROSECONDS.toNanos(MIN_DELAY_MICROS), MILLISECONDS.toNanos(MAX_DELAY_MS));
+
+    @Probe(name = OPERATION_METRIC_BACKPRESSURE_DELAYED_COUNT)
+    private final MwCounter delayedCount = newMwCounter();
+    @Probe(name = OPERATION_METRIC_BACKPRESSURE_REJECTED_COUNT)
+    private final MwCounter rejectedCount = newMwCounter();
+    @Probe(name = OPERATION_METRIC_BACKPRESSURE_LIMIT_DECREASE_COUNT)
+    private final MwCounter limitDecreaseCount = newMwCounter();
+
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final long backoffTimeoutNanos;
+    private final AtomicIntegerArray inFlight;
+    private final AtomicIntegerArray limits;
+    private final AtomicLongArray lastDecreaseNanos;
+
+    /**
+     * @param partitionCount   the number of partitions
+     * @param maxLimit         the maximum number of in-flight invocations per partition
+     * @param targetLatencyMs  the latency above which the window of a partition is shrunk
+     * @param backoffTimeoutMs the maximum time an invocation is delayed before it is rejected
+     */
+    AdaptiveBackpressure(int partitionCount, int maxLimit, long targetLatencyMs, long backoffTimeoutMs) {
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = MILLISECONDS.toNanos(targetLatencyMs);
+        this.backoffTimeoutNanos = MILLISECONDS.toNanos(backoffTimeoutMs);
+        this.inFlight = new AtomicIntegerArray(partitionCount);
+        this.limits = new AtomicIntegerArray(partitionCount);
+        this.lastDecreaseNanos = new AtomicLongArray(partitionCount);
+        long now = Timer.nanos();
+        for (int i = 0; i < partitionCount; i++) {
+            limits.set(i, maxLimit);
+            lastDecreaseNanos.set(i, now - targetLatencyNanos);
+        }
+    }
+
+    /**
+     * Acquires a slot in the window of the given partition, waiting for one
+     * to become available if the window is full.
+     *
+     * @throws HazelcastOverloadException if no slot became available within
+     *                                    the backoff timeout
+     */
+    void acquire(int partitionId) {
+        if (tryAcquire(partitionId)) {
+            return;
+        }
+
+        delayedCount.inc();
+        long startNanos = Timer.nanos();
+        for (long idleCount = 0; ; idleCount++) {
+            long elapsedNanos = Timer.nanosElapsed(startNanos);
+            if (elapsedNanos > backoffTimeoutNanos) {
+                rejectedCount.inc();
+                throw new HazelcastOverloadException(String.format("Timed out waiting for room in the invocation window"
+                                + " of partition %d. limit = %d, backoffTimeout = %d msecs, elapsed:%d msecs",
+                        partitionId, limits.get(partitionId), NANOSECONDS.toMillis(backoffTimeoutNanos),
+                        NANOSECONDS.toMillis(elapsedNanos)));
+            }
+            IDLER.idle(idleCount);
+            if (tryAcquire(partitionId)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Releases a slot acquired with {@link #acquire(int)} and adapts the
+     * window of the partition.
+     *
+     * @param partitionId  the partition of the invocation
+     * @param latencyNanos the time it took to complete the invocation,
+     *                     or a negative value if the invocation did not complete
+     */
+    void release(int partitionId, long latencyNanos) {
+        int inFlightBefore = inFlight.getAndDecrement(partitionId);
+        if (latencyNanos < 0) {
+            return;
+        }
+
+        int limit = limits.get(partitionId);
+        if (latencyNanos > targetLatencyNanos) {
+            decrease(partitionId, limit);
+        } else if (limit < maxLimit && inFlightBefore >= limit
+                && ThreadLocalRandomProvider.get().nextInt(limit) == 0) {
+            // the window only grows while it is actually used, otherwise a
+            // lightly loaded partition would end up with the maximum window
+            limits.compareAndSet(partitionId, limit, limit + 1);
+        }
+    }
+
+    int getLimit(int partitionId) {
+        return limits.get(partitionId);
+    }
+
+    int getInFlight(int partitionId) {
+        return inFlight.get(partitionId);
+    }
+
+    @Probe(name = OPERATION_METRIC_BACKPRESSURE_LIMIT_MIN)
+    int minLimit() {
+        int min = maxLimit;
+        for (int i = 0; i < limits.length(); i++) {
+            min = Math.min(min, limits.get(i));
+        }
+        return min;
+    }
+
+    @Probe(name = OPERATION_METRIC_BACKPRESSURE_LIMIT_AVERAGE)
+    double averageLimit() {
+        long sum = 0;
+        for (int i = 0; i < limits.length(); i++) {
+            sum += limits.get(i);
+        }
+        return limits.length() == 0 ? 0 : (double) sum / limits.length();
+    }
+
+    private boolean tryAcquire(int partitionId) {
+        for (; ; ) {
+            int current = inFlight.get(partitionId);
+            if (current >= limits.get(partitionId)) {
+                return false;
+            }
+            if (inFlight.compareAndSet(partitionId, current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void decrease(int partitionId, int limit) {
+        long now = Timer.nanos();
+        long lastDecrease = lastDecreaseNanos.get(partitionId);
+        if (now - lastDecrease < targetLatencyNanos) {
+            return;
+        }
+        if (lastDecreaseNanos.compareAndSet(partitionId, lastDecrease, now)) {
+            int newLimit = Math.max(MIN_LIMIT, (int) (limit * DECREASE_FACTOR));
+            if (newLimit < limit && limits.compareAndSet(partitionId, limit, newLimit)) {
+                limitDecreaseCount.inc();
+            }
+        }
+    }
+}
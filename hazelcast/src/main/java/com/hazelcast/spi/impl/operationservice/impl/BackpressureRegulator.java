@@ -28,6 +28,8 @@ import com.hazelcast.spi.properties.HazelcastProperties;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_ADAPTIVE_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_ADAPTIVE_TARGET_LATENCY_MILLIS;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_BACKOFF_TIMEOUT_MILLIS;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_MAX_CONCURRENT_INVOCATIONS_PER_PARTITION;
@@ -78,6 +80,8 @@ class BackpressureRegulator {
     private final int partitionCount;
     private final int maxConcurrentInvocations;
     private final int backoffTimeoutMs;
+    private final boolean adaptive;
+    private final long adaptiveTargetLatencyMs;
 
     BackpressureRegulator(HazelcastProperties properties, ILogger logger) {
         this.enabled = properties.getBoolean(BACKPRESSURE_ENABLED);
@@ -87,11 +91,14 @@ class BackpressureRegulator {
         this.syncCountdown.set(syncWindow);
         this.maxConcurrentInvocations = getMaxConcurrentInvocations(properties);
         this.backoffTimeoutMs = getBackoffTimeoutMs(properties);
+        this.adaptive = enabled && properties.getBoolean(BACKPRESSURE_ADAPTIVE_ENABLED);
+        this.adaptiveTargetLatencyMs = getAdaptiveTargetLatencyMs(properties);
 
         if (enabled) {
             logger.info("Backpressure is enabled"
                     + ", maxConcurrentInvocations:" + maxConcurrentInvocations
-                    + ", syncWindow: " + syncWindow);
+                    + ", syncWindow: " + syncWindow
+                    + (adaptive ? ", adaptive targetLatency: " + adaptiveTargetLatencyMs + " ms" : ""));
 
             int backupTimeoutMillis = properties.getInteger(OPERATION_BACKUP_TIMEOUT_MILLIS);
             if (backupTimeoutMillis < MINUTES.toMillis(1)) {
@@ -127,6 +134,15 @@ class BackpressureRegulator {
         return backoffTimeoutMs;
     }
 
+    private long getAdaptiveTargetLatencyMs(HazelcastProperties props) {
+        long targetLatencyMs = props.getMillis(BACKPRESSURE_ADAPTIVE_TARGET_LATENCY_MILLIS);
+        if (adaptive && targetLatencyMs <= 0) {
+            throw new IllegalArgumentException("Can't have '" + BACKPRESSURE_ADAPTIVE_TARGET_LATENCY_MILLIS
+                    + "' with a value smaller than 1");
+        }
+        return targetLatencyMs;
+    }
+
     private int getMaxConcurrentInvocations(HazelcastProperties props) {
         if (disabled) {
             return Integer.MAX_VALUE;
@@ -162,6 +178,19 @@ class BackpressureRegulator {
         return CallIdFactory.newCallIdSequence(maxConcurrentInvocations, backoffTimeoutMs, concurrencyDetection);
     }
 
+    /**
+     * Creates the per-partition invocation window of the adaptive backpressure.
+     *
+     * @return the adaptive backpressure or {@code null} if it is not enabled
+     */
+    AdaptiveBackpressure newAdaptiveBackpressure() {
+        if (!adaptive) {
+            return null;
+        }
+        return new AdaptiveBackpressure(partitionCount, maxConcurrentInvocations / (partitionCount + 1),
+                adaptiveTargetLatencyMs, backoffTimeoutMs);
+    }
+
     /**
      * Checks if a sync is forced for the given BackupAwareOperation.
      * <p>
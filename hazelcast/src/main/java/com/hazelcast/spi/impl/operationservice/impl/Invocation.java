@@ -126,6 +126,18 @@ public abstract class Invocation<T> extends BaseInvocation implements OperationR
     @SuppressWarnings("checkstyle:visibilitymodifier")
     public final long firstInvocationTimeNanos = System.nanoTime();
 
+    /**
+     * Whether the invocation holds a slot in the window of the adaptive backpressure.
+     * The slot is kept while the invocation is retried.
+     */
+    volatile boolean holdsBackpressureSlot;
+
+    /**
+     * The time in nanoseconds the current attempt of the invocation was registered.
+     * The latency reported to the adaptive backpressure is measured from it.
+     */
+    volatile long attemptStartNanos;
+
     /**
      * A flag to prevent multiple responses to be send to the invocation (only needed for local operations).
      */
@@ -744,7 +756,7 @@ public abstract class Invocation<T> extends BaseInvocation implements OperationR
     }
 
     private void resetAndReInvoke() {
-        if (!context.invocationRegistry.deregister(this)) {
+        if (!context.invocationRegistry.deregisterForRetry(this)) {
             // another thread already did something else with this invocation
             return;
         }
@@ -816,7 +828,7 @@ public abstract class Invocation<T> extends BaseInvocation implements OperationR
                 return;
             }
 
-            if (!context.invocationRegistry.deregister(Invocation.this)) {
+            if (!context.invocationRegistry.deregisterForRetry(Invocation.this)) {
                 return;
             }
 
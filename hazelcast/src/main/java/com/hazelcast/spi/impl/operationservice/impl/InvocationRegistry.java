@@ -41,6 +41,7 @@ import java.util.concurrent.ConcurrentMap;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_LAST_CALL_ID;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_PENDING;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_USED_PERCENTAGE;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_PREFIX_BACKPRESSURE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_PREFIX_INVOCATIONS;
 import static com.hazelcast.internal.metrics.ProbeLevel.MANDATORY;
 import static com.hazelcast.internal.metrics.ProbeUnit.PERCENT;
@@ -79,13 +80,24 @@ public class InvocationRegistry implements Iterable<Invocation>, StaticMetricsPr
     private final ConcurrentMap<Long, Invocation> invocations;
     private final ILogger logger;
     private final CallIdSequence callIdSequence;
+    private final AdaptiveBackpressure adaptiveBackpressure;
     private final boolean profilerEnabled;
     private final ConcurrentMap<Class, LatencyDistribution> latencyDistributions = new ConcurrentHashMap<>();
     private volatile boolean alive = true;
 
     public InvocationRegistry(ILogger logger, CallIdSequence callIdSequence, HazelcastProperties properties) {
+        this(logger, callIdSequence, null, properties);
+    }
+
+    /**
+     * @param adaptiveBackpressure the per-partition invocation window or {@code null} if
+     *                             the adaptive backpressure is disabled
+     */
+    InvocationRegistry(ILogger logger, CallIdSequence callIdSequence, AdaptiveBackpressure adaptiveBackpressure,
+                       HazelcastProperties properties) {
         this.logger = logger;
         this.callIdSequence = callIdSequence;
+        this.adaptiveBackpressure = adaptiveBackpressure;
 
         int coreSize = RuntimeAvailableProcessors.get();
         boolean reallyMultiCore = coreSize >= CORE_SIZE_CHECK;
@@ -98,6 +110,9 @@ public class InvocationRegistry implements Iterable<Invocation>, StaticMetricsPr
     @Override
     public void provideStaticMetrics(MetricsRegistry registry) {
         registry.registerStaticMetrics(this, OPERATION_PREFIX_INVOCATIONS);
+        if (adaptiveBackpressure != null) {
+            registry.registerStaticMetrics(adaptiveBackpressure, OPERATION_PREFIX_BACKPRESSURE);
+        }
     }
 
     @Probe(name = OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_USED_PERCENTAGE, unit = PERCENT)
@@ -125,7 +140,13 @@ public class InvocationRegistry implements Iterable<Invocation>, StaticMetricsPr
         final long callId;
         boolean force = invocation.op.isUrgent() || invocation.isRetryCandidate();
         try {
-            callId = force ? callIdSequence.forceNext() : callIdSequence.next();
+            if (usesAdaptiveBackpressure(invocation) && !invocation.holdsBackpressureSlot) {
+                adaptiveBackpressure.acquire(invocation.op.getPartitionId());
+                invocation.holdsBackpressureSlot = true;
+            }
+            // the window of the partition already limits the invocation, it is only
+            // counted by the call id sequence so that it doesn't wait a second time
+            callId = force || invocation.holdsBackpressureSlot ? callIdSequence.forceNext() : callIdSequence.next();
         } catch (HazelcastOverloadException e) {
             throw new HazelcastOverloadException("Failed to start invocation due to overload: " + invocation, e);
         }
@@ -134,8 +155,13 @@ public class InvocationRegistry implements Iterable<Invocation>, StaticMetricsPr
             setCallId(invocation.op, callId);
         } catch (IllegalStateException e) {
             callIdSequence.complete();
+            // also a slot kept by a retried invocation, it's not deregistered again
+            if (invocation.holdsBackpressureSlot) {
+                releaseBackpressureSlot(invocation, -1);
+            }
             throw e;
         }
+        invocation.attemptStartNanos = System.nanoTime();
         invocations.put(callId, invocation);
         if (!alive) {
             invocation.notifyError(new HazelcastInstanceNotActiveException());
@@ -152,6 +178,28 @@ public class InvocationRegistry implements Iterable<Invocation>, StaticMetricsPr
      * @return {@code true} if this call deregistered the invocation; {@code false} if the invocation wasn't registered
      */
     public boolean deregister(Invocation invocation) {
+        if (!deregister0(invocation)) {
+            return false;
+        }
+        if (invocation.holdsBackpressureSlot) {
+            releaseBackpressureSlot(invocation, System.nanoTime() - invocation.attemptStartNanos);
+        }
+        return true;
+    }
+
+    /**
+     * Deregisters an invocation which is about to be retried. Unlike {@link #deregister(Invocation)},
+     * the invocation keeps its slot in the window of the adaptive backpressure, so the retry is
+     * neither delayed nor pushes the window of the partition over its limit.
+     *
+     * @param invocation The Invocation to deregister.
+     * @return {@code true} if this call deregistered the invocation; {@code false} if the invocation wasn't registered
+     */
+    boolean deregisterForRetry(Invocation invocation) {
+        return deregister0(invocation);
+    }
+
+    private boolean deregister0(Invocation invocation) {
         if (!deactivate(invocation.op)) {
             return false;
         }
@@ -160,6 +208,19 @@ public class InvocationRegistry implements Iterable<Invocation>, StaticMetricsPr
         return true;
     }
 
+    /**
+     * Urgent invocations are never limited by the adaptive backpressure
+     * and they are not counted in the windows of the partitions either.
+     */
+    private boolean usesAdaptiveBackpressure(Invocation invocation) {
+        return adaptiveBackpressure != null && !invocation.op.isUrgent() && invocation.op.getPartitionId() >= 0;
+    }
+
+    private void releaseBackpressureSlot(Invocation invocation, long latencyNanos) {
+        invocation.holdsBackpressureSlot = false;
+        adaptiveBackpressure.release(invocation.op.getPartitionId(), latencyNanos);
+    }
+
     public void retire(Invocation invocation) {
         if (!profilerEnabled) {
             return;
@@ -28,6 +28,7 @@ import com.hazelcast.internal.metrics.MetricsRegistry;
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.metrics.StaticMetricsProvider;
 import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.nio.PacketBufferPool;
 import com.hazelcast.internal.partition.InternalPartitionService;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.util.LatencyDistribution;
@@ -68,6 +69,7 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_OPERATION_SERVICE_RETRY_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_OPERATION_SERVICE_TIMEOUT_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_PREFIX;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_PREFIX_PACKET_BUFFER_POOL;
 import static com.hazelcast.internal.metrics.ProbeLevel.MANDATORY;
 import static com.hazelcast.internal.util.CollectionUtil.asIntegerList;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
@@ -173,6 +175,7 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
         this.invocationRegistry = new InvocationRegistry(
                 node.getLogger(OperationServiceImpl.class),
                 backpressureRegulator.newCallIdSequence(nodeEngine.getConcurrencyDetection()),
+                backpressureRegulator.newAdaptiveBackpressure(),
                 properties);
 
         this.invocationMonitor = new InvocationMonitor(
@@ -542,6 +545,10 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
     @Override
     public void provideStaticMetrics(MetricsRegistry registry) {
         registry.registerStaticMetrics(this, OPERATION_PREFIX);
+        PacketBufferPool bufferPool = outboundOperationHandler.getBufferPool();
+        if (bufferPool != null) {
+            registry.registerStaticMetrics(bufferPool, TCP_PREFIX_PACKET_BUFFER_POOL);
+        }
         registry.provideMetrics(invocationRegistry, invocationMonitor, inboundResponseHandlerSupplier, operationExecutor);
     }
 
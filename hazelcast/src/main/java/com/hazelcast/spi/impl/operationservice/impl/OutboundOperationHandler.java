@@ -19,27 +19,53 @@ package com.hazelcast.spi.impl.operationservice.impl;
 import com.hazelcast.cluster.Address;
 import com.hazelcast.instance.impl.Node;
 import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.nio.PacketBufferPool;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.server.ServerConnection;
 import com.hazelcast.internal.server.ServerConnectionManager;
 import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.properties.HazelcastProperties;
+
+import java.nio.ByteBuffer;
 
 import static com.hazelcast.instance.EndpointQualifier.MEMBER;
 import static com.hazelcast.internal.nio.Packet.FLAG_URGENT;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.spi.properties.ClusterProperty.PACKET_DIRECT_BUFFER_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.PACKET_DIRECT_BUFFER_POOL_CAPACITY;
+import static com.hazelcast.spi.properties.ClusterProperty.PACKET_DIRECT_BUFFER_THRESHOLD;
 
 /**
  * Responsible for sending Operations to another member.
+ * <p>
+ * If {@link com.hazelcast.spi.properties.ClusterProperty#PACKET_DIRECT_BUFFER_ENABLED}
+ * is set, large operations are serialized into direct buffers taken from a
+ * {@link PacketBufferPool}, which the connection writes from and returns to
+ * the pool.
  */
 public class OutboundOperationHandler {
     private final Address thisAddress;
     private final InternalSerializationService serializationService;
     private final Node node;
+    private final PacketBufferPool bufferPool;
 
     public OutboundOperationHandler(Node node, InternalSerializationService serializationService) {
         this.node = node;
         this.thisAddress = node.getThisAddress();
         this.serializationService = serializationService;
+        HazelcastProperties properties = node.getProperties();
+        this.bufferPool = properties.getBoolean(PACKET_DIRECT_BUFFER_ENABLED)
+                ? new PacketBufferPool(properties.getInteger(PACKET_DIRECT_BUFFER_THRESHOLD),
+                properties.getLong(PACKET_DIRECT_BUFFER_POOL_CAPACITY))
+                : null;
+    }
+
+    /**
+     * Returns the pool of the direct buffers operations are serialized into
+     * or {@code null} if direct buffers are disabled.
+     */
+    public PacketBufferPool getBufferPool() {
+        return bufferPool;
     }
 
     public boolean send(Operation op, Address target) {
@@ -66,9 +92,17 @@ public class OutboundOperationHandler {
     }
 
     private Packet toPacket(Operation op) {
-        byte[] bytes = serializationService.toBytes(op);
         int partitionId = op.getPartitionId();
-        Packet packet = new Packet(bytes, partitionId).setPacketType(Packet.Type.OPERATION);
+        Packet packet;
+        if (bufferPool != null) {
+            ByteBuffer payload = serializationService.toByteBuffer(op, bufferPool::acquire);
+            packet = payload.isDirect()
+                    ? new Packet(payload, partitionId, bufferPool)
+                    : new Packet(payload.array(), partitionId);
+        } else {
+            packet = new Packet(serializationService.toBytes(op), partitionId);
+        }
+        packet.setPacketType(Packet.Type.OPERATION);
 
         if (op.isUrgent()) {
             packet.raiseFlags(FLAG_URGENT);
@@ -151,6 +151,66 @@ public final class ClusterProperty {
     public static final HazelcastProperty SOCKET_BUFFER_DIRECT
             = new HazelcastProperty("hazelcast.socket.buffer.direct", false);
 
+    /**
+     * Enables the compression of member-to-member packets. A member only
+     * compresses packets sent to members which announced during the
+     * handshake that they are able to decompress them, so the property can
+     * be enabled on a running cluster member by member.
+     * <p>
+     * Compression trades CPU for bandwidth, it pays off when the network
+     * between the members, rather than the CPU, is the bottleneck.
+     *
+     * @see #PACKET_COMPRESSION_THRESHOLD
+     * @since 6.0
+     */
+    public static final HazelcastProperty PACKET_COMPRESSION_ENABLED
+            = new HazelcastProperty("hazelcast.packet.compression.enabled", false);
+
+    /**
+     * The minimum payload size in bytes for a member-to-member packet to get
+     * compressed when {@link #PACKET_COMPRESSION_ENABLED} is set. Smaller
+     * packets, like most of the operations and their responses, are sent
+     * uncompressed.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty PACKET_COMPRESSION_THRESHOLD
+            = new HazelcastProperty("hazelcast.packet.compression.threshold.bytes", 8192);
+
+    /**
+     * Enables the serialization of large outbound operations, like the
+     * operations of {@code putAll} or the replication operations of
+     * migrations, into pooled direct buffers which are written to the
+     * connection as they are, instead of copying the serialized operation
+     * into a byte array of its own first.
+     *
+     * @see #PACKET_DIRECT_BUFFER_THRESHOLD
+     * @see #PACKET_DIRECT_BUFFER_POOL_CAPACITY
+     * @since 6.0
+     */
+    public static final HazelcastProperty PACKET_DIRECT_BUFFER_ENABLED
+            = new HazelcastProperty("hazelcast.packet.direct.buffer.enabled", false);
+
+    /**
+     * The minimum serialized size in bytes for an outbound operation to be
+     * kept in a pooled direct buffer when {@link #PACKET_DIRECT_BUFFER_ENABLED}
+     * is set.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty PACKET_DIRECT_BUFFER_THRESHOLD
+            = new HazelcastProperty("hazelcast.packet.direct.buffer.threshold.bytes", 65536);
+
+    /**
+     * The maximum size in bytes of the direct buffers kept in the pool when
+     * {@link #PACKET_DIRECT_BUFFER_ENABLED} is set. Operations larger than
+     * the capacity are serialized into byte arrays.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty PACKET_DIRECT_BUFFER_POOL_CAPACITY
+            = new HazelcastProperty("hazelcast.packet.direct.buffer.pool.capacity.bytes", 64L * 1024 * 1024);
+
     /**
      * Overrides receive buffer size for connections opened by clients.
      * <p>
@@ -532,6 +592,39 @@ public final class ClusterProperty {
     public static final HazelcastProperty PARTITION_CHUNKED_MAX_MIGRATING_DATA_IN_MB
             = new HazelcastProperty("hazelcast.partition.migration.chunks.max.migrating.data.in.mb", 250);
 
+    /**
+     * Maximum number of migration operations, each carrying a fragment or a
+     * chunk of the partition data, a single partition migration keeps in
+     * flight to the destination. The source prepares and sends the next
+     * chunk while the destination applies the previous ones, instead of
+     * waiting for each of them to be acknowledged.
+     * <p>
+     * The migrating data of a single partition migration can grow up to this
+     * value times {@link #PARTITION_CHUNKED_MAX_MIGRATING_DATA_IN_MB}. The
+     * property is read by the source member of the migration.
+     * <p>
+     * Default is 1, which sends the chunks one by one.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty PARTITION_CHUNKED_MIGRATION_MAX_IN_FLIGHT_CHUNKS
+            = new HazelcastProperty("hazelcast.partition.migration.chunks.max.in.flight", 1);
+
+    /**
+     * Maximum number of bytes per second of chunked migration data a member
+     * sends as the source of migrations, shared by all migrations running on
+     * the member. Once the limit is exceeded, the next chunks are delayed
+     * until the sent data fits into the limit again. The data of services
+     * which don't support chunked migration is not accounted.
+     * <p>
+     * Default is 0, which means migrations are not throttled.
+     *
+     * @see #PARTITION_CHUNKED_MIGRATION_ENABLED
+     * @since 6.0
+     */
+    public static final HazelcastProperty PARTITION_MIGRATION_MAX_BYTES_PER_SECOND
+            = new HazelcastProperty("hazelcast.partition.migration.max.bytes.per.second", 0L);
+
     /**
      * The time that a newly-appointed master node waits before forming a cluster.
      * Once a cluster is being started, a newly-appointed master node may receive
@@ -747,6 +840,23 @@ public final class ClusterProperty {
     public static final HazelcastProperty PARTITION_MAX_PARALLEL_MIGRATIONS
             = new HazelcastProperty("hazelcast.partition.max.parallel.migrations", 10);
 
+    /**
+     * Maximum number of partition migrations to be executed concurrently
+     * between a single pair of source and destination members. It can't be
+     * larger than {@link #PARTITION_MAX_PARALLEL_MIGRATIONS}, which still
+     * limits the migrations of each member. Lowering it spreads the
+     * concurrent migrations of a member over more members, for instance
+     * when a cluster is scaled out and all the new members fetch their
+     * partitions from the same existing members.
+     * <p>
+     * By default, equals to {@link #PARTITION_MAX_PARALLEL_MIGRATIONS}.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty PARTITION_MAX_PARALLEL_MIGRATIONS_PER_MEMBER_PAIR
+            = new HazelcastProperty("hazelcast.partition.max.parallel.migrations.per.member.pair",
+            PARTITION_MAX_PARALLEL_MIGRATIONS);
+
     /**
      * Maximum number of anti-entropy partition replications to be executed on a member.
      * By default, equals to {@link #PARTITION_MAX_PARALLEL_MIGRATIONS}.
@@ -1170,6 +1280,23 @@ public final class ClusterProperty {
     public static final HazelcastProperty INDEX_COPY_BEHAVIOR
             = new HazelcastProperty("hazelcast.index.copy.behavior", IndexCopyBehavior.COPY_ON_READ.toString());
 
+    /**
+     * The maximum number of entries fetched at once while a member populates
+     * a {@link com.hazelcast.map.QueryCache QueryCache} with the entries
+     * matching its predicate.
+     * <p>
+     * When set to a positive value, the query cache is populated partition
+     * by partition in chunks of at most this many entries, so neither the
+     * members owning the data nor the member creating the query cache hold
+     * the whole initial result set at once. The events accumulated while a
+     * partition is being fetched are applied as soon as its last chunk is
+     * received. When not positive, the initial result set is created by a
+     * single query on each member. Query caches created by clients are
+     * always populated with a single query on each member.
+     */
+    public static final HazelcastProperty QUERY_CACHE_POPULATE_FETCH_SIZE
+            = new HazelcastProperty("hazelcast.query.cache.populate.fetch.size", -1);
+
     /**
      * The number of threads that the client engine has available for processing
      * requests that are related to the query engine.
@@ -1440,6 +1567,42 @@ public final class ClusterProperty {
     public static final HazelcastProperty BACKPRESSURE_MAX_CONCURRENT_INVOCATIONS_PER_PARTITION
             = new HazelcastProperty("hazelcast.backpressure.max.concurrent.invocations.per.partition", 100);
 
+    /**
+     * Enables the adaptive backpressure, which limits the number of in-flight
+     * invocations per partition with a window that shrinks when invocations
+     * on the partition take longer than
+     * {@link #BACKPRESSURE_ADAPTIVE_TARGET_LATENCY_MILLIS} and grows again
+     * while they complete in time. The window never exceeds
+     * {@link #BACKPRESSURE_MAX_CONCURRENT_INVOCATIONS_PER_PARTITION}.
+     * <p>
+     * An invocation that doesn't fit in the window of its partition is
+     * delayed until there is room or until
+     * {@link #BACKPRESSURE_BACKOFF_TIMEOUT_MILLIS} has elapsed, at which
+     * point a {@link com.hazelcast.core.HazelcastOverloadException} is thrown.
+     * The invocations admitted by the window of their partition are not
+     * delayed a second time by the member-wide limit. Retries keep the slot
+     * of the invocation and urgent invocations bypass the window.
+     * <p>
+     * Only applies if {@link #BACKPRESSURE_ENABLED} is set to {@code true}.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty BACKPRESSURE_ADAPTIVE_ENABLED
+            = new HazelcastProperty("hazelcast.backpressure.adaptive.enabled", false);
+
+    /**
+     * The invocation latency above which the adaptive backpressure shrinks
+     * the invocation window of a partition, see
+     * {@link #BACKPRESSURE_ADAPTIVE_ENABLED}. Since partition operations wait
+     * in the queue of their partition thread once it falls behind, the
+     * latency of the invocations mostly reflects the queueing delay of the
+     * partition.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty BACKPRESSURE_ADAPTIVE_TARGET_LATENCY_MILLIS
+            = new HazelcastProperty("hazelcast.backpressure.adaptive.target.latency.millis", 100, MILLISECONDS);
+
     /**
      * Hazelcast allows read operations to be performed while a partition is
      * being migrated. This can lead to stale reads for some scenarios. You can
@@ -1612,6 +1775,44 @@ public final class ClusterProperty {
     public static final HazelcastProperty EVENT_SYNC_TIMEOUT_MILLIS
             = new HazelcastProperty("hazelcast.event.sync.timeout.millis", 5000, MILLISECONDS);
 
+    /**
+     * The time window in microseconds the remote events to the same member are
+     * accumulated for before they are sent to the member together in a single
+     * packet. Batching the events saves a packet per event when listeners of
+     * frequently updated data structures are registered on other members, at
+     * the cost of delaying the events by up to this window.
+     * <p>
+     * The events are still processed in order per order key on the receiving
+     * member. Default is 0, which sends each event in a packet of its own.
+     *
+     * @see #EVENT_BATCH_MAX_SIZE
+     * @see #EVENT_BATCH_MAX_BYTES
+     * @since 6.0
+     */
+    public static final HazelcastProperty EVENT_BATCH_WINDOW_MICROS
+            = new HazelcastProperty("hazelcast.event.batch.window.micros", 0, MICROSECONDS);
+
+    /**
+     * The maximum number of remote events sent to a member in a single packet
+     * when {@link #EVENT_BATCH_WINDOW_MICROS} is set. A batch is sent as soon as
+     * it is full, without waiting for the end of the window.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty EVENT_BATCH_MAX_SIZE
+            = new HazelcastProperty("hazelcast.event.batch.max.size", 128);
+
+    /**
+     * The maximum size in bytes of the remote events sent to a member in a
+     * single packet when {@link #EVENT_BATCH_WINDOW_MICROS} is set. A batch is
+     * sent as soon as it exceeds this size, without waiting for the end of the
+     * window.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty EVENT_BATCH_MAX_BYTES
+            = new HazelcastProperty("hazelcast.event.batch.max.bytes", 65536);
+
     /**
      * Enable or disable the sending of phone home data to Hazelcast’s phone home
      * server.
@@ -1865,6 +2066,133 @@ public final class ClusterProperty {
             = new HazelcastProperty("hazelcast.jet.idle.noncooperative.max.microseconds", 5000, MICROSECONDS)
             .setDeprecatedName("jet.idle.noncooperative.max.microseconds");
 
+    /**
+     * Enables spilling the state of the grouping and sorting batch processors
+     * to local disk. When enabled, a processor whose state reaches the
+     * {@linkplain com.hazelcast.jet.config.JobConfig#setMaxProcessorAccumulatedRecords
+     * maximum number of accumulated records} writes it to a temporary file as
+     * a sorted run and continues with an empty state, instead of failing the
+     * job. The runs are merged when the processor emits its results.
+     * <p>
+     * Spilling requires the accumulators of the aggregate operation to be
+     * serializable and the operation to have a combine function; grouping
+     * with operations that can't be combined still fails once the limit is
+     * reached.
+     * <p>
+     * The default value is {@code false}.
+     * <p>
+     * See also: {@link #JET_SPILL_DIR}
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_SPILL_ENABLED
+            = new HazelcastProperty("hazelcast.jet.spill.enabled", false);
+
+    /**
+     * The directory under which the Jet processors create the temporary files
+     * they spill their state to, see {@link #JET_SPILL_ENABLED}. Each
+     * processor instance gets its own subdirectory which is deleted when the
+     * processor is closed.
+     * <p>
+     * When not set, the directory denoted by the {@code java.io.tmpdir}
+     * system property is used.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_SPILL_DIR
+            = new HazelcastProperty("hazelcast.jet.spill.dir");
+
+    /**
+     * Makes the sliding and tumbling window processors keep their per-key
+     * frame state serialized in native memory instead of in on-heap hash
+     * maps. With a very large number of keys this bounds the amount of heap
+     * the state takes and the work of the garbage collector, at the cost of
+     * deserializing and serializing the accumulator of the key for every
+     * processed item. Session window processors always keep their state on
+     * the heap.
+     * <p>
+     * The keys and accumulators of the aggregate operation must be
+     * serializable. Native memory is allocated on demand and freed when the
+     * job completes; it is not limited by any configuration.
+     * <p>
+     * The default value is {@code false}.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_WINDOW_OFF_HEAP_STATE_ENABLED
+            = new HazelcastProperty("hazelcast.jet.window.offheap.state.enabled", false);
+
+    /**
+     * The maximum number of incremental snapshots a job takes on top of a
+     * full snapshot before it takes a full one again.
+     * <p>
+     * In an incremental snapshot, the processors that support it, such as
+     * the sliding and tumbling window processors, save only the keys that
+     * changed since the previous snapshot. The snapshot is restored by
+     * merging it with the previous snapshots down to the last full one, so
+     * a longer chain makes the snapshots cheaper, but the restore slower
+     * and the snapshot map larger. Exported snapshots are always full.
+     * <p>
+     * The default value is {@code 0}, which means that all snapshots are
+     * full. The value has to be the same on all members.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_INCREMENTAL_SNAPSHOT_MAX_CHAIN_LENGTH
+            = new HazelcastProperty("hazelcast.jet.snapshot.incremental.max.chain.length", 0);
+
+    /**
+     * Enables the compression of the chunks of Jet snapshots.
+     * <p>
+     * The snapshot state typically compresses well and compressed chunks
+     * take less memory in the snapshot map, at the cost of CPU time spent
+     * compressing each snapshot and decompressing the state when a job is
+     * restored. A chunk which doesn't get smaller is stored uncompressed.
+     * The codec is recorded in each chunk, so compressed and uncompressed
+     * snapshots can be restored regardless of this property. The {@code
+     * snapshotRawBytes} and {@code snapshotBytes} vertex metrics show the
+     * size of the last snapshot before and after compression.
+     * <p>
+     * Exported snapshots with compressed chunks can't be restored by members
+     * older than 6.0, therefore snapshots are not compressed while the
+     * cluster version is older than 6.0.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_SNAPSHOT_COMPRESSION_ENABLED
+            = new HazelcastProperty("hazelcast.jet.snapshot.compression.enabled", false);
+
+    /**
+     * The number of items the producers of a Jet edge offer to the queues
+     * of the edge as a single entry. The consumer unpacks the batches, so
+     * the processors still see the individual items.
+     * <p>
+     * Batching reduces the per-item cost of the concurrent queues between
+     * the processors and of the queues feeding the sender and from the
+     * receiver of distributed edges, which pays off for jobs moving many
+     * small items. A partial batch is offered when the producer finishes
+     * its current call or emits a watermark or a snapshot barrier, so the
+     * items aren't delayed. The queue size configured in {@link
+     * com.hazelcast.jet.config.EdgeConfig#setQueueSize(int)} then limits
+     * the number of batches, so the queues hold up to this many times more
+     * items, and the {@code queuesSize} and {@code queuesCapacity} metrics
+     * count batches as well. Ordered edges are never batched.
+     * <p>
+     * On a distributed edge, the sender writes each batch to the network as
+     * one object and the receiver unpacks it before routing the items to the
+     * processors by partition. The items of the batch are still serialized
+     * one by one within it. The sender doesn't send batches while the
+     * cluster version is older than 6.0.
+     * <p>
+     * Processors still receive and emit individual items.
+     * <p>
+     * The default value of 1 disables the batching.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_EDGE_BATCH_SIZE
+            = new HazelcastProperty("hazelcast.jet.edge.batch.size", 1);
+
     /**
      * The directory containing jars, that can be used to specify custom classpath for
      * a stage in a pipeline.
@@ -2005,6 +2333,36 @@ public final class ClusterProperty {
     public static final HazelcastProperty EXPENSIVE_IMAP_INVOCATION_REPORTING_THRESHOLD
             = new HazelcastProperty("hazelcast.expensive.imap.invocation.reporting.threshold", 100);
 
+    /**
+     * The directory under which ringbuffers configured with
+     * {@link com.hazelcast.config.RingbufferConfig#setMemoryMappedStorageEnabled(boolean)
+     * memory-mapped storage} create their segment files. Each ringbuffer
+     * partition gets its own subdirectory which is deleted when the
+     * ringbuffer is destroyed, migrated away or the member shuts down.
+     * The files are only an off-heap store, not a persistence mechanism:
+     * they are never reopened, so a restarted member starts with empty
+     * ringbuffers.
+     * <p>
+     * When not set, the directory denoted by the {@code java.io.tmpdir}
+     * system property is used.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty RINGBUFFER_MAPPED_STORAGE_DIR
+            = new HazelcastProperty("hazelcast.ringbuffer.mapped.storage.dir");
+
+    /**
+     * The size in bytes of the segment files which back ringbuffers
+     * configured with memory-mapped storage. A segment is deleted once
+     * none of its items are in the ringbuffer anymore, so smaller segments
+     * release disk space sooner while larger ones need fewer mappings.
+     * Items larger than a segment get a segment of their own.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty RINGBUFFER_MAPPED_SEGMENT_SIZE
+            = new HazelcastProperty("hazelcast.ringbuffer.mapped.segment.size.bytes", 1 << 20);
+
     private ClusterProperty() {
     }
 }
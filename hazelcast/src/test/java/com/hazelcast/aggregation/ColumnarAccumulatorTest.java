@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.aggregation;
+
+import com.hazelcast.aggregation.impl.ColumnarAccumulator;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import static com.hazelcast.aggregation.TestSamples.createExtractableEntryWithValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class ColumnarAccumulatorTest {
+
+    private static final int COUNT = ColumnarAccumulator.BATCH_SIZE * 3 + 17;
+
+    private final InternalSerializationService ss = new DefaultSerializationServiceBuilder().build();
+    private final Random random = new Random(42);
+
+    @Test
+    public void isColumnar() {
+        assertTrue(ColumnarAccumulator.isColumnar(Aggregators.longSum()));
+        assertTrue(ColumnarAccumulator.isColumnar(Aggregators.count()));
+        assertTrue(ColumnarAccumulator.isColumnar(Aggregators.doubleMax("attribute")));
+        assertFalse(ColumnarAccumulator.isColumnar(Aggregators.bigDecimalSum()));
+        assertFalse(ColumnarAccumulator.isColumnar(Aggregators.distinct()));
+    }
+
+    @Test
+    public void integralAggregators() {
+        List<Object> ints = values(i -> random.nextInt());
+        List<Object> longs = values(i -> random.nextLong());
+        List<Object> shorts = values(i -> (short) random.nextInt());
+
+        for (List<Object> values : List.of(ints, longs, shorts)) {
+            assertSameAsOneByOne(Aggregators::longSum, values);
+            assertSameAsOneByOne(Aggregators::longAvg, values);
+            assertSameAsOneByOne(Aggregators::count, values);
+            assertSameAsOneByOne(Aggregators::integerMin, values);
+            assertSameAsOneByOne(Aggregators::integerMax, values);
+        }
+        for (List<Object> values : List.of(ints, shorts)) {
+            assertSameAsOneByOne(Aggregators::integerSum, values);
+            assertSameAsOneByOne(Aggregators::integerAvg, values);
+            assertSameAsOneByOne(Aggregators::doubleSum, values);
+            assertSameAsOneByOne(Aggregators::doubleAvg, values);
+        }
+    }
+
+    @Test
+    public void floatingPointAggregators() {
+        List<Object> doubles = values(i -> random.nextGaussian() * 1e10);
+        List<Object> floats = values(i -> random.nextFloat());
+
+        for (List<Object> values : List.of(doubles, floats)) {
+            assertSameAsOneByOne(Aggregators::doubleSum, values);
+            assertSameAsOneByOne(Aggregators::doubleAvg, values);
+            assertSameAsOneByOne(Aggregators::count, values);
+            assertSameAsOneByOne(Aggregators::doubleMin, values);
+            assertSameAsOneByOne(Aggregators::doubleMax, values);
+        }
+    }
+
+    @Test
+    public void minMax_withSpecialDoubles() {
+        List<Object> values = values(i -> random.nextDouble() - 0.5);
+        values.set(10, Double.NaN);
+        values.set(ColumnarAccumulator.BATCH_SIZE + 1, -0.0d);
+        values.set(ColumnarAccumulator.BATCH_SIZE + 2, 0.0d);
+        values.set(COUNT - 1, Double.NEGATIVE_INFINITY);
+
+        assertSameAsOneByOne(Aggregators::doubleMin, values);
+        assertSameAsOneByOne(Aggregators::doubleMax, values);
+    }
+
+    @Test
+    public void mixedClassesAndNulls() {
+        List<Object> values = values(i -> switch (i % 7) {
+            case 0 -> (long) i;
+            case 1 -> (byte) i;
+            case 2 -> i % 3 == 0 ? null : i;
+            default -> i * 2;
+        });
+
+        assertSameAsOneByOne(Aggregators::count, values);
+        assertSameAsOneByOne(Aggregators::integerMin, values);
+        assertSameAsOneByOne(Aggregators::integerMax, values);
+    }
+
+    @Test
+    public void mostlySameClass_withRareOtherClass() {
+        List<Object> values = values(i -> i % 500 == 0 ? (double) i : (Object) i);
+
+        assertSameAsOneByOne(Aggregators::doubleSum, values);
+        assertSameAsOneByOne(Aggregators::doubleMax, values);
+        assertSameAsOneByOne(Aggregators::count, values);
+    }
+
+    @Test
+    public void withAttributePath() {
+        List<Object> values = values(i -> new ValueContainer(random.nextLong()));
+
+        assertSameAsOneByOne(() -> Aggregators.longSum("longValue"), values);
+        assertSameAsOneByOne(() -> Aggregators.longMin("longValue"), values);
+        assertSameAsOneByOne(() -> Aggregators.count("longValue"), values);
+    }
+
+    @Test
+    public void nonExactValue_throwsLikeOneByOne() {
+        List<Object> values = values(i -> (long) i);
+        values.set(COUNT / 2, 0.5d);
+
+        assertThrows(IllegalArgumentException.class, () -> accumulateColumnar(Aggregators.longSum(), values));
+    }
+
+    @Test
+    public void nullValue_throwsLikeOneByOne() {
+        List<Object> values = values(i -> i);
+        values.set(COUNT / 2, null);
+
+        assertThrows(NullPointerException.class, () -> accumulateColumnar(Aggregators.integerSum(), values));
+    }
+
+    private List<Object> values(IntFunction<Object> valueFn) {
+        List<Object> values = new ArrayList<>(COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            values.add(valueFn.apply(i));
+        }
+        return values;
+    }
+
+    private void assertSameAsOneByOne(Supplier<Aggregator> aggregatorSupplier, List<Object> values) {
+        Aggregator expected = aggregatorSupplier.get();
+        for (Object value : values) {
+            expected.accumulate(createExtractableEntryWithValue(value, ss));
+        }
+
+        Aggregator actual = accumulateColumnar(aggregatorSupplier.get(), values);
+
+        assertEquals(expected.aggregate(), actual.aggregate());
+    }
+
+    private Aggregator accumulateColumnar(Aggregator aggregator, List<Object> values) {
+        List<QueryableEntry> entries = new ArrayList<>(values.size());
+        for (Object value : values) {
+            entries.add((QueryableEntry) createExtractableEntryWithValue(value, ss));
+        }
+        new ColumnarAccumulator().accumulate(aggregator, entries.iterator());
+        return aggregator;
+    }
+}
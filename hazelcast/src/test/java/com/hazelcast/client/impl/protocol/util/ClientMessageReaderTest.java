@@ -19,6 +19,7 @@ package com.hazelcast.client.impl.protocol.util;
 import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.client.impl.protocol.ClientMessageReader;
 import com.hazelcast.client.impl.protocol.ClientMessageWriter;
+import com.hazelcast.client.impl.protocol.exception.MaxMessageSizeExceeded;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.annotation.ParallelJVMTest;
 import com.hazelcast.test.annotation.QuickTest;
@@ -30,7 +31,10 @@ import java.nio.ByteBuffer;
 import java.util.Random;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastParallelClassRunner.class)
@@ -197,6 +201,79 @@ public class ClientMessageReaderTest {
         assertFalse(iterator.hasNext());
     }
 
+    @Test
+    public void testReadMultipleMessagesFromSingleBuffer() {
+        ClientMessage message1 = ClientMessage.createForEncode();
+        message1.add(createFrameWithRandomBytes(10));
+        message1.add(ClientMessage.BEGIN_FRAME.copy());
+        message1.add(createFrameWithRandomBytes(20));
+        message1.add(ClientMessage.END_FRAME.copy());
+        ClientMessage message2 = ClientMessage.createForEncode();
+        message2.add(createFrameWithRandomBytes(30));
+
+        ByteBuffer buffer1 = writeToBuffer(message1);
+        ByteBuffer buffer2 = writeToBuffer(message2);
+        ByteBuffer buffer = ByteBuffer.allocate(buffer1.remaining() + buffer2.remaining());
+        buffer.put(buffer1).put(buffer2).flip();
+
+        ClientMessageReader reader = new ClientMessageReader(-1);
+        assertTrue(reader.readFrom(buffer, true));
+        assertFramesEqual(message1, reader.getClientMessage());
+
+        reader.reset();
+        assertTrue(reader.readFrom(buffer, true));
+        assertFramesEqual(message2, reader.getClientMessage());
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testRead_whenFramesWithoutContent_thenContentShared() {
+        ClientMessage message = ClientMessage.createForEncode();
+        message.add(createFrameWithRandomBytes(10));
+        message.add(ClientMessage.BEGIN_FRAME.copy());
+        message.add(ClientMessage.NULL_FRAME.copy());
+        message.add(ClientMessage.END_FRAME.copy());
+
+        ClientMessageReader reader = new ClientMessageReader(-1);
+        assertTrue(reader.readFrom(writeToBuffer(message), true));
+
+        ClientMessage.ForwardFrameIterator iterator = reader.getClientMessage().frameIterator();
+        iterator.next();
+        ClientMessage.Frame beginFrame = iterator.next();
+        ClientMessage.Frame nullFrame = iterator.next();
+        ClientMessage.Frame endFrame = iterator.next();
+        assertTrue(beginFrame.isBeginFrame());
+        assertTrue(nullFrame.isNullFrame());
+        assertTrue(endFrame.isEndFrame());
+        assertSame(beginFrame.content, nullFrame.content);
+        assertSame(beginFrame.content, endFrame.content);
+    }
+
+    @Test
+    public void testRead_whenCompleteUntrustedMessageTooLarge_thenFails() {
+        ClientMessage message = ClientMessage.createForEncode();
+        message.add(createFrameWithRandomBytes(50));
+        message.add(createFrameWithRandomBytes(50));
+
+        ClientMessageReader reader = new ClientMessageReader(100);
+        ByteBuffer buffer = writeToBuffer(message);
+
+        assertThrows(MaxMessageSizeExceeded.class, () -> reader.readFrom(buffer, false));
+    }
+
+    private static void assertFramesEqual(ClientMessage expected, ClientMessage actual) {
+        ClientMessage.ForwardFrameIterator expectedIterator = expected.frameIterator();
+        ClientMessage.ForwardFrameIterator actualIterator = actual.frameIterator();
+        while (expectedIterator.hasNext()) {
+            assertTrue(actualIterator.hasNext());
+            ClientMessage.Frame expectedFrame = expectedIterator.next();
+            ClientMessage.Frame actualFrame = actualIterator.next();
+            assertArrayEquals(expectedFrame.content, actualFrame.content);
+            assertEquals(expectedFrame.flags, actualFrame.flags & ~ClientMessage.IS_FINAL_FLAG);
+        }
+        assertFalse(actualIterator.hasNext());
+    }
+
     private ClientMessage.Frame createFrameWithRandomBytes(int contentLength) {
         byte[] content = new byte[contentLength];
         random.nextBytes(content);
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.map;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.core.HazelcastException;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.client.properties.ClientProperty.MAP_REQUEST_COALESCING_MAX_BATCH_SIZE;
+import static com.hazelcast.client.properties.ClientProperty.MAP_REQUEST_COALESCING_WINDOW_MICROS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientMapRequestCoalescingTest extends HazelcastTestSupport {
+
+    private final TestHazelcastFactory hazelcastFactory = new TestHazelcastFactory();
+    private HazelcastInstance member;
+
+    @Before
+    public void setup() {
+        member = hazelcastFactory.newHazelcastInstance(smallInstanceConfigWithoutJetAndMetrics());
+        hazelcastFactory.newHazelcastInstance(smallInstanceConfigWithoutJetAndMetrics());
+    }
+
+    @After
+    public void tearDown() {
+        hazelcastFactory.terminateAll();
+    }
+
+    @Test
+    public void whenConcurrentGet_thenValuesCorrect() throws Exception {
+        HazelcastInstance client = newClient(TimeUnit.MILLISECONDS.toMicros(1), 16);
+        IMap<String, Integer> map = client.getMap(randomMapName());
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            futures.add(spawn(() -> {
+                for (int i = 0; i < 100; i++) {
+                    String key = thread + "-" + i;
+                    map.set(key, i);
+                    assertEquals(i, (int) map.get(key));
+                    assertNull(map.get(key + "-missing"));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, TimeUnit.SECONDS);
+        }
+
+        IMap<String, Integer> memberMap = member.getMap(map.getName());
+        assertEquals(800, memberMap.size());
+        assertEquals(99, (int) memberMap.get("7-99"));
+    }
+
+    @Test
+    public void whenBatchFull_thenSentBeforeWindowElapses() throws Exception {
+        int batchSize = 4;
+        // the window is long enough to fail the test if the batch waited for it
+        HazelcastInstance client = newClient(TimeUnit.MINUTES.toMicros(10), batchSize);
+        IMap<String, String> map = client.getMap(randomMapName());
+        String[] keys = new String[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            keys[i] = generateKeyForPartition(member, 1);
+            member.getMap(map.getName()).set(keys[i], "value-" + i);
+        }
+
+        List<Future<String>> futures = new ArrayList<>();
+        for (String key : keys) {
+            futures.add(spawn(() -> map.get(key)));
+        }
+        for (int i = 0; i < batchSize; i++) {
+            assertEquals("value-" + i, futures.get(i).get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void whenSet_thenNotCoalesced() {
+        HazelcastInstance client = newClient(TimeUnit.MINUTES.toMicros(10), 4);
+        IMap<String, String> map = client.getMap(randomMapName());
+
+        // would wait for the window if it was coalesced
+        map.set("key", "value");
+        map.set("other-key", "value", 1, TimeUnit.HOURS);
+
+        assertEquals("value", member.getMap(map.getName()).get("key"));
+        assertEquals("value", member.getMap(map.getName()).get("other-key"));
+    }
+
+    @Test
+    public void whenKeyLocked_thenSetWaitsForUnlock() throws Exception {
+        HazelcastInstance client = newClient(TimeUnit.MILLISECONDS.toMicros(1), 16);
+        IMap<String, String> map = client.getMap(randomMapName());
+        IMap<String, String> memberMap = member.getMap(map.getName());
+        memberMap.set("key", "locked-value");
+        memberMap.lock("key");
+
+        Future<?> setFuture = spawn(() -> map.set("key", "new-value"));
+
+        assertTrueAllTheTime(() -> assertEquals("locked-value", memberMap.get("key")), 3);
+        memberMap.unlock("key");
+        setFuture.get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, TimeUnit.SECONDS);
+        assertEquals("new-value", memberMap.get("key"));
+    }
+
+    @Test
+    public void whenInterruptedWhileWaitingForBatch_thenInterruptFlagKept() throws Exception {
+        // the request waits for the window, so the caller blocks
+        HazelcastInstance client = newClient(TimeUnit.MINUTES.toMicros(10), 4);
+        IMap<String, String> map = client.getMap(randomMapName());
+
+        Future<Boolean> interruptedAfterGet = spawn(() -> {
+            Thread.currentThread().interrupt();
+            assertThrows(HazelcastException.class, () -> map.get("key"));
+            return Thread.currentThread().isInterrupted();
+        });
+
+        assertTrue(interruptedAfterGet.get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, TimeUnit.SECONDS));
+    }
+
+    private HazelcastInstance newClient(long windowMicros, int maxBatchSize) {
+        ClientConfig clientConfig = new ClientConfig()
+                .setProperty(MAP_REQUEST_COALESCING_WINDOW_MICROS.getName(), String.valueOf(windowMicros))
+                .setProperty(MAP_REQUEST_COALESCING_MAX_BATCH_SIZE.getName(), String.valueOf(maxBatchSize));
+        return hazelcastFactory.newHazelcastClient(clientConfig);
+    }
+}
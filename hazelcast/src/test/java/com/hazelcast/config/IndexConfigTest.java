@@ -125,4 +125,23 @@ public class IndexConfigTest {
         new IndexConfig().addAttribute("");
     }
 
+    @Test
+    public void testIncludedAttributes() {
+        IndexConfig config = new IndexConfig(IndexType.SORTED, "age").addIncludedAttribute("name");
+
+        assertEquals(Collections.singletonList("name"), config.getIncludedAttributes());
+        assertNotEquals(new IndexConfig(IndexType.SORTED, "age"), config);
+        assertEquals(new IndexConfig(config), config);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testIncludedAttributesNull() {
+        new IndexConfig().setIncludedAttributes(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIncludedAttributeEmptyAdd() {
+        new IndexConfig().addIncludedAttribute("");
+    }
+
 }
@@ -16,9 +16,12 @@
 
 package com.hazelcast.config;
 
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.config.MapConfigReadOnly;
 import com.hazelcast.internal.config.MapPartitionLostListenerConfigReadOnly;
 import com.hazelcast.internal.config.MapStoreConfigReadOnly;
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
@@ -325,6 +328,22 @@ public class MapConfigTest {
         serializationService.toObject(data);
     }
 
+    @Test
+    public void givenColumnarConfig_whenSerializedForClusterVersionOlderThan6_0_thenBinaryIsWritten() throws Exception {
+        MapConfig mapConfig = new MapConfig("columnar").setInMemoryFormat(InMemoryFormat.COLUMNAR);
+        InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput();
+        out.setVersion(Versions.V5_5);
+        mapConfig.writeData(out);
+        BufferObjectDataInput in = serializationService.createObjectDataInput(out.toByteArray());
+        in.setVersion(Versions.V5_5);
+        MapConfig otherMapConfig = new MapConfig();
+        otherMapConfig.readData(in);
+
+        assertEquals(InMemoryFormat.BINARY, otherMapConfig.getInMemoryFormat());
+    }
+
     @Test
     public void testSetMergePolicyConfig() {
         MergePolicyConfig mergePolicyConfig = new MergePolicyConfig()
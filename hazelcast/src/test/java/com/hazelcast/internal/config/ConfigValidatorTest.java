@@ -39,6 +39,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mockito;
 
 import static com.hazelcast.config.InMemoryFormat.BINARY;
+import static com.hazelcast.config.InMemoryFormat.COLUMNAR;
 import static com.hazelcast.config.InMemoryFormat.NATIVE;
 import static com.hazelcast.config.InMemoryFormat.OBJECT;
 import static com.hazelcast.internal.config.ConfigValidator.checkCPSubsystemConfig;
@@ -100,6 +101,22 @@ public class ConfigValidatorTest extends HazelcastTestSupport {
         checkMapConfig(new Config(), getMapConfig(true), splitBrainMergePolicyProvider);
     }
 
+    @Test(expected = InvalidConfigurationException.class)
+    public void checkMapConfig_offHeapStorage_withReadBackupData() {
+        checkMapConfig(new Config(), getMapConfig(BINARY).setOffHeapStorageEnabled(true).setReadBackupData(true),
+                splitBrainMergePolicyProvider);
+    }
+
+    @Test
+    public void checkMapConfig_COLUMNAR() {
+        checkMapConfig(new Config(), getMapConfig(COLUMNAR), splitBrainMergePolicyProvider);
+    }
+
+    @Test(expected = InvalidConfigurationException.class)
+    public void checkMapConfig_COLUMNAR_withReadBackupData() {
+        checkMapConfig(new Config(), getMapConfig(COLUMNAR).setReadBackupData(true), splitBrainMergePolicyProvider);
+    }
+
     private MapConfig getMapConfig(InMemoryFormat inMemoryFormat) {
         MapConfig mapConfig = new MapConfig()
                 .setInMemoryFormat(inMemoryFormat)
@@ -69,6 +69,7 @@ import com.hazelcast.config.WanReplicationConfig;
 import com.hazelcast.config.WanReplicationRef;
 import com.hazelcast.core.EntryEvent;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.map.MapPartitionLostEvent;
 import com.hazelcast.map.listener.EntryAddedListener;
 import com.hazelcast.map.listener.MapPartitionLostListener;
@@ -102,9 +103,11 @@ import java.util.function.BiFunction;
 import static com.hazelcast.config.MaxSizePolicy.ENTRY_COUNT;
 import static com.hazelcast.config.MultiMapConfig.ValueCollectionType.LIST;
 import static com.hazelcast.dataconnection.impl.DataConnectionTestUtil.DUMMY_TYPE;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
 import static com.hazelcast.test.TestConfigUtils.NON_DEFAULT_BACKUP_COUNT;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
@@ -388,6 +391,21 @@ public class DynamicConfigTest extends HazelcastTestSupport {
         assertConfigurationsEqualOnAllMembers(config);
     }
 
+    @Test
+    public void testMapConfig_COLUMNAR_whenClusterVersionOlderThan6_0_thenNotSupported() {
+        ClusterWideConfigurationService configurationService =
+                getNodeEngineImpl(driver).getService(ConfigurationService.SERVICE_NAME);
+        configurationService.onClusterVersionChange(Versions.V5_5);
+        try {
+            MapConfig config = new MapConfig(name).setInMemoryFormat(InMemoryFormat.COLUMNAR);
+
+            assertThatThrownBy(() -> driver.getConfig().addMapConfig(config))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        } finally {
+            configurationService.onClusterVersionChange(Versions.CURRENT_CLUSTER_VERSION);
+        }
+    }
+
     @Test
     public void testDefaultMapConfig() {
         MapConfig config = new MapConfig(name);
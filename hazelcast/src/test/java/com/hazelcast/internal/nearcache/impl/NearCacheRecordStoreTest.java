@@ -43,17 +43,27 @@ import static org.junit.Assert.assertTrue;
 @Category({QuickTest.class, ParallelJVMTest.class})
 public class NearCacheRecordStoreTest extends NearCacheRecordStoreTestSupport {
 
-    @Parameters(name = "format:{0}")
+    @Parameters(name = "format:{0} offHeap:{1}")
     public static Collection<Object[]> parameters() {
         return asList(new Object[][]{
-                {InMemoryFormat.BINARY},
-                {InMemoryFormat.OBJECT},
+                {InMemoryFormat.BINARY, false},
+                {InMemoryFormat.BINARY, true},
+                {InMemoryFormat.OBJECT, false},
         });
     }
 
     @Parameter
     public InMemoryFormat inMemoryFormat;
 
+    @Parameter(1)
+    public boolean offHeapStorageEnabled;
+
+    @Override
+    NearCacheConfig createNearCacheConfig(String name, InMemoryFormat inMemoryFormat) {
+        return super.createNearCacheConfig(name, inMemoryFormat)
+                .setOffHeapStorageEnabled(offHeapStorageEnabled);
+    }
+
     @Test
     public void putAndGetRecord() {
         putAndGetRecord(inMemoryFormat);
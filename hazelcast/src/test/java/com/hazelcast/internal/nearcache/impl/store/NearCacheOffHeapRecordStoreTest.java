@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.store;
+
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.internal.nearcache.NearCacheRecord;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.nearcache.NearCacheStats;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.nearcache.NearCache.CACHED_AS_NULL;
+import static com.hazelcast.internal.nearcache.NearCache.UpdateSemantic.READ_UPDATE;
+import static com.hazelcast.internal.nearcache.NearCache.UpdateSemantic.WRITE_UPDATE;
+import static com.hazelcast.internal.nearcache.NearCacheRecord.NOT_RESERVED;
+import static com.hazelcast.internal.nearcache.NearCacheRecord.READ_PERMITTED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class NearCacheOffHeapRecordStoreTest {
+
+    private static final int MAX_SIZE = 100;
+    private static final int EVICTION_COUNT = 8;
+
+    private SerializationService serializationService;
+    private NearCacheOffHeapRecordStore<Integer, String> store;
+
+    @Before
+    public void setUp() {
+        NearCacheConfig config = new NearCacheConfig("name")
+                .setOffHeapStorageEnabled(true)
+                .setEvictionConfig(new EvictionConfig()
+                        .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+                        .setSize(MAX_SIZE));
+
+        serializationService = new DefaultSerializationServiceBuilder().build();
+
+        store = new NearCacheOffHeapRecordStore<>("name", config, serializationService);
+        store.initialize();
+    }
+
+    @After
+    public void tearDown() {
+        store.destroy();
+    }
+
+    @Test
+    public void testReservation_thenOnlyOneReservationPerKey() {
+        Data keyData = serializationService.toData(1);
+
+        long reservationId1 = store.tryReserveForUpdate(1, keyData, READ_UPDATE);
+        long reservationId2 = store.tryReserveForUpdate(1, keyData, READ_UPDATE);
+
+        assertNotEquals(NOT_RESERVED, reservationId1);
+        assertEquals(NOT_RESERVED, reservationId2);
+        // a reserved record without a value is a miss
+        assertNull(store.get(1));
+        assertEquals(0, store.getNearCacheStats().getOwnedEntryCount());
+    }
+
+    @Test
+    public void testPublish_withStaleReservation_thenNotPublished() {
+        Data keyData = serializationService.toData(1);
+        long reservationId = store.tryReserveForUpdate(1, keyData, READ_UPDATE);
+
+        assertNull(store.tryPublishReserved(1, "value", reservationId + 1, true));
+        assertEquals("value", store.tryPublishReserved(1, "value", reservationId, true));
+        assertEquals("value", store.get(1));
+
+        NearCacheRecord record = store.getRecord(1);
+        assertEquals(READ_PERMITTED, record.getReservationId());
+        assertEquals(1, store.getNearCacheStats().getOwnedEntryCount());
+    }
+
+    @Test
+    public void testWriteUpdate_ofPublishedRecord_thenValueReplaced() {
+        Data keyData = serializationService.toData(1);
+        store.put(1, keyData, "small", null);
+        long memoryCost = store.getNearCacheStats().getOwnedEntryMemoryCost();
+
+        String largeValue = "x".repeat(10_000);
+        long reservationId = store.tryReserveForUpdate(1, keyData, WRITE_UPDATE);
+        store.tryPublishReserved(1, largeValue, reservationId, false);
+
+        assertEquals(largeValue, store.get(1));
+        assertEquals(1, store.size());
+        assertEquals(1, store.getNearCacheStats().getOwnedEntryCount());
+        assertTrue(store.getNearCacheStats().getOwnedEntryMemoryCost() > memoryCost);
+    }
+
+    @Test
+    public void testWriteUpdate_ofReservedRecord_thenRecordRemoved() {
+        Data keyData = serializationService.toData(1);
+        store.tryReserveForUpdate(1, keyData, READ_UPDATE);
+
+        assertEquals(NOT_RESERVED, store.tryReserveForUpdate(1, keyData, WRITE_UPDATE));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void testNullValue_thenCachedAsNull() {
+        store.put(1, null, null, null);
+
+        assertSame(CACHED_AS_NULL, store.get(1));
+        assertTrue(store.getRecord(1).isCachedAsNull());
+        assertEquals(1, store.getNearCacheStats().getOwnedEntryCount());
+    }
+
+    @Test
+    public void testGet_thenAccessRecorded() {
+        store.put(1, null, "value", null);
+
+        store.get(1);
+        store.get(1);
+
+        NearCacheRecord record = store.getRecord(1);
+        assertEquals(2, record.getHits());
+        assertNotEquals(NearCacheRecord.TIME_NOT_SET, record.getLastAccessTime());
+        assertEquals(2, store.getNearCacheStats().getHits());
+    }
+
+    @Test
+    public void testInvalidate_thenMemoryReleased() {
+        for (int i = 0; i < MAX_SIZE; i++) {
+            store.put(i, null, "value-" + i, null);
+        }
+        for (int i = 0; i < MAX_SIZE; i++) {
+            store.invalidate(i);
+        }
+
+        NearCacheStats stats = store.getNearCacheStats();
+        assertEquals(0, store.size());
+        assertEquals(0, stats.getOwnedEntryCount());
+        assertEquals(0, stats.getOwnedEntryMemoryCost());
+        assertEquals(MAX_SIZE, stats.getInvalidations());
+    }
+
+    @Test
+    public void testReservation_afterDestroy_thenNotReserved() {
+        Data keyData = serializationService.toData(1);
+        long reservationId = store.tryReserveForUpdate(1, keyData, READ_UPDATE);
+
+        store.destroy();
+
+        assertNull(store.tryPublishReserved(1, "value", reservationId, true));
+        assertEquals(NOT_RESERVED, store.tryReserveForUpdate(2, serializationService.toData(2), READ_UPDATE));
+        assertNull(store.get(2));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void testManyRecords_thenAllReadable() {
+        NearCacheConfig config = new NearCacheConfig("name")
+                .setOffHeapStorageEnabled(true)
+                .setEvictionConfig(new EvictionConfig().setEvictionPolicy(EvictionPolicy.NONE));
+        NearCacheOffHeapRecordStore<Integer, String> store = new NearCacheOffHeapRecordStore<>("name", config,
+                serializationService);
+        store.initialize();
+        try {
+            int count = 10_000;
+            for (int i = 0; i < count; i++) {
+                store.put(i, null, "value-" + i, null);
+            }
+            // removals shift records within the probe sequences
+            for (int i = 0; i < count; i += 2) {
+                store.invalidate(i);
+            }
+
+            assertEquals(count / 2, store.size());
+            for (int i = 0; i < count; i++) {
+                assertEquals(i % 2 == 0 ? null : "value-" + i, store.get(i));
+            }
+        } finally {
+            store.destroy();
+        }
+    }
+
+    @Test
+    public void testEviction_thenRecentlyReadRecordsKept() {
+        for (int i = 0; i < MAX_SIZE; i++) {
+            store.put(i, null, "value-" + i, null);
+        }
+        for (int i = 0; i < MAX_SIZE; i++) {
+            if (i % 2 == 0) {
+                store.get(i);
+            }
+        }
+
+        // each eviction is taken from the next segment
+        for (int i = 0; i < EVICTION_COUNT; i++) {
+            assertTrue(store.doEviction(true));
+        }
+
+        for (int i = 0; i < MAX_SIZE; i += 2) {
+            assertNotNull(store.getRecord(i));
+        }
+        assertEquals(MAX_SIZE - EVICTION_COUNT, store.size());
+        assertEquals(EVICTION_COUNT, store.getNearCacheStats().getEvictions());
+    }
+
+    @Test
+    public void testEviction_whenEvictionPolicyNone_thenNewKeysRejected() {
+        NearCacheConfig config = new NearCacheConfig("name")
+                .setOffHeapStorageEnabled(true)
+                .setEvictionConfig(new EvictionConfig()
+                        .setEvictionPolicy(EvictionPolicy.NONE)
+                        .setSize(1));
+        NearCacheOffHeapRecordStore<Integer, String> store = new NearCacheOffHeapRecordStore<>("name", config,
+                serializationService);
+        store.initialize();
+        try {
+            store.put(1, null, "value", null);
+            store.put(2, null, "value", null);
+
+            assertFalse(store.doEviction(false));
+            assertEquals(1, store.size());
+            assertNull(store.get(2));
+        } finally {
+            store.destroy();
+        }
+    }
+}
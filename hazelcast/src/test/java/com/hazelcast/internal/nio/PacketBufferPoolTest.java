@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nio;
+
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PacketBufferPoolTest {
+
+    private static final int THRESHOLD = 1000;
+    private static final int CAPACITY = 1 << 16;
+
+    private final PacketBufferPool bufferPool = new PacketBufferPool(THRESHOLD, CAPACITY);
+
+    @Test
+    public void whenBelowThreshold_thenHeapBuffer() {
+        ByteBuffer buffer = bufferPool.acquire(THRESHOLD - 1);
+
+        assertFalse(buffer.isDirect());
+        assertEquals(THRESHOLD - 1, buffer.capacity());
+    }
+
+    @Test
+    public void whenAboveCapacity_thenHeapBuffer() {
+        ByteBuffer buffer = bufferPool.acquire(CAPACITY + 1);
+
+        assertFalse(buffer.isDirect());
+        assertEquals(CAPACITY + 1, buffer.capacity());
+    }
+
+    @Test
+    public void whenAcquired_thenDirectBufferOfSizeClass() {
+        ByteBuffer buffer = bufferPool.acquire(THRESHOLD);
+
+        assertTrue(buffer.isDirect());
+        assertEquals(1024, buffer.capacity());
+        assertEquals(0, buffer.position());
+        assertEquals(THRESHOLD, buffer.limit());
+    }
+
+    @Test
+    public void whenReleased_thenReused() {
+        ByteBuffer buffer = bufferPool.acquire(3000);
+        bufferPool.release(buffer);
+
+        assertEquals(4096, bufferPool.pooledBytes());
+        assertSame(buffer, bufferPool.acquire(2500));
+        assertEquals(0, bufferPool.pooledBytes());
+        assertEquals(2500, buffer.limit());
+    }
+
+    @Test
+    public void whenPoolFull_thenReleasedBufferDropped() {
+        ByteBuffer buffer1 = bufferPool.acquire(CAPACITY);
+        ByteBuffer buffer2 = bufferPool.acquire(CAPACITY);
+
+        bufferPool.release(buffer1);
+        bufferPool.release(buffer2);
+
+        assertEquals(CAPACITY, bufferPool.pooledBytes());
+    }
+
+    @Test
+    public void whenPacketWithDirectPayload_thenSameContentAsHeapPacket() {
+        InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+        String value = "x".repeat(THRESHOLD * 2);
+
+        ByteBuffer payload = serializationService.toByteBuffer(value, bufferPool::acquire);
+        Packet packet = new Packet(payload, 1, bufferPool);
+        byte[] bytes = serializationService.toBytes(value);
+
+        assertSame(payload, packet.directPayload());
+        assertEquals(bytes.length, packet.totalSize());
+        assertArrayEquals(bytes, packet.toByteArray());
+        assertEquals(value, serializationService.toObject(packet));
+
+        packet.release();
+        assertEquals(payload.capacity(), bufferPool.pooledBytes());
+        // the payload stays readable once it was copied to the heap
+        assertArrayEquals(bytes, packet.toByteArray());
+    }
+}
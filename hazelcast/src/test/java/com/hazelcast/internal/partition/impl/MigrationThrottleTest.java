@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.partition.impl;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MigrationThrottleTest {
+
+    @Test
+    public void whenDisabled_thenNoDelay() {
+        MigrationThrottle throttle = new MigrationThrottle(0);
+        throttle.onSent(Integer.MAX_VALUE);
+
+        assertFalse(throttle.isEnabled());
+        assertEquals(0, throttle.delayNanos());
+    }
+
+    @Test
+    public void whenNothingSent_thenNoDelay() {
+        MigrationThrottle throttle = new MigrationThrottle(1024);
+
+        assertTrue(throttle.isEnabled());
+        assertEquals(0, throttle.delayNanos());
+    }
+
+    @Test
+    public void whenSent_thenDelayedByTransferTime() {
+        MigrationThrottle throttle = new MigrationThrottle(1024);
+        throttle.onSent(10 * 1024);
+
+        long delayNanos = throttle.delayNanos();
+        assertTrue("delay: " + delayNanos, delayNanos > SECONDS.toNanos(5));
+        assertTrue("delay: " + delayNanos, delayNanos <= SECONDS.toNanos(10));
+    }
+
+    @Test
+    public void whenSentRepeatedly_thenDelaysAccumulate() {
+        MigrationThrottle throttle = new MigrationThrottle(1024);
+        throttle.onSent(10 * 1024);
+        throttle.onSent(10 * 1024);
+
+        assertTrue(throttle.delayNanos() > SECONDS.toNanos(15));
+    }
+}
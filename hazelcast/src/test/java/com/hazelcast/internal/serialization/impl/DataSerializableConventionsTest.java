@@ -27,6 +27,7 @@ import com.hazelcast.internal.serialization.DataSerializerHook;
 import com.hazelcast.internal.serialization.SerializableByConvention;
 import com.hazelcast.jet.impl.MasterJobContext.SnapshotRestoreEdge;
 import com.hazelcast.map.impl.operation.MapPartitionDestroyOperation;
+import com.hazelcast.map.impl.query.ColumnarQueryEntry;
 import com.hazelcast.map.impl.wan.WanMapEntryView;
 import com.hazelcast.nio.serialization.DataSerializable;
 import com.hazelcast.nio.serialization.DataSerializableFactory;
@@ -318,6 +319,7 @@ public class DataSerializableConventionsTest {
         Set<Class<?>> whiteList = new HashSet<>();
         whiteList.add(BoundedRangePredicate.class);
         whiteList.add(CachedQueryEntry.class);
+        whiteList.add(ColumnarQueryEntry.class);
         whiteList.add(CompositeEqualPredicate.class);
         whiteList.add(CompositeRangePredicate.class);
         whiteList.add(EvaluatePredicate.class);
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.DataFormatException;
+
+import static com.hazelcast.internal.nio.Packet.FLAG_COMPRESSED;
+import static com.hazelcast.internal.nio.Packet.FLAG_URGENT;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PacketCompressorTest {
+
+    private static final int THRESHOLD = 1024;
+
+    private final PacketCompressor compressor = new PacketCompressor(THRESHOLD);
+
+    @Test
+    public void whenDisabled_thenNotCompressed() {
+        Packet packet = new Packet(new byte[THRESHOLD * 2], 1);
+
+        assertSame(packet, compressor.compress(packet));
+    }
+
+    @Test
+    public void whenBelowThreshold_thenNotCompressed() {
+        compressor.setEnabled(true);
+        Packet packet = new Packet(new byte[THRESHOLD - 1], 1);
+
+        assertSame(packet, compressor.compress(packet));
+    }
+
+    @Test
+    public void whenIncompressible_thenNotCompressed() {
+        compressor.setEnabled(true);
+        byte[] payload = new byte[THRESHOLD * 2];
+        new Random(42).nextBytes(payload);
+        Packet packet = new Packet(payload, 1);
+
+        assertSame(packet, compressor.compress(packet));
+        assertEquals(0, compressor.compressionRatio(), 0);
+    }
+
+    @Test
+    public void whenCompressed_thenDecompressedToOriginal() throws Exception {
+        compressor.setEnabled(true);
+        byte[] payload = new byte[THRESHOLD * 4];
+        Arrays.fill(payload, (byte) 7);
+        Packet packet = new Packet(payload, 13)
+                .setPacketType(Packet.Type.OPERATION)
+                .raiseFlags(FLAG_URGENT);
+
+        Packet compressed = compressor.compress(packet);
+
+        assertTrue(compressed.isFlagRaised(FLAG_COMPRESSED));
+        assertTrue(compressed.totalSize() < payload.length);
+        assertFalse(packet.isFlagRaised(FLAG_COMPRESSED));
+        assertTrue(compressor.compressionRatio() < 100);
+
+        Packet decompressed = new PacketCompressor(THRESHOLD).decompress(compressed);
+
+        assertArrayEquals(payload, decompressed.toByteArray());
+        assertEquals(packet.getFlags(), decompressed.getFlags());
+        assertEquals(13, decompressed.getPartitionId());
+    }
+
+    @Test
+    public void whenCorrupt_thenDecompressionFails() {
+        compressor.setEnabled(true);
+        Packet compressed = compressor.compress(new Packet(new byte[THRESHOLD * 4], 1));
+        byte[] truncated = Arrays.copyOf(compressed.toByteArray(), compressed.totalSize() / 2);
+
+        Packet corrupt = new Packet(truncated, 1).resetFlagsTo(compressed.getFlags());
+
+        assertThrows(DataFormatException.class, () -> compressor.decompress(corrupt));
+    }
+}
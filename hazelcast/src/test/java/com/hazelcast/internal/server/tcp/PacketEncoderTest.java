@@ -18,6 +18,7 @@ package com.hazelcast.internal.server.tcp;
 
 import com.hazelcast.internal.networking.HandlerStatus;
 import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.nio.PacketBufferPool;
 import com.hazelcast.internal.nio.PacketIOHelper;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
@@ -90,6 +91,34 @@ public class PacketEncoderTest extends HazelcastTestSupport {
         assertEquals(DIRTY, result);
     }
 
+    @Test
+    public void whenDirectPacketWrittenInParts_thenReleased() {
+        PacketBufferPool bufferPool = new PacketBufferPool(1024, 1 << 20);
+        byte[] bytes = serializationService.toBytes(new byte[2000]);
+        ByteBuffer payload = serializationService.toByteBuffer(new byte[2000], bufferPool::acquire);
+        Packet packet = new Packet(payload, 1, bufferPool);
+        ByteBuffer dst = ByteBuffer.allocate(1000);
+        dst.flip();
+
+        PacketSupplier src = new PacketSupplier();
+        src.queue.add(packet);
+
+        encoder.dst(dst);
+        encoder.src(src);
+
+        PacketIOHelper packetReader = new PacketIOHelper();
+        Packet resultPacket = null;
+        HandlerStatus result;
+        do {
+            result = encoder.onWrite();
+            Packet read = packetReader.readFrom(dst);
+            resultPacket = read != null ? read : resultPacket;
+        } while (result == DIRTY);
+
+        assertEquals(new Packet(bytes, 1), resultPacket);
+        assertEquals(payload.capacity(), bufferPool.pooledBytes());
+    }
+
     static class PacketSupplier implements Supplier<Packet> {
         Queue<Packet> queue = new LinkedBlockingQueue<>();
 
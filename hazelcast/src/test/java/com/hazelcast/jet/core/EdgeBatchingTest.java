@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.core;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.jet.SimpleTestInClusterSupport;
+import com.hazelcast.jet.pipeline.Pipeline;
+import com.hazelcast.jet.pipeline.Sinks;
+import com.hazelcast.jet.pipeline.test.TestSources;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static com.hazelcast.jet.aggregate.AggregateOperations.counting;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_EDGE_BATCH_SIZE;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class EdgeBatchingTest extends SimpleTestInClusterSupport {
+
+    private static final int ITEM_COUNT = 10_000;
+    private static final int KEY_COUNT = 100;
+
+    @BeforeClass
+    public static void beforeClass() {
+        Config config = smallInstanceConfig();
+        config.setProperty(JET_EDGE_BATCH_SIZE.getName(), "8");
+        initialize(2, config);
+    }
+
+    @Test
+    public void when_edgesBatched_then_allItemsDelivered() {
+        List<Integer> items = IntStream.range(0, ITEM_COUNT).boxed().collect(toList());
+        IMap<Integer, Long> sink = instance().getMap(randomMapName());
+
+        Pipeline p = Pipeline.create();
+        p.readFrom(TestSources.items(items))
+         .rebalance()
+         .map(i -> i * 2)
+         .groupingKey(i -> i % KEY_COUNT)
+         .aggregate(counting())
+         .writeTo(Sinks.map(sink));
+
+        instance().getJet().newJob(p).join();
+
+        Map<Integer, Long> expected = new HashMap<>();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            expected.merge(i * 2 % KEY_COUNT, 1L, Long::sum);
+        }
+        assertEquals(expected, new HashMap<>(sink));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.core;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.function.SupplierEx;
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.jet.Job;
+import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.core.JobRestartWithSnapshotTest.SequencesInPartitionsGeneratorP;
+import com.hazelcast.jet.impl.JobExecutionRecord;
+import com.hazelcast.jet.impl.JobRepository;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataCompressedHeader;
+import com.hazelcast.jet.impl.util.Util;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.SlowTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.config.ProcessingGuarantee.EXACTLY_ONCE;
+import static com.hazelcast.jet.core.Edge.between;
+import static com.hazelcast.jet.core.TestUtil.throttle;
+import static com.hazelcast.jet.core.processor.SinkProcessors.writeListP;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SNAPSHOT_COMPRESSION_ENABLED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({SlowTest.class, ParallelJVMTest.class})
+public class SnapshotCompressionTest extends JetTestSupport {
+
+    private static final int NUM_PARTITIONS = 200;
+    private static final int ELEMENTS_IN_PARTITION = 20;
+
+    private HazelcastInstance instance1;
+
+    @Before
+    public void setup() {
+        Config config = smallInstanceConfig();
+        config.setProperty(JET_SNAPSHOT_COMPRESSION_ENABLED.getName(), "true");
+        instance1 = createHazelcastInstance(config);
+        createHazelcastInstance(config);
+    }
+
+    @Test
+    public void when_compressionEnabled_then_jobRestartsFromCompressedSnapshot() {
+        DAG dag = new DAG();
+        SupplierEx<Processor> sup = () ->
+                new SequencesInPartitionsGeneratorP(NUM_PARTITIONS, ELEMENTS_IN_PARTITION, true);
+        Vertex generator = dag.newVertex("generator", throttle(sup, 500))
+                              .localParallelism(1);
+        Vertex sink = dag.newVertex("sink", writeListP("sink"));
+        dag.edge(between(generator, sink));
+
+        JobConfig config = new JobConfig();
+        config.setProcessingGuarantee(EXACTLY_ONCE);
+        config.setSnapshotIntervalMillis(500);
+        Job job = instance1.getJet().newJob(dag, config);
+
+        JobRepository jobRepository = new JobRepository(instance1);
+        waitForFirstSnapshot(jobRepository, job.getId(), 30, false);
+        JobExecutionRecord record = jobRepository.getJobExecutionRecord(job.getId());
+        IMap<Object, Object> snapshotMap =
+                instance1.getMap(JobRepository.snapshotDataMapName(job.getId(), record.dataMapIndex()));
+        assertTrue("no compressed chunk in the snapshot", snapshotMap.values().stream().anyMatch(this::isCompressed));
+
+        // When
+        job.restart();
+        job.join();
+
+        // Then
+        Set<Entry<Integer, Integer>> expected = IntStream.range(0, ELEMENTS_IN_PARTITION)
+                .boxed()
+                .flatMap(i -> IntStream.range(0, NUM_PARTITIONS).mapToObj(p -> entry(p, i)))
+                .collect(Collectors.toSet());
+        List<Entry<Integer, Integer>> sinkList = instance1.getList("sink");
+        assertEquals(expected, new HashSet<>(sinkList));
+    }
+
+    private boolean isCompressed(Object chunk) {
+        if (!(chunk instanceof byte[] bytes)) {
+            // a validation record
+            return false;
+        }
+        InternalSerializationService serializationService = Util.getSerializationService(instance1);
+        BufferObjectDataInput in = serializationService.createObjectDataInput(bytes);
+        return serializationService.readObject(in, true) instanceof SnapshotDataCompressedHeader;
+    }
+}
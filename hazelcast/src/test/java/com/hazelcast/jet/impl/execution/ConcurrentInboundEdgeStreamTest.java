@@ -263,6 +263,27 @@ public class ConcurrentInboundEdgeStreamTest {
         drainAndAssert(MADE_PROGRESS, 1);
     }
 
+    @Test
+    public void when_itemBatches_then_unpacked() {
+        ItemBatch batch1 = batch(1, 2, 3);
+        ItemBatch batch2 = batch(5, 6);
+        add(q1, batch1, 4, wm(1));
+        add(q2, batch2, wm(1));
+        drainAndAssert(MADE_PROGRESS, 1, 2, 3, 4, 5, 6);
+        drainAndAssert(MADE_PROGRESS, wm(1));
+    }
+
+    @Test
+    public void when_itemBatchesAndNotUnpacking_then_batchesPassed() {
+        stream = ConcurrentInboundEdgeStream.create(conveyor, 0, 0, false, "cies", null, false);
+        ItemBatch batch1 = batch(1, 2, 3);
+        ItemBatch batch2 = batch(5, 6);
+        add(q1, batch1, 4, wm(1));
+        add(q2, batch2, wm(1));
+        drainAndAssert(MADE_PROGRESS, batch1, 4, batch2);
+        drainAndAssert(MADE_PROGRESS, wm(1));
+    }
+
     private void drainAndAssert(ProgressState expectedState, Object... expectedItems) {
         List<Object> list = new ArrayList<>();
         assertEquals("progressState", expectedState, stream.drainTo(list::add));
@@ -273,6 +294,14 @@ public class ConcurrentInboundEdgeStreamTest {
         q.addAll(Arrays.asList(items));
     }
 
+    private ItemBatch batch(Object... items) {
+        ItemBatch batch = new ItemBatch(items.length);
+        for (Object item : items) {
+            batch.add(item);
+        }
+        return batch;
+    }
+
     private SnapshotBarrier barrier(long snapshotId) {
         return new SnapshotBarrier(snapshotId, false);
     }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.execution;
+
+import com.hazelcast.internal.util.concurrent.ConcurrentConveyor;
+import com.hazelcast.internal.util.concurrent.OneToOneConcurrentArrayQueue;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hazelcast.jet.core.JetTestSupport.wm;
+import static com.hazelcast.jet.impl.execution.DoneItem.DONE_ITEM;
+import static com.hazelcast.jet.impl.util.ProgressState.DONE;
+import static com.hazelcast.jet.impl.util.ProgressState.NO_PROGRESS;
+import static com.hazelcast.jet.impl.util.ProgressState.WAS_ALREADY_DONE;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ConveyorCollectorTest {
+
+    private final OneToOneConcurrentArrayQueue<Object> queue = new OneToOneConcurrentArrayQueue<>(2);
+    private final ConcurrentConveyor<Object> conveyor = ConcurrentConveyor.concurrentConveyor(null, queue);
+    private final InboundEdgeStream stream = ConcurrentInboundEdgeStream.create(conveyor, 0, 0, false, "cies", null);
+
+    @Test
+    public void when_notBatching_then_itemsOfferedIndividually() {
+        ConveyorCollector collector = new ConveyorCollector(conveyor, 0, null);
+
+        assertEquals(DONE, collector.offer(1));
+        assertEquals(DONE, collector.offer(2));
+        assertEquals(NO_PROGRESS, collector.offer(3));
+
+        assertFalse(collector.isBatching());
+        assertEquals(WAS_ALREADY_DONE, collector.flush());
+        List<Object> items = new ArrayList<>();
+        queue.drainTo(items, Integer.MAX_VALUE);
+        assertEquals(asList(1, 2), items);
+    }
+
+    @Test
+    public void when_batchNotFull_then_offeredOnFlush() {
+        ConveyorCollector collector = new ConveyorCollector(conveyor, 0, null, 3);
+        assertTrue(collector.isBatching());
+
+        assertEquals(DONE, collector.offer(1));
+        assertEquals(DONE, collector.offer(2));
+        assertTrue(queue.isEmpty());
+
+        assertEquals(DONE, collector.flush());
+        assertEquals(1, queue.size());
+        assertEquals(WAS_ALREADY_DONE, collector.flush());
+        assertEquals(asList(1, 2), drain());
+    }
+
+    @Test
+    public void when_batchFull_then_offered() {
+        ConveyorCollector collector = new ConveyorCollector(conveyor, 0, null, 2);
+
+        for (int i = 1; i <= 3; i++) {
+            assertEquals(DONE, collector.offer(i));
+        }
+
+        assertEquals(1, queue.size());
+        assertEquals(asList(1, 2), drain());
+        assertEquals(DONE, collector.flush());
+        assertEquals(asList(3), drain());
+    }
+
+    @Test
+    public void when_broadcastItem_then_batchOfferedFirst() {
+        ConveyorCollector collector = new ConveyorCollector(conveyor, 0, null, 3);
+
+        assertEquals(DONE, collector.offer(1));
+        assertEquals(DONE, collector.offerBroadcast(wm(1)));
+        assertEquals(DONE, collector.offer(2));
+
+        assertEquals(asList(1), drain());
+        assertEquals(asList(wm(1)), drain());
+        assertEquals(DONE, collector.offerBroadcast(DONE_ITEM));
+        assertEquals(asList(2), drain());
+    }
+
+    @Test
+    public void when_queueFull_then_noProgressUntilDrained() {
+        ConveyorCollector collector = new ConveyorCollector(conveyor, 0, null, 2);
+        for (int i = 1; i <= 6; i++) {
+            assertEquals(DONE, collector.offer(i));
+        }
+
+        // the queue holds two batches and the third one is full
+        assertEquals(NO_PROGRESS, collector.offer(7));
+        assertEquals(NO_PROGRESS, collector.flush());
+        assertEquals(NO_PROGRESS, collector.offerBroadcast(DONE_ITEM));
+
+        assertEquals(asList(1, 2, 3, 4), drain());
+        assertEquals(DONE, collector.offer(7));
+        // the last batch fills the queue
+        assertEquals(NO_PROGRESS, collector.offerBroadcast(DONE_ITEM));
+        assertEquals(asList(5, 6, 7), drain());
+        assertEquals(DONE, collector.offerBroadcast(DONE_ITEM));
+    }
+
+    private List<Object> drain() {
+        List<Object> items = new ArrayList<>();
+        stream.drainTo(items::add);
+        return items;
+    }
+}
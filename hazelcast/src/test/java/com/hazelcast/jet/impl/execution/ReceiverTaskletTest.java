@@ -20,6 +20,7 @@ import com.hazelcast.cluster.Address;
 import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.jet.impl.util.ObjectWithPartitionId;
 import com.hazelcast.logging.LoggingService;
 import com.hazelcast.test.HazelcastSerialClassRunner;
 import com.hazelcast.test.annotation.ParallelJVMTest;
@@ -62,6 +63,16 @@ public class ReceiverTaskletTest {
         assertEquals(asList(1, 2), collector.getBuffer());
     }
 
+    @Test
+    public void when_receiveItemBatch_then_emitItsItems() throws IOException {
+        ItemBatch batch = new ItemBatch(2);
+        batch.add(new ObjectWithPartitionId(1, 1));
+        batch.add(new ObjectWithPartitionId(2, 2));
+        pushObjects(batch);
+        t.call();
+        assertEquals(asList(1, 2), collector.getBuffer());
+    }
+
     private void pushObjects(Object... objs) throws IOException {
         final BufferObjectDataOutput out = serService.createObjectDataOutput();
         // packet header
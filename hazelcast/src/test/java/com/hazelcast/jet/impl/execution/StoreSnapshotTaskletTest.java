@@ -111,6 +111,17 @@ public class StoreSnapshotTaskletTest extends JetTestSupport {
         assertNull(mockSsWriter.poll());
     }
 
+    @Test
+    public void when_closed_then_ssWriterClosed() {
+        // When
+        init(singletonList(DONE_ITEM));
+        assertEquals(DONE, sst.call());
+        sst.close();
+
+        // Then
+        assertTrue(mockSsWriter.closed);
+    }
+
     @Test
     public void when_barrier_then_snapshotDone() {
         // When
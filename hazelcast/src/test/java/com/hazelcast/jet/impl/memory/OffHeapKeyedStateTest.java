@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.internal.memory.impl.SlabMemoryAllocator;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OffHeapKeyedStateTest {
+
+    private OffHeapKeyedStateFactory factory;
+    private OffHeapKeyedState<String, List<Integer>> state;
+
+    @Before
+    public void setUp() {
+        assumeTrue(SlabMemoryAllocator.isAvailable());
+        factory = new OffHeapKeyedStateFactory(new DefaultSerializationServiceBuilder().build());
+        state = factory.newState();
+    }
+
+    @After
+    public void tearDown() {
+        if (factory != null) {
+            factory.dispose();
+        }
+    }
+
+    @Test
+    public void testPutGetRemove() {
+        assertNull(state.put("key", List.of(1)));
+
+        assertEquals(1, state.size());
+        assertTrue(state.containsKey("key"));
+        assertEquals(List.of(1), state.get("key"));
+        assertEquals(List.of(1), state.put("key", List.of(1, 2)));
+        assertEquals(List.of(1, 2), state.get("key"));
+
+        assertEquals(List.of(1, 2), state.remove("key"));
+        assertTrue(state.isEmpty());
+        assertFalse(state.containsKey("key"));
+        assertNull(state.get("key"));
+        assertNull(state.remove("key"));
+    }
+
+    @Test
+    public void testNullValue() {
+        assertThrows(NullPointerException.class, () -> state.put("key", null));
+    }
+
+    @Test
+    public void testUpdate_writesBackMutatedValue() {
+        for (int i = 0; i < 3; i++) {
+            int item = i;
+            state.update("key", k -> new ArrayList<>(), list -> list.add(item));
+        }
+
+        assertEquals(1, state.size());
+        assertEquals(List.of(0, 1, 2), state.get("key"));
+    }
+
+    @Test
+    public void testComputeIfAbsentAndMerge() {
+        assertEquals(List.of(1), state.computeIfAbsent("key", k -> List.of(1)));
+        assertEquals(List.of(1), state.computeIfAbsent("key", k -> List.of(2)));
+
+        List<Integer> merged = state.merge("key", List.of(3), (left, right) -> {
+            List<Integer> result = new ArrayList<>(left);
+            result.addAll(right);
+            return result;
+        });
+
+        assertEquals(List.of(1, 3), merged);
+        assertEquals(List.of(1, 3), state.get("key"));
+        assertNull(state.merge("key", List.of(4), (left, right) -> null));
+        assertTrue(state.isEmpty());
+    }
+
+    @Test
+    public void testManyEntries_thenIteratedAndCleared() {
+        Map<String, List<Integer>> expected = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            expected.put("key" + i, List.of(i));
+            state.set("key" + i, List.of(i));
+        }
+        // values change size, so some of the blocks are reallocated
+        for (int i = 0; i < 10_000; i += 3) {
+            expected.put("key" + i, List.of(i, i));
+            state.set("key" + i, List.of(i, i));
+        }
+
+        assertEquals(expected, new HashMap<>(state));
+        assertEquals(expected, state);
+
+        long usedMemory = factory.getUsedMemory();
+        state.clear();
+
+        assertTrue(state.isEmpty());
+        assertTrue(factory.getUsedMemory() < usedMemory);
+        assertTrue(state.entrySet().isEmpty());
+    }
+
+    @Test
+    public void testStatesAreIndependent() {
+        OffHeapKeyedState<String, List<Integer>> otherState = factory.newState();
+        state.put("key", List.of(1));
+        otherState.put("key", List.of(2));
+
+        otherState.dispose();
+
+        assertEquals(List.of(1), state.get("key"));
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.jet.Job;
+import com.hazelcast.jet.SimpleTestInClusterSupport;
+import com.hazelcast.jet.Util;
+import com.hazelcast.jet.accumulator.LongAccumulator;
+import com.hazelcast.jet.aggregate.AggregateOperation;
+import com.hazelcast.jet.aggregate.AggregateOperation1;
+import com.hazelcast.jet.impl.processor.GroupP;
+import com.hazelcast.jet.impl.processor.SortP;
+import com.hazelcast.jet.pipeline.Pipeline;
+import com.hazelcast.jet.pipeline.Sinks;
+import com.hazelcast.jet.pipeline.test.TestSources;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static com.hazelcast.internal.nio.IOUtil.delete;
+import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.aggregate.AggregateOperations.counting;
+import static com.hazelcast.jet.pipeline.test.AssertionSinks.assertAnyOrder;
+import static com.hazelcast.jet.pipeline.test.AssertionSinks.assertOrdered;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SPILL_DIR;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SPILL_ENABLED;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class SpillingTest extends SimpleTestInClusterSupport {
+
+    private static final int MAX_PROCESSOR_ACCUMULATED_RECORDS = 10;
+    private static final int ITEM_COUNT = 1000;
+
+    private static File spillDir;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        spillDir = Files.createTempDirectory("spilling-test").toFile();
+        Config config = smallInstanceConfig()
+                .setProperty(JET_SPILL_ENABLED.getName(), "true")
+                .setProperty(JET_SPILL_DIR.getName(), spillDir.getAbsolutePath());
+        config.getJetConfig().setMaxProcessorAccumulatedRecords(MAX_PROCESSOR_ACCUMULATED_RECORDS);
+
+        initialize(1, config);
+    }
+
+    @AfterClass
+    public static void cleanUp() {
+        delete(spillDir);
+    }
+
+    @Test
+    public void when_groupingPastLimit_then_spilledGroupsCombined() {
+        int keyCount = MAX_PROCESSOR_ACCUMULATED_RECORDS * 5;
+        Pipeline pipeline = Pipeline.create();
+        pipeline.readFrom(TestSources.items(items(i -> i % keyCount)))
+                .groupingKey(i -> i)
+                .aggregate(counting())
+                .writeTo(assertAnyOrder(IntStream.range(0, keyCount)
+                        .mapToObj(i -> entry(i, (long) ITEM_COUNT / keyCount))
+                        .collect(toList())));
+
+        instance().getJet().newJob(pipeline).join();
+
+        assertNoSpillFilesLeft();
+    }
+
+    @Test
+    public void when_groupingKeysWithSameHashCode_then_notCombined() {
+        // "Aa" and "BB" have the same hash code
+        List<String> keys = items(i -> i % 3 == 0 ? "Aa" : i % 3 == 1 ? "BB" : "key" + i % 50);
+        Pipeline pipeline = Pipeline.create();
+        pipeline.readFrom(TestSources.items(keys))
+                .groupingKey(key -> key)
+                .aggregate(counting())
+                .writeTo(assertAnyOrder(expectedCounts(keys)));
+
+        instance().getJet().newJob(pipeline).join();
+    }
+
+    @Test
+    public void when_groupingWithNonCombinableOperation_then_limitStillEnforced() {
+        AggregateOperation1<Integer, LongAccumulator, Long> nonCombinableCounting = AggregateOperation
+                .withCreate(LongAccumulator::new)
+                .<Integer>andAccumulate((acc, item) -> acc.add(1))
+                .andExportFinish(LongAccumulator::get);
+        Pipeline pipeline = Pipeline.create();
+        pipeline.readFrom(TestSources.items(items(i -> i)))
+                .groupingKey(i -> i)
+                .aggregate(nonCombinableCounting)
+                .writeTo(Sinks.noop());
+
+        Job job = instance().getJet().newJob(pipeline);
+
+        assertThatThrownBy(job::join)
+                .hasMessageContaining("Exception thrown to prevent an OutOfMemoryError on this Hazelcast instance");
+    }
+
+    @Test
+    public void when_sortingPastLimit_then_runsMerged() {
+        List<Integer> items = items(i -> i);
+        Collections.shuffle(items, new Random(42));
+        Pipeline pipeline = Pipeline.create();
+        pipeline.readFrom(TestSources.items(items))
+                .sort()
+                .writeTo(assertOrdered(items(i -> i)));
+
+        instance().getJet().newJob(pipeline).join();
+
+        assertNoSpillFilesLeft();
+    }
+
+    @Test
+    public void when_spillingEnabled_then_processorsNotCooperative() {
+        GroupP<Integer, LongAccumulator, Long, Entry<Integer, Long>> groupP =
+                new GroupP<>((Integer i) -> i, counting(), Util::entry);
+        SortP<Integer> sortP = new SortP<>(null);
+
+        groupP.setSpillingEnabled(true);
+        sortP.setSpillingEnabled(true);
+
+        assertThat(groupP.isCooperative()).isFalse();
+        assertThat(groupP.closeIsCooperative()).isFalse();
+        assertThat(sortP.isCooperative()).isFalse();
+        assertThat(sortP.closeIsCooperative()).isFalse();
+    }
+
+    @Test
+    public void when_spillingDisabled_then_processorsCooperative() {
+        GroupP<Integer, LongAccumulator, Long, Entry<Integer, Long>> groupP =
+                new GroupP<>((Integer i) -> i, counting(), Util::entry);
+        SortP<Integer> sortP = new SortP<>(null);
+
+        groupP.setSpillingEnabled(false);
+        sortP.setSpillingEnabled(false);
+
+        assertThat(groupP.isCooperative()).isTrue();
+        assertThat(groupP.closeIsCooperative()).isTrue();
+        assertThat(sortP.isCooperative()).isTrue();
+        assertThat(sortP.closeIsCooperative()).isTrue();
+    }
+
+    private static <T> List<T> items(Function<Integer, T> itemFn) {
+        return IntStream.range(0, ITEM_COUNT).boxed().map(itemFn).collect(toList());
+    }
+
+    private static List<Entry<String, Long>> expectedCounts(List<String> keys) {
+        List<Entry<String, Long>> counts = new ArrayList<>();
+        keys.stream().distinct().forEach(key ->
+                counts.add(entry(key, keys.stream().filter(key::equals).count())));
+        return counts;
+    }
+
+    private static void assertNoSpillFilesLeft() {
+        assertTrueEventually(() -> assertThat(spillDir.list()).isEmpty());
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.function.FunctionEx;
+import com.hazelcast.function.SupplierEx;
+import com.hazelcast.function.ToLongFunctionEx;
+import com.hazelcast.internal.memory.impl.SlabMemoryAllocator;
+import com.hazelcast.jet.SimpleTestInClusterSupport;
+import com.hazelcast.jet.aggregate.AggregateOperations;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.TimestampKind;
+import com.hazelcast.jet.core.test.TestInbox;
+import com.hazelcast.jet.core.test.TestOutbox;
+import com.hazelcast.jet.core.test.TestProcessorContext;
+import com.hazelcast.jet.datamodel.KeyedWindowResult;
+import com.hazelcast.jet.impl.memory.OffHeapKeyedState;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Map.Entry;
+
+import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.core.JetTestSupport.wm;
+import static com.hazelcast.jet.core.SlidingWindowPolicy.slidingWinPolicy;
+import static com.hazelcast.jet.core.processor.Processors.aggregateToSlidingWindowP;
+import static com.hazelcast.jet.core.test.TestSupport.SAME_ITEMS_ANY_ORDER;
+import static com.hazelcast.jet.core.test.TestSupport.verifyProcessor;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_WINDOW_OFF_HEAP_STATE_ENABLED;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class WindowP_offHeapStateTest extends SimpleTestInClusterSupport {
+
+    @BeforeClass
+    public static void setUp() {
+        assumeTrue(SlabMemoryAllocator.isAvailable());
+        Config config = smallInstanceConfig()
+                .setProperty(JET_WINDOW_OFF_HEAP_STATE_ENABLED.getName(), "true");
+        initialize(1, config);
+    }
+
+    @Test
+    public void when_slidingWindow_then_framesKeptOffHeap() throws Exception {
+        @SuppressWarnings("unchecked")
+        SlidingWindowP<String, ?, ?, ?> processor = (SlidingWindowP<String, ?, ?, ?>) slidingWindowSupplier().get();
+        processor.init(new TestOutbox(128), new TestProcessorContext().setHazelcastInstance(instance()));
+        TestInbox inbox = new TestInbox();
+        inbox.add(entry(0L, "a"));
+
+        processor.process(0, inbox);
+
+        // the timestamp of a frame is its end
+        assertThat(processor.tsToKeyToAcc.get(1L)).isInstanceOf(OffHeapKeyedState.class);
+        assertThat(processor.tsToKeyToAcc.get(1L).keySet()).containsExactly("a");
+        processor.close();
+    }
+
+    @Test
+    public void when_slidingWindow_then_correctResults() {
+        verifyProcessor(slidingWindowSupplier())
+                .hazelcastInstance(instance())
+                .disableCompleteCall()
+                .outputChecker(SAME_ITEMS_ANY_ORDER)
+                .input(asList(
+                        entry(0L, "a"),
+                        entry(0L, "b"),
+                        entry(1L, "a"),
+                        wm(3)))
+                .expectOutput(asList(
+                        new KeyedWindowResult<>(-3, 1, "a", 1L),
+                        new KeyedWindowResult<>(-3, 1, "b", 1L),
+                        new KeyedWindowResult<>(-2, 2, "a", 2L),
+                        new KeyedWindowResult<>(-2, 2, "b", 1L),
+                        new KeyedWindowResult<>(-1, 3, "a", 2L),
+                        new KeyedWindowResult<>(-1, 3, "b", 1L),
+                        wm(3)));
+    }
+
+    private static SupplierEx<Processor> slidingWindowSupplier() {
+        FunctionEx<Entry<Long, String>, String> keyFn = Entry::getValue;
+        ToLongFunctionEx<Entry<Long, String>> timestampFn = Entry::getKey;
+        return aggregateToSlidingWindowP(
+                singletonList(keyFn),
+                singletonList(timestampFn),
+                TimestampKind.EVENT,
+                slidingWinPolicy(4, 1),
+                0L,
+                AggregateOperations.counting(),
+                KeyedWindowResult::new);
+    }
+}
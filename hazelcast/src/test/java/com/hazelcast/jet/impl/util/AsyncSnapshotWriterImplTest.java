@@ -19,6 +19,8 @@ package com.hazelcast.jet.impl.util;
 import com.hazelcast.client.map.helpers.AMapStore;
 import com.hazelcast.config.Config;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.cluster.ClusterService;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.nio.Bits;
 import com.hazelcast.internal.nio.BufferObjectDataInput;
 import com.hazelcast.internal.partition.InternalPartitionService;
@@ -29,6 +31,7 @@ import com.hazelcast.jet.core.JetTestSupport;
 import com.hazelcast.jet.impl.JetServiceBackend;
 import com.hazelcast.jet.impl.execution.MockSnapshotContext;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.CustomByteArrayOutputStream;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataCompressedHeader;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataKey;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataValueTerminator;
 import com.hazelcast.map.IMap;
@@ -36,6 +39,7 @@ import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.annotation.ParallelJVMTest;
 import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.version.Version;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -47,9 +51,11 @@ import java.io.ByteArrayOutputStream;
 import java.io.Serializable;
 import java.util.Map.Entry;
 import java.util.stream.Stream;
+import java.util.zip.Inflater;
 
 import static com.hazelcast.jet.Util.entry;
 import static com.hazelcast.jet.impl.util.Util.uncheckCall;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SNAPSHOT_COMPRESSION_ENABLED;
 import static java.util.Collections.nCopies;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Stream.generate;
@@ -57,6 +63,8 @@ import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertTrue;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -70,6 +78,7 @@ public class AsyncSnapshotWriterImplTest extends JetTestSupport {
     private InternalSerializationService serializationService;
     private InternalPartitionService partitionService;
     private MockSnapshotContext snapshotContext;
+    private IMap<SnapshotDataKey, byte[]> compressedMap;
 
     @Before
     public void before() {
@@ -285,6 +294,98 @@ public class AsyncSnapshotWriterImplTest extends JetTestSupport {
         Assert.assertEquals("bar", serializationService.readObject(in, true));
     }
 
+    @Test
+    public void when_compressionEnabled_then_chunkCompressedAndDeserializesCorrectly() throws Exception {
+        // Given
+        AsyncSnapshotWriterImpl compressingWriter = createCompressingWriter();
+        String value = generate(() -> "a").limit(100).collect(joining());
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertTrue(compressingWriter.offer(entry(serialize("k"), serialize(value))));
+        }
+        assertTrue(compressingWriter.flushAndResetMap());
+
+        // Then
+        assertEquals(1, compressingWriter.getTotalChunks());
+        assertTrue("rawBytes=" + compressingWriter.getTotalRawPayloadBytes() + ", bytes="
+                        + compressingWriter.getTotalPayloadBytes(),
+                compressingWriter.getTotalRawPayloadBytes() > 2 * compressingWriter.getTotalPayloadBytes());
+        int partitionKey = compressingWriter.partitionKey(partitionService.getPartitionId("k"));
+        byte[] data = compressedMap.get(new SnapshotDataKey(partitionKey, 1, "vertex", 0));
+        BufferObjectDataInput in = serializationService.createObjectDataInput(data);
+        SnapshotDataCompressedHeader header = (SnapshotDataCompressedHeader) serializationService.readObject(in, true);
+        in = serializationService.createObjectDataInput(header.decompress(data, in.position(), new Inflater()));
+        for (int i = 0; i < 5; i++) {
+            assertEquals("k", serializationService.readObject(in, true));
+            assertEquals(value, serializationService.readObject(in, true));
+        }
+        assertEquals(SnapshotDataValueTerminator.INSTANCE, serializationService.readObject(in, true));
+    }
+
+    @Test
+    public void when_compressionEnabledAndChunkDoesNotShrink_then_chunkStoredUncompressed() {
+        // Given
+        AsyncSnapshotWriterImpl compressingWriter = createCompressingWriter();
+
+        // When
+        Entry<Data, Data> entry = entry(serialize("k"), serialize("v"));
+        assertTrue(compressingWriter.offer(entry));
+        assertTrue(compressingWriter.flushAndResetMap());
+
+        // Then
+        assertEquals(compressingWriter.getTotalRawPayloadBytes(), compressingWriter.getTotalPayloadBytes());
+        int partitionKey = compressingWriter.partitionKey(partitionService.getPartitionId("k"));
+        byte[] data = compressedMap.get(new SnapshotDataKey(partitionKey, 1, "vertex", 0));
+        BufferObjectDataInput in = serializationService.createObjectDataInput(data);
+        assertEquals("k", serializationService.readObject(in, true));
+        assertEquals("v", serializationService.readObject(in, true));
+        assertEquals(SnapshotDataValueTerminator.INSTANCE, serializationService.readObject(in, true));
+    }
+
+    @Test
+    public void when_compressionEnabledAndClusterVersionOlderThan6_0_then_chunkStoredUncompressed() {
+        // Given
+        AsyncSnapshotWriterImpl compressingWriter = createCompressingWriter(Versions.V5_5);
+        String value = generate(() -> "a").limit(100).collect(joining());
+
+        // When
+        assertTrue(compressingWriter.offer(entry(serialize("k"), serialize(value))));
+        assertTrue(compressingWriter.flushAndResetMap());
+
+        // Then
+        assertEquals(compressingWriter.getTotalRawPayloadBytes(), compressingWriter.getTotalPayloadBytes());
+        int partitionKey = compressingWriter.partitionKey(partitionService.getPartitionId("k"));
+        byte[] data = compressedMap.get(new SnapshotDataKey(partitionKey, 1, "vertex", 0));
+        BufferObjectDataInput in = serializationService.createObjectDataInput(data);
+        assertEquals("k", serializationService.readObject(in, true));
+    }
+
+    private AsyncSnapshotWriterImpl createCompressingWriter() {
+        return createCompressingWriter(null);
+    }
+
+    private AsyncSnapshotWriterImpl createCompressingWriter(Version clusterVersion) {
+        Config config = new Config().setClusterName(randomName());
+        config.getJetConfig().setEnabled(true);
+        config.setProperty(JET_SNAPSHOT_COMPRESSION_ENABLED.getName(), "true");
+        HazelcastInstance instance = createHazelcastInstance(config);
+        NodeEngineImpl compressingNodeEngine = Util.getNodeEngine(instance);
+        if (clusterVersion != null) {
+            ClusterService clusterService = spy(compressingNodeEngine.getClusterService());
+            doReturn(clusterVersion).when(clusterService).getClusterVersion();
+            compressingNodeEngine = spy(compressingNodeEngine);
+            doReturn(clusterService).when(compressingNodeEngine).getClusterService();
+        }
+        snapshotContext.setCurrentMapName(randomMapName());
+        compressedMap = instance.getMap(snapshotContext.currentMapName());
+        snapshotContext.setCurrentSnapshotId(0L);
+        AsyncSnapshotWriterImpl compressingWriter = new AsyncSnapshotWriterImpl(1024, compressingNodeEngine,
+                snapshotContext, "vertex", 0, 1, serializationService);
+        snapshotContext.setCurrentSnapshotId(1L);
+        return compressingWriter;
+    }
+
     @Test
     public void when_noItemsAndNoCurrentMap_then_flushAndResetReturnsFalse() {
         snapshotContext.setCurrentMapName(null);
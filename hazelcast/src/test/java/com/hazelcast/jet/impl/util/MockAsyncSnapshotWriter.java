@@ -28,6 +28,7 @@ public class MockAsyncSnapshotWriter implements AsyncSnapshotWriter {
     public boolean ableToFlushRemaining = true;
     public boolean hasPendingFlushes;
     public Throwable failure;
+    public boolean closed;
 
     private final Deque<Entry<? extends Data, ? extends Data>> entries = new ArrayDeque<>();
     private boolean isFlushed = true;
@@ -74,6 +75,11 @@ public class MockAsyncSnapshotWriter implements AsyncSnapshotWriter {
         return isFlushed && !hasPendingFlushes;
     }
 
+    @Override
+    public void close() {
+        closed = true;
+    }
+
     public Entry<? extends Data, ? extends Data> poll() {
         return entries.poll();
     }
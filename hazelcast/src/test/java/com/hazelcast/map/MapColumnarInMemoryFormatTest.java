@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.aggregation.Aggregators;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.config.InvalidConfigurationException;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecord;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecordBuilder;
+import com.hazelcast.projection.Projections;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.hazelcast.config.InMemoryFormat.COLUMNAR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapColumnarInMemoryFormatTest extends HazelcastTestSupport {
+
+    private static final String MAP_NAME = "columnarMap";
+
+    @Test
+    public void testBasicOperations() {
+        HazelcastInstance instance = createHazelcastInstance(newConfig());
+        IMap<Integer, GenericRecord> map = instance.getMap(MAP_NAME);
+
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, employee(i));
+        }
+        map.set(1, employee(1001));
+        map.remove(2);
+        map.delete(3);
+        map.replace(4, employee(1004));
+
+        assertEquals(998, map.size());
+        assertEquals(employee(1001), map.get(1));
+        assertNull(map.get(2));
+        assertEquals(employee(1004), map.get(4));
+        assertEquals(employee(5), map.get(5));
+
+        map.executeOnKey(6, entry -> entry.setValue(employee(1006)));
+        assertEquals(employee(1006), map.get(6));
+
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testQuery() {
+        HazelcastInstance instance = createHazelcastInstance(newConfig());
+        IMap<Integer, GenericRecord> map = instance.getMap(MAP_NAME);
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, employee(i));
+        }
+
+        Collection<GenericRecord> values = map.values(Predicates.sql("salary >= 990 and name like 'name-99%'"));
+
+        assertEquals(10, values.size());
+        for (GenericRecord value : values) {
+            assertTrue(value.getInt64("salary") >= 990);
+        }
+        assertEquals(1, map.keySet(Predicates.equal("id", 500)).size());
+        assertEquals(employee(500), map.entrySet(Predicates.equal("id", 500)).iterator().next().getValue());
+    }
+
+    @Test
+    public void testAggregateAndProject() {
+        HazelcastInstance instance = createHazelcastInstance(newConfig());
+        IMap<Integer, GenericRecord> map = instance.getMap(MAP_NAME);
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, employee(i));
+        }
+
+        assertEquals(Long.valueOf(499_500), map.aggregate(Aggregators.longSum("salary")));
+        assertEquals(Long.valueOf(10), map.aggregate(Aggregators.count(), Predicates.greaterEqual("salary", 990L)));
+        Collection<String> names = map.project(Projections.singleAttribute("name"), Predicates.equal("id", 500));
+        assertEquals(List.of("name-500"), new ArrayList<>(names));
+        assertEquals(employee(7), map.aggregate(Aggregators.maxBy("salary"), Predicates.equal("id", 7)).getValue());
+    }
+
+    @Test
+    public void testQuery_withIndex() {
+        Config config = newConfig();
+        config.getMapConfig(MAP_NAME).addIndexConfig(new IndexConfig(IndexType.SORTED, "salary"));
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<Integer, GenericRecord> map = instance.getMap(MAP_NAME);
+        for (int i = 0; i < 100; i++) {
+            map.put(i, employee(i));
+        }
+
+        assertEquals(10, map.values(Predicates.greaterEqual("salary", 90L)).size());
+    }
+
+    @Test
+    public void testNonCompactValues() {
+        HazelcastInstance instance = createHazelcastInstance(newConfig());
+        IMap<Integer, String> map = instance.getMap(MAP_NAME);
+
+        map.put(1, "value");
+        map.put(2, "other");
+
+        assertEquals("value", map.get(1));
+        assertEquals(1, map.values(Predicates.equal("this", "value")).size());
+    }
+
+    @Test
+    public void testEntriesSurviveMigration() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        Config config = newConfig();
+        HazelcastInstance instance1 = factory.newHazelcastInstance(config);
+        IMap<Integer, GenericRecord> map = instance1.getMap(MAP_NAME);
+        Map<Integer, GenericRecord> expected = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            expected.put(i, employee(i));
+        }
+        map.putAll(expected);
+
+        HazelcastInstance instance2 = factory.newHazelcastInstance(config);
+        waitAllForSafeState(instance1, instance2);
+        instance1.shutdown();
+
+        IMap<Integer, GenericRecord> migrated = instance2.getMap(MAP_NAME);
+        assertEquals(expected, new HashMap<>(migrated.getAll(expected.keySet())));
+    }
+
+    @Test
+    public void testColumnarNearCache_rejected() {
+        Config config = newConfig();
+        config.getMapConfig(MAP_NAME).setNearCacheConfig(new NearCacheConfig().setInMemoryFormat(COLUMNAR));
+        HazelcastInstance instance = createHazelcastInstance(config);
+
+        assertThrows(InvalidConfigurationException.class, () -> instance.getMap(MAP_NAME));
+    }
+
+    private Config newConfig() {
+        Config config = smallInstanceConfigWithoutJetAndMetrics();
+        config.addMapConfig(new MapConfig(MAP_NAME).setInMemoryFormat(COLUMNAR));
+        return config;
+    }
+
+    private static GenericRecord employee(int id) {
+        return GenericRecordBuilder.compact("employee")
+                .setInt32("id", id)
+                .setString("name", "name-" + id)
+                .setInt64("salary", id)
+                .setBoolean("active", id % 2 == 0)
+                .setFloat64("rating", id / 10d)
+                .build();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.InvalidConfigurationException;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.memory.impl.SlabMemoryAllocator;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapOffHeapStorageTest extends HazelcastTestSupport {
+
+    private static final String MAP_NAME = "offHeapMap";
+
+    @Before
+    public void setUp() {
+        assumeTrue(SlabMemoryAllocator.isAvailable());
+    }
+
+    @Test
+    public void testBasicOperations() {
+        HazelcastInstance instance = createHazelcastInstance(newConfig());
+        IMap<Integer, String> map = instance.getMap(MAP_NAME);
+
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, "value-" + i);
+        }
+        map.set(1, "updated");
+        map.remove(2);
+        map.delete(3);
+
+        assertEquals(998, map.size());
+        assertEquals("updated", map.get(1));
+        assertNull(map.get(2));
+        assertEquals("value-4", map.get(4));
+        assertEquals(998, map.keySet().size());
+        assertEquals(1, map.values(Predicates.equal("this", "value-10")).size());
+
+        map.executeOnKey(5, entry -> entry.setValue("processed"));
+        assertEquals("processed", map.get(5));
+
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testEntriesSurviveMigration() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        Config config = newConfig();
+        HazelcastInstance instance1 = factory.newHazelcastInstance(config);
+        IMap<Integer, String> map = instance1.getMap(MAP_NAME);
+        Map<Integer, String> expected = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            expected.put(i, "value-" + i);
+        }
+        map.putAll(expected);
+
+        HazelcastInstance instance2 = factory.newHazelcastInstance(config);
+        waitAllForSafeState(instance1, instance2);
+        instance1.shutdown();
+
+        IMap<Integer, String> migrated = instance2.getMap(MAP_NAME);
+        assertEquals(expected, new HashMap<>(migrated.getAll(expected.keySet())));
+    }
+
+    @Test
+    public void testEviction() {
+        Config config = newConfig();
+        config.getMapConfig(MAP_NAME).getEvictionConfig()
+                .setEvictionPolicy(EvictionPolicy.LRU)
+                .setMaxSizePolicy(MaxSizePolicy.PER_PARTITION)
+                .setSize(10);
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<Integer, String> map = instance.getMap(MAP_NAME);
+
+        for (int i = 0; i < 100_000; i++) {
+            map.put(i, "value-" + i);
+        }
+
+        int partitionCount = instance.getPartitionService().getPartitions().size();
+        assertTrue(map.size() <= 10 * partitionCount);
+    }
+
+    @Test
+    public void testInvalidInMemoryFormat() {
+        Config config = newConfig();
+        config.getMapConfig(MAP_NAME).setInMemoryFormat(InMemoryFormat.OBJECT);
+        HazelcastInstance instance = createHazelcastInstance(config);
+
+        assertThrows(InvalidConfigurationException.class, () -> instance.getMap(MAP_NAME));
+    }
+
+    private Config newConfig() {
+        Config config = smallInstanceConfig();
+        config.addMapConfig(new MapConfig(MAP_NAME).setOffHeapStorageEnabled(true));
+        return config;
+    }
+}
@@ -55,11 +55,16 @@ public class MapPutAllWithBatchingTest extends HazelcastTestSupport {
     @Parameterized.Parameter
     public boolean async;
 
-    @Parameterized.Parameters(name = "async={0}")
+    @Parameterized.Parameter(1)
+    public int maxInFlightBatches;
+
+    @Parameterized.Parameters(name = "async={0}, maxInFlightBatches={1}")
     public static Collection<Object[]> parameters() {
         return Arrays.asList(
-                new Object[]{false},
-                new Object[]{true}
+                new Object[]{false, 1},
+                new Object[]{true, 1},
+                new Object[]{false, 3},
+                new Object[]{true, 3}
         );
     }
 
@@ -68,7 +73,8 @@ public class MapPutAllWithBatchingTest extends HazelcastTestSupport {
         Config config = getConfig()
                 .setProperty(ClusterProperty.PARTITION_COUNT.getName(), valueOf(INSTANCE_COUNT * 2))
                 .setProperty(ClusterProperty.OPERATION_CALL_TIMEOUT_MILLIS.getName(), "3000")
-                .setProperty("hazelcast.map.put.all.batch.size", valueOf(BATCH_SIZE));
+                .setProperty("hazelcast.map.put.all.batch.size", valueOf(BATCH_SIZE))
+                .setProperty("hazelcast.map.put.all.max.in.flight.batches", valueOf(maxInFlightBatches));
 
         config.getMapConfig("default")
                 .setBackupCount(1)
@@ -84,6 +90,11 @@ public class MapPutAllWithBatchingTest extends HazelcastTestSupport {
         testPutAll(1 + BATCH_SIZE * INSTANCE_COUNT * 2);
     }
 
+    @Test
+    public void testPutAll_withManyBatchesPerMember() throws Exception {
+        testPutAll(BATCH_SIZE * INSTANCE_COUNT * 20 + 7);
+    }
+
     @Test
     public void testPutAll_withSingleMapEntry() throws Exception {
         testPutAll(1);
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.partition.impl.InternalPartitionServiceImpl;
+import com.hazelcast.internal.partition.impl.MigrationStats;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_CHUNKED_MIGRATION_MAX_IN_FLIGHT_CHUNKS;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_MAX_PARALLEL_MIGRATIONS_PER_MEMBER_PAIR;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_MIGRATION_MAX_BYTES_PER_SECOND;
+import static com.hazelcast.test.Accessors.getPartitionService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PipelinedMigrationTest extends MigrationTest {
+
+    @Override
+    protected Config getConfig(String mapName) {
+        return super.getConfig(mapName)
+                .setProperty(PARTITION_CHUNKED_MIGRATION_MAX_IN_FLIGHT_CHUNKS.getName(), "4")
+                .setProperty(PARTITION_MAX_PARALLEL_MIGRATIONS_PER_MEMBER_PAIR.getName(), "2")
+                .setProperty(PARTITION_MIGRATION_MAX_BYTES_PER_SECOND.getName(), String.valueOf(1024L * 1024 * 1024));
+    }
+
+    @Test
+    public void testMigration_thenSentChunksRecorded() {
+        int size = 1_000;
+        String name = randomString();
+        Config config = getConfig(name);
+        TestHazelcastInstanceFactory nodeFactory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = nodeFactory.newHazelcastInstance(config);
+
+        IMap<Integer, Value> map = instance1.getMap(name);
+        for (int i = 0; i < size; i++) {
+            map.put(i, new Value(i));
+        }
+
+        HazelcastInstance instance2 = nodeFactory.newHazelcastInstance(config);
+        waitAllForSafeState(instance1, instance2);
+
+        assertEquals("Some records have been lost.", size, map.size());
+        MigrationStats stats = ((InternalPartitionServiceImpl) getPartitionService(instance1)).getMigrationManager().getStats();
+        assertTrue(stats.getSentMigrationChunks() > 0);
+        // each value carries a payload of 100 KB, half of them migrate to the second member
+        assertTrue(stats.getSentMigrationChunkBytes() > size / 4 * 100 * 1024L);
+    }
+}
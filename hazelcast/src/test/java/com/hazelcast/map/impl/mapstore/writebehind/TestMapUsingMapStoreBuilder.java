@@ -47,6 +47,8 @@ public class TestMapUsingMapStoreBuilder<K, V> {
 
     private boolean writeCoalescing = MapStoreConfig.DEFAULT_WRITE_COALESCING;
 
+    private boolean adaptiveWriteBatching = MapStoreConfig.DEFAULT_ADAPTIVE_WRITE_BATCHING;
+
     private InMemoryFormat inMemoryFormat = InMemoryFormat.BINARY;
 
     private int backupDelaySeconds = 10;
@@ -144,6 +146,11 @@ public class TestMapUsingMapStoreBuilder<K, V> {
         return this;
     }
 
+    public TestMapUsingMapStoreBuilder<K, V> withAdaptiveWriteBatching(boolean adaptiveWriteBatching) {
+        this.adaptiveWriteBatching = adaptiveWriteBatching;
+        return this;
+    }
+
     public IMap<K, V> build() {
         if (backupCount != 0 && backupCount > nodeCount - 1) {
             throw new IllegalArgumentException("backupCount > nodeCount - 1");
@@ -153,7 +160,8 @@ public class TestMapUsingMapStoreBuilder<K, V> {
                 .setImplementation(mapStore)
                 .setWriteDelaySeconds(writeDelaySeconds)
                 .setWriteBatchSize(writeBatchSize)
-                .setWriteCoalescing(writeCoalescing);
+                .setWriteCoalescing(writeCoalescing)
+                .setAdaptiveWriteBatching(adaptiveWriteBatching);
 
         final Config config = new Config();
         config.getMapConfig(mapName)
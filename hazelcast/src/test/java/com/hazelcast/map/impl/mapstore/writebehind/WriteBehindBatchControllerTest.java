@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.mapstore.writebehind;
+
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.map.impl.mapstore.writebehind.WriteBehindBatchController.DEFAULT_INITIAL_BATCH_SIZE;
+import static com.hazelcast.map.impl.mapstore.writebehind.WriteBehindBatchController.MAX_BATCH_SIZE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class WriteBehindBatchControllerTest {
+
+    private static final long NANOS_PER_ENTRY = 1000;
+
+    @Test
+    public void whenNotAdaptive_thenConfiguredBatchSizeUsed() {
+        WriteBehindBatchController controller = newController(false, 50);
+        controller.setBacklog(1_000_000);
+
+        controller.onFlush(50, 50 * NANOS_PER_ENTRY, true);
+        controller.onFlush(50, 0, false);
+
+        assertFalse(controller.isAdaptive());
+        assertEquals(50, controller.getBatchSize());
+        assertEquals(0, controller.getPauseNanos());
+    }
+
+    @Test
+    public void whenAdaptiveWithoutWriteBatchSize_thenDefaultInitialBatchSizeUsed() {
+        WriteBehindBatchController controller = newController(true, 1);
+
+        assertTrue(controller.isAdaptive());
+        assertEquals(DEFAULT_INITIAL_BATCH_SIZE, controller.getBatchSize());
+    }
+
+    @Test
+    public void whenBacklogLargerThanBatch_thenBatchSizeGrows() {
+        WriteBehindBatchController controller = newController(true, 100);
+        controller.setBacklog(1_000_000);
+
+        flushFullBatches(controller, 10);
+
+        assertTrue(controller.getBatchSize() > 100);
+        assertEquals(0, controller.getPauseNanos());
+    }
+
+    @Test
+    public void whenBacklogFitsIntoBatch_thenBatchSizeKept() {
+        WriteBehindBatchController controller = newController(true, 100);
+        controller.setBacklog(100);
+
+        flushFullBatches(controller, 10);
+
+        assertEquals(100, controller.getBatchSize());
+    }
+
+    @Test
+    public void batchSizeIsBounded() {
+        WriteBehindBatchController controller = newController(true, 100);
+        controller.setBacklog(Long.MAX_VALUE);
+
+        flushFullBatches(controller, 100);
+
+        assertEquals(MAX_BATCH_SIZE, controller.getBatchSize());
+    }
+
+    @Test
+    public void whenFlushFails_thenBatchSizeHalvedAndPaused() {
+        WriteBehindBatchController controller = newController(true, 100);
+
+        controller.onFlush(100, MILLISECONDS.toNanos(20), false);
+
+        assertEquals(50, controller.getBatchSize());
+        assertEquals(MILLISECONDS.toNanos(20), controller.getPauseNanos());
+    }
+
+    @Test
+    public void whenLatencyDegrades_thenBatchSizeHalvedAndPaused() {
+        WriteBehindBatchController controller = newController(true, 100);
+        controller.setBacklog(1_000_000);
+        flushFullBatches(controller, 1);
+        int batchSize = controller.getBatchSize();
+
+        long slowLatency = batchSize * NANOS_PER_ENTRY * 20;
+        controller.onFlush(batchSize, slowLatency, true);
+
+        assertEquals(batchSize / 2, controller.getBatchSize());
+        assertEquals(slowLatency, controller.getPauseNanos());
+    }
+
+    @Test
+    public void whenStoreRecovers_thenPauseCleared() {
+        WriteBehindBatchController controller = newController(true, 100);
+        controller.setBacklog(1_000_000);
+        controller.onFlush(100, 100 * NANOS_PER_ENTRY, false);
+
+        flushFullBatches(controller, 1);
+
+        assertEquals(0, controller.getPauseNanos());
+    }
+
+    @Test
+    public void pauseIsBounded() {
+        WriteBehindBatchController controller = newController(true, 100);
+
+        controller.onFlush(100, SECONDS.toNanos(30), false);
+
+        assertEquals(SECONDS.toNanos(1), controller.getPauseNanos());
+    }
+
+    @Test
+    public void batchSizeNeverBelowOne() {
+        WriteBehindBatchController controller = newController(true, 2);
+
+        for (int i = 0; i < 5; i++) {
+            controller.onFlush(1, NANOS_PER_ENTRY, false);
+        }
+
+        assertEquals(1, controller.getBatchSize());
+    }
+
+    private static void flushFullBatches(WriteBehindBatchController controller, int count) {
+        for (int i = 0; i < count; i++) {
+            int batchSize = controller.getBatchSize();
+            controller.onFlush(batchSize, batchSize * NANOS_PER_ENTRY, true);
+        }
+    }
+
+    private static WriteBehindBatchController newController(boolean adaptive, int writeBatchSize) {
+        MapStoreConfig mapStoreConfig = new MapStoreConfig()
+                .setWriteBatchSize(writeBatchSize)
+                .setAdaptiveWriteBatching(adaptive);
+        return new WriteBehindBatchController(mapStoreConfig);
+    }
+}
@@ -24,6 +24,9 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastSerialClassRunner.class)
@@ -55,6 +58,27 @@ public class WriteBehindWriteBatchingTest extends HazelcastTestSupport {
         }, 20);
     }
 
+    @Test
+    public void testAdaptiveWriteBatching() {
+        final MapStoreWithCounter<Integer, Integer> mapStore = new MapStoreWithCounter<>();
+        final IMap<Integer, Integer> map = TestMapUsingMapStoreBuilder.<Integer, Integer>create()
+                .withMapStore(mapStore)
+                .withNodeCount(1)
+                .withNodeFactory(createHazelcastInstanceFactory(1))
+                .withWriteDelaySeconds(3)
+                .withPartitionCount(1)
+                .withAdaptiveWriteBatching(true)
+                .build();
+
+        final int numberOfItems = 10_000;
+        populateMap(map, numberOfItems);
+        assertTrueEventually(() -> assertEquals(numberOfItems, mapStore.countStore.get()), 20);
+
+        // the backlog does not fit into the initial batch, so the batches grow
+        int maxBatchSize = Collections.max(mapStore.getBatchOpCountMap().values());
+        assertTrue(maxBatchSize > WriteBehindBatchController.DEFAULT_INITIAL_BATCH_SIZE);
+    }
+
     private void populateMap(IMap<Integer, Integer> map, int numberOfItems) {
         for (int i = 0; i < numberOfItems; i++) {
             map.put(i, i);
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.nearcache;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.InvalidConfigurationException;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.memory.impl.SlabMemoryAllocator;
+import com.hazelcast.map.IMap;
+import com.hazelcast.nearcache.NearCacheStats;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assume.assumeTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapNearCacheOffHeapStorageTest extends HazelcastTestSupport {
+
+    private static final String MAP_NAME = "offHeapNearCacheMap";
+
+    @Before
+    public void setUp() {
+        assumeTrue(SlabMemoryAllocator.isAvailable());
+    }
+
+    @Test
+    public void testValuesServedFromNearCache_andInvalidatedOnUpdate() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        Config config = newConfig();
+        HazelcastInstance instance1 = factory.newHazelcastInstance(config);
+        HazelcastInstance instance2 = factory.newHazelcastInstance(config);
+        IMap<Integer, String> map = instance1.getMap(MAP_NAME);
+        for (int i = 0; i < 100; i++) {
+            map.put(i, "value-" + i);
+        }
+
+        // populate the Near Cache, then read from it
+        for (int i = 0; i < 100; i++) {
+            map.get(i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals("value-" + i, map.get(i));
+        }
+
+        NearCacheStats stats = map.getLocalMapStats().getNearCacheStats();
+        assertEquals(100, stats.getHits());
+        assertEquals(100, stats.getOwnedEntryCount());
+
+        instance2.<Integer, String>getMap(MAP_NAME).put(1, "updated");
+        assertTrueEventually(() -> assertEquals("updated", map.get(1)));
+    }
+
+    @Test
+    public void testObjectInMemoryFormat_thenInvalidConfiguration() {
+        Config config = newConfig();
+        config.getMapConfig(MAP_NAME).getNearCacheConfig().setInMemoryFormat(InMemoryFormat.OBJECT);
+
+        assertThrows(InvalidConfigurationException.class, () -> createHazelcastInstance(config).getMap(MAP_NAME));
+    }
+
+    private Config newConfig() {
+        Config config = smallInstanceConfig();
+        config.addMapConfig(new MapConfig(MAP_NAME)
+                .setNearCacheConfig(new NearCacheConfig(MAP_NAME)
+                        .setCacheLocalEntries(true)
+                        .setOffHeapStorageEnabled(true)));
+        return config;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapInterceptor;
+import com.hazelcast.map.MapStoreAdapter;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.Serial;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class GetOperationTest extends HazelcastTestSupport {
+
+    private IMap<String, String> map;
+    private IMap<String, String> storeMap;
+
+    @Before
+    public void setUp() {
+        Config config = smallInstanceConfigWithoutJetAndMetrics();
+        config.getMapConfig("default")
+                .setInMemoryFormat(InMemoryFormat.BINARY)
+                .setPerEntryStatsEnabled(true);
+        config.getMapConfig("store*")
+                .setInMemoryFormat(InMemoryFormat.BINARY)
+                .getMapStoreConfig().setEnabled(true).setImplementation(new ValueLoader());
+        HazelcastInstance instance = createHazelcastInstance(config);
+        map = instance.getMap(randomMapName());
+        storeMap = instance.getMap("store-" + randomMapName());
+    }
+
+    @Test
+    public void whenBinaryMap_thenValueReadAndAccessRecorded() {
+        map.put("key", "value");
+
+        assertEquals("value", map.get("key"));
+        assertEquals("value", map.get("key"));
+
+        assertEquals(2, map.getEntryView("key").getHits());
+        assertEquals(2, map.getLocalMapStats().getHits());
+    }
+
+    @Test
+    public void whenBinaryMap_andKeyMissing_thenNull() {
+        assertNull(map.get("missing"));
+    }
+
+    @Test
+    public void whenBinaryMap_andEntryExpired_thenNull() {
+        map.put("key", "value", 1, TimeUnit.SECONDS);
+
+        assertTrueEventually(() -> assertNull(map.get("key")));
+    }
+
+    @Test
+    public void whenBinaryMap_andInterceptorAdded_thenValueIntercepted() {
+        map.put("key", "value");
+        map.addInterceptor(new UpperCaseInterceptor());
+
+        assertEquals("VALUE", map.get("key"));
+    }
+
+    @Test
+    public void whenBinaryMap_andMapStoreConfigured_thenMissingValueLoaded() {
+        assertEquals("loaded-key", storeMap.get("key"));
+    }
+
+    private static class UpperCaseInterceptor implements MapInterceptor {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Object interceptGet(Object value) {
+            return value == null ? null : ((String) value).toUpperCase();
+        }
+
+        @Override
+        public void afterGet(Object value) {
+        }
+
+        @Override
+        public Object interceptPut(Object oldValue, Object newValue) {
+            return null;
+        }
+
+        @Override
+        public void afterPut(Object value) {
+        }
+
+        @Override
+        public Object interceptRemove(Object removedValue) {
+            return null;
+        }
+
+        @Override
+        public void afterRemove(Object oldValue) {
+        }
+    }
+
+    private static class ValueLoader extends MapStoreAdapter<String, String> {
+
+        @Override
+        public String load(String key) {
+            return "loaded-" + key;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.querycache;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.QueryCache;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_COUNT;
+import static com.hazelcast.spi.properties.ClusterProperty.QUERY_CACHE_POPULATE_FETCH_SIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class QueryCachePopulateByPartitionTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    private final Predicate<Integer, Integer> predicate = Predicates.sql("this >= 500");
+
+    private IMap<Integer, Integer> map;
+
+    @Before
+    public void setUp() {
+        Config config = smallInstanceConfigWithoutJetAndMetrics()
+                .setProperty(PARTITION_COUNT.getName(), "11")
+                .setProperty(QUERY_CACHE_POPULATE_FETCH_SIZE.getName(), "7");
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance = factory.newHazelcastInstance(config);
+        factory.newHazelcastInstance(config);
+
+        map = instance.getMap(randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+    }
+
+    @Test
+    public void whenPopulatedByPartition_thenContainsMatchingEntries() {
+        QueryCache<Integer, Integer> queryCache = map.getQueryCache(randomName(), predicate, true);
+
+        assertEquals(ENTRY_COUNT / 2, queryCache.size());
+        for (int i = ENTRY_COUNT / 2; i < ENTRY_COUNT; i++) {
+            assertEquals(i, (int) queryCache.get(i));
+        }
+    }
+
+    @Test
+    public void whenPopulatedByPartition_withoutValues_thenContainsMatchingKeys() {
+        QueryCache<Integer, Integer> queryCache = map.getQueryCache(randomName(), predicate, false);
+
+        assertEquals(ENTRY_COUNT / 2, queryCache.size());
+        for (int i = ENTRY_COUNT / 2; i < ENTRY_COUNT; i++) {
+            assertTrue(queryCache.containsKey(i));
+        }
+    }
+
+    @Test
+    public void whenMapUpdatedWhilePopulating_thenQueryCacheInSyncWithMap() throws Exception {
+        AtomicBoolean stop = new AtomicBoolean();
+        Future<?> updater = spawn(() -> {
+            int round = 0;
+            while (!stop.get()) {
+                for (int i = 0; i < ENTRY_COUNT; i += 3) {
+                    // move entries in and out of the predicate
+                    map.set(i, round % 2 == 0 ? ENTRY_COUNT - i : i);
+                }
+                map.remove(round % ENTRY_COUNT);
+                round++;
+            }
+        });
+
+        QueryCache<Integer, Integer> queryCache = map.getQueryCache(randomName(), predicate, true);
+        stop.set(true);
+        updater.get();
+
+        assertTrueEventually(() -> assertEquals(map.entrySet(predicate), queryCache.entrySet()));
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecord;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecordBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.serialization.impl.compact.CompactTestUtil.createSerializationService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ColumnarRecordTest {
+
+    private final InternalSerializationService ss = createSerializationService();
+    private final ColumnStore columnStore = new ColumnStore(ss);
+
+    @Test
+    public void testAttach_storesCompactValueInColumns() {
+        Data value = employee(1, "John", 1000L);
+        ColumnarRecord record = new ColumnarRecord(value);
+
+        record.attach(columnStore);
+
+        assertTrue(record.isStoredInColumns());
+        assertEquals(1, columnStore.size());
+        assertEquals(value, record.getValue());
+        assertEquals(employeeRecord(1, "John", 1000L), ss.toObject(record.getValue()));
+    }
+
+    @Test
+    public void testGetQueryTarget_readsFieldsFromColumns() {
+        ColumnarRecord record = new ColumnarRecord(employee(1, "John", 1000L));
+        record.attach(columnStore);
+
+        GenericRecord target = (GenericRecord) record.getQueryTarget();
+
+        assertEquals(1, target.getInt32("id"));
+        assertEquals("John", target.getString("name"));
+        assertEquals(1000L, target.getInt64("salary"));
+    }
+
+    @Test
+    public void testSetValue_whenAttached_thenColumnsUpdated() {
+        ColumnarRecord record = new ColumnarRecord(employee(1, "John", 1000L));
+        record.attach(columnStore);
+
+        record.setValue(employee(1, "John", 2000L));
+
+        assertEquals(1, columnStore.size());
+        assertEquals(2000L, ((GenericRecord) record.getQueryTarget()).getInt64("salary"));
+    }
+
+    @Test
+    public void testDetach_thenValueKeptAndRowReused() {
+        Data value = employee(1, "John", 1000L);
+        ColumnarRecord record = new ColumnarRecord(value);
+        record.attach(columnStore);
+
+        record.detach();
+        ColumnarRecord other = new ColumnarRecord(employee(2, "Jane", 3000L));
+        other.attach(columnStore);
+
+        assertFalse(record.isStoredInColumns());
+        assertEquals(value, record.getValue());
+        assertEquals(1, columnStore.size());
+        assertEquals(1, columnStore.chunkCount());
+        assertEquals("Jane", ((GenericRecord) other.getQueryTarget()).getString("name"));
+    }
+
+    @Test
+    public void testAttach_whenNotCompact_thenStoredAsBinary() {
+        Data value = ss.toData("not compact");
+        ColumnarRecord record = new ColumnarRecord(value);
+
+        record.attach(columnStore);
+
+        assertFalse(record.isStoredInColumns());
+        assertEquals(0, columnStore.size());
+        assertEquals(value, record.getValue());
+        assertEquals(value, record.getQueryTarget());
+    }
+
+    @Test
+    public void testAttach_whenNestedCompact_thenStoredAsBinary() {
+        GenericRecord nested = GenericRecordBuilder.compact("department")
+                .setString("name", "R&D")
+                .setGenericRecord("manager", employeeRecord(1, "John", 1000L))
+                .build();
+        Data value = ss.toData(nested);
+        ColumnarRecord record = new ColumnarRecord(value);
+
+        record.attach(columnStore);
+
+        assertFalse(record.isStoredInColumns());
+        assertEquals(value, record.getValue());
+    }
+
+    @Test
+    public void testClear_thenAttachedRecordsStillReadable() {
+        ColumnarRecord record = new ColumnarRecord(employee(1, "John", 1000L));
+        record.attach(columnStore);
+
+        columnStore.clear();
+
+        assertEquals(0, columnStore.chunkCount());
+        assertEquals("John", ((GenericRecord) record.getQueryTarget()).getString("name"));
+    }
+
+    @Test
+    public void testGetCost() {
+        ColumnarRecord record = new ColumnarRecord(employee(1, "John", 1000L));
+        long detachedCost = record.getCost();
+        record.attach(columnStore);
+
+        assertTrue(detachedCost > 0);
+        assertTrue(record.getCost() > 0);
+    }
+
+    @Test
+    public void testGetCost_countsReferencedFieldValues() {
+        String longName = "J".repeat(1000);
+        ColumnarRecord shortNameRecord = new ColumnarRecord(employee(1, "J", 1000L));
+        ColumnarRecord longNameRecord = new ColumnarRecord(employee(2, longName, 1000L));
+        shortNameRecord.attach(columnStore);
+        longNameRecord.attach(columnStore);
+
+        assertTrue(longNameRecord.getCost() - shortNameRecord.getCost() >= longName.length() - 1);
+    }
+
+    private Data employee(int id, String name, long salary) {
+        return ss.toData(employeeRecord(id, name, salary));
+    }
+
+    private static GenericRecord employeeRecord(int id, String name, long salary) {
+        return GenericRecordBuilder.compact("employee")
+                .setInt32("id", id)
+                .setString("name", name)
+                .setInt64("salary", salary)
+                .build();
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.EntryView;
+import com.hazelcast.internal.iteration.IterationPointer;
+import com.hazelcast.internal.memory.impl.SlabMemoryAllocator;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.iterator.MapKeysWithCursor;
+import com.hazelcast.map.impl.record.OffHeapRecordFactory;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.record.RecordReaderWriter;
+import com.hazelcast.map.impl.recordstore.expiry.ExpirySystem;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static com.hazelcast.map.impl.eviction.Evictor.NULL_EVICTOR;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OffHeapStorageTest {
+
+    private InternalSerializationService ss;
+    private OffHeapRecordFactory recordFactory;
+    private OffHeapStorage storage;
+
+    @Before
+    public void setUp() {
+        assumeTrue(SlabMemoryAllocator.isAvailable());
+        ss = new DefaultSerializationServiceBuilder().build();
+        recordFactory = newRecordFactory(new MapConfig().setPerEntryStatsEnabled(true));
+        storage = new OffHeapStorage(mock(ExpirySystem.class), ss, recordFactory.getRecordType());
+    }
+
+    @After
+    public void tearDown() {
+        if (storage != null) {
+            storage.destroy(false);
+        }
+    }
+
+    @Test
+    public void testPutGetRemove() {
+        Data key = ss.toData("key");
+        storage.put(key, newRecord(key, "value"));
+
+        assertEquals(1, storage.size());
+        assertTrue(storage.containsKey(key));
+        assertEquals("value", ss.toObject(storage.get(key).getValue()));
+
+        storage.removeRecord(key, storage.get(key));
+        storage.disposeDeferredBlocks();
+
+        assertEquals(0, storage.size());
+        assertNull(storage.get(key));
+        assertEquals(0, storage.getEntryCostEstimator().getEstimate());
+    }
+
+    @Test
+    public void testMutationsAfterPut_areWrittenThrough() {
+        Data key = ss.toData("key");
+        Record record = newRecord(key, "value");
+        storage.put(key, record);
+
+        record.setVersion(42);
+        record.setHits(3);
+        storage.updateRecordValue(key, record, "a much longer value than before");
+
+        Record stored = storage.get(key);
+        assertEquals(42, stored.getVersion());
+        assertEquals(3, stored.getHits());
+        assertEquals("a much longer value than before", ss.toObject(stored.getValue()));
+    }
+
+    @Test
+    public void testPut_replacesExistingRecord() {
+        Data key = ss.toData("key");
+        storage.put(key, newRecord(key, "value1"));
+        storage.put(key, newRecord(key, "value2"));
+        storage.disposeDeferredBlocks();
+
+        assertEquals(1, storage.size());
+        assertEquals("value2", ss.toObject(storage.get(key).getValue()));
+    }
+
+    @Test
+    public void testManyEntries_survivesResizeAndClear() {
+        int count = 10_000;
+        for (int i = 0; i < count; i++) {
+            Data key = ss.toData(i);
+            storage.put(key, newRecord(key, "value-" + i));
+        }
+        assertEquals(count, storage.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals("value-" + i, ss.toObject(storage.get(ss.toData(i)).getValue()));
+        }
+
+        storage.clear(false);
+
+        assertTrue(storage.isEmpty());
+        assertNull(storage.get(ss.toData(1)));
+        assertEquals(0, storage.getEntryCostEstimator().getEstimate());
+    }
+
+    @Test
+    public void testMutationTolerantIterator_toleratesRemovals() {
+        int count = 1000;
+        for (int i = 0; i < count; i++) {
+            Data key = ss.toData(i);
+            storage.put(key, newRecord(key, i));
+        }
+
+        Set<Object> seen = new HashSet<>();
+        Iterator<Map.Entry<Data, Record>> iterator = storage.mutationTolerantIterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Data, Record> entry = iterator.next();
+            seen.add(ss.toObject(entry.getKey()));
+            storage.removeRecord(entry.getKey(), entry.getValue());
+            storage.disposeDeferredBlocks();
+        }
+
+        assertEquals(count, seen.size());
+        assertTrue(storage.isEmpty());
+    }
+
+    @Test
+    public void testGetRandomSamples() {
+        for (int i = 0; i < 100; i++) {
+            Data key = ss.toData(i);
+            storage.put(key, newRecord(key, i));
+        }
+
+        int sampleCount = 0;
+        for (EntryView sample : storage.getRandomSamples(15)) {
+            Data key = storage.extractDataKeyFromLazy(sample);
+            assertTrue(storage.containsKey(key));
+            sampleCount++;
+        }
+        assertEquals(15, sampleCount);
+    }
+
+    @Test
+    public void testFetchKeys_returnsAllKeys() {
+        int count = 1000;
+        for (int i = 0; i < count; i++) {
+            Data key = ss.toData(i);
+            storage.put(key, newRecord(key, i));
+        }
+
+        Set<Data> fetched = new HashSet<>();
+        IterationPointer[] pointers = {new IterationPointer(Integer.MAX_VALUE, -1)};
+        do {
+            MapKeysWithCursor keys = storage.fetchKeys(pointers, 100);
+            fetched.addAll(keys.getBatch());
+            pointers = keys.getIterationPointers();
+        } while (pointers[pointers.length - 1].getIndex() >= 0);
+
+        assertEquals(count, fetched.size());
+        assertFalse(fetched.contains(ss.toData(count)));
+    }
+
+    @Test
+    public void testNativeMemory_allocatedOnFirstPutAndReleasedOnClear() {
+        assertEquals(0, storage.getCommittedMemory());
+        assertNull(storage.get(ss.toData("key")));
+        assertFalse(storage.mutationTolerantIterator().hasNext());
+
+        Data key = ss.toData("key");
+        storage.put(key, newRecord(key, "value"));
+        assertTrue(storage.getCommittedMemory() > 0);
+
+        storage.clear(false);
+        assertEquals(0, storage.getCommittedMemory());
+
+        storage.put(key, newRecord(key, "value"));
+        assertEquals("value", ss.toObject(storage.get(key).getValue()));
+    }
+
+    @Test
+    public void testGetIfSameKey_onlyForKeysReadFromTheStorage() {
+        Data key = ss.toData("key");
+        storage.put(key, newRecord(key, "value"));
+
+        Data storedKey = storage.mutationTolerantIterator().next().getKey();
+        Record record = storage.getIfSameKey(storedKey);
+        assertNotNull(record);
+        assertEquals("value", ss.toObject(record.getValue()));
+        assertNull(storage.getIfSameKey(ss.toData("key")));
+
+        storage.put(key, newRecord(key, "value2"));
+        assertNull(storage.getIfSameKey(storedKey));
+    }
+
+    @Test
+    public void testRecordOfRemovedEntry_usableUntilBlocksAreDisposed() {
+        Data key = ss.toData("key");
+        storage.put(key, newRecord(key, "value"));
+        Record record = storage.get(key);
+
+        storage.removeRecord(key, record);
+        assertEquals("value", ss.toObject(record.getValue()));
+
+        storage.disposeDeferredBlocks();
+        Data otherKey = ss.toData("other");
+        storage.put(otherKey, newRecord(otherKey, "other"));
+        assertThrows(IllegalStateException.class, record::getValue);
+        assertThrows(IllegalStateException.class, () -> record.setVersion(1));
+        assertEquals("other", ss.toObject(storage.get(otherKey).getValue()));
+    }
+
+    @Test
+    public void testRecordOfLiveEntry_usableAfterOtherBlocksAreDisposed() {
+        Data key = ss.toData("key");
+        Data otherKey = ss.toData("other");
+        storage.put(key, newRecord(key, "value"));
+        storage.put(otherKey, newRecord(otherKey, "other"));
+        Record record = storage.get(key);
+
+        storage.removeRecord(otherKey, storage.get(otherKey));
+        storage.disposeDeferredBlocks();
+
+        record.setVersion(7);
+        assertEquals("value", ss.toObject(record.getValue()));
+        assertEquals(7, storage.get(key).getVersion());
+    }
+
+    @Test
+    public void testRecordType_followsMapConfig() {
+        OffHeapRecordFactory factory = newRecordFactory(new MapConfig());
+        assertEquals(RecordReaderWriter.SIMPLE_DATA_RECORD_READER_WRITER, factory.getRecordType());
+
+        OffHeapStorage simpleStorage = new OffHeapStorage(mock(ExpirySystem.class), ss, factory.getRecordType());
+        try {
+            Data key = ss.toData("key");
+            Record record = factory.newRecord(key, "value");
+            record.setCreationTime(System.currentTimeMillis());
+            record.onAccess(System.currentTimeMillis());
+            simpleStorage.put(key, record);
+
+            Record stored = simpleStorage.get(key);
+            assertEquals(RecordReaderWriter.SIMPLE_DATA_RECORD_READER_WRITER, stored.getMatchingRecordReaderWriter());
+            assertEquals(Record.UNSET, stored.getHits());
+            assertEquals(Record.UNSET, stored.getCreationTime());
+            assertEquals(Record.UNSET, stored.getLastAccessTime());
+            assertEquals("value", ss.toObject(stored.getValue()));
+        } finally {
+            simpleStorage.destroy(false);
+        }
+    }
+
+    private OffHeapRecordFactory newRecordFactory(MapConfig mapConfig) {
+        MapContainer mapContainer = mock(MapContainer.class);
+        when(mapContainer.getMapConfig()).thenReturn(mapConfig);
+        when(mapContainer.getEvictor()).thenReturn(NULL_EVICTOR);
+        return new OffHeapRecordFactory(mapContainer, ss);
+    }
+
+    private Record newRecord(Data key, Object value) {
+        return recordFactory.newRecord(key, value);
+    }
+}
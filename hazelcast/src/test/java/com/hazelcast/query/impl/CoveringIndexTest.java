@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.config.CacheDeserializedValues;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.config.MetadataPolicy;
+import com.hazelcast.map.IMap;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.projection.Projections;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class CoveringIndexTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 100;
+
+    private IMap<Integer, Person> map;
+
+    @Before
+    public void setUp() {
+        Config config = smallInstanceConfigWithoutJetAndMetrics();
+        config.getMapConfig("persons")
+                .setInMemoryFormat(InMemoryFormat.BINARY)
+                .setCacheDeserializedValues(CacheDeserializedValues.NEVER)
+                .setMetadataPolicy(MetadataPolicy.OFF)
+                .addIndexConfig(new IndexConfig(IndexType.SORTED, "age").addIncludedAttribute("name"))
+                .addIndexConfig(new IndexConfig(IndexType.HASH, "id"));
+        map = createHazelcastInstance(config).getMap("persons");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, new Person(i, "name-" + i));
+        }
+    }
+
+    @Test
+    public void whenProjectionCovered_thenValuesNotDeserialized() {
+        Person.deserializationCount.set(0);
+
+        Collection<Object[]> result = map.project(Projections.multiAttribute("age", "name"),
+                Predicates.greaterEqual("age", ENTRY_COUNT - 10));
+
+        assertEquals(0, Person.deserializationCount.get());
+        Set<String> names = new HashSet<>();
+        for (Object[] row : result) {
+            assertEquals("name-" + row[0], row[1]);
+            names.add((String) row[1]);
+        }
+        assertEquals(10, names.size());
+    }
+
+    @Test
+    public void whenValueUpdated_thenIndexedValuesUpdated() {
+        map.set(ENTRY_COUNT - 1, new Person(ENTRY_COUNT - 1, "updated"));
+
+        Collection<String> result = map.project(Projections.singleAttribute("name"),
+                Predicates.equal("age", ENTRY_COUNT - 1));
+
+        assertEquals(1, result.size());
+        assertEquals("updated", result.iterator().next());
+    }
+
+    @Test
+    public void whenAttributeNotCovered_thenValueDeserialized() {
+        Person.deserializationCount.set(0);
+
+        Collection<Integer> result = map.project(Projections.singleAttribute("id"),
+                Predicates.equal("age", 5));
+
+        assertEquals(1, result.size());
+        assertEquals(5, (int) result.iterator().next());
+        assertEquals(1, Person.deserializationCount.get());
+    }
+
+    @Test
+    public void whenAndWithNonCoveringIndex_thenMatchesFound() {
+        Set<Integer> result = map.keySet(Predicates.and(Predicates.equal("age", 5), Predicates.equal("id", 5)));
+
+        assertEquals(Set.of(5), result);
+    }
+
+    @Test
+    public void whenOrWithNonCoveringIndex_thenMatchesNotDuplicated() {
+        Collection<Integer> result = map.project(Projections.singleAttribute("id"),
+                Predicates.or(Predicates.equal("age", 5), Predicates.equal("id", 5), Predicates.equal("id", 6)));
+
+        assertEquals(2, result.size());
+        assertEquals(Set.of(5, 6), new HashSet<>(result));
+    }
+
+    static class Person implements DataSerializable {
+
+        static final AtomicInteger deserializationCount = new AtomicInteger();
+
+        int id;
+        int age;
+        String name;
+
+        @SuppressWarnings("unused")
+        Person() {
+        }
+
+        Person(int id, String name) {
+            this.id = id;
+            this.age = id;
+            this.name = name;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeInt(id);
+            out.writeInt(age);
+            out.writeString(name);
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            id = in.readInt();
+            age = in.readInt();
+            name = in.readString();
+
+            deserializationCount.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.query.impl.LongBPlusTree.Cursor;
+import com.hazelcast.query.impl.LongBPlusTree.KeyComparator;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class LongBPlusTreeTest {
+
+    private final LongBPlusTree tree = new LongBPlusTree();
+    private final TreeMap<Long, Object> expected = new TreeMap<>();
+    private final Random random = new Random(42);
+
+    @Test
+    public void whenEmpty() {
+        assertNull(tree.get(1));
+        assertNull(tree.remove(1));
+        assertFalse(tree.cursor(null, true, null, true, false).next());
+        assertFalse(tree.cursor(null, true, null, true, true).next());
+    }
+
+    @Test
+    public void whenSequentialInsertsAndRemovals_thenMatchesTreeMap() {
+        int count = LongBPlusTree.MAX_NODE_SIZE * LongBPlusTree.MAX_NODE_SIZE * 3;
+        for (long key = 0; key < count; key++) {
+            put(key);
+        }
+        assertContent();
+        for (long key = 0; key < count; key += 2) {
+            remove(key);
+        }
+        assertContent();
+        for (long key = count - 1; key >= 0; key--) {
+            remove(key);
+        }
+        assertContent();
+        assertFalse(tree.cursor(null, true, null, true, false).next());
+    }
+
+    @Test
+    public void whenRandomOperations_thenMatchesTreeMap() {
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(20_000) - 10_000;
+            if (random.nextInt(3) == 0) {
+                remove(key);
+            } else {
+                put(key);
+            }
+            if (i % 10_000 == 0) {
+                assertContent();
+            }
+        }
+        assertContent();
+        for (int i = 0; i < 1_000; i++) {
+            assertRange(random.nextInt(25_000) - 12_500, random.nextBoolean(),
+                    random.nextInt(25_000) - 12_500, random.nextBoolean());
+        }
+    }
+
+    @Test
+    public void whenExtremeKeys() {
+        put(Long.MIN_VALUE);
+        put(Long.MAX_VALUE);
+        put(0);
+        assertContent();
+        assertRange(Long.MIN_VALUE, false, Long.MAX_VALUE, false);
+        assertRange(Long.MIN_VALUE, true, Long.MAX_VALUE, true);
+    }
+
+    @Test
+    public void whenIteratingSnapshot_thenNotAffectedByUpdates() {
+        for (long key = 0; key < 1000; key++) {
+            put(key);
+        }
+        Cursor cursor = tree.cursor(null, true, null, true, false);
+        for (long key = 0; key < 1000; key++) {
+            tree.remove(key);
+        }
+        int count = 0;
+        while (cursor.next()) {
+            assertEquals(count++, cursor.key());
+        }
+        assertEquals(1000, count);
+        assertEquals(0, tree.size());
+    }
+
+    private void put(long key) {
+        Object value = "value-" + key + "-" + random.nextInt();
+        tree.put(key, value);
+        expected.put(key, value);
+    }
+
+    private void remove(long key) {
+        assertEquals(expected.remove(key), tree.remove(key));
+    }
+
+    private void assertContent() {
+        assertEquals(expected.size(), tree.size());
+        for (Map.Entry<Long, Object> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), tree.get(entry.getKey()));
+        }
+        assertEquals(entries(expected), entries(tree.cursor(null, true, null, true, false)));
+        assertEquals(entries(expected.descendingMap()), entries(tree.cursor(null, true, null, true, true)));
+    }
+
+    private void assertRange(long from, boolean fromInclusive, long to, boolean toInclusive) {
+        if (from > to || from == to && !(fromInclusive && toInclusive)) {
+            return;
+        }
+        NavigableMap<Long, Object> subMap = expected.subMap(from, fromInclusive, to, toInclusive);
+        KeyComparator fromComparator = key -> Long.compare(key, from);
+        KeyComparator toComparator = key -> Long.compare(key, to);
+        assertEquals(entries(subMap),
+                entries(tree.cursor(fromComparator, fromInclusive, toComparator, toInclusive, false)));
+        assertEquals(entries(subMap.descendingMap()),
+                entries(tree.cursor(fromComparator, fromInclusive, toComparator, toInclusive, true)));
+    }
+
+    private static List<Object> entries(NavigableMap<Long, Object> map) {
+        List<Object> entries = new ArrayList<>();
+        map.forEach((key, value) -> {
+            entries.add(key);
+            entries.add(value);
+        });
+        return entries;
+    }
+
+    private static List<Object> entries(Cursor cursor) {
+        List<Object> entries = new ArrayList<>();
+        while (cursor.next()) {
+            entries.add(cursor.key());
+            entries.add(cursor.value());
+        }
+        return entries;
+    }
+}
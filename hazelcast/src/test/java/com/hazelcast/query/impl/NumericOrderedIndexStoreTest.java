@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.test.HazelcastParallelParametersRunnerFactory;
+import com.hazelcast.test.HazelcastParametrizedRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+import org.junit.runners.Parameterized.UseParametersRunnerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+import static com.hazelcast.internal.monitor.impl.IndexOperationStats.EMPTY;
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParametrizedRunner.class)
+@UseParametersRunnerFactory(HazelcastParallelParametersRunnerFactory.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class NumericOrderedIndexStoreTest {
+
+    private static final int KEY_COUNT = 2_000;
+    private static final int DISTINCT_VALUES = 100;
+
+    @Parameter(0)
+    public IndexCopyBehavior copyBehavior;
+
+    @Parameter(1)
+    public String valueType;
+
+    private final InternalSerializationService ss = new DefaultSerializationServiceBuilder().build();
+    private final Extractors extractors = Extractors.newBuilder(ss).build();
+    private final Random random = new Random(42);
+    private final Map<Integer, Comparable> attributeValues = new HashMap<>();
+
+    private Function<Integer, Comparable> valueFunction;
+    private NumericOrderedIndexStore store;
+    private OrderedIndexStore expected;
+
+    @Parameters(name = "copyBehavior: {0}, valueType: {1}")
+    public static Collection<Object[]> parameters() {
+        List<Object[]> parameters = new ArrayList<>();
+        for (IndexCopyBehavior copyBehavior : IndexCopyBehavior.values()) {
+            for (String valueType : new String[]{"int", "long", "double"}) {
+                parameters.add(new Object[]{copyBehavior, valueType});
+            }
+        }
+        return parameters;
+    }
+
+    @Before
+    public void before() {
+        valueFunction = switch (valueType) {
+            case "int" -> i -> i - DISTINCT_VALUES / 2;
+            case "long" -> i -> (long) (i - DISTINCT_VALUES / 2) << 40;
+            default -> i -> switch (i) {
+                case 0 -> Double.NEGATIVE_INFINITY;
+                case 1 -> -0.0d;
+                case 2 -> 0.0d;
+                case 3 -> Double.NaN;
+                case 4 -> Double.POSITIVE_INFINITY;
+                default -> (i - DISTINCT_VALUES / 2) / 4.0d;
+            };
+        };
+        store = new NumericOrderedIndexStore(copyBehavior);
+        expected = new OrderedIndexStore(copyBehavior);
+    }
+
+    @Test
+    public void whenRandomUpdates_thenBehavesAsOrderedIndexStore() {
+        for (int i = 0; i < KEY_COUNT * 5; i++) {
+            randomUpdate();
+        }
+        assertFalse(store.isFallback());
+        assertSameQueryResults();
+    }
+
+    @Test
+    public void whenValueOfOtherType_thenFallsBackToOrderedIndexStore() {
+        for (int i = 0; i < KEY_COUNT; i++) {
+            randomUpdate();
+        }
+        Comparable otherValue = valueType.equals("int") ? (Comparable) 7L : (Comparable) 7;
+        insert(KEY_COUNT, otherValue);
+        assertTrue(store.isFallback());
+        assertSameQueryResults();
+
+        for (int i = 0; i < KEY_COUNT; i++) {
+            randomUpdate();
+        }
+        assertSameQueryResults();
+    }
+
+    @Test
+    public void whenCleared_thenEmpty() {
+        for (int i = 0; i < KEY_COUNT; i++) {
+            randomUpdate();
+        }
+        store.clear();
+        expected.clear();
+        attributeValues.clear();
+        assertSameQueryResults();
+    }
+
+    private void randomUpdate() {
+        int key = random.nextInt(KEY_COUNT);
+        Comparable oldValue = attributeValues.get(key);
+        int operation = random.nextInt(4);
+        if (oldValue != null && operation == 0) {
+            CachedQueryEntry entry = entry(key, oldValue);
+            store.remove(oldValue, entry, EMPTY);
+            expected.remove(oldValue, entry, EMPTY);
+            attributeValues.remove(key);
+        } else {
+            insert(key, randomValue());
+        }
+    }
+
+    private void insert(int key, Comparable value) {
+        Comparable oldValue = attributeValues.put(key, value);
+        CachedQueryEntry entry = entry(key, value);
+        if (oldValue == null) {
+            store.insert(value, entry, entry, EMPTY);
+            expected.insert(value, entry, entry, EMPTY);
+        } else {
+            store.update(oldValue, value, entry, entry, EMPTY);
+            expected.update(oldValue, value, entry, entry, EMPTY);
+        }
+    }
+
+    private Comparable randomValue() {
+        // the first values are heavily duplicated to exercise all kinds of posting lists
+        int i = random.nextInt(10) == 0 ? random.nextInt(3) : random.nextInt(DISTINCT_VALUES);
+        return i == 0 ? null : valueFunction.apply(i);
+    }
+
+    private CachedQueryEntry entry(int key, Comparable value) {
+        return new CachedQueryEntry(ss, ss.toData(key), value, extractors);
+    }
+
+    private void assertSameQueryResults() {
+        List<Comparable> arguments = new ArrayList<>();
+        arguments.add(NULL);
+        for (int i = 0; i <= DISTINCT_VALUES; i += 7) {
+            arguments.add(valueFunction.apply(i));
+        }
+        // arguments of other types comparable with the attribute values
+        arguments.add(3L);
+        arguments.add(-2.5d);
+        arguments.add(0.0f);
+
+        for (Comparable argument : arguments) {
+            assertSameRecords(store.getRecords(argument), expected.getRecords(argument));
+            assertSameEntries(store.getSqlRecordIteratorBatch(argument, false), expected.getSqlRecordIteratorBatch(argument, false));
+            assertSameEntries(store.getSqlRecordIteratorBatch(argument, true), expected.getSqlRecordIteratorBatch(argument, true));
+            for (Comparison comparison : Comparison.values()) {
+                if (argument == NULL) {
+                    continue;
+                }
+                assertSameRecords(store.getRecords(comparison, argument), expected.getRecords(comparison, argument));
+                for (boolean descending : new boolean[]{false, true}) {
+                    assertSameEntries(store.getSqlRecordIteratorBatch(comparison, argument, descending),
+                            expected.getSqlRecordIteratorBatch(comparison, argument, descending));
+                }
+            }
+            for (Comparable to : arguments) {
+                for (int bounds = 0; bounds < 4; bounds++) {
+                    boolean fromInclusive = (bounds & 1) != 0;
+                    boolean toInclusive = (bounds & 2) != 0;
+                    assertSameRecords(store.getRecords(argument, fromInclusive, to, toInclusive),
+                            expected.getRecords(argument, fromInclusive, to, toInclusive));
+                    for (boolean descending : new boolean[]{false, true}) {
+                        assertSameEntries(store.getSqlRecordIteratorBatch(argument, fromInclusive, to, toInclusive, descending),
+                                expected.getSqlRecordIteratorBatch(argument, fromInclusive, to, toInclusive, descending));
+                    }
+                }
+            }
+        }
+        assertSameRecords(store.getRecords(new HashSet<>(arguments)), expected.getRecords(new HashSet<>(arguments)));
+        assertSameEntries(store.getSqlRecordIteratorBatch(false), expected.getSqlRecordIteratorBatch(false));
+        assertSameEntries(store.getSqlRecordIteratorBatch(true), expected.getSqlRecordIteratorBatch(true));
+        assertSameCursorResults();
+    }
+
+    private void assertSameCursorResults() {
+        for (Comparable value : new ArrayList<>(attributeValues.values()).subList(0, Math.min(10, attributeValues.size()))) {
+            Comparable from = value == null ? NULL : value;
+            Data cursor = ss.toData(random.nextInt(KEY_COUNT));
+            assertSameEntries(store.getSqlRecordIteratorBatch(from, false, cursor),
+                    expected.getSqlRecordIteratorBatch(from, false, cursor));
+            assertSameEntries(store.getSqlRecordIteratorBatch(from, true, cursor),
+                    expected.getSqlRecordIteratorBatch(from, true, cursor));
+            assertSameEntries(store.getSqlRecordIteratorBatch(Comparison.GREATER_OR_EQUAL, from, false, cursor),
+                    expected.getSqlRecordIteratorBatch(Comparison.GREATER_OR_EQUAL, from, false, cursor));
+            assertSameEntries(store.getSqlRecordIteratorBatch(Comparison.LESS_OR_EQUAL, from, true, cursor),
+                    expected.getSqlRecordIteratorBatch(Comparison.LESS_OR_EQUAL, from, true, cursor));
+        }
+    }
+
+    private static void assertSameRecords(Set<QueryableEntry> actual, Set<QueryableEntry> expected) {
+        assertEquals(keys(expected.iterator()), keys(actual.iterator()));
+        assertEquals(expected.size(), actual.size());
+        for (QueryableEntry entry : expected) {
+            assertTrue(actual.contains(entry));
+        }
+    }
+
+    private static void assertSameEntries(Iterator<IndexKeyEntries> actual, Iterator<IndexKeyEntries> expected) {
+        List<Object> expectedEntries = new ArrayList<>();
+        List<Object> actualEntries = new ArrayList<>();
+        expected.forEachRemaining(entries -> {
+            expectedEntries.add(entries.getIndexKey());
+            expectedEntries.add(orderedKeys(entries.getEntries()));
+        });
+        actual.forEachRemaining(entries -> {
+            actualEntries.add(entries.getIndexKey());
+            actualEntries.add(orderedKeys(entries.getEntries()));
+        });
+        assertEquals(expectedEntries, actualEntries);
+    }
+
+    private static Set<Object> keys(Iterator<QueryableEntry> entries) {
+        Set<Object> keys = new HashSet<>();
+        entries.forEachRemaining(entry -> keys.add(entry.getKeyData()));
+        return keys;
+    }
+
+    private static List<Object> orderedKeys(Iterator<QueryableEntry> entries) {
+        List<Object> keys = new ArrayList<>();
+        entries.forEachRemaining(entry -> keys.add(entry.getKeyData()));
+        return keys;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.ringbuffer.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.ringbuffer.StaleSequenceException;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MappedRingbufferTest {
+
+    private static final int CAPACITY = 10;
+    private static final int SEGMENT_SIZE = 256;
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final InternalSerializationService ss = new DefaultSerializationServiceBuilder().build();
+    private MappedRingbuffer rb;
+
+    @Before
+    public void setUp() throws Exception {
+        rb = new MappedRingbuffer(CAPACITY, new File(tempFolder.getRoot(), "rb"), SEGMENT_SIZE);
+    }
+
+    @After
+    public void tearDown() {
+        rb.destroy();
+        ss.dispose();
+    }
+
+    @Test
+    public void testAddAndRead() {
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals(i, rb.add(toData("item" + i)));
+        }
+
+        assertEquals(0, rb.headSequence());
+        assertEquals(CAPACITY - 1, rb.tailSequence());
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals("item" + i, ss.toObject(rb.read(i)));
+        }
+    }
+
+    @Test
+    public void testAdd_whenFull_thenOldestOverwritten() {
+        for (int i = 0; i < CAPACITY * 3; i++) {
+            rb.add(toData("item" + i));
+        }
+
+        assertEquals(CAPACITY * 2, rb.headSequence());
+        assertEquals(CAPACITY * 3 - 1, rb.tailSequence());
+        assertEquals(CAPACITY, rb.size());
+        for (long seq = rb.headSequence(); seq <= rb.tailSequence(); seq++) {
+            assertEquals("item" + seq, ss.toObject(rb.read(seq)));
+        }
+    }
+
+    @Test
+    public void testSegmentsDeleted_whenNoLongerReferenced() {
+        for (int i = 0; i < CAPACITY * 100; i++) {
+            rb.add(toData("item" + i));
+        }
+
+        // the live items fit in a few segments, all older ones are deleted
+        int maxSegments = 1 + (int) Math.ceil((double) CAPACITY * toData("item" + 999).totalSize() / SEGMENT_SIZE);
+        assertTrue(rb.segmentCount() <= maxSegments);
+        assertEquals(rb.segmentCount(), rb.getDirectory().list().length);
+    }
+
+    @Test
+    public void testItemLargerThanSegment() {
+        String large = "x".repeat(SEGMENT_SIZE * 4);
+        rb.add(toData("small"));
+        long sequence = rb.add(toData(large));
+        rb.add(toData("small"));
+
+        assertEquals(large, ss.toObject(rb.read(sequence)));
+        assertEquals("small", ss.toObject(rb.read(sequence + 1)));
+    }
+
+    @Test
+    public void testSetNull() {
+        rb.add(toData("item"));
+        rb.set(0, null);
+
+        assertNull(rb.read(0));
+    }
+
+    @Test
+    public void testSet_whenOverwritten() {
+        rb.add(toData("item"));
+        rb.set(0, toData("other"));
+
+        assertEquals("other", ss.toObject(rb.read(0)));
+    }
+
+    @Test(expected = StaleSequenceException.class)
+    public void testReadStaleSequenceThrowsException() {
+        for (int i = 0; i < CAPACITY + 1; i++) {
+            rb.add(toData("item"));
+        }
+        rb.read(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReadFutureSequenceThrowsException() {
+        rb.add(toData("item"));
+        rb.read(1);
+    }
+
+    @Test
+    public void testClear() {
+        for (int i = 0; i < CAPACITY; i++) {
+            rb.add(toData("item" + i));
+        }
+        rb.clear();
+
+        assertTrue(rb.isEmpty());
+        assertEquals(-1, rb.tailSequence());
+        assertEquals(0, rb.peekNextTailSequence());
+        assertEquals(0, rb.segmentCount());
+    }
+
+    @Test
+    public void testIteratorAndGetItems() {
+        for (int i = 0; i < CAPACITY + 3; i++) {
+            rb.add(toData(i));
+        }
+
+        List<Integer> items = new ArrayList<>();
+        for (Data item : rb) {
+            items.add(ss.toObject(item));
+        }
+        assertEquals(List.of(3, 4, 5, 6, 7, 8, 9, 10, 11, 12), items);
+
+        Data[] slots = rb.getItems();
+        assertEquals(CAPACITY, slots.length);
+        assertEquals(10, (int) ss.toObject(slots[0]));
+        assertEquals(3, (int) ss.toObject(slots[3]));
+    }
+
+    @Test
+    public void testDestroy_thenFilesDeleted() {
+        rb.add(toData("item"));
+        File directory = rb.getDirectory();
+        assertTrue(directory.exists());
+
+        rb.destroy();
+
+        assertFalse(directory.exists());
+    }
+
+    @Test
+    public void testRead_whenDestroyed_thenSegmentsNotAccessed() {
+        long sequence = rb.add(toData("item"));
+
+        rb.destroy();
+
+        assertEquals(0, rb.segmentCount());
+        assertNull(rb.read(sequence));
+    }
+
+    private Data toData(Object o) {
+        return ss.toData(o);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.ringbuffer.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.RingbufferConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.ringbuffer.Ringbuffer;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+
+import static com.hazelcast.spi.properties.ClusterProperty.RINGBUFFER_MAPPED_SEGMENT_SIZE;
+import static com.hazelcast.spi.properties.ClusterProperty.RINGBUFFER_MAPPED_STORAGE_DIR;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class RingbufferMappedStorageTest extends HazelcastTestSupport {
+
+    private static final int CAPACITY = 100;
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private TestHazelcastInstanceFactory factory;
+    private String name;
+
+    @Before
+    public void setUp() {
+        factory = createHazelcastInstanceFactory(3);
+        name = randomName();
+    }
+
+    @Test
+    public void testAddAndRead_whenMembersJoinAndLeave() throws Exception {
+        HazelcastInstance hz1 = factory.newHazelcastInstance(getConfig("member1"));
+        Ringbuffer<String> ringbuffer = hz1.getRingbuffer(name);
+        for (int i = 0; i < CAPACITY * 2; i++) {
+            ringbuffer.add("item" + i);
+        }
+
+        // the new members get the ringbuffer by replication
+        HazelcastInstance hz2 = factory.newHazelcastInstance(getConfig("member2"));
+        HazelcastInstance hz3 = factory.newHazelcastInstance(getConfig("member3"));
+        waitAllForSafeState(hz1, hz2, hz3);
+        hz1.shutdown();
+        waitAllForSafeState(hz2, hz3);
+
+        Ringbuffer<String> otherRingbuffer = hz2.getRingbuffer(name);
+        assertEquals(CAPACITY, otherRingbuffer.headSequence());
+        assertEquals(CAPACITY * 2 - 1, otherRingbuffer.tailSequence());
+        for (long seq = otherRingbuffer.headSequence(); seq <= otherRingbuffer.tailSequence(); seq++) {
+            assertEquals("item" + seq, otherRingbuffer.readOne(seq));
+        }
+        assertMappedRingbuffer(hz2);
+        assertMappedRingbuffer(hz3);
+    }
+
+    @Test
+    public void testDestroy_thenFilesDeleted() {
+        HazelcastInstance hz = factory.newHazelcastInstance(getConfig("member"));
+        Ringbuffer<String> ringbuffer = hz.getRingbuffer(name);
+        ringbuffer.add("item");
+        File storageDir = new File(tempFolder.getRoot(), "member");
+        assertEquals(1, storageDir.list().length);
+
+        ringbuffer.destroy();
+
+        assertTrueEventually(() -> assertEquals(0, storageDir.list().length));
+    }
+
+    private void assertMappedRingbuffer(HazelcastInstance instance) {
+        RingbufferService service = getNodeEngineImpl(instance).getService(RingbufferService.SERVICE_NAME);
+        RingbufferContainer container = service.getContainerOrNull(service.getRingbufferPartitionId(name),
+                RingbufferService.getRingbufferNamespace(name));
+        assertNotNull(container);
+        assertTrue(container.getRingbuffer() instanceof MappedRingbuffer);
+    }
+
+    private Config getConfig(String memberDir) {
+        Config config = smallInstanceConfig()
+                .setProperty(RINGBUFFER_MAPPED_STORAGE_DIR.getName(), new File(tempFolder.getRoot(), memberDir).getPath())
+                .setProperty(RINGBUFFER_MAPPED_SEGMENT_SIZE.getName(), "1024");
+        config.addRingBufferConfig(new RingbufferConfig(name)
+                .setCapacity(CAPACITY)
+                .setBackupCount(2)
+                .setMemoryMappedStorageEnabled(true));
+        return config;
+    }
+}
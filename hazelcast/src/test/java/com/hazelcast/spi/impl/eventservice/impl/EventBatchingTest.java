@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.eventservice.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryUpdatedListener;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.hazelcast.spi.properties.ClusterProperty.EVENT_BATCH_MAX_SIZE;
+import static com.hazelcast.spi.properties.ClusterProperty.EVENT_BATCH_WINDOW_MICROS;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class EventBatchingTest extends HazelcastTestSupport {
+
+    private static final int KEY_COUNT = 20;
+    private static final int UPDATE_COUNT = 50;
+
+    @Test
+    public void whenBatchFull_thenEventsDeliveredInOrderPerKey() {
+        testEventsDeliveredInOrderPerKey("1000000", "16");
+    }
+
+    @Test
+    public void whenWindowElapsed_thenEventsDeliveredInOrderPerKey() {
+        testEventsDeliveredInOrderPerKey("1000", "100000");
+    }
+
+    private void testEventsDeliveredInOrderPerKey(String windowMicros, String maxBatchSize) {
+        Config config = smallInstanceConfigWithoutJetAndMetrics()
+                .setProperty(EVENT_BATCH_WINDOW_MICROS.getName(), windowMicros)
+                .setProperty(EVENT_BATCH_MAX_SIZE.getName(), maxBatchSize);
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance publisher = factory.newHazelcastInstance(config);
+        HazelcastInstance subscriber = factory.newHazelcastInstance(config);
+
+        String mapName = randomMapName();
+        Map<String, List<Integer>> receivedValues = new ConcurrentHashMap<>();
+        subscriber.getMap(mapName).addEntryListener(new RecordingListener(receivedValues), true);
+
+        // the keys owned by the publisher generate remote events to the subscriber
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys.add(generateKeyOwnedBy(publisher));
+        }
+        IMap<String, Integer> map = publisher.getMap(mapName);
+        List<Integer> expectedValues = new ArrayList<>();
+        for (int value = 0; value < UPDATE_COUNT; value++) {
+            for (String key : keys) {
+                map.set(key, value);
+            }
+            expectedValues.add(value);
+        }
+
+        assertTrueEventually(() -> {
+            for (String key : keys) {
+                assertEquals(expectedValues, receivedValues.get(key));
+            }
+        });
+    }
+
+    /**
+     * Records the values of the events per key.
+     */
+    private static class RecordingListener implements EntryAddedListener<String, Integer>,
+            EntryUpdatedListener<String, Integer> {
+
+        private final Map<String, List<Integer>> receivedValues;
+
+        RecordingListener(Map<String, List<Integer>> receivedValues) {
+            this.receivedValues = receivedValues;
+        }
+
+        @Override
+        public void entryAdded(EntryEvent<String, Integer> event) {
+            record(event);
+        }
+
+        @Override
+        public void entryUpdated(EntryEvent<String, Integer> event) {
+            record(event);
+        }
+
+        private void record(EntryEvent<String, Integer> event) {
+            // the events of a key are processed by the same event thread
+            receivedValues.computeIfAbsent(event.getKey(), k -> new CopyOnWriteArrayList<>()).add(event.getValue());
+        }
+    }
+}
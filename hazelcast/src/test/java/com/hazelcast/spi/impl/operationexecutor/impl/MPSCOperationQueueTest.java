@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationexecutor.impl;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestThread;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.concurrent.Future;
+
+import static com.hazelcast.spi.impl.operationexecutor.impl.MPSCOperationQueue.createMPSCOperationQueue;
+import static com.hazelcast.spi.impl.operationexecutor.impl.MPSCOperationQueue.isMPSCOperationQueueConfig;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MPSCOperationQueueTest extends HazelcastTestSupport {
+
+    private static final int CAPACITY = 8;
+
+    private final MPSCOperationQueue queue = new MPSCOperationQueue(CAPACITY, 10, 10);
+
+    @Test
+    public void add_whenNull() {
+        assertThrows(NullPointerException.class, () -> queue.add(null, false));
+    }
+
+    @Test
+    public void add_whenNormal() {
+        Object task = new Object();
+        queue.add(task, false);
+
+        assertEquals(1, queue.normalSize());
+        assertEquals(0, queue.prioritySize());
+        assertEquals(1, queue.size());
+        assertFalse(queue.isEmpty());
+    }
+
+    @Test
+    public void add_whenPriority() {
+        Object task = new Object();
+        queue.add(task, true);
+
+        assertEquals(0, queue.normalSize());
+        assertEquals(1, queue.prioritySize());
+        assertEquals(1, queue.size());
+        assertFalse(queue.isEmpty());
+    }
+
+    @Test
+    public void poll_whenEmpty() {
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void poll_priorityTakenFirst() {
+        Object normalTask = new Object();
+        Object priorityTask = new Object();
+        queue.add(normalTask, false);
+        queue.add(priorityTask, true);
+
+        assertSame(priorityTask, queue.poll());
+        assertSame(normalTask, queue.poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void poll_whenOverflowed_thenOrderRetained() {
+        int count = CAPACITY * 4;
+        for (int i = 0; i < count; i++) {
+            queue.add(i, false);
+            if (i % 3 == 0) {
+                // frees a slot in the array while the overflow is not empty
+                assertEquals(i / 3, queue.poll());
+            }
+        }
+
+        assertEquals(count - (count / 3 + 1), queue.normalSize());
+        for (int i = count / 3 + 1; i < count; i++) {
+            assertEquals(i, queue.poll());
+        }
+        assertTrue(queue.isEmpty());
+
+        // once the overflow is drained, the array is used again
+        queue.add("task", false);
+        assertEquals("task", queue.poll());
+    }
+
+    @Test
+    public void take_whenAvailable() throws Exception {
+        Object task = new Object();
+        queue.add(task, false);
+
+        assertSame(task, queue.take(false));
+    }
+
+    @Test
+    public void take_priorityOnly_ignoresNormal() throws Exception {
+        Object normalTask = new Object();
+        Object priorityTask = new Object();
+        queue.add(normalTask, false);
+        queue.add(priorityTask, true);
+
+        assertSame(priorityTask, queue.take(true));
+        assertEquals(1, queue.normalSize());
+    }
+
+    @Test
+    public void take_whenParked_thenUnparkedByProducer() throws Exception {
+        Object task = new Object();
+        Future<Object> future = spawn(() -> queue.take(false));
+
+        // give the consumer the time to go through spinning and yielding
+        sleepMillis(100);
+        queue.add(task, false);
+
+        assertSame(task, future.get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS));
+    }
+
+    @Test
+    public void take_whenInterrupted() {
+        TestThread consumer = new TestThread() {
+            @Override
+            public void doRun() throws Throwable {
+                queue.take(false);
+            }
+        };
+        consumer.start();
+        sleepMillis(100);
+        consumer.interrupt();
+
+        consumer.assertFailsEventually(InterruptedException.class);
+    }
+
+    @Test
+    public void take_multipleProducers_thenPerProducerOrderRetained() throws Exception {
+        int producerCount = 4;
+        int tasksPerProducer = 100_000;
+        for (int p = 0; p < producerCount; p++) {
+            int producerId = p;
+            spawn(() -> {
+                for (int i = 0; i < tasksPerProducer; i++) {
+                    queue.add(new long[]{producerId, i}, false);
+                }
+            });
+        }
+
+        long[] lastSequence = new long[producerCount];
+        Arrays.fill(lastSequence, -1);
+        for (int i = 0; i < producerCount * tasksPerProducer; i++) {
+            long[] task = (long[]) queue.take(false);
+            int producerId = (int) task[0];
+            assertEquals(lastSequence[producerId] + 1, task[1]);
+            lastSequence[producerId] = task[1];
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void createFromConfig() {
+        assertTrue(isMPSCOperationQueueConfig("array"));
+        assertTrue(isMPSCOperationQueueConfig("array,1024,10,10"));
+        assertFalse(isMPSCOperationQueueConfig("linked"));
+        assertFalse(isMPSCOperationQueueConfig("arrays"));
+
+        MPSCOperationQueue configured = createMPSCOperationQueue("array,4,0,0");
+        for (int i = 0; i < 10; i++) {
+            configured.add(i, false);
+        }
+        assertEquals(10, configured.size());
+    }
+
+    @Test
+    public void createFromConfig_whenInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> createMPSCOperationQueue("array,4"));
+    }
+}
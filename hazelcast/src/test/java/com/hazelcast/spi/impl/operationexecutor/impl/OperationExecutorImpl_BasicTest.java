@@ -117,6 +117,31 @@ public class OperationExecutorImpl_BasicTest extends OperationExecutorImpl_Abstr
         assertTrueEventually(() -> assertEquals(expectedCount, executor.getQueueSize()));
     }
 
+    @Test
+    public void test_whenArrayPartitionQueue() {
+        config.setProperty("hazelcast.operation.partitionthread.queue", "array,64,10,10");
+        initExecutor();
+
+        for (PartitionOperationThread thread : executor.getPartitionThreads()) {
+            assertInstanceOf(MPSCOperationQueue.class, thread.queue);
+        }
+
+        PartitionSpecificCallable<Integer> task = new PartitionSpecificCallable<>(0) {
+            @Override
+            public Integer call() {
+                return getPartitionId();
+            }
+        };
+        executor.execute(task);
+        assertEqualsEventually(task, 0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void test_whenUnknownPartitionQueue() {
+        config.setProperty("hazelcast.operation.partitionthread.queue", "foo");
+        initExecutor();
+    }
+
     @Test(expected = NullPointerException.class)
     public void test_runOnAllPartitionThreads_whenTaskNull() {
         initExecutor();
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.core.HazelcastOverloadException;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class AdaptiveBackpressureTest {
+
+    private static final int PARTITION_COUNT = 4;
+    private static final int MAX_LIMIT = 8;
+    private static final long TARGET_LATENCY_MS = 50;
+    private static final long SLOW = MILLISECONDS.toNanos(TARGET_LATENCY_MS * 2);
+    private static final long FAST = 0;
+
+    private final AdaptiveBackpressure backpressure = new AdaptiveBackpressure(PARTITION_COUNT, MAX_LIMIT,
+            TARGET_LATENCY_MS, 100);
+
+    @Test
+    public void whenWindowFull_thenRejectedAfterBackoffTimeout() {
+        for (int i = 0; i < MAX_LIMIT; i++) {
+            backpressure.acquire(0);
+        }
+
+        assertThrows(HazelcastOverloadException.class, () -> backpressure.acquire(0));
+        // other partitions are not affected
+        backpressure.acquire(1);
+        assertEquals(1, backpressure.getInFlight(1));
+    }
+
+    @Test
+    public void whenSlow_thenLimitDecreasedOncePerTargetLatency() {
+        backpressure.acquire(0);
+        backpressure.acquire(0);
+
+        backpressure.release(0, SLOW);
+        backpressure.release(0, SLOW);
+
+        int decreased = (int) (MAX_LIMIT * AdaptiveBackpressure.DECREASE_FACTOR);
+        assertEquals(decreased, backpressure.getLimit(0));
+        assertEquals(MAX_LIMIT, backpressure.getLimit(1));
+        assertEquals(0, backpressure.getInFlight(0));
+    }
+
+    @Test
+    public void whenRepeatedlySlow_thenLimitNotBelowMinimum() throws InterruptedException {
+        for (int i = 0; i < MAX_LIMIT; i++) {
+            backpressure.acquire(0);
+            backpressure.release(0, SLOW);
+            Thread.sleep(TARGET_LATENCY_MS + 10);
+        }
+
+        assertEquals(AdaptiveBackpressure.MIN_LIMIT, backpressure.getLimit(0));
+        assertEquals(AdaptiveBackpressure.MIN_LIMIT, backpressure.minLimit());
+    }
+
+    @Test
+    public void whenFastAndWindowUsed_thenLimitIncreasedUpToMax() {
+        backpressure.acquire(0);
+        backpressure.release(0, SLOW);
+        int decreased = backpressure.getLimit(0);
+        assertTrue(decreased < MAX_LIMIT);
+
+        for (int i = 0; i < 10_000; i++) {
+            int limit = backpressure.getLimit(0);
+            for (int k = 0; k < limit; k++) {
+                backpressure.acquire(0);
+            }
+            for (int k = 0; k < limit; k++) {
+                backpressure.release(0, FAST);
+            }
+        }
+
+        assertEquals(MAX_LIMIT, backpressure.getLimit(0));
+    }
+
+    @Test
+    public void whenFastButWindowUnused_thenLimitNotIncreased() {
+        backpressure.acquire(0);
+        backpressure.release(0, SLOW);
+        int decreased = backpressure.getLimit(0);
+
+        for (int i = 0; i < 10_000; i++) {
+            backpressure.acquire(0);
+            backpressure.release(0, FAST);
+        }
+
+        assertEquals(decreased, backpressure.getLimit(0));
+    }
+
+    @Test
+    public void whenReleasedWithoutLatency_thenLimitUnchanged() {
+        backpressure.acquire(0);
+        backpressure.release(0, -1);
+
+        assertEquals(MAX_LIMIT, backpressure.getLimit(0));
+        assertEquals(0, backpressure.getInFlight(0));
+    }
+}
@@ -36,10 +36,13 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_ADAPTIVE_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_SYNCWINDOW;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -123,6 +126,31 @@ public class BackpressureRegulatorTest extends HazelcastTestSupport {
         assertInstanceOf(CallIdSequenceWithoutBackpressure.class, callIdSequence);
     }
 
+    // ========================== newAdaptiveBackpressure =================
+
+    @Test
+    public void newAdaptiveBackpressure_whenAdaptiveEnabled() {
+        Config config = new Config();
+        config.setProperty(BACKPRESSURE_ENABLED.getName(), "true");
+        config.setProperty(BACKPRESSURE_ADAPTIVE_ENABLED.getName(), "true");
+        BackpressureRegulator regulator = new BackpressureRegulator(new HazelcastProperties(config), logger);
+
+        AdaptiveBackpressure adaptiveBackpressure = regulator.newAdaptiveBackpressure();
+
+        assertNotNull(adaptiveBackpressure);
+        assertEquals(100, adaptiveBackpressure.getLimit(0));
+    }
+
+    @Test
+    public void newAdaptiveBackpressure_whenBackPressureDisabled() {
+        Config config = new Config();
+        config.setProperty(BACKPRESSURE_ENABLED.getName(), "false");
+        config.setProperty(BACKPRESSURE_ADAPTIVE_ENABLED.getName(), "true");
+        BackpressureRegulator regulator = new BackpressureRegulator(new HazelcastProperties(config), logger);
+
+        assertNull(regulator.newAdaptiveBackpressure());
+    }
+
     // ========================== isSyncForced =================
 
     @Test
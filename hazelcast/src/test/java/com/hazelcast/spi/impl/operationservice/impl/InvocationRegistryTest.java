@@ -21,6 +21,8 @@ import com.hazelcast.core.MemberLeftException;
 import com.hazelcast.internal.util.ConcurrencyDetection;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.impl.operationservice.OperationAccessor;
+import com.hazelcast.spi.impl.operationservice.UrgentSystemOperation;
 import com.hazelcast.spi.impl.operationservice.impl.Invocation.Context;
 import com.hazelcast.spi.impl.sequence.CallIdSequenceWithBackpressure;
 import com.hazelcast.spi.properties.HazelcastProperties;
@@ -46,6 +48,8 @@ import static org.junit.Assert.fail;
 @Category(QuickTest.class)
 public class InvocationRegistryTest extends HazelcastTestSupport {
 
+    private static final long ADAPTIVE_TARGET_LATENCY_MS = 50;
+
     private InvocationRegistry invocationRegistry;
     private ILogger logger;
 
@@ -136,6 +140,87 @@ public class InvocationRegistryTest extends HazelcastTestSupport {
         assertNull(invocationRegistry.get(callId));
     }
 
+    // ====================== adaptive backpressure ===============================
+
+    @Test
+    public void adaptiveBackpressure_whenRetried_thenSlotKept() {
+        AdaptiveBackpressure backpressure = useAdaptiveBackpressure(1);
+        Operation op = new DummyBackupAwareOperation().setPartitionId(0);
+        Invocation invocation = newInvocation(op);
+
+        invocationRegistry.register(invocation);
+        invocationRegistry.deregisterForRetry(invocation);
+        assertEquals(1, backpressure.getInFlight(0));
+
+        // the window is full, but the retry doesn't wait for a slot
+        invocationRegistry.register(invocation);
+        assertEquals(1, backpressure.getInFlight(0));
+
+        invocationRegistry.deregister(invocation);
+        assertEquals(0, backpressure.getInFlight(0));
+    }
+
+    @Test
+    public void adaptiveBackpressure_whenRetriedAndRegistrationFails_thenSlotReleased() {
+        AdaptiveBackpressure backpressure = useAdaptiveBackpressure(1);
+        Operation op = new DummyBackupAwareOperation().setPartitionId(0);
+        Invocation invocation = newInvocation(op);
+
+        invocationRegistry.register(invocation);
+        invocationRegistry.deregisterForRetry(invocation);
+        assertEquals(1, backpressure.getInFlight(0));
+
+        // the operation is active again, so the registration of the retry fails
+        OperationAccessor.setCallId(op, 1);
+        try {
+            invocationRegistry.register(invocation);
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        assertEquals(0, backpressure.getInFlight(0));
+        assertFalse(invocation.holdsBackpressureSlot);
+    }
+
+    @Test
+    public void adaptiveBackpressure_whenUrgent_thenNotCounted() {
+        AdaptiveBackpressure backpressure = useAdaptiveBackpressure(1);
+        Operation op = new UrgentDummyOperation().setPartitionId(0);
+        Invocation invocation = newInvocation(op);
+
+        invocationRegistry.register(invocation);
+        assertEquals(0, backpressure.getInFlight(0));
+
+        invocationRegistry.deregister(invocation);
+        assertEquals(0, backpressure.getInFlight(0));
+    }
+
+    @Test
+    public void adaptiveBackpressure_whenInvocationCreatedLongBeforeAttempt_thenLatencyMeasuredFromAttempt() {
+        AdaptiveBackpressure backpressure = useAdaptiveBackpressure(4);
+        Operation op = new DummyBackupAwareOperation().setPartitionId(0);
+        Invocation invocation = newInvocation(op);
+        sleepAtLeastMillis(ADAPTIVE_TARGET_LATENCY_MS * 2);
+
+        invocationRegistry.register(invocation);
+        invocationRegistry.deregister(invocation);
+
+        assertEquals(4, backpressure.getLimit(0));
+    }
+
+    private AdaptiveBackpressure useAdaptiveBackpressure(int maxLimit) {
+        AdaptiveBackpressure backpressure = new AdaptiveBackpressure(1, maxLimit, ADAPTIVE_TARGET_LATENCY_MS, 100);
+        CallIdSequenceWithBackpressure callIdSequence = new CallIdSequenceWithBackpressure(100, 1000,
+                ConcurrencyDetection.createDisabled());
+        invocationRegistry = new InvocationRegistry(logger, callIdSequence, backpressure,
+                new HazelcastProperties(new Properties()));
+        return backpressure;
+    }
+
+    private static class UrgentDummyOperation extends DummyOperation implements UrgentSystemOperation {
+    }
+
     // ====================== size ===============================
 
     @Test
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.impl.HazelcastInstanceFactory;
+import com.hazelcast.internal.nio.PacketBufferPool;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.hazelcast.spi.properties.ClusterProperty.PACKET_DIRECT_BUFFER_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.PACKET_DIRECT_BUFFER_THRESHOLD;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_COUNT;
+import static com.hazelcast.test.Accessors.getOperationService;
+import static com.hazelcast.test.HazelcastTestSupport.assertClusterSize;
+import static com.hazelcast.test.HazelcastTestSupport.assertTrueEventually;
+import static com.hazelcast.test.HazelcastTestSupport.randomMapName;
+import static com.hazelcast.test.HazelcastTestSupport.randomName;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class OutboundOperationDirectBufferTest {
+
+    private static final int THRESHOLD = 1024;
+
+    private final String clusterName = randomName();
+
+    @Before
+    @After
+    public void cleanup() {
+        HazelcastInstanceFactory.terminateAll();
+    }
+
+    @Test
+    public void whenLargeOperationsSent_thenSerializedIntoPooledBuffers() {
+        HazelcastInstance hz1 = Hazelcast.newHazelcastInstance(getConfig());
+        HazelcastInstance hz2 = Hazelcast.newHazelcastInstance(getConfig());
+        assertClusterSize(2, hz1, hz2);
+
+        IMap<Integer, String> map = hz1.getMap(randomMapName());
+        String value = "x".repeat(THRESHOLD * 4);
+        Map<Integer, String> entries = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            entries.put(i, value);
+        }
+        map.putAll(entries);
+
+        IMap<Integer, String> otherMap = hz2.getMap(map.getName());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(value, otherMap.get(i));
+        }
+
+        // buffers are returned to the pool once the packets are written
+        PacketBufferPool bufferPool = ((OperationServiceImpl) getOperationService(hz1)).outboundOperationHandler
+                .getBufferPool();
+        assertTrueEventually(() -> assertTrue(bufferPool.pooledBytes() > 0));
+    }
+
+    private Config getConfig() {
+        Config config = new Config()
+                .setClusterName(clusterName)
+                .setProperty(PARTITION_COUNT.getName(), "11")
+                .setProperty(PACKET_DIRECT_BUFFER_ENABLED.getName(), "true")
+                .setProperty(PACKET_DIRECT_BUFFER_THRESHOLD.getName(), String.valueOf(THRESHOLD));
+        JoinConfig join = config.getNetworkConfig().getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        join.getAutoDetectionConfig().setEnabled(false);
+        join.getTcpIpConfig().setEnabled(true).addMember("127.0.0.1");
+        return config;
+    }
+}